@@ -0,0 +1,273 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.benchmarks.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import org.cellocad.v2.benchmarks.technologyMapping.SimulatedAnnealingFixture;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.netlistConstraint.data.NetlistConstraint;
+import org.cellocad.v2.common.netlistConstraint.data.NetlistConstraintUtils;
+import org.cellocad.v2.common.runtime.environment.ArgString;
+import org.cellocad.v2.common.runtime.environment.RuntimeEnv;
+import org.cellocad.v2.common.stage.Stage;
+import org.cellocad.v2.common.stage.StageUtils;
+import org.cellocad.v2.common.stage.runtime.environment.StageArgString;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.common.target.data.TargetDataUtils;
+import org.cellocad.v2.logicSynthesis.runtime.LSRuntimeObject;
+import org.cellocad.v2.logicSynthesis.runtime.environment.LSRuntimeEnv;
+import org.cellocad.v2.results.common.Results;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.technologyMapping.runtime.TMRuntimeObject;
+import org.cellocad.v2.technologyMapping.runtime.environment.TMRuntimeEnv;
+
+/**
+ * Utility methods for preparing the inputs of the benchmarks.
+ *
+ * <p>Designs are named by their path, without extension, relative to the {@code DNACompiler}
+ * directory of the sample input, e.g. {@code adder/adder}. Libraries are named by their prefix
+ * and name, e.g. {@code Eco/Eco1C1G1T1}, and are read from the {@code ucf/files/v2} directory of
+ * the sample input. The sample input directory is given by the {@value #S_SAMPLEINPUT} system
+ * property. Otherwise it is the {@value #S_SAMPLEINPUT_DEFAULT} directory of the working directory
+ * or of its closest ancestor that has one, so that the benchmarks may be run from the repository,
+ * the build root, or the module.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public final class BenchmarkUtils {
+
+  private BenchmarkUtils() {}
+
+  /**
+   * Returns the sample input directory.
+   *
+   * @return The sample input directory.
+   * @throws CelloException The sample input directory does not exist.
+   */
+  public static File getSampleInputDirectory() throws CelloException {
+    File rtn = null;
+    final String property = System.getProperty(BenchmarkUtils.S_SAMPLEINPUT);
+    if (property != null) {
+      rtn = new File(property);
+    } else {
+      File dir = new File(System.getProperty("user.dir")).getAbsoluteFile();
+      while (rtn == null && dir != null) {
+        final File file = new File(dir, BenchmarkUtils.S_SAMPLEINPUT_DEFAULT);
+        if (file.isDirectory()) {
+          rtn = file;
+        }
+        dir = dir.getParentFile();
+      }
+    }
+    if (rtn == null || !rtn.isDirectory()) {
+      final String str =
+          "Sample input directory not found, set -D%s to the path of the %s directory.";
+      throw new CelloException(
+          String.format(str, BenchmarkUtils.S_SAMPLEINPUT, BenchmarkUtils.S_SAMPLEINPUT_DEFAULT));
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the file of the given library, e.g. {@code ucf/Eco/Eco1C1G1T1.UCF.json}.
+   *
+   * @param sampleInput The sample input directory.
+   * @param library The name of the library.
+   * @param dir The directory of the type of file, e.g. {@code ucf}.
+   * @param suffix The suffix of the type of file, e.g. {@code UCF}.
+   * @return The file of the library.
+   */
+  private static File getLibraryFile(
+      final File sampleInput, final String library, final String dir, final String suffix) {
+    final String[] tokens = library.split("/");
+    if (tokens.length != 2) {
+      throw new IllegalArgumentException("Invalid library name: " + library);
+    }
+    final File v2 = new File(sampleInput, BenchmarkUtils.S_LIBRARY);
+    final File prefix = new File(new File(v2, dir), tokens[0]);
+    return new File(prefix, tokens[1] + "." + suffix + ".json");
+  }
+
+  private static String[] getArguments(
+      final String design, final String library, final String algorithm, final File outputDir)
+      throws CelloException {
+    final File sampleInput = getSampleInputDirectory();
+    final File designDir = new File(sampleInput, BenchmarkUtils.S_DESIGNS);
+    final List<String> rtn = new ArrayList<>();
+    rtn.add("-" + StageArgString.INPUTNETLIST);
+    rtn.add(new File(designDir, design + ".v").getAbsolutePath());
+    rtn.add("-" + StageArgString.USERCONSTRAINTSFILE);
+    rtn.add(getLibraryFile(sampleInput, library, "ucf", "UCF").getAbsolutePath());
+    rtn.add("-" + StageArgString.INPUTSENSORFILE);
+    rtn.add(getLibraryFile(sampleInput, library, "input", "input").getAbsolutePath());
+    rtn.add("-" + StageArgString.OUTPUTDEVICEFILE);
+    rtn.add(getLibraryFile(sampleInput, library, "output", "output").getAbsolutePath());
+    rtn.add("-" + StageArgString.ALGORITHMNAME);
+    rtn.add(algorithm);
+    rtn.add("-" + StageArgString.OUTPUTDIR);
+    rtn.add(outputDir.getAbsolutePath());
+    rtn.add("-" + StageArgString.PYTHONENV);
+    rtn.add("python");
+    final File constraints = new File(designDir, design + "_netlistconstraints.json");
+    if (constraints.exists()) {
+      rtn.add("-" + StageArgString.NETLISTCONSTRAINTFILE);
+      rtn.add(constraints.getAbsolutePath());
+    }
+    return rtn.toArray(new String[0]);
+  }
+
+  /**
+   * Creates a temporary output directory and directs the log to it.
+   *
+   * @return The output directory.
+   * @throws IOException Unable to create the directory.
+   */
+  public static File createOutputDirectory() throws IOException {
+    final File rtn = Files.createTempDirectory("cello_benchmarks_").toFile();
+    final String logfile = rtn.getAbsolutePath() + Utils.getFileSeparator() + "log.log";
+    System.setProperty("logfile.name", logfile);
+    return rtn;
+  }
+
+  private static TargetData getTargetData(final RuntimeEnv runEnv) throws CelloException {
+    final TargetData rtn =
+        TargetDataUtils.getTargetTargetData(
+            runEnv,
+            ArgString.USERCONSTRAINTSFILE,
+            ArgString.INPUTSENSORFILE,
+            ArgString.OUTPUTDEVICEFILE);
+    if (!rtn.isValid()) {
+      throw new CelloException("TargetData is invalid!");
+    }
+    return rtn;
+  }
+
+  private static NetlistConstraint getNetlistConstraint(final RuntimeEnv runEnv) {
+    NetlistConstraint rtn =
+        NetlistConstraintUtils.getNetlistConstraintData(runEnv, ArgString.NETLISTCONSTRAINTFILE);
+    if (rtn == null) {
+      rtn = new NetlistConstraint();
+    }
+    return rtn;
+  }
+
+  /**
+   * Runs the <i>logicSynthesis</i> stage on the given design.
+   *
+   * @param design The name of the design.
+   * @param library The name of the library.
+   * @param outputDir The output directory.
+   * @return The synthesized netlist.
+   * @throws CelloException Unable to synthesize the design.
+   */
+  public static Netlist synthesize(final String design, final String library, final File outputDir)
+      throws CelloException {
+    final String[] args = getArguments(design, library, BenchmarkUtils.S_YOSYS, outputDir);
+    final LSRuntimeEnv runEnv = new LSRuntimeEnv(args);
+    runEnv.setName("logicSynthesis");
+    final Netlist rtn = new Netlist();
+    rtn.setInputFilename(runEnv.getOptionValue(ArgString.INPUTNETLIST));
+    final Stage stage = StageUtils.getStage(runEnv, StageArgString.ALGORITHMNAME);
+    stage.setName("logicSynthesis");
+    final LSRuntimeObject LS =
+        new LSRuntimeObject(
+            stage,
+            getTargetData(runEnv),
+            getNetlistConstraint(runEnv),
+            rtn,
+            new Results(outputDir),
+            runEnv);
+    LS.setName("logicSynthesis");
+    LS.execute();
+    return rtn;
+  }
+
+  /**
+   * Prepares the <i>technologyMapping</i> stage for a copy of the given synthesized netlist. The
+   * core algorithm of the returned instance has not yet been run.
+   *
+   * @param netlist The synthesized netlist.
+   * @param design The name of the design.
+   * @param library The name of the library.
+   * @param outputDir The output directory.
+   * @return The prepared {@link SimulatedAnnealingFixture}.
+   * @throws CelloException Unable to prepare the stage.
+   */
+  public static SimulatedAnnealingFixture prepareAnnealing(
+      final Netlist netlist, final String design, final String library, final File outputDir)
+      throws CelloException {
+    final String[] args =
+        getArguments(design, library, BenchmarkUtils.S_SIMULATEDANNEALING, outputDir);
+    final TMRuntimeEnv runEnv = new TMRuntimeEnv(args);
+    runEnv.setName("technologyMapping");
+    final Stage stage = StageUtils.getStage(runEnv, StageArgString.ALGORITHMNAME);
+    stage.setName("technologyMapping");
+    final SimulatedAnnealingFixture rtn = new SimulatedAnnealingFixture();
+    rtn.setName(BenchmarkUtils.S_SIMULATEDANNEALING);
+    final FixtureRuntimeObject TM =
+        new FixtureRuntimeObject(
+            stage,
+            getTargetData(runEnv),
+            getNetlistConstraint(runEnv),
+            new Netlist(netlist),
+            new Results(outputDir),
+            runEnv,
+            rtn);
+    TM.setName("technologyMapping");
+    TM.execute();
+    return rtn;
+  }
+
+  /** A {@link TMRuntimeObject} that executes a given algorithm instance. */
+  private static final class FixtureRuntimeObject extends TMRuntimeObject {
+
+    FixtureRuntimeObject(
+        final Stage stage,
+        final TargetData targetData,
+        final NetlistConstraint netlistConstraint,
+        final Netlist netlist,
+        final Results results,
+        final RuntimeEnv runEnv,
+        final SimulatedAnnealingFixture algorithm) {
+      super(stage, targetData, netlistConstraint, netlist, results, runEnv);
+      this.algorithm = algorithm;
+    }
+
+    @Override
+    protected void runAlgo() throws CelloException {
+      executeAlgo(algorithm);
+    }
+
+    private final SimulatedAnnealingFixture algorithm;
+  }
+
+  public static final String S_SAMPLEINPUT = "cello.sampleInput";
+  public static final String S_SAMPLEINPUT_DEFAULT = "sample-input";
+  private static final String S_DESIGNS = "DNACompiler";
+  private static final String S_LIBRARY = "ucf" + File.separator + "files" + File.separator + "v2";
+  private static final String S_YOSYS = "Yosys";
+  private static final String S_SIMULATEDANNEALING = "SimulatedAnnealing";
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.benchmarks.runtime;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The Main class is the executable class for the benchmarks. It accepts the JMH command line
+ * options and, unless profilers are given on the command line, adds the GC profiler so that the
+ * allocation rate is reported alongside the throughput.
+ *
+ * <p>For example, {@code java -jar target/benchmarks.jar Evaluation -p design=adder/adder
+ * -p library=Eco/Eco1C1G1T1}, run from the module directory.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class Main {
+
+  /**
+   * The executable for the benchmarks.
+   *
+   * @param args Command line argument(s).
+   * @throws CommandLineOptionException Invalid command line argument(s).
+   * @throws RunnerException Unable to run the benchmarks.
+   */
+  public static void main(final String[] args)
+      throws CommandLineOptionException, RunnerException {
+    final CommandLineOptions cmd = new CommandLineOptions(args);
+    final ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmd);
+    if (cmd.getProfilers().isEmpty()) {
+      builder.addProfiler(GCProfiler.class);
+    }
+    new Runner(builder.build()).run();
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.benchmarks.state;
+
+import org.cellocad.v2.benchmarks.common.BenchmarkUtils;
+import org.cellocad.v2.benchmarks.technologyMapping.SimulatedAnnealingFixture;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.data.DeviceRules;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.target.data.TMTargetDataInstance;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A synthesized design with a gate assignment found by simulated annealing, shared by all threads
+ * of a benchmark.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+public class MappedDesign {
+
+  /**
+   * Assigns gates to the synthesized design.
+   *
+   * @param design The synthesized design.
+   * @throws CelloException Unable to assign gates to the design.
+   */
+  @Setup(Level.Trial)
+  public void setup(final SynthesizedDesign design) throws CelloException {
+    annealing =
+        BenchmarkUtils.prepareAnnealing(
+            design.getNetlist(),
+            design.getDesign(),
+            design.getLibrary(),
+            design.getOutputDirectory());
+    annealing.anneal();
+  }
+
+  /**
+   * Returns the netlist with its gate assignment.
+   *
+   * @return The netlist with its gate assignment.
+   */
+  public Netlist getNetlist() {
+    return annealing.getNetlist();
+  }
+
+  /**
+   * Returns the logic evaluation of the netlist.
+   *
+   * @return The logic evaluation of the netlist.
+   */
+  public LSLogicEvaluation getLSLogicEvaluation() {
+    return annealing.getLSLogicEvaluation();
+  }
+
+  /**
+   * Returns the activity evaluation of the netlist.
+   *
+   * @return The activity evaluation of the netlist.
+   */
+  public TMActivityEvaluation getTMActivityEvaluation() {
+    return annealing.getTMActivityEvaluation();
+  }
+
+  /**
+   * Returns the device rules of the library.
+   *
+   * @return The device rules of the library.
+   */
+  public DeviceRules getDeviceRules() {
+    return annealing.getDeviceRules();
+  }
+
+  /**
+   * Returns the target data instance of the library.
+   *
+   * @return The target data instance of the library.
+   */
+  public TMTargetDataInstance getTargetDataInstance() {
+    return annealing.getTargetDataInstance();
+  }
+
+  private SimulatedAnnealingFixture annealing;
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.benchmarks.state;
+
+import java.io.File;
+import java.io.IOException;
+import org.cellocad.v2.benchmarks.common.BenchmarkUtils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A sample design synthesized for a library, shared by all threads of a benchmark.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+public class SynthesizedDesign {
+
+  /** The name of the design, see {@link BenchmarkUtils}. */
+  @Param({
+    "primitives/and",
+    "adder/adder",
+    "alu/alu/alu",
+    "md5Core/md5Core/md5Core",
+    "multiplier/multiplier"
+  })
+  public String design;
+
+  /** The name of the library, see {@link BenchmarkUtils}. */
+  @Param({"Eco/Eco1C1G1T1", "Eco/Eco1C2G2T2", "Eco/Eco2C1G3T1", "Bth/Bth1C1G1T1", "SC/SC1C1G1T1"})
+  public String library;
+
+  /**
+   * Synthesizes the design.
+   *
+   * @throws CelloException Unable to synthesize the design.
+   * @throws IOException Unable to create the output directory.
+   */
+  @Setup(Level.Trial)
+  public void setup() throws CelloException, IOException {
+    outputDir = BenchmarkUtils.createOutputDirectory();
+    netlist = BenchmarkUtils.synthesize(getDesign(), getLibrary(), getOutputDirectory());
+  }
+
+  /**
+   * Getter for {@code design}.
+   *
+   * @return The value of {@code design}.
+   */
+  public String getDesign() {
+    return design;
+  }
+
+  /**
+   * Getter for {@code library}.
+   *
+   * @return The value of {@code library}.
+   */
+  public String getLibrary() {
+    return library;
+  }
+
+  /**
+   * Getter for {@code netlist}.
+   *
+   * @return The synthesized netlist.
+   */
+  public Netlist getNetlist() {
+    return netlist;
+  }
+
+  /**
+   * Getter for {@code outputDir}.
+   *
+   * @return The output directory.
+   */
+  public File getOutputDirectory() {
+    return outputDir;
+  }
+
+  private Netlist netlist;
+  private File outputDir;
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.benchmarks.technologyMapping;
+
+import java.util.concurrent.TimeUnit;
+import org.cellocad.v2.benchmarks.state.MappedDesign;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.roadblock.RoadBlockUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score.ScoreUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the evaluations performed on every move of the simulated annealing algorithm of
+ * the <i>technologyMapping</i> stage.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EvaluationBenchmark {
+
+  @Benchmark
+  public LSLogicEvaluation lsLogicEvaluation(final MappedDesign design) {
+    return new LSLogicEvaluation(design.getNetlist());
+  }
+
+  @Benchmark
+  public TMActivityEvaluation tmActivityEvaluation(final MappedDesign design)
+      throws CelloException {
+    return new TMActivityEvaluation(design.getNetlist(), design.getLSLogicEvaluation());
+  }
+
+  @Benchmark
+  public TMToxicityEvaluation tmToxicityEvaluation(final MappedDesign design)
+      throws CelloException {
+    return new TMToxicityEvaluation(design.getNetlist(), design.getTMActivityEvaluation());
+  }
+
+  @Benchmark
+  public Double score(final MappedDesign design) {
+    return ScoreUtils.score(
+        design.getNetlist(), design.getLSLogicEvaluation(), design.getTMActivityEvaluation());
+  }
+
+  @Benchmark
+  public Integer numberOfRoadBlockedNodes(final MappedDesign design) throws CelloException {
+    return RoadBlockUtils.getNumberOfRoadBlockedNodes(
+        design.getNetlist(), design.getDeviceRules(), design.getTargetDataInstance());
+  }
+}
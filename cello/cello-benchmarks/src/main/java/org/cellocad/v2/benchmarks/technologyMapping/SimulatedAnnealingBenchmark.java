@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.benchmarks.technologyMapping;
+
+import java.util.concurrent.TimeUnit;
+import org.cellocad.v2.benchmarks.common.BenchmarkUtils;
+import org.cellocad.v2.benchmarks.state.SynthesizedDesign;
+import org.cellocad.v2.common.exception.CelloException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for one complete run of the simulated annealing algorithm of the
+ * <i>technologyMapping</i> stage. Each run starts from a fresh copy of the synthesized netlist;
+ * reading the library and preparing the stage are not measured.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class SimulatedAnnealingBenchmark {
+
+  /** A prepared, not yet run, instance of the algorithm. */
+  @State(Scope.Thread)
+  public static class Annealing {
+
+    /**
+     * Prepares the algorithm for a fresh copy of the synthesized netlist.
+     *
+     * @param design The synthesized design.
+     * @throws CelloException Unable to prepare the algorithm.
+     */
+    @Setup(Level.Invocation)
+    public void setup(final SynthesizedDesign design) throws CelloException {
+      annealing =
+          BenchmarkUtils.prepareAnnealing(
+              design.getNetlist(),
+              design.getDesign(),
+              design.getLibrary(),
+              design.getOutputDirectory());
+    }
+
+    private SimulatedAnnealingFixture annealing;
+  }
+
+  @Benchmark
+  public SimulatedAnnealingFixture run(final Annealing state) throws CelloException {
+    state.annealing.anneal();
+    return state.annealing;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.benchmarks.technologyMapping;
+
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.SimulatedAnnealing;
+import org.cellocad.v2.technologyMapping.target.data.TMTargetDataInstance;
+
+/**
+ * A {@link SimulatedAnnealing} instance whose core algorithm is run on request rather than on
+ * execution, so that the core algorithm may be measured separately from the setup of the stage.
+ * Executing the instance reads the target data and parameters and performs preprocessing, and
+ * {@link #anneal()} then runs the core algorithm. Postprocessing, which writes results and plots,
+ * is skipped.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class SimulatedAnnealingFixture extends SimulatedAnnealing {
+
+  /** Defers the core algorithm to {@link #anneal()}. */
+  @Override
+  protected void run() {}
+
+  /** Skips postprocessing. */
+  @Override
+  protected void postprocessing() {}
+
+  /**
+   * Runs the core algorithm.
+   *
+   * @throws CelloException Unable to run the core algorithm.
+   */
+  public void anneal() throws CelloException {
+    super.run();
+  }
+
+  @Override
+  public Netlist getNetlist() {
+    return super.getNetlist();
+  }
+
+  @Override
+  public TMTargetDataInstance getTargetDataInstance() {
+    return super.getTargetDataInstance();
+  }
+}
@@ -19,6 +19,9 @@
 
 package org.cellocad.v2.common;
 
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * The CObject class is the base object for all classes within the Poros framework.
  *
@@ -80,9 +83,30 @@ public class CObject {
    * @param name The name to set <i>name</i>.
    */
   public void setName(final String name) {
+    if (isNameIndexed && !Objects.equals(this.name, name)) {
+      CObject.RENAME_COUNT.incrementAndGet();
+    }
     this.name = name;
   }
 
+  /**
+   * Marks this instance as held in the name index of a {@link CObjectCollection}, so that a later
+   * change to its name is counted by {@link #getRenameCount()}.
+   */
+  void setNameIndexed() {
+    isNameIndexed = true;
+  }
+
+  /**
+   * Returns the number of changes to the name of an instance held in the name index of a {@link
+   * CObjectCollection}.
+   *
+   * @return The number of changes to the name of an indexed instance.
+   */
+  static long getRenameCount() {
+    return CObject.RENAME_COUNT.get();
+  }
+
   /**
    * Getter for {@code name}.
    *
@@ -281,4 +305,7 @@ public class CObject {
   private String name;
   private int type;
   private int idx;
+  private transient boolean isNameIndexed;
+
+  private static final AtomicLong RENAME_COUNT = new AtomicLong();
 }
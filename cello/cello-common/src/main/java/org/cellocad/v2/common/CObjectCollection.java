@@ -22,14 +22,22 @@ package org.cellocad.v2.common;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.RandomAccess;
 
 /**
  * Collection for CObject Object's.
  *
+ * <p>Lookups by name are served from an index from name to the first element with that name. The
+ * index is built on the first lookup, kept up to date when elements are appended, and rebuilt
+ * after any other change to the list. It is also rebuilt after an element held in the index of any
+ * collection is renamed, so that a lookup still returns the first element with a name. A miss falls
+ * back to a scan. Once a {@link #subList(int, int)} view has been taken, lookups always scan.
+ *
  * @param <T> the type of elements in this collection.
  * @author Vincent Mirian
  * @author Timothy Jones
@@ -56,6 +64,17 @@ public class CObjectCollection<T extends CObject> extends CObject
    */
   public T findCObjectByName(final String name) {
     T rtn = null;
+    final Map<String, T> index = getNameIndex();
+    if (index != null) {
+      rtn = index.get(name);
+      if (rtn != null && !rtn.getName().equals(name)) {
+        nameIndex = null;
+        rtn = null;
+      }
+      if (rtn != null) {
+        return rtn;
+      }
+    }
     T cobjTemp = null;
     final Iterator<T> cobjIt = collection.iterator();
     while (rtn == null && cobjIt.hasNext()) {
@@ -86,8 +105,115 @@ public class CObjectCollection<T extends CObject> extends CObject
     return rtn;
   }
 
+  /**
+   * Returns the name index of this instance, building it if needed.
+   *
+   * @return The name index, or null if lookups should scan.
+   */
+  private Map<String, T> getNameIndex() {
+    Map<String, T> rtn = nameIndex;
+    final long renames = CObject.getRenameCount();
+    if (rtn != null && nameIndexRenames != renames) {
+      rtn = null;
+    }
+    if (rtn == null && !isSubListTaken && collection.size() >= I_NAME_INDEX_THRESHOLD) {
+      rtn = new HashMap<>(collection.size() * 2);
+      for (final T e : collection) {
+        if (e != null) {
+          e.setNameIndexed();
+          rtn.putIfAbsent(e.getName(), e);
+        }
+      }
+      nameIndexRenames = renames;
+      nameIndex = rtn;
+    }
+    return rtn;
+  }
+
+  /**
+   * Adds the element defined by parameter {@code e}, appended to the end of this list, to the name
+   * index.
+   *
+   * @param e The element.
+   */
+  private void indexAppended(final T e) {
+    final Map<String, T> index = nameIndex;
+    if (index != null && e != null) {
+      e.setNameIndexed();
+      index.putIfAbsent(e.getName(), e);
+    }
+  }
+
+  /** Discards the name index after a change to this list other than an append. */
+  private void invalidateNameIndex() {
+    nameIndex = null;
+  }
+
+  /** A list iterator that discards the name index when it changes the list. */
+  private class NameIndexListIterator implements ListIterator<T> {
+
+    NameIndexListIterator(final ListIterator<T> it) {
+      this.it = it;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return it.hasNext();
+    }
+
+    @Override
+    public T next() {
+      return it.next();
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return it.hasPrevious();
+    }
+
+    @Override
+    public T previous() {
+      return it.previous();
+    }
+
+    @Override
+    public int nextIndex() {
+      return it.nextIndex();
+    }
+
+    @Override
+    public int previousIndex() {
+      return it.previousIndex();
+    }
+
+    @Override
+    public void remove() {
+      it.remove();
+      invalidateNameIndex();
+    }
+
+    @Override
+    public void set(final T e) {
+      it.set(e);
+      invalidateNameIndex();
+    }
+
+    @Override
+    public void add(final T e) {
+      it.add(e);
+      invalidateNameIndex();
+    }
+
+    private final ListIterator<T> it;
+  }
+
   private static final long serialVersionUID = 1L;
   List<T> collection;
+  private transient volatile Map<String, T> nameIndex;
+  private transient long nameIndexRenames;
+  private transient boolean isSubListTaken;
+
+  private static final int I_NAME_INDEX_THRESHOLD = 8;
 
   /**
    * Appends the specified element to the end of this list.
@@ -97,7 +223,9 @@ public class CObjectCollection<T extends CObject> extends CObject
    */
   @Override
   public boolean add(final T e) {
-    return collection.add(e);
+    final boolean rtn = collection.add(e);
+    indexAppended(e);
+    return rtn;
   }
 
   /**
@@ -112,6 +240,7 @@ public class CObjectCollection<T extends CObject> extends CObject
   @Override
   public void add(final int index, final T element) {
     collection.add(index, element);
+    invalidateNameIndex();
   }
 
   /**
@@ -127,7 +256,12 @@ public class CObjectCollection<T extends CObject> extends CObject
    */
   @Override
   public boolean addAll(final Collection<? extends T> c) {
-    return collection.addAll(c);
+    final int size = collection.size();
+    final boolean rtn = collection.addAll(c);
+    for (int i = size; i < collection.size(); i++) {
+      indexAppended(collection.get(i));
+    }
+    return rtn;
   }
 
   /**
@@ -144,6 +278,7 @@ public class CObjectCollection<T extends CObject> extends CObject
    */
   @Override
   public boolean addAll(final int index, final Collection<? extends T> c) {
+    invalidateNameIndex();
     return collection.addAll(index, c);
   }
 
@@ -151,6 +286,7 @@ public class CObjectCollection<T extends CObject> extends CObject
   @Override
   public void clear() {
     collection.clear();
+    invalidateNameIndex();
   }
 
   /**
@@ -222,7 +358,7 @@ public class CObjectCollection<T extends CObject> extends CObject
    */
   @Override
   public Iterator<T> iterator() {
-    return collection.iterator();
+    return new NameIndexListIterator(collection.listIterator());
   }
 
   /**
@@ -247,7 +383,7 @@ public class CObjectCollection<T extends CObject> extends CObject
    */
   @Override
   public ListIterator<T> listIterator() {
-    return collection.listIterator();
+    return new NameIndexListIterator(collection.listIterator());
   }
 
   /**
@@ -262,7 +398,7 @@ public class CObjectCollection<T extends CObject> extends CObject
    */
   @Override
   public ListIterator<T> listIterator(final int index) {
-    return collection.listIterator(index);
+    return new NameIndexListIterator(collection.listIterator(index));
   }
 
   /**
@@ -277,6 +413,7 @@ public class CObjectCollection<T extends CObject> extends CObject
    */
   @Override
   public boolean remove(final Object o) {
+    invalidateNameIndex();
     return collection.remove(o);
   }
 
@@ -290,6 +427,7 @@ public class CObjectCollection<T extends CObject> extends CObject
    */
   @Override
   public T remove(final int index) {
+    invalidateNameIndex();
     return collection.remove(index);
   }
 
@@ -305,6 +443,7 @@ public class CObjectCollection<T extends CObject> extends CObject
    */
   @Override
   public boolean removeAll(final Collection<?> c) {
+    invalidateNameIndex();
     return collection.removeAll(c);
   }
 
@@ -322,6 +461,7 @@ public class CObjectCollection<T extends CObject> extends CObject
    */
   @Override
   public boolean retainAll(final Collection<?> c) {
+    invalidateNameIndex();
     return collection.retainAll(c);
   }
 
@@ -336,6 +476,7 @@ public class CObjectCollection<T extends CObject> extends CObject
    */
   @Override
   public T set(final int index, final T element) {
+    invalidateNameIndex();
     return collection.set(index, element);
   }
 
@@ -366,6 +507,8 @@ public class CObjectCollection<T extends CObject> extends CObject
    */
   @Override
   public List<T> subList(final int fromIndex, final int toIndex) {
+    isSubListTaken = true;
+    invalidateNameIndex();
     return collection.subList(fromIndex, toIndex);
   }
 
@@ -28,6 +28,7 @@ import org.cellocad.v2.common.netlistConstraint.data.NetlistConstraint;
 import org.cellocad.v2.common.profile.AlgorithmProfile;
 import org.cellocad.v2.common.runtime.environment.RuntimeEnv;
 import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.results.common.Metrics;
 import org.cellocad.v2.results.common.Results;
 import org.cellocad.v2.results.netlist.Netlist;
 
@@ -49,7 +50,8 @@ public abstract class Algorithm extends CObject {
    * {@link #preprocessing()}<br>
    * {@link #run()}<br>
    * {@link #postprocessing()}<br>
-   * .
+   * . The phases from {@link #getDataFromUcf()} onward are measured in the {@link Metrics} of the
+   * results.
    *
    * @param netlist The {@link Netlist} used during execution.
    * @param targetData The {@link TargetData} used during execution.
@@ -81,13 +83,23 @@ public abstract class Algorithm extends CObject {
     setAlgorithmProfile(algProfile);
     setRuntimeEnv(runtimeEnv);
     // execute
+    final Metrics metrics = results.getMetrics();
+    final String stage = algProfile.getStageName();
     getConstraintFromNetlistConstraintFile();
-    getDataFromUcf();
+    try (Metrics.Phase phase = metrics.start(stage, "getDataFromUcf")) {
+      getDataFromUcf();
+    }
     setParameterValues();
     validateParameterValues();
-    preprocessing();
-    run();
-    postprocessing();
+    try (Metrics.Phase phase = metrics.start(stage, "preprocessing")) {
+      preprocessing();
+    }
+    try (Metrics.Phase phase = metrics.start(stage, "run")) {
+      run();
+    }
+    try (Metrics.Phase phase = metrics.start(stage, "postprocessing")) {
+      postprocessing();
+    }
   }
 
   /*
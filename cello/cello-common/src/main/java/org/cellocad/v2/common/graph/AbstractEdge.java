@@ -21,6 +21,8 @@ package org.cellocad.v2.common.graph;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.CObjectCollection;
 import org.cellocad.v2.common.Utils;
@@ -70,6 +72,28 @@ public abstract class AbstractEdge<T extends AbstractVertex<?>> extends CObject
      */
   }
 
+  /*
+   * Id
+   */
+  /**
+   * Getter for {@code id}.
+   *
+   * @return The position of this instance in the {@link AbstractGraph} it was last added to, or -1
+   *     if it does not belong to a graph.
+   */
+  public int getId() {
+    return id;
+  }
+
+  /**
+   * Setter for {@code id}.
+   *
+   * @param id The position of this instance in its {@link AbstractGraph}.
+   */
+  void setId(final int id) {
+    this.id = id;
+  }
+
   /**
    * Setter for the instance's source node.
    *
@@ -77,6 +101,51 @@ public abstract class AbstractEdge<T extends AbstractVertex<?>> extends CObject
    */
   public void setSrc(final T src) {
     this.src = src;
+    structureModified();
+  }
+
+  /**
+   * Records a change to the source or destination(s) of this instance, invalidating the cached
+   * topological order of each graph that contains this instance or one of its nodes.
+   */
+  protected void structureModified() {
+    for (int i = 0; graphs != null && i < graphs.size(); i++) {
+      graphs.get(i).structureModified();
+    }
+    if (src != null) {
+      src.structureModified();
+    }
+    for (int i = 0; dst != null && i < dst.size(); i++) {
+      dst.get(i).structureModified();
+    }
+  }
+
+  /**
+   * Adds the {@link AbstractGraph} defined by parameter {@code graph} to the graphs that contain
+   * this instance.
+   *
+   * @param graph The graph.
+   */
+  void addGraph(final AbstractGraph<?, ?> graph) {
+    if (graphs == null) {
+      graphs = new ArrayList<>(1);
+    }
+    graphs.add(graph);
+  }
+
+  /**
+   * Removes one occurrence of the {@link AbstractGraph} defined by parameter {@code graph} from
+   * the graphs that contain this instance.
+   *
+   * @param graph The graph.
+   */
+  void removeGraph(final AbstractGraph<?, ?> graph) {
+    for (int i = 0; graphs != null && i < graphs.size(); i++) {
+      if (graphs.get(i) == graph) {
+        graphs.remove(i);
+        break;
+      }
+    }
   }
 
   /**
@@ -96,6 +165,7 @@ public abstract class AbstractEdge<T extends AbstractVertex<?>> extends CObject
   public void addDst(final T dst) {
     if (dst != null) {
       this.getMyDst().add(dst);
+      structureModified();
     }
   }
 
@@ -345,4 +415,6 @@ public abstract class AbstractEdge<T extends AbstractVertex<?>> extends CObject
    */
   private T src;
   private CObjectCollection<T> dst;
+  private int id = -1;
+  private List<AbstractGraph<?, ?>> graphs;
 }
@@ -21,11 +21,21 @@ package org.cellocad.v2.common.graph;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.CObjectCollection;
 import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
 
 /**
  * The AbstractGraph class is a class representing a graph consisting of: 1) node(s) of type {@link
@@ -46,8 +56,17 @@ public abstract class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
 
   /** Clear the contents of the {@link AbstractGraph}. */
   public void clear() {
+    for (int i = 0; i < this.getNumVertex(); i++) {
+      this.getVertexAtIdx(i).setId(-1);
+      this.getVertexAtIdx(i).removeGraph(this);
+    }
+    for (int i = 0; i < this.getNumEdge(); i++) {
+      this.getEdgeAtIdx(i).setId(-1);
+      this.getEdgeAtIdx(i).removeGraph(this);
+    }
     this.vertices.clear();
     this.edges.clear();
+    structureModified();
   }
 
   /** Initializes a newly created {@link AbstractGraph}. */
@@ -216,24 +235,35 @@ public abstract class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
    * Vertices
    */
   /**
-   * Adds the {@link AbstractVertex} defined by parameter {@code vertex} to this instance.
+   * Adds the {@link AbstractVertex} defined by parameter {@code vertex} to this instance. The id
+   * of the vertex is set to its position in this instance.
    *
    * @param vertex An {@link AbstractVertex} object.
    */
   public void addVertex(final V vertex) {
     if (vertex != null) {
+      vertex.setId(vertices.size());
       vertices.add(vertex);
+      vertex.addGraph(this);
+      structureModified();
     }
   }
 
   /**
-   * Removes the {@link AbstractVertex} defined by parameter {@code vertex} from this instance.
+   * Removes the {@link AbstractVertex} defined by parameter {@code vertex} from this instance. The
+   * ids of the remaining vertices are renumbered to their new positions.
    *
    * @param vertex An {@link AbstractVertex} object.
    */
   public void removeVertex(final V vertex) {
     if (vertex != null) {
       vertices.remove(vertex);
+      vertex.setId(-1);
+      vertex.removeGraph(this);
+      for (int i = 0; i < vertices.size(); i++) {
+        vertices.get(i).setId(i);
+      }
+      structureModified();
     }
   }
 
@@ -280,24 +310,35 @@ public abstract class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
    * Edges
    */
   /**
-   * Adds the {@link AbstractEdge} defined by parameter {@code edge} to this instance.
+   * Adds the {@link AbstractEdge} defined by parameter {@code edge} to this instance. The id of the
+   * edge is set to its position in this instance.
    *
    * @param edge An {@link AbstractEdge} object.
    */
   public void addEdge(final E edge) {
     if (edge != null) {
+      edge.setId(edges.size());
       edges.add(edge);
+      edge.addGraph(this);
+      structureModified();
     }
   }
 
   /**
-   * Removes the {@link AbstractEdge} defined by parameter {@code edge} from this instance.
+   * Removes the {@link AbstractEdge} defined by parameter {@code edge} from this instance. The ids
+   * of the remaining edges are renumbered to their new positions.
    *
    * @param edge An {@link AbstractEdge} object.
    */
   public void removeEdge(final E edge) {
     if (edge != null) {
       edges.remove(edge);
+      edge.setId(-1);
+      edge.removeGraph(this);
+      for (int i = 0; i < edges.size(); i++) {
+        edges.get(i).setId(i);
+      }
+      structureModified();
     }
   }
 
@@ -340,6 +381,207 @@ public abstract class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
     return rtn;
   }
 
+  /*
+   * Topological order
+   */
+  /**
+   * Records a change to the structure of this instance: its vertices, its edges, the source and
+   * destination(s) of one of its edges, or the in and out edges or the type of one of its vertices.
+   * The cached topological order and snapshot of this instance are invalidated.
+   */
+  void structureModified() {
+    structureVersion.incrementAndGet();
+  }
+
+  /**
+   * Returns the vertices of this instance that reach a {@link VertexType#SINK} vertex, in
+   * topological order, i.e. every vertex follows the sources of its in edges. A {@link
+   * VertexType#SOURCE} vertex is not traversed past, so it precedes every vertex it reaches.
+   *
+   * <p>The order is computed once, in time linear in the number of vertices and edges, and cached
+   * until the structure of this instance changes. If the vertices that reach a sink contain a cycle,
+   * the order is that of a reverse breadth-first search from the sinks, as computed by previous
+   * versions of {@link org.cellocad.v2.common.graph.algorithm.MyBFS}.
+   *
+   * @return An unmodifiable list of the vertices of this instance in topological order.
+   */
+  public List<V> getTopologicalOrder() {
+    final long version = structureVersion.get();
+    TopologicalOrder<V> order = topologicalOrder;
+    if (order == null || order.version != version) {
+      order = new TopologicalOrder<>(version, Collections.unmodifiableList(sortTopologically()));
+      topologicalOrder = order;
+    }
+    return order.vertices;
+  }
+
+  /**
+   * Sorts the vertices that reach a sink with Kahn's algorithm, falling back to a reverse
+   * breadth-first search if they contain a cycle.
+   *
+   * @return The vertices that reach a sink in topological order.
+   */
+  private List<V> sortTopologically() {
+    final int n = this.getNumVertex();
+    final Map<V, Integer> index = new IdentityHashMap<>(n * 2);
+    for (int i = 0; i < n; i++) {
+      index.put(this.getVertexAtIdx(i), i);
+    }
+    // reach back from the sinks
+    final boolean[] reached = new boolean[n];
+    final int[] stack = new int[n];
+    int top = 0;
+    int numReached = 0;
+    for (int i = 0; i < n; i++) {
+      if (this.getVertexAtIdx(i).getVertexType() == VertexType.SINK) {
+        reached[i] = true;
+        stack[top++] = i;
+        numReached++;
+      }
+    }
+    while (top > 0) {
+      final V v = this.getVertexAtIdx(stack[--top]);
+      if (v.getVertexType() == VertexType.SOURCE) {
+        continue;
+      }
+      for (int i = 0; i < v.getNumInEdge(); i++) {
+        final Integer j = index.get(v.getInEdgeAtIdx(i).getSrc());
+        if (j != null && !reached[j]) {
+          reached[j] = true;
+          stack[top++] = j;
+          numReached++;
+        }
+      }
+    }
+    // count the in edges from reached vertices
+    final int[] inDegree = new int[n];
+    for (int i = 0; i < n; i++) {
+      if (!reached[i]) {
+        continue;
+      }
+      final V v = this.getVertexAtIdx(i);
+      for (int j = 0; j < v.getNumOutEdge(); j++) {
+        final E e = v.getOutEdgeAtIdx(j);
+        for (int k = 0; k < e.getNumDst(); k++) {
+          final Integer d = index.get(e.getDstAtIdx(k));
+          if (d != null && reached[d] && !isSource(d)) {
+            inDegree[d]++;
+          }
+        }
+      }
+    }
+    // Kahn
+    final int[] queue = new int[n];
+    int head = 0;
+    int tail = 0;
+    for (int i = 0; i < n; i++) {
+      if (reached[i] && inDegree[i] == 0) {
+        queue[tail++] = i;
+      }
+    }
+    while (head < tail) {
+      final V v = this.getVertexAtIdx(queue[head++]);
+      for (int j = 0; j < v.getNumOutEdge(); j++) {
+        final E e = v.getOutEdgeAtIdx(j);
+        for (int k = 0; k < e.getNumDst(); k++) {
+          final Integer d = index.get(e.getDstAtIdx(k));
+          if (d != null && reached[d] && !isSource(d) && --inDegree[d] == 0) {
+            queue[tail++] = d;
+          }
+        }
+      }
+    }
+    List<V> rtn = null;
+    if (tail == numReached) {
+      rtn = new ArrayList<>(tail);
+      for (int i = 0; i < tail; i++) {
+        rtn.add(this.getVertexAtIdx(queue[i]));
+      }
+    } else {
+      rtn = sortByReverseBreadthFirstSearch(index);
+    }
+    return rtn;
+  }
+
+  private boolean isSource(final int index) {
+    return this.getVertexAtIdx(index).getVertexType() == VertexType.SOURCE;
+  }
+
+  /**
+   * Orders the vertices that reach a sink by a breadth-first search from the sinks against the
+   * direction of the edges, moving a vertex to the end of the order each time it is reached, and
+   * then reversing the order.
+   *
+   * @param index The index of each vertex of this instance.
+   * @return The vertices that reach a sink.
+   */
+  private List<V> sortByReverseBreadthFirstSearch(final Map<V, Integer> index) {
+    final int n = this.getNumVertex();
+    final Set<V> order = new LinkedHashSet<>();
+    final Queue<V> q = new LinkedList<>();
+    final boolean[] visited = new boolean[n];
+    for (int i = 0; i < n; i++) {
+      final V v = this.getVertexAtIdx(i);
+      if (v.getVertexType() == VertexType.SINK) {
+        order.add(v);
+        q.add(v);
+      }
+    }
+    while (!q.isEmpty()) {
+      final V v = q.remove();
+      final Integer i = index.get(v);
+      if (i == null || visited[i]) {
+        continue;
+      }
+      visited[i] = true;
+      if (v.getVertexType() == VertexType.SOURCE) {
+        continue;
+      }
+      for (int j = 0; j < v.getNumInEdge(); j++) {
+        final V src = v.getInEdgeAtIdx(j).getSrc();
+        order.remove(src);
+        order.add(src);
+        q.add(src);
+      }
+    }
+    final List<V> rtn = new ArrayList<>(order);
+    Collections.reverse(rtn);
+    return rtn;
+  }
+
+  /*
+   * Snapshot
+   */
+  /**
+   * Returns a frozen snapshot of the adjacency of this instance in compressed sparse row form,
+   * with an index from the name of each vertex and edge to its id. The snapshot is computed once
+   * and cached until the structure of this instance changes. It does not follow later changes to
+   * the names of vertices or edges.
+   *
+   * @return A snapshot of the adjacency of this instance.
+   */
+  public GraphSnapshot getSnapshot() {
+    final long version = structureVersion.get();
+    GraphSnapshot rtn = snapshot;
+    if (rtn == null || rtn.getVersion() != version) {
+      rtn = new GraphSnapshot(this, version);
+      snapshot = rtn;
+    }
+    return rtn;
+  }
+
+  /** A topological order and the structure version for which it was computed. */
+  private static final class TopologicalOrder<V> {
+
+    TopologicalOrder(final long version, final List<V> vertices) {
+      this.version = version;
+      this.vertices = vertices;
+    }
+
+    private final long version;
+    private final List<V> vertices;
+  }
+
   /*
    * is valid?
    */
@@ -635,4 +877,7 @@ public abstract class AbstractGraph<V extends AbstractVertex<E>, E extends Abstr
 
   private CObjectCollection<V> vertices;
   private CObjectCollection<E> edges;
+  private volatile TopologicalOrder<V> topologicalOrder;
+  private volatile GraphSnapshot snapshot;
+  private final AtomicLong structureVersion = new AtomicLong();
 }
@@ -21,6 +21,8 @@ package org.cellocad.v2.common.graph;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.CObjectCollection;
 import org.cellocad.v2.common.Utils;
@@ -45,6 +47,7 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
     this.setVertexDiscovery(VertexDiscovery.UNVISITED);
     this.inEdges.clear();
     this.outEdges.clear();
+    structureModified();
   }
 
   /**
@@ -112,6 +115,28 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
      */
   }
 
+  /*
+   * Id
+   */
+  /**
+   * Getter for {@code id}.
+   *
+   * @return The position of this instance in the {@link AbstractGraph} it was last added to, or -1
+   *     if it does not belong to a graph.
+   */
+  public int getId() {
+    return id;
+  }
+
+  /**
+   * Setter for {@code id}.
+   *
+   * @param id The position of this instance in its {@link AbstractGraph}.
+   */
+  void setId(final int id) {
+    this.id = id;
+  }
+
   /*
    * VertexType
    */
@@ -125,6 +150,47 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
     SINK
   }
 
+  /*
+   * Graphs
+   */
+  /**
+   * Adds the {@link AbstractGraph} defined by parameter {@code graph} to the graphs that contain
+   * this instance.
+   *
+   * @param graph The graph.
+   */
+  void addGraph(final AbstractGraph<?, ?> graph) {
+    if (graphs == null) {
+      graphs = new ArrayList<>(1);
+    }
+    graphs.add(graph);
+  }
+
+  /**
+   * Removes one occurrence of the {@link AbstractGraph} defined by parameter {@code graph} from
+   * the graphs that contain this instance.
+   *
+   * @param graph The graph.
+   */
+  void removeGraph(final AbstractGraph<?, ?> graph) {
+    for (int i = 0; graphs != null && i < graphs.size(); i++) {
+      if (graphs.get(i) == graph) {
+        graphs.remove(i);
+        break;
+      }
+    }
+  }
+
+  /**
+   * Records a change to the in and out edges or the type of this instance, invalidating the cached
+   * topological order of each graph that contains this instance.
+   */
+  protected void structureModified() {
+    for (int i = 0; graphs != null && i < graphs.size(); i++) {
+      graphs.get(i).structureModified();
+    }
+  }
+
   /**
    * Setter for the {@code vertexType}.
    *
@@ -132,6 +198,7 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
    */
   public void setVertexType(final VertexType vertexType) {
     this.vertexType = vertexType;
+    structureModified();
   }
 
   /**
@@ -217,6 +284,7 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
   public void addInEdge(final T edge) {
     if (edge != null) {
       inEdges.add(edge);
+      structureModified();
     }
   }
 
@@ -229,6 +297,7 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
   public void removeInEdge(final T edge) {
     if (edge != null) {
       inEdges.remove(edge);
+      structureModified();
     }
   }
 
@@ -285,6 +354,7 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
   /** Removes all of the {@link AbstractEdge} from the InEdge(s) of this instance. */
   public void clearInEdge() {
     inEdges.clear();
+    structureModified();
   }
 
   /*
@@ -299,6 +369,7 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
   public void addOutEdge(final T edge) {
     if (edge != null) {
       outEdges.add(edge);
+      structureModified();
     }
   }
 
@@ -311,6 +382,7 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
   public void removeOutEdge(final T edge) {
     if (edge != null) {
       outEdges.remove(edge);
+      structureModified();
     }
   }
 
@@ -367,6 +439,7 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
   /** Removes all of the {@link AbstractEdge} from the OutEdge(s) of this instance. */
   public void clearOutEdge() {
     outEdges.clear();
+    structureModified();
   }
 
   /*
@@ -607,4 +680,6 @@ public abstract class AbstractVertex<T extends AbstractEdge<?>> extends CObject
   private VertexDiscovery vertexDiscovery;
   private CObjectCollection<T> inEdges;
   private CObjectCollection<T> outEdges;
+  private int id = -1;
+  private List<AbstractGraph<?, ?>> graphs;
 }
@@ -0,0 +1,280 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.graph;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A frozen snapshot of the adjacency of an {@link AbstractGraph} in compressed sparse row form.
+ * Vertices and edges are identified by their position in the graph, which is the value of {@link
+ * AbstractVertex#getId()} and {@link AbstractEdge#getId()} for the vertices and edges of the graph.
+ * The neighbors of vertex {@code v} are held in a flat array between two offsets, so that they can
+ * be iterated without touching the vertex and edge objects.
+ *
+ * <p>A snapshot is immutable and may be read concurrently. It is obtained with {@link
+ * AbstractGraph#getSnapshot()}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public final class GraphSnapshot {
+
+  /**
+   * Initializes a newly created {@link GraphSnapshot} of the graph defined by parameter {@code g}.
+   *
+   * @param <V> The type of the vertices.
+   * @param <E> The type of the edges.
+   * @param g The graph.
+   * @param version The structure version of the graph.
+   */
+  <V extends AbstractVertex<E>, E extends AbstractEdge<V>> GraphSnapshot(
+      final AbstractGraph<V, E> g, final long version) {
+    this.version = version;
+    numVertex = g.getNumVertex();
+    numEdge = g.getNumEdge();
+    final Map<V, Integer> vIndex = new IdentityHashMap<>(numVertex * 2);
+    final Map<E, Integer> eIndex = new IdentityHashMap<>(numEdge * 2);
+    vertexIds = new HashMap<>(numVertex * 2);
+    edgeIds = new HashMap<>(numEdge * 2);
+    for (int i = 0; i < numVertex; i++) {
+      final V v = g.getVertexAtIdx(i);
+      vIndex.put(v, i);
+      vertexIds.putIfAbsent(v.getName(), i);
+    }
+    for (int i = 0; i < numEdge; i++) {
+      final E e = g.getEdgeAtIdx(i);
+      eIndex.put(e, i);
+      edgeIds.putIfAbsent(e.getName(), i);
+    }
+    // out
+    outOffsets = new int[numVertex + 1];
+    for (int i = 0; i < numVertex; i++) {
+      final V v = g.getVertexAtIdx(i);
+      int degree = 0;
+      for (int j = 0; j < v.getNumOutEdge(); j++) {
+        final E e = v.getOutEdgeAtIdx(j);
+        if (!eIndex.containsKey(e)) {
+          continue;
+        }
+        for (int k = 0; k < e.getNumDst(); k++) {
+          if (vIndex.containsKey(e.getDstAtIdx(k))) {
+            degree++;
+          }
+        }
+      }
+      outOffsets[i + 1] = outOffsets[i] + degree;
+    }
+    outNeighbors = new int[outOffsets[numVertex]];
+    outEdges = new int[outOffsets[numVertex]];
+    for (int i = 0; i < numVertex; i++) {
+      final V v = g.getVertexAtIdx(i);
+      int pos = outOffsets[i];
+      for (int j = 0; j < v.getNumOutEdge(); j++) {
+        final E e = v.getOutEdgeAtIdx(j);
+        final Integer edgeId = eIndex.get(e);
+        if (edgeId == null) {
+          continue;
+        }
+        for (int k = 0; k < e.getNumDst(); k++) {
+          final Integer dst = vIndex.get(e.getDstAtIdx(k));
+          if (dst != null) {
+            outNeighbors[pos] = dst;
+            outEdges[pos] = edgeId;
+            pos++;
+          }
+        }
+      }
+    }
+    // in
+    inOffsets = new int[numVertex + 1];
+    for (int i = 0; i < numVertex; i++) {
+      final V v = g.getVertexAtIdx(i);
+      int degree = 0;
+      for (int j = 0; j < v.getNumInEdge(); j++) {
+        final E e = v.getInEdgeAtIdx(j);
+        if (eIndex.containsKey(e) && vIndex.containsKey(e.getSrc())) {
+          degree++;
+        }
+      }
+      inOffsets[i + 1] = inOffsets[i] + degree;
+    }
+    inNeighbors = new int[inOffsets[numVertex]];
+    inEdges = new int[inOffsets[numVertex]];
+    for (int i = 0; i < numVertex; i++) {
+      final V v = g.getVertexAtIdx(i);
+      int pos = inOffsets[i];
+      for (int j = 0; j < v.getNumInEdge(); j++) {
+        final E e = v.getInEdgeAtIdx(j);
+        final Integer edgeId = eIndex.get(e);
+        final Integer src = vIndex.get(e.getSrc());
+        if (edgeId != null && src != null) {
+          inNeighbors[pos] = src;
+          inEdges[pos] = edgeId;
+          pos++;
+        }
+      }
+    }
+    // order
+    final List<V> order = g.getTopologicalOrder();
+    topologicalOrder = new int[order.size()];
+    for (int i = 0; i < order.size(); i++) {
+      topologicalOrder[i] = vIndex.get(order.get(i));
+    }
+  }
+
+  /**
+   * Getter for {@code version}.
+   *
+   * @return The structure version of the graph when this instance was taken.
+   */
+  long getVersion() {
+    return version;
+  }
+
+  /**
+   * Getter for {@code numVertex}.
+   *
+   * @return The number of vertices.
+   */
+  public int getNumVertex() {
+    return numVertex;
+  }
+
+  /**
+   * Getter for {@code numEdge}.
+   *
+   * @return The number of edges.
+   */
+  public int getNumEdge() {
+    return numEdge;
+  }
+
+  /**
+   * Returns the id of the first vertex with the given name.
+   *
+   * @param name The name of the vertex.
+   * @return The id of the first vertex with the given name, or -1 if there is no such vertex.
+   */
+  public int getVertexId(final String name) {
+    final Integer rtn = vertexIds.get(name);
+    return rtn == null ? -1 : rtn;
+  }
+
+  /**
+   * Returns the id of the first edge with the given name.
+   *
+   * @param name The name of the edge.
+   * @return The id of the first edge with the given name, or -1 if there is no such edge.
+   */
+  public int getEdgeId(final String name) {
+    final Integer rtn = edgeIds.get(name);
+    return rtn == null ? -1 : rtn;
+  }
+
+  /**
+   * Returns the number of out neighbors of a vertex, counting a neighbor once for each edge to it.
+   *
+   * @param vertex The vertex id.
+   * @return The number of out neighbors of the vertex.
+   */
+  public int getOutDegree(final int vertex) {
+    return outOffsets[vertex + 1] - outOffsets[vertex];
+  }
+
+  /**
+   * Returns an out neighbor of a vertex.
+   *
+   * @param vertex The vertex id.
+   * @param index The index of the neighbor, less than {@link #getOutDegree(int)}.
+   * @return The vertex id of the neighbor.
+   */
+  public int getOutNeighbor(final int vertex, final int index) {
+    return outNeighbors[outOffsets[vertex] + index];
+  }
+
+  /**
+   * Returns the edge to an out neighbor of a vertex.
+   *
+   * @param vertex The vertex id.
+   * @param index The index of the neighbor, less than {@link #getOutDegree(int)}.
+   * @return The edge id of the edge to the neighbor.
+   */
+  public int getOutEdge(final int vertex, final int index) {
+    return outEdges[outOffsets[vertex] + index];
+  }
+
+  /**
+   * Returns the number of in neighbors of a vertex, counting a neighbor once for each edge from
+   * it.
+   *
+   * @param vertex The vertex id.
+   * @return The number of in neighbors of the vertex.
+   */
+  public int getInDegree(final int vertex) {
+    return inOffsets[vertex + 1] - inOffsets[vertex];
+  }
+
+  /**
+   * Returns an in neighbor of a vertex.
+   *
+   * @param vertex The vertex id.
+   * @param index The index of the neighbor, less than {@link #getInDegree(int)}.
+   * @return The vertex id of the neighbor.
+   */
+  public int getInNeighbor(final int vertex, final int index) {
+    return inNeighbors[inOffsets[vertex] + index];
+  }
+
+  /**
+   * Returns the edge from an in neighbor of a vertex.
+   *
+   * @param vertex The vertex id.
+   * @param index The index of the neighbor, less than {@link #getInDegree(int)}.
+   * @return The edge id of the edge from the neighbor.
+   */
+  public int getInEdge(final int vertex, final int index) {
+    return inEdges[inOffsets[vertex] + index];
+  }
+
+  /**
+   * Returns the ids of the vertices in the order of {@link AbstractGraph#getTopologicalOrder()}.
+   *
+   * @return A new array of the vertex ids in topological order.
+   */
+  public int[] getTopologicalOrder() {
+    return topologicalOrder.clone();
+  }
+
+  private final long version;
+  private final int numVertex;
+  private final int numEdge;
+  private final Map<String, Integer> vertexIds;
+  private final Map<String, Integer> edgeIds;
+  private final int[] outOffsets;
+  private final int[] outNeighbors;
+  private final int[] outEdges;
+  private final int[] inOffsets;
+  private final int[] inNeighbors;
+  private final int[] inEdges;
+  private final int[] topologicalOrder;
+}
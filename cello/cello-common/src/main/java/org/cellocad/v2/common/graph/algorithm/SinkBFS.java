@@ -19,14 +19,17 @@
 
 package org.cellocad.v2.common.graph.algorithm;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Queue;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.graph.AbstractEdge;
 import org.cellocad.v2.common.graph.AbstractGraph;
 import org.cellocad.v2.common.graph.AbstractVertex;
-import org.cellocad.v2.common.graph.AbstractVertex.VertexDiscovery;
-import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
 
 /**
  * The BFS class is class performing breadth-first search (BFS) on an <i>AbstractGraph</i>.
@@ -41,7 +44,7 @@ import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
 // TODO: make BFS_reverse (sink to source)
 public class SinkBFS<
         V extends AbstractVertex<E>, E extends AbstractEdge<V>, G extends AbstractGraph<V, E>>
-    extends CObject {
+    extends CObject implements Iterable<V> {
 
   private void init() {
     bfs = new LinkedList<>();
@@ -49,42 +52,13 @@ public class SinkBFS<
 
   private void reset() {
     this.getBFS().clear();
+    order = Collections.emptyList();
   }
 
   private void doBFS() {
-    final G g = this.getGraph();
-    final Queue<V> q = new LinkedList<>();
-    // initialize VertexDiscovery
-    // get Sink Vertex
-    for (int i = 0; i < g.getNumVertex(); i++) {
-      final V v = g.getVertexAtIdx(i);
-      if (v.getVertexType() == VertexType.SINK) {
-        this.getBFS().add(v);
-        q.add(v);
-      }
-      v.setVertexDiscovery(VertexDiscovery.UNVISITED);
-    }
-    // doBFS
-    while (!q.isEmpty()) {
-      final V v = q.remove();
-      // skip if SOURCE
-      if (v.getVertexType() == VertexType.SOURCE) {
-        v.setVertexDiscovery(VertexDiscovery.VISITED);
-      }
-      // skip if VISITED
-      if (v.getVertexDiscovery() == VertexDiscovery.VISITED) {
-        continue;
-      }
-      v.setVertexDiscovery(VertexDiscovery.VISITED);
-      for (int i = 0; i < v.getNumInEdge(); i++) {
-        final E e = v.getInEdgeAtIdx(i);
-        final V src = e.getSrc();
-        if (src.getVertexDiscovery() == VertexDiscovery.UNVISITED) {
-          this.getBFS().add(src);
-          q.add(src);
-        }
-      }
-    }
+    order =
+        Collections.unmodifiableList(Traversals.discover(this.getGraph(), true, true));
+    this.getBFS().addAll(order);
   }
 
   private Queue<V> getBFS() {
@@ -139,6 +113,28 @@ public class SinkBFS<
     return rtn;
   }
 
+  /**
+   * Returns an iterator over the vertices of this instance's AbstractGraph in traversal order,
+   * regardless of the vertices already returned by {@link #getNextVertex()}. The traversal does not
+   * modify the vertices, so several traversals of the same AbstractGraph may be used concurrently.
+   *
+   * @return An iterator over the vertices of this instance's AbstractGraph.
+   */
+  @Override
+  public Iterator<V> iterator() {
+    return order.iterator();
+  }
+
+  /**
+   * Returns a sequential stream over the vertices of this instance's AbstractGraph in the order of
+   * the breadth-first search (BFS).
+   *
+   * @return A sequential stream over the vertices of this instance's AbstractGraph.
+   */
+  public Stream<V> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
   /*
    * HashCode
    */
@@ -198,5 +194,6 @@ public class SinkBFS<
   }
 
   private G graph;
+  private List<V> order = Collections.emptyList();
   private Queue<V> bfs;
 }
@@ -19,13 +19,17 @@
 
 package org.cellocad.v2.common.graph.algorithm;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Stack;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.graph.AbstractEdge;
 import org.cellocad.v2.common.graph.AbstractGraph;
 import org.cellocad.v2.common.graph.AbstractVertex;
-import org.cellocad.v2.common.graph.AbstractVertex.VertexDiscovery;
-import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
 
 /**
  * The DFS class is class performing depth-first search (DFS) on an <i>AbstractGraph</i>.
@@ -38,7 +42,7 @@ import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
  */
 public class SinkDFS<
         V extends AbstractVertex<E>, E extends AbstractEdge<V>, G extends AbstractGraph<V, E>>
-    extends CObject {
+    extends CObject implements Iterable<V> {
 
   private void init() {
     dfs = new Stack<>();
@@ -46,42 +50,17 @@ public class SinkDFS<
 
   private void reset() {
     this.getDFS().clear();
+    order = Collections.emptyList();
   }
 
   private void doDFS() {
-    final G g = this.getGraph();
-    final Stack<V> stack = new Stack<>();
-    // initialize VertexDiscovery
-    // get Sink Vertex
-    for (int i = 0; i < g.getNumVertex(); i++) {
-      final V v = g.getVertexAtIdx(i);
-      if (v.getVertexType() == VertexType.SINK) {
-        this.getDFS().push(v);
-        stack.push(v);
-      }
-      v.setVertexDiscovery(VertexDiscovery.UNVISITED);
-    }
-    // doDFS
-    while (!stack.isEmpty()) {
-      final V v = stack.pop();
-      // skip if SOURCE
-      if (v.getVertexType() == VertexType.SOURCE) {
-        v.setVertexDiscovery(VertexDiscovery.VISITED);
-      }
-      // skip if VISITED
-      if (v.getVertexDiscovery() == VertexDiscovery.VISITED) {
-        continue;
-      }
-      v.setVertexDiscovery(VertexDiscovery.VISITED);
-      for (int i = 0; i < v.getNumInEdge(); i++) {
-        final E e = v.getInEdgeAtIdx(i);
-        final V src = e.getSrc();
-        if (src.getVertexDiscovery() == VertexDiscovery.UNVISITED) {
-          this.getDFS().push(src);
-          stack.push(src);
-        }
-      }
+    final List<V> discovered = Traversals.discover(this.getGraph(), true, false);
+    for (final V v : discovered) {
+      this.getDFS().push(v);
     }
+    final List<V> popped = new ArrayList<>(discovered);
+    Collections.reverse(popped);
+    order = Collections.unmodifiableList(popped);
   }
 
   private Stack<V> getDFS() {
@@ -136,6 +115,28 @@ public class SinkDFS<
     return rtn;
   }
 
+  /**
+   * Returns an iterator over the vertices of this instance's AbstractGraph in traversal order,
+   * regardless of the vertices already returned by {@link #getNextVertex()}. The traversal does not
+   * modify the vertices, so several traversals of the same AbstractGraph may be used concurrently.
+   *
+   * @return An iterator over the vertices of this instance's AbstractGraph.
+   */
+  @Override
+  public Iterator<V> iterator() {
+    return order.iterator();
+  }
+
+  /**
+   * Returns a sequential stream over the vertices of this instance's AbstractGraph in the order of
+   * the depth-first search (DFS).
+   *
+   * @return A sequential stream over the vertices of this instance's AbstractGraph.
+   */
+  public Stream<V> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
   /*
    * HashCode
    */
@@ -195,5 +196,6 @@ public class SinkDFS<
   }
 
   private G graph;
+  private List<V> order = Collections.emptyList();
   private Stack<V> dfs;
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.graph.algorithm;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.cellocad.v2.common.graph.AbstractEdge;
+import org.cellocad.v2.common.graph.AbstractGraph;
+import org.cellocad.v2.common.graph.AbstractVertex;
+import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
+
+/**
+ * Graph traversals that keep their state in a visited bitset indexed by the position of each
+ * vertex in the graph, rather than in the vertices themselves. A traversal only reads the graph,
+ * so several traversals of the same graph may run concurrently.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+final class Traversals {
+
+  private Traversals() {}
+
+  /**
+   * Returns the vertices of a graph in the order in which a search discovers them. The search
+   * starts from every {@link VertexType#SOURCE} vertex and follows out edges, or, if parameter
+   * {@code fromSinks} is true, starts from every {@link VertexType#SINK} vertex and follows in
+   * edges. It does not expand past a vertex of the opposite type. A vertex is discovered each time
+   * it is reached before being expanded, so it may appear more than once.
+   *
+   * @param <V> The type of the vertices.
+   * @param <E> The type of the edges.
+   * @param g The graph.
+   * @param fromSinks Whether to start from the sinks and follow in edges.
+   * @param breadthFirst Whether to search breadth-first, otherwise depth-first.
+   * @return The vertices in order of discovery.
+   */
+  static <V extends AbstractVertex<E>, E extends AbstractEdge<V>> List<V> discover(
+      final AbstractGraph<V, E> g, final boolean fromSinks, final boolean breadthFirst) {
+    final int n = g.getNumVertex();
+    final Map<V, Integer> index = new IdentityHashMap<>(n * 2);
+    for (int i = 0; i < n; i++) {
+      index.put(g.getVertexAtIdx(i), i);
+    }
+    final VertexType start = fromSinks ? VertexType.SINK : VertexType.SOURCE;
+    final VertexType stop = fromSinks ? VertexType.SOURCE : VertexType.SINK;
+    final BitSet visited = new BitSet(n);
+    final List<V> rtn = new ArrayList<>();
+    final Deque<V> pending = new ArrayDeque<>();
+    for (int i = 0; i < n; i++) {
+      final V v = g.getVertexAtIdx(i);
+      if (v.getVertexType() == start) {
+        rtn.add(v);
+        pending.addLast(v);
+      }
+    }
+    while (!pending.isEmpty()) {
+      final V v = breadthFirst ? pending.pollFirst() : pending.pollLast();
+      final int i = index.get(v);
+      if (visited.get(i)) {
+        continue;
+      }
+      visited.set(i);
+      if (v.getVertexType() == stop) {
+        continue;
+      }
+      if (fromSinks) {
+        for (int j = 0; j < v.getNumInEdge(); j++) {
+          discover(v.getInEdgeAtIdx(j).getSrc(), index, visited, rtn, pending);
+        }
+      } else {
+        for (int j = 0; j < v.getNumOutEdge(); j++) {
+          final E e = v.getOutEdgeAtIdx(j);
+          for (int k = 0; k < e.getNumDst(); k++) {
+            discover(e.getDstAtIdx(k), index, visited, rtn, pending);
+          }
+        }
+      }
+    }
+    return rtn;
+  }
+
+  private static <V> void discover(
+      final V v,
+      final Map<V, Integer> index,
+      final BitSet visited,
+      final List<V> discovered,
+      final Deque<V> pending) {
+    final Integer i = index.get(v);
+    if (i != null && !visited.get(i)) {
+      discovered.add(v);
+      pending.addLast(v);
+    }
+  }
+}
@@ -91,6 +91,7 @@ public class EdgeTemplate<T extends VertexTemplate<?>> extends AbstractEdge<T> {
       } else {
         getMyDst().set(0, dst);
       }
+      structureModified();
       assert getNumDst() == 1;
     }
   }
@@ -33,6 +33,7 @@ import org.cellocad.v2.common.profile.AlgorithmProfileUtils;
 import org.cellocad.v2.common.runtime.environment.RuntimeEnv;
 import org.cellocad.v2.common.stage.Stage;
 import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.results.common.Metrics;
 import org.cellocad.v2.results.common.Results;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistEdge;
@@ -392,16 +393,18 @@ public abstract class RuntimeObject extends CObject {
    * {@link #preprocessing()}<br>
    * {@link #runAlgo()}<br>
    * {@link #postprocessing()}<br>
-   * .
+   * . The execution is measured in the {@link Metrics} of the results.
    *
    * @throws CelloException Unable to execute the runtime object.
    */
   public void execute() throws CelloException {
     if (getStage() != null) {
       getLogger().info("Executing Stage: " + getName());
-      preprocessing();
-      runAlgo();
-      postprocessing();
+      try (Metrics.Phase phase = getResults().getMetrics().start(getName(), "execute")) {
+        preprocessing();
+        runAlgo();
+        postprocessing();
+      }
     }
   }
 
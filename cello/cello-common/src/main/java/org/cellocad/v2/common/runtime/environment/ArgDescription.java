@@ -53,6 +53,12 @@ public class ArgDescription {
   /** String representing the PYTHONENV command line argument description. */
   public static final String PYTHONENV_DESCRIPTION = "path to python environment";
 
+  /** String representing the PLOTMODE command line argument description. */
+  public static final String PLOTMODE_DESCRIPTION =
+      "how to make plots: native (default, rendered in process where possible), concurrent"
+          + " (scripts run in parallel), batch (scripts run in one interpreter), defer (write the"
+          + " scripts only) or skip";
+
   /** String representing the INPUTNETLIST command line argument description. */
   public static final String INPUTNETLIST_DESCRIPTION = "path to input netlist file";
 
@@ -53,6 +53,9 @@ public class ArgString {
   /** String referencing the PYTHONENV command line argument. */
   public static final String PYTHONENV = "pythonEnv";
 
+  /** String referencing the PLOTMODE command line argument. */
+  public static final String PLOTMODE = "plotMode";
+
   /** String referencing the INPUTNETLIST command line argument. */
   public static final String INPUTNETLIST = "inputNetlist";
 
@@ -96,6 +96,7 @@ public class RuntimeEnv extends CObject {
     options.addOption(getOptionsOption());
     options.addOption(getOutputDirOption());
     options.addOption(getPythonEnvOption());
+    options.addOption(getPlotModeOption());
     options.addOption(getInputNetlistOption());
     options.addOption(getOutputNetlistOption());
     options.addOption(getNetlistConstraintFileOption());
@@ -177,6 +178,16 @@ public class RuntimeEnv extends CObject {
     return rtn;
   }
 
+  /**
+   * Getter for the PLOTMODE Option.
+   *
+   * @return The PLOTMODE Option for this instance.
+   */
+  protected Option getPlotModeOption() {
+    final Option rtn = new Option(ArgString.PLOTMODE, true, ArgDescription.PLOTMODE_DESCRIPTION);
+    return rtn;
+  }
+
   /**
    * Getter for the INPUTNETLIST Option. This option is required.
    *
@@ -243,6 +254,9 @@ public class RuntimeEnv extends CObject {
       case ArgString.PYTHONENV:
         rtn = "";
         break;
+      case ArgString.PLOTMODE:
+        rtn = "native";
+        break;
       default:
         break;
     }
@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.CObject;
+import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
@@ -32,6 +33,9 @@ import org.json.simple.JSONObject;
  * The JSON-centric class for the "target data," i.e. all the data that specifies the gates and the
  * host organism. This includes parts, input sensors, gates, output devices, rules, etc.
  *
+ * <p>The typed representation of the target data is built once, on first request, and shared by
+ * every {@link TargetDataInstance} created from this object.
+ *
  * @author Vincent Mirian
  * @author Timothy Jones
  * @date Nov 21, 2017
@@ -98,9 +102,23 @@ public final class TargetData extends CObject {
     return rtn;
   }
 
+  /**
+   * Returns the typed representation of this target data, building it on first request.
+   *
+   * @return The typed representation of this target data.
+   * @throws CelloException Unable to instantiate the target data.
+   */
+  synchronized TargetDataInstance getTargetDataInstance() throws CelloException {
+    if (targetDataInstance == null) {
+      targetDataInstance = TargetDataInstance.create(this);
+    }
+    return targetDataInstance;
+  }
+
   private Map<String, List<JSONObject>> getCollectionTypeData() {
     return collectionTypeData;
   }
 
   Map<String, List<JSONObject>> collectionTypeData;
+  private TargetDataInstance targetDataInstance;
 }
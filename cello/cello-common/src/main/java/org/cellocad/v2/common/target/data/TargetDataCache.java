@@ -0,0 +1,287 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+/**
+ * A cache of the combined target data JSON in a compact binary encoding, so that repeated runs
+ * with the same input files skip parsing them. Each entry is a file in the cache directory named
+ * by a digest of the contents of the input files, so an entry is never used for inputs that have
+ * changed.
+ *
+ * <p>Values are encoded as a tag byte followed by the value. Strings are written once and
+ * thereafter referenced by index, since the same keys recur in every object.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+final class TargetDataCache {
+
+  private TargetDataCache() {}
+
+  /**
+   * Returns the cache key of the given input files.
+   *
+   * @param files The input files.
+   * @return The cache key of the given input files.
+   * @throws IOException Unable to read an input file.
+   */
+  static String getKey(final String... files) throws IOException {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IOException("Unable to create digest.", e);
+    }
+    for (final String file : files) {
+      final byte[] bytes = Files.readAllBytes(new File(file).toPath());
+      digest.update(Long.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+      digest.update(bytes);
+    }
+    final StringBuilder rtn = new StringBuilder();
+    for (final byte b : digest.digest()) {
+      rtn.append(String.format("%02x", b));
+    }
+    return rtn.toString();
+  }
+
+  /**
+   * Returns the cache file of the given key.
+   *
+   * @param directory The cache directory.
+   * @param key The cache key.
+   * @return The cache file of the given key.
+   */
+  static File getFile(final File directory, final String key) {
+    return new File(directory, key + "-" + I_VERSION + ".bin");
+  }
+
+  /**
+   * Reads the target data JSON of the given cache file.
+   *
+   * @param file The cache file.
+   * @return The target data JSON.
+   * @throws IOException Unable to read the cache file, or the cache file is not valid.
+   */
+  static JSONArray read(final File file) throws IOException {
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if (in.readInt() != I_MAGIC || in.readInt() != I_VERSION) {
+        throw new IOException("Invalid target data cache file: " + file + ".");
+      }
+      final Object rtn = readValue(in, new ArrayList<>());
+      if (!(rtn instanceof JSONArray)) {
+        throw new IOException("Invalid target data cache file: " + file + ".");
+      }
+      return (JSONArray) rtn;
+    }
+  }
+
+  /**
+   * Writes the given target data JSON to the given cache file. The file is replaced atomically
+   * where the file system allows it, so that concurrent readers never see a partial entry.
+   *
+   * @param file The cache file.
+   * @param json The target data JSON.
+   * @throws IOException Unable to write the cache file.
+   */
+  static void write(final File file, final JSONArray json) throws IOException {
+    final File directory = file.getAbsoluteFile().getParentFile();
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Unable to create directory: " + directory + ".");
+    }
+    final File temp = File.createTempFile(file.getName(), ".tmp", directory);
+    try {
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+        out.writeInt(I_MAGIC);
+        out.writeInt(I_VERSION);
+        writeValue(out, json, new HashMap<>());
+      }
+      try {
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+      } catch (final AtomicMoveNotSupportedException e) {
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp.toPath());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void writeValue(
+      final DataOutputStream out, final Object value, final Map<String, Integer> strings)
+      throws IOException {
+    if (value == null) {
+      out.writeByte(B_NULL);
+    } else if (value instanceof Boolean) {
+      out.writeByte((Boolean) value ? B_TRUE : B_FALSE);
+    } else if (value instanceof Long || value instanceof Integer) {
+      out.writeByte(B_LONG);
+      out.writeLong(((Number) value).longValue());
+    } else if (value instanceof Number) {
+      out.writeByte(B_DOUBLE);
+      out.writeDouble(((Number) value).doubleValue());
+    } else if (value instanceof String) {
+      writeString(out, (String) value, strings);
+    } else if (value instanceof Map) {
+      final Map<Object, Object> map = (Map<Object, Object>) value;
+      out.writeByte(B_OBJECT);
+      out.writeInt(map.size());
+      for (final Map.Entry<Object, Object> e : map.entrySet()) {
+        writeString(out, String.valueOf(e.getKey()), strings);
+        writeValue(out, e.getValue(), strings);
+      }
+    } else if (value instanceof List) {
+      final List<Object> list = (List<Object>) value;
+      out.writeByte(B_ARRAY);
+      out.writeInt(list.size());
+      for (final Object o : list) {
+        writeValue(out, o, strings);
+      }
+    } else {
+      throw new IOException("Unable to encode value of " + value.getClass() + ".");
+    }
+  }
+
+  private static void writeString(
+      final DataOutputStream out, final String value, final Map<String, Integer> strings)
+      throws IOException {
+    final Integer idx = strings.get(value);
+    if (idx != null) {
+      out.writeByte(B_STRING_REF);
+      out.writeInt(idx);
+    } else {
+      final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      out.writeByte(B_STRING);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+      strings.put(value, strings.size());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object readValue(final DataInputStream in, final List<String> strings)
+      throws IOException {
+    Object rtn = null;
+    final byte tag = in.readByte();
+    switch (tag) {
+      case B_NULL:
+        break;
+      case B_TRUE:
+        rtn = Boolean.TRUE;
+        break;
+      case B_FALSE:
+        rtn = Boolean.FALSE;
+        break;
+      case B_LONG:
+        rtn = in.readLong();
+        break;
+      case B_DOUBLE:
+        rtn = in.readDouble();
+        break;
+      case B_STRING:
+      case B_STRING_REF:
+        rtn = readString(in, tag, strings);
+        break;
+      case B_OBJECT:
+        {
+          final int size = in.readInt();
+          final JSONObject obj = new JSONObject();
+          for (int i = 0; i < size; i++) {
+            final String key = readString(in, in.readByte(), strings);
+            obj.put(key, readValue(in, strings));
+          }
+          rtn = obj;
+          break;
+        }
+      case B_ARRAY:
+        {
+          final int size = in.readInt();
+          final JSONArray arr = new JSONArray();
+          for (int i = 0; i < size; i++) {
+            arr.add(readValue(in, strings));
+          }
+          rtn = arr;
+          break;
+        }
+      default:
+        throw new IOException("Invalid tag in target data cache: " + tag + ".");
+    }
+    return rtn;
+  }
+
+  private static String readString(
+      final DataInputStream in, final byte tag, final List<String> strings) throws IOException {
+    String rtn = null;
+    if (tag == B_STRING_REF) {
+      final int idx = in.readInt();
+      if (idx < 0 || idx >= strings.size()) {
+        throw new IOException("Invalid string reference in target data cache: " + idx + ".");
+      }
+      rtn = strings.get(idx);
+    } else if (tag == B_STRING) {
+      final byte[] bytes = new byte[in.readInt()];
+      in.readFully(bytes);
+      rtn = new String(bytes, StandardCharsets.UTF_8);
+      strings.add(rtn);
+    } else {
+      throw new IOException("Invalid string tag in target data cache: " + tag + ".");
+    }
+    return rtn;
+  }
+
+  /** The system property naming the cache directory. The cache is disabled if it is not set. */
+  static final String S_DIRECTORY = "cello.targetDataCache";
+
+  private static final int I_MAGIC = 0x43454c4c;
+  private static final int I_VERSION = 1;
+
+  private static final byte B_NULL = 0;
+  private static final byte B_TRUE = 1;
+  private static final byte B_FALSE = 2;
+  private static final byte B_LONG = 3;
+  private static final byte B_DOUBLE = 4;
+  private static final byte B_STRING = 5;
+  private static final byte B_STRING_REF = 6;
+  private static final byte B_OBJECT = 7;
+  private static final byte B_ARRAY = 8;
+}
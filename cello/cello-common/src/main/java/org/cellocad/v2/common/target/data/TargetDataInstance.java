@@ -52,21 +52,66 @@ public class TargetDataInstance extends CObject {
   private final CObjectCollection<GeneticLocation> geneticLocations;
 
   /**
-   * Initializes a target data instance with target data.
+   * Initializes a target data instance with target data. The objects of the instance are built
+   * once per target data and shared by all instances initialized with it, so they must not be
+   * modified.
    *
    * @param td Target data.
    * @throws CelloException Unable to instantiate target data instance.
    */
   public TargetDataInstance(final TargetData td) throws CelloException {
-    logicConstraints = TargetDataUtils.getLogicConstraints(td);
+    this(td.getTargetDataInstance());
+  }
+
+  /**
+   * Initializes a target data instance that shares the objects of another target data instance.
+   *
+   * @param tdi The target data instance.
+   */
+  protected TargetDataInstance(final TargetDataInstance tdi) {
+    logicConstraints = tdi.getLogicConstraints();
+    parts = tdi.getParts();
+    gates = tdi.getGates();
+    inputSensors = tdi.getInputSensors();
+    outputDevices = tdi.getOutputDevices();
+    geneticLocations = tdi.getGeneticLocations();
+  }
+
+  private TargetDataInstance(
+      final LogicConstraints logicConstraints,
+      final CObjectCollection<Part> parts,
+      final CObjectCollection<Gate> gates,
+      final CObjectCollection<InputSensor> inputSensors,
+      final CObjectCollection<OutputDevice> outputDevices,
+      final CObjectCollection<GeneticLocation> geneticLocations) {
+    this.logicConstraints = logicConstraints;
+    this.parts = parts;
+    this.gates = gates;
+    this.inputSensors = inputSensors;
+    this.outputDevices = outputDevices;
+    this.geneticLocations = geneticLocations;
+  }
+
+  /**
+   * Builds a new target data instance, with objects of its own, from target data. Use this
+   * instead of the shared instance when the objects will be modified.
+   *
+   * @param td Target data.
+   * @return A new target data instance.
+   * @throws CelloException Unable to instantiate target data instance.
+   */
+  protected static TargetDataInstance create(final TargetData td) throws CelloException {
+    final LogicConstraints logicConstraints = TargetDataUtils.getLogicConstraints(td);
     final CObjectCollection<Function> functions = TargetDataUtils.getFunctions(td);
     final CObjectCollection<Model> models = TargetDataUtils.getModels(td, functions);
     final CObjectCollection<Structure> structures = TargetDataUtils.getStructures(td);
-    parts = TargetDataUtils.getParts(td);
-    gates = TargetDataUtils.getGates(td, models, structures);
-    inputSensors = TargetDataUtils.getInputSensors(td, models, structures);
-    outputDevices = TargetDataUtils.getOutputDevices(td, models, structures);
-    geneticLocations = TargetDataUtils.getGeneticLocations(td);
+    return new TargetDataInstance(
+        logicConstraints,
+        TargetDataUtils.getParts(td),
+        TargetDataUtils.getGates(td, models, structures),
+        TargetDataUtils.getInputSensors(td, models, structures),
+        TargetDataUtils.getOutputDevices(td, models, structures),
+        TargetDataUtils.getGeneticLocations(td));
   }
 
   @Override
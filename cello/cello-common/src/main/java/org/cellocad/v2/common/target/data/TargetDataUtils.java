@@ -317,10 +317,33 @@ public class TargetDataUtils {
     return rtn;
   }
 
+  /**
+   * Returns the cache file of the given input files, if the target data cache is enabled.
+   *
+   * @param files The input files.
+   * @return The cache file, or null if the cache is disabled or the input files are unreadable.
+   */
+  private static File getCacheFile(final String... files) {
+    File rtn = null;
+    final String directory = System.getProperty(TargetDataCache.S_DIRECTORY);
+    if (directory != null && !directory.isEmpty()) {
+      try {
+        rtn = TargetDataCache.getFile(new File(directory), TargetDataCache.getKey(files));
+      } catch (final IOException e) {
+        rtn = null;
+      }
+    }
+    return rtn;
+  }
+
   /**
    * Initializes a newly created {@link TargetData} using the RuntimeEnv, <i>runEnv</i>, and strings
    * referencing command line arguments.
    *
+   * <p>If the {@value TargetDataCache#S_DIRECTORY} system property names a directory, the combined
+   * JSON of the input files is cached there in a binary encoding, and read from the cache on later
+   * calls with the same input files instead of parsing them.
+   *
    * @param runEnv The RuntimeEnv.
    * @param userConstraintsFileOption The string referencing command line argument for the User
    *     Constraints File.
@@ -340,21 +363,42 @@ public class TargetDataUtils {
     Utils.isNullRuntimeException(userConstraintsFileOption, "userConstraintsFileOption");
     TargetData rtn = null;
     JSONArray jsonTop = null;
-    // get User Constraints File
     final String userConstraintsFileName = runEnv.getOptionValue(userConstraintsFileOption);
-    final JSONArray userConstraintsJson =
-        TargetDataUtils.getJsonArrayFromFile(userConstraintsFileName);
-    // get Input Sensor File
     final String inputSensorFileName = runEnv.getOptionValue(inputSensorFileOption);
-    final JSONArray inputSensorJson = TargetDataUtils.getJsonArrayFromFile(inputSensorFileName);
-    // get Output Device File
     final String outputDeviceFileName = runEnv.getOptionValue(outputDeviceFileOption);
-    final JSONArray outputDeviceJson = TargetDataUtils.getJsonArrayFromFile(outputDeviceFileName);
-    // combine Json
-    jsonTop = new JSONArray();
-    jsonTop.addAll(userConstraintsJson);
-    jsonTop.addAll(inputSensorJson);
-    jsonTop.addAll(outputDeviceJson);
+    // the cache is only an optimization, so any error with it falls back to parsing
+    final File cacheFile =
+        TargetDataUtils.getCacheFile(
+            userConstraintsFileName, inputSensorFileName, outputDeviceFileName);
+    if (cacheFile != null && cacheFile.isFile()) {
+      try {
+        jsonTop = TargetDataCache.read(cacheFile);
+      } catch (final IOException e) {
+        jsonTop = null;
+      }
+    }
+    if (jsonTop == null) {
+      // get User Constraints File
+      final JSONArray userConstraintsJson =
+          TargetDataUtils.getJsonArrayFromFile(userConstraintsFileName);
+      // get Input Sensor File
+      final JSONArray inputSensorJson = TargetDataUtils.getJsonArrayFromFile(inputSensorFileName);
+      // get Output Device File
+      final JSONArray outputDeviceJson =
+          TargetDataUtils.getJsonArrayFromFile(outputDeviceFileName);
+      // combine Json
+      jsonTop = new JSONArray();
+      jsonTop.addAll(userConstraintsJson);
+      jsonTop.addAll(inputSensorJson);
+      jsonTop.addAll(outputDeviceJson);
+      if (cacheFile != null) {
+        try {
+          TargetDataCache.write(cacheFile, jsonTop);
+        } catch (final IOException e) {
+          // leave the cache without an entry for these inputs
+        }
+      }
+    }
     // Create TargetData object
     rtn = new TargetData(jsonTop);
     return rtn;
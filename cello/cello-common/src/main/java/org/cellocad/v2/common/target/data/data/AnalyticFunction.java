@@ -19,6 +19,8 @@
 
 package org.cellocad.v2.common.target.data.data;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.CObjectCollection;
 import org.cellocad.v2.common.exception.CelloException;
@@ -71,6 +73,34 @@ public final class AnalyticFunction extends Function {
     parseParameters(jObj);
   }
 
+  /**
+   * Compiles the equation with one argument slot per parameter, one per variable, and, if the
+   * equation refers to it, one for the node state. If the equation uses syntax outside of that
+   * supported by {@link CompiledExpression}, it is instead parsed by mXparser on every evaluation.
+   */
+  private void compileEquation() {
+    if (getEquation() == null) {
+      return;
+    }
+    final String str = getEquation().replace("$", "_");
+    final List<String> arguments = new ArrayList<>();
+    for (final Parameter p : getParameters()) {
+      arguments.add(p.getName());
+    }
+    for (final Variable v : getVariables()) {
+      arguments.add(v.getName());
+    }
+    hasState = str.contains(AnalyticFunction.S_STATE);
+    if (hasState) {
+      arguments.add(AnalyticFunction.S_STATE);
+    }
+    try {
+      compiledEquation = CompiledExpression.compile(str, arguments);
+    } catch (final CelloException e) {
+      compiledEquation = null;
+    }
+  }
+
   /**
    * Initializes a newly created {@link AnalyticFunction} object from the given JSON data.
    *
@@ -80,6 +110,7 @@ public final class AnalyticFunction extends Function {
     super(jsonObj);
     init();
     parseFunction(jsonObj);
+    compileEquation();
   }
 
   @Override
@@ -89,25 +120,67 @@ public final class AnalyticFunction extends Function {
     return rtn;
   }
 
+  private static double getStateValue(final EvaluationContext ec) throws CelloException {
+    final NetlistNode node = ec.getNode();
+    final State<NetlistNode> state = ec.getState();
+    final Boolean nodeState = state.getState(node);
+    if (nodeState == null) {
+      throw new CelloException("Node state undefined.");
+    }
+    return nodeState.equals(state.getOne()) ? 1.0 : 0.0;
+  }
+
+  /**
+   * Fills the argument values of the compiled equation for the given context, with the variables
+   * left unset.
+   *
+   * @param ec The {@link EvaluationContext}.
+   * @param args The argument values, in slot order.
+   * @throws CelloException Unable to evaluate a parameter or the node state.
+   */
+  private void setArguments(final EvaluationContext ec, final double[] args)
+      throws CelloException {
+    final CObjectCollection<Parameter> parameters = getParameters();
+    for (int i = 0; i < parameters.size(); i++) {
+      args[i] = parameters.get(i).evaluateDouble(ec);
+    }
+    if (hasState) {
+      args[args.length - 1] = getStateValue(ec);
+    }
+  }
+
   @Override
   public Number evaluate(final EvaluationContext ec) throws CelloException {
-    Double rtn = null;
+    return evaluateDouble(ec);
+  }
+
+  @Override
+  public double evaluateDouble(final EvaluationContext ec) throws CelloException {
+    double rtn = 0.0;
+    if (getCompiledEquation() != null) {
+      final double[] args = ec.acquireArguments(getCompiledEquation().getNumArguments());
+      try {
+        setArguments(ec, args);
+        final int offset = getParameters().size();
+        final CObjectCollection<Variable> variables = getVariables();
+        for (int i = 0; i < variables.size(); i++) {
+          args[offset + i] = variables.get(i).evaluateDouble(ec);
+        }
+        rtn = getCompiledEquation().evaluate(args);
+      } finally {
+        ec.releaseArguments();
+      }
+      return rtn;
+    }
     final Expression expr = new Expression(getEquation().replace("$", "_"));
     for (final Parameter p : getParameters()) {
-      expr.defineArgument(p.getName(), p.evaluate(ec).doubleValue());
+      expr.defineArgument(p.getName(), p.evaluateDouble(ec));
     }
     for (final Variable v : getVariables()) {
-      expr.defineArgument(v.getName(), v.evaluate(ec).doubleValue());
+      expr.defineArgument(v.getName(), v.evaluateDouble(ec));
     }
-    final NetlistNode node = ec.getNode();
     if (expr.getExpressionString().contains(AnalyticFunction.S_STATE)) {
-      final State<NetlistNode> state = ec.getState();
-      final Boolean nodeState = state.getState(node);
-      if (nodeState == null) {
-        throw new CelloException("Node state undefined.");
-      }
-      final Double q = nodeState.equals(state.getOne()) ? 1.0 : 0.0;
-      expr.defineArgument(AnalyticFunction.S_STATE, q);
+      expr.defineArgument(AnalyticFunction.S_STATE, getStateValue(ec));
     }
     rtn = expr.calculate();
     return rtn;
@@ -124,6 +197,18 @@ public final class AnalyticFunction extends Function {
   public Number evaluate(final EvaluationContext ec, final Map<Variable, Double> value)
       throws CelloException {
     Double rtn = null;
+    if (getCompiledEquation() != null) {
+      final double[] args = new double[getCompiledEquation().getNumArguments()];
+      setArguments(ec, args);
+      final int offset = getParameters().size();
+      final CObjectCollection<Variable> variables = getVariables();
+      for (int i = 0; i < variables.size(); i++) {
+        final Double v = value.get(variables.get(i));
+        args[offset + i] = v == null ? Double.NaN : v;
+      }
+      rtn = getCompiledEquation().evaluate(args);
+      return rtn;
+    }
     final Expression expr = new Expression(getEquation().replace("$", "_"));
     for (final Parameter p : getParameters()) {
       expr.defineArgument(p.getName(), p.evaluate(ec).doubleValue());
@@ -131,15 +216,8 @@ public final class AnalyticFunction extends Function {
     for (final Variable v : value.keySet()) {
       expr.defineArgument(v.getName(), value.get(v));
     }
-    final NetlistNode node = ec.getNode();
     if (expr.getExpressionString().contains(AnalyticFunction.S_STATE)) {
-      final State<NetlistNode> state = ec.getState();
-      final Boolean nodeState = state.getState(node);
-      if (nodeState == null) {
-        throw new CelloException("Node state undefined.");
-      }
-      final Double q = nodeState.equals(state.getOne()) ? 1.0 : 0.0;
-      expr.defineArgument(AnalyticFunction.S_STATE, q);
+      expr.defineArgument(AnalyticFunction.S_STATE, getStateValue(ec));
     }
     rtn = expr.calculate();
     return rtn;
@@ -153,8 +231,14 @@ public final class AnalyticFunction extends Function {
     return parameters;
   }
 
+  private CompiledExpression getCompiledEquation() {
+    return compiledEquation;
+  }
+
   private String equation;
   private CObjectCollection<Parameter> parameters;
+  private CompiledExpression compiledEquation;
+  private boolean hasState;
 
   public static final String S_EQUATION = "equation";
   public static final String S_PARAMETERS = "parameters";
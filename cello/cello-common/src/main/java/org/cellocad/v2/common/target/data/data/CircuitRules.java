@@ -501,14 +501,15 @@ public class CircuitRules extends AbstractRules {
   }
 
   /**
-   * Filter rules for a given collection of devices.
+   * Get a new rule tree, modified for fixed placement if the rules contain a fixed placement
+   * template, given a collection of devices.
    *
    * @param devices The device names.
    * @param tdi The target data instance.
-   * @return The rules.
+   * @return The rule tree.
    */
-  public String filter(final Collection<String> devices, final TargetDataInstance tdi) {
-    // RuleTree tree = getFixedScarPlacementRuleTree(devices, tdi);
+  private RuleTree getFixedPlacementRuleTree(
+      final Collection<String> devices, final TargetDataInstance tdi) {
     RuleTree tree = new RuleTree(this.tree);
     RuleTreeNode root = tree.getRoot();
     if (root instanceof TerminalRuleTreeNode) {
@@ -537,10 +538,80 @@ public class CircuitRules extends AbstractRules {
         }
       }
     }
+    return tree;
+  }
+
+  /**
+   * Filter rules for a given collection of devices.
+   *
+   * @param devices The device names.
+   * @param tdi The target data instance.
+   * @return The rules.
+   */
+  public String filter(final Collection<String> devices, final TargetDataInstance tdi) {
+    final RuleTree tree = getFixedPlacementRuleTree(devices, tdi);
     filterCircuitRules(tree, devices, tdi);
     return String.join(Utils.getNewLine(), getRules());
   }
 
+  private RuleTreeNode filterNode(
+      final RuleTreeNode node, final Collection<String> devices, final TargetDataInstance tdi) {
+    RuleTreeNode rtn = null;
+    final Collection<String> accepted = new ArrayList<>();
+    accepted.addAll(devices);
+    accepted.addAll(acceptedFixedObjects);
+    for (GeneticLocation l : tdi.getGeneticLocations()) {
+      accepted.add(l.getName());
+    }
+    if (node instanceof ParentRuleTreeNode) {
+      final ParentRuleTreeNode parent = new ParentRuleTreeNode();
+      parent.setFunction(node.getFunction());
+      parent.setChildren(new ArrayList<>());
+      for (final RuleTreeNode child : ((ParentRuleTreeNode) node).getChildren()) {
+        parent.getChildren().add(filterNode(child, devices, tdi));
+      }
+      rtn = parent;
+    } else {
+      final TerminalRuleTreeNode terminal = (TerminalRuleTreeNode) node;
+      final Boolean keep =
+          isFixedPlacementRuleTemplate(terminal)
+              && (isFixedScarPlacementTemplate(terminal, tdi)
+                  || isFixedTerminatorSpacerPlacementTemplate(terminal, tdi));
+      final TerminalRuleTreeNode filtered = new TerminalRuleTreeNode();
+      filtered.setFunction(node.getFunction());
+      filtered.setRules(new ArrayList<>());
+      for (final String str : terminal.getRules()) {
+        final Collection<String> stuff = EugeneRules.getObjects(str);
+        if (!keep
+            && !accepted.containsAll(stuff)
+            && !EugeneRules.GlobalOrientationRuleKeywords.contains(str)) {
+          continue;
+        }
+        filtered.getRules().add(str);
+      }
+      rtn = filtered;
+    }
+    return rtn;
+  }
+
+  /**
+   * Get the rule tree for a given collection of devices, i.e. the rules, modified for fixed
+   * placement, that refer only to the given devices, the genetic locations, and the fixed objects.
+   * Unlike {@link #filter(Collection, TargetDataInstance)}, the device names in the rules are not
+   * changed and the tree is not converted to disjunctive normal form. A group whose rules have all
+   * been removed is empty.
+   *
+   * @param devices The device names.
+   * @param tdi The target data instance.
+   * @return The rule tree.
+   */
+  public RuleTree getRuleTree(final Collection<String> devices, final TargetDataInstance tdi) {
+    final RuleTree tree = getFixedPlacementRuleTree(devices, tdi);
+    final RuleTree rtn = new RuleTree();
+    rtn.setRoot(filterNode(tree.getRoot(), devices, tdi));
+    return rtn;
+  }
+
   /*
    * rules
    */
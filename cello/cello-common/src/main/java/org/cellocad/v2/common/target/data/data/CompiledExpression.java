@@ -0,0 +1,336 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.cellocad.v2.common.exception.CelloException;
+
+/**
+ * An arithmetic expression that is parsed once into a tree of operations and can then be evaluated
+ * repeatedly. Arguments are bound by position: the argument named by the i-th element of the list
+ * given to {@link #compile(String, List)} takes the i-th element of the array given to {@link
+ * #evaluate(double[])}.
+ *
+ * <p>The supported syntax is the subset of the mXparser syntax used by analytic functions: numbers,
+ * named arguments, the constants {@code pi} and {@code e}, the operators {@code + - * / ^},
+ * parentheses, and the functions {@code exp}, {@code ln}, {@code log10}, {@code log2}, {@code
+ * sqrt}, {@code abs}, {@code min} and {@code max}. Compilation of any other expression fails with
+ * a {@link CelloException}.
+ *
+ * <p>A compiled expression is immutable and may be evaluated concurrently.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public final class CompiledExpression {
+
+  /** A node of the expression tree. */
+  private interface Node {
+    double evaluate(double[] args);
+  }
+
+  private CompiledExpression(final Node root, final int numArguments) {
+    this.root = root;
+    this.numArguments = numArguments;
+  }
+
+  /**
+   * Compiles the given expression.
+   *
+   * @param expression The expression string.
+   * @param arguments The names of the arguments of the expression, in slot order.
+   * @return The compiled expression.
+   * @throws CelloException Unable to compile the expression.
+   */
+  public static CompiledExpression compile(final String expression, final List<String> arguments)
+      throws CelloException {
+    final Parser parser = new Parser(expression, arguments);
+    final Node root = parser.parse();
+    return new CompiledExpression(root, arguments.size());
+  }
+
+  /**
+   * Evaluates the expression.
+   *
+   * @param args The argument values, in slot order.
+   * @return The value of the expression.
+   */
+  public double evaluate(final double[] args) {
+    if (args.length != getNumArguments()) {
+      throw new IllegalArgumentException("Invalid number of arguments.");
+    }
+    return root.evaluate(args);
+  }
+
+  /**
+   * Getter for {@code numArguments}.
+   *
+   * @return The value of {@code numArguments}.
+   */
+  public int getNumArguments() {
+    return numArguments;
+  }
+
+  private final Node root;
+  private final int numArguments;
+
+  /** A recursive descent parser producing a tree of {@link Node} objects. */
+  private static final class Parser {
+
+    Parser(final String expression, final List<String> arguments) {
+      this.expression = expression;
+      this.arguments = arguments;
+      tokenize();
+    }
+
+    private void tokenize() {
+      tokens = new ArrayList<>();
+      int i = 0;
+      final int n = expression.length();
+      while (i < n) {
+        final char c = expression.charAt(i);
+        if (Character.isWhitespace(c)) {
+          i++;
+        } else if (Character.isDigit(c) || c == '.') {
+          int j = i;
+          while (j < n
+              && (Character.isDigit(expression.charAt(j)) || expression.charAt(j) == '.')) {
+            j++;
+          }
+          if (j < n && (expression.charAt(j) == 'e' || expression.charAt(j) == 'E')) {
+            int k = j + 1;
+            if (k < n && (expression.charAt(k) == '+' || expression.charAt(k) == '-')) {
+              k++;
+            }
+            if (k < n && Character.isDigit(expression.charAt(k))) {
+              while (k < n && Character.isDigit(expression.charAt(k))) {
+                k++;
+              }
+              j = k;
+            }
+          }
+          tokens.add(expression.substring(i, j));
+          i = j;
+        } else if (Character.isLetter(c) || c == '_') {
+          int j = i;
+          while (j < n
+              && (Character.isLetterOrDigit(expression.charAt(j)) || expression.charAt(j) == '_')) {
+            j++;
+          }
+          tokens.add(expression.substring(i, j));
+          i = j;
+        } else {
+          tokens.add(String.valueOf(c));
+          i++;
+        }
+      }
+      pos = 0;
+    }
+
+    Node parse() throws CelloException {
+      final Node rtn = parseSum();
+      if (pos != tokens.size()) {
+        throw error();
+      }
+      return rtn;
+    }
+
+    private CelloException error() {
+      final String fmt = "Unable to compile expression '%s' at token %d.";
+      return new CelloException(String.format(fmt, expression, pos));
+    }
+
+    private String peek() {
+      String rtn = null;
+      if (pos < tokens.size()) {
+        rtn = tokens.get(pos);
+      }
+      return rtn;
+    }
+
+    private boolean accept(final String token) {
+      boolean rtn = false;
+      if (token.equals(peek())) {
+        pos++;
+        rtn = true;
+      }
+      return rtn;
+    }
+
+    private void expect(final String token) throws CelloException {
+      if (!accept(token)) {
+        throw error();
+      }
+    }
+
+    private Node parseSum() throws CelloException {
+      Node rtn = parseProduct();
+      while (true) {
+        final Node lhs = rtn;
+        if (accept("+")) {
+          final Node rhs = parseProduct();
+          rtn = args -> lhs.evaluate(args) + rhs.evaluate(args);
+        } else if (accept("-")) {
+          final Node rhs = parseProduct();
+          rtn = args -> lhs.evaluate(args) - rhs.evaluate(args);
+        } else {
+          break;
+        }
+      }
+      return rtn;
+    }
+
+    private Node parseProduct() throws CelloException {
+      Node rtn = parseUnary();
+      while (true) {
+        final Node lhs = rtn;
+        if (accept("*")) {
+          final Node rhs = parseUnary();
+          rtn = args -> lhs.evaluate(args) * rhs.evaluate(args);
+        } else if (accept("/")) {
+          final Node rhs = parseUnary();
+          rtn = args -> lhs.evaluate(args) / rhs.evaluate(args);
+        } else {
+          break;
+        }
+      }
+      return rtn;
+    }
+
+    private Node parseUnary() throws CelloException {
+      Node rtn = null;
+      if (accept("-")) {
+        final Node operand = parseUnary();
+        rtn = args -> -operand.evaluate(args);
+      } else if (accept("+")) {
+        rtn = parseUnary();
+      } else {
+        rtn = parsePower();
+      }
+      return rtn;
+    }
+
+    private Node parsePower() throws CelloException {
+      Node rtn = parsePrimary();
+      if (accept("^")) {
+        final Node base = rtn;
+        final Node exponent = parseUnary();
+        rtn = args -> Math.pow(base.evaluate(args), exponent.evaluate(args));
+      }
+      return rtn;
+    }
+
+    private Node parsePrimary() throws CelloException {
+      Node rtn = null;
+      final String token = peek();
+      if (token == null) {
+        throw error();
+      }
+      if (accept("(")) {
+        rtn = parseSum();
+        expect(")");
+      } else if (Character.isDigit(token.charAt(0)) || token.charAt(0) == '.') {
+        pos++;
+        final double value;
+        try {
+          value = Double.parseDouble(token);
+        } catch (final NumberFormatException e) {
+          throw error();
+        }
+        rtn = args -> value;
+      } else if (Character.isLetter(token.charAt(0)) || token.charAt(0) == '_') {
+        pos++;
+        if (accept("(")) {
+          rtn = parseFunction(token);
+        } else {
+          rtn = parseName(token);
+        }
+      } else {
+        throw error();
+      }
+      return rtn;
+    }
+
+    private Node parseName(final String name) throws CelloException {
+      Node rtn = null;
+      final int slot = arguments.indexOf(name);
+      if (slot >= 0) {
+        rtn = args -> args[slot];
+      } else if (name.equals("pi")) {
+        rtn = args -> Math.PI;
+      } else if (name.equals("e")) {
+        rtn = args -> Math.E;
+      } else {
+        throw error();
+      }
+      return rtn;
+    }
+
+    private Node parseFunction(final String name) throws CelloException {
+      Node rtn = null;
+      final Node a = parseSum();
+      if (accept(",")) {
+        final Node b = parseSum();
+        expect(")");
+        switch (name) {
+          case "min":
+            rtn = args -> Math.min(a.evaluate(args), b.evaluate(args));
+            break;
+          case "max":
+            rtn = args -> Math.max(a.evaluate(args), b.evaluate(args));
+            break;
+          default:
+            throw error();
+        }
+        return rtn;
+      }
+      expect(")");
+      switch (name) {
+        case "exp":
+          rtn = args -> Math.exp(a.evaluate(args));
+          break;
+        case "ln":
+          rtn = args -> Math.log(a.evaluate(args));
+          break;
+        case "log10":
+          rtn = args -> Math.log10(a.evaluate(args));
+          break;
+        case "log2":
+          rtn = args -> Math.log(a.evaluate(args)) / Math.log(2.0);
+          break;
+        case "sqrt":
+          rtn = args -> Math.sqrt(a.evaluate(args));
+          break;
+        case "abs":
+          rtn = args -> Math.abs(a.evaluate(args));
+          break;
+        default:
+          throw error();
+      }
+      return rtn;
+    }
+
+    private final String expression;
+    private final List<String> arguments;
+    private List<String> tokens;
+    private int pos;
+  }
+}
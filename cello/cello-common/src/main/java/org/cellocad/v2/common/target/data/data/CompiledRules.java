@@ -0,0 +1,625 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.cellocad.v2.common.exception.CelloException;
+
+/**
+ * A rule tree compiled into a predicate over a sequence of symbols, e.g. the devices, genetic
+ * locations and fixed parts of a circuit, or the parts of a device. A rule tree is compiled once,
+ * after which no rule strings are processed. A symbol is identified by the index of its name in the
+ * list given to {@link #compile(RuleTree, List)}, and a sequence is a permutation of a fixed
+ * multiset of symbols.
+ *
+ * <p>A prefix of a sequence is evaluated in three-valued logic: a rule is {@link #TRUE} or {@link
+ * #FALSE} if it holds or fails for every completion of the prefix, and {@link #UNKNOWN} otherwise.
+ * Every rule is decided once the sequence is complete. All objects are placed in the forward
+ * orientation, and the interaction keywords do not constrain placement.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public final class CompiledRules {
+
+  public static final int FALSE = 0;
+  public static final int TRUE = 1;
+  public static final int UNKNOWN = 2;
+
+  /** A node of the compiled rule tree. */
+  private interface Node {
+    /**
+     * Evaluates the node on a prefix.
+     *
+     * @param seq The sequence, of which the first {@code len} symbols are placed.
+     * @param len The length of the prefix.
+     * @param rem The number of unplaced instances of each symbol.
+     * @param tot The total number of instances of each symbol.
+     * @return {@link #TRUE}, {@link #FALSE}, or {@link #UNKNOWN}.
+     */
+    int evaluate(int[] seq, int len, int[] rem, int[] tot);
+  }
+
+  private CompiledRules(final Node root, final int numSymbols, final Set<Integer> referenced) {
+    this.root = root;
+    this.numSymbols = numSymbols;
+    this.referenced = referenced;
+  }
+
+  /**
+   * Compiles the given rule tree.
+   *
+   * @param tree The rule tree.
+   * @param symbols The names of the symbols. An object in a rule that is not a symbol never
+   *     appears in a sequence.
+   * @return The compiled rules.
+   * @throws CelloException Unable to compile a rule.
+   */
+  public static CompiledRules compile(final RuleTree tree, final List<String> symbols)
+      throws CelloException {
+    final Map<String, Integer> ids = new HashMap<>();
+    for (int i = 0; i < symbols.size(); i++) {
+      ids.put(symbols.get(i), i);
+    }
+    final Set<Integer> referenced = new HashSet<>();
+    Node root = (seq, len, rem, tot) -> TRUE;
+    if (tree.getRoot() != null) {
+      root = compileNode(tree.getRoot(), ids, referenced);
+    }
+    return new CompiledRules(root, symbols.size(), referenced);
+  }
+
+  /**
+   * Evaluates the rules on a prefix.
+   *
+   * @param seq The sequence, of which the first {@code len} symbols are placed.
+   * @param len The length of the prefix.
+   * @param rem The number of unplaced instances of each symbol.
+   * @param tot The total number of instances of each symbol.
+   * @return {@link #TRUE}, {@link #FALSE}, or {@link #UNKNOWN}.
+   */
+  public int evaluate(final int[] seq, final int len, final int[] rem, final int[] tot) {
+    return root.evaluate(seq, len, rem, tot);
+  }
+
+  /**
+   * Tests whether the given symbol may follow a prefix, i.e. whether the rules do not fail for
+   * every completion of the prefix extended by the symbol.
+   *
+   * @param seq The sequence, of which the first {@code len} symbols are placed. The array is
+   *     restored before returning.
+   * @param len The length of the prefix.
+   * @param symbol The symbol.
+   * @param rem The number of unplaced instances of each symbol. The array is restored before
+   *     returning.
+   * @param tot The total number of instances of each symbol.
+   * @return Whether the symbol may follow the prefix.
+   */
+  public boolean isPlaceable(
+      final int[] seq, final int len, final int symbol, final int[] rem, final int[] tot) {
+    if (rem[symbol] == 0) {
+      return false;
+    }
+    final int prev = seq[len];
+    seq[len] = symbol;
+    rem[symbol]--;
+    final boolean rtn = evaluate(seq, len + 1, rem, tot) != FALSE;
+    rem[symbol]++;
+    seq[len] = prev;
+    return rtn;
+  }
+
+  /**
+   * Tests whether the given complete sequence satisfies the rules.
+   *
+   * @param seq The sequence.
+   * @return Whether the sequence satisfies the rules.
+   */
+  public boolean isSatisfied(final int[] seq) {
+    final int[] tot = new int[numSymbols];
+    for (final int s : seq) {
+      tot[s]++;
+    }
+    return evaluate(seq, seq.length, new int[numSymbols], tot) == TRUE;
+  }
+
+  /**
+   * Tests whether the given symbol is named in any rule.
+   *
+   * @param symbol The symbol.
+   * @return Whether the given symbol is named in any rule.
+   */
+  public boolean isReferenced(final int symbol) {
+    return referenced.contains(symbol);
+  }
+
+  private final Node root;
+  private final int numSymbols;
+  private final Set<Integer> referenced;
+
+  /*
+   * Compilation
+   */
+
+  private static Node compileNode(
+      final RuleTreeNode node, final Map<String, Integer> ids, final Set<Integer> referenced)
+      throws CelloException {
+    final List<Node> children = new ArrayList<>();
+    if (node instanceof ParentRuleTreeNode) {
+      for (final RuleTreeNode child : ((ParentRuleTreeNode) node).getChildren()) {
+        children.add(compileNode(child, ids, referenced));
+      }
+    } else {
+      for (final String rule : ((TerminalRuleTreeNode) node).getRules()) {
+        final String[] tokens = rule.trim().split("\\s+");
+        children.add(compileRule(rule, tokens, 0, ids, referenced));
+      }
+    }
+    final Node[] array = children.toArray(new Node[0]);
+    Node rtn = null;
+    if (node.getFunction() == RuleTreeFunction.OR) {
+      rtn = (seq, len, rem, tot) -> or(array, seq, len, rem, tot);
+    } else {
+      rtn = (seq, len, rem, tot) -> and(array, seq, len, rem, tot);
+    }
+    return rtn;
+  }
+
+  private static int and(
+      final Node[] nodes, final int[] seq, final int len, final int[] rem, final int[] tot) {
+    int rtn = TRUE;
+    for (final Node node : nodes) {
+      final int v = node.evaluate(seq, len, rem, tot);
+      if (v == FALSE) {
+        return FALSE;
+      }
+      if (v == UNKNOWN) {
+        rtn = UNKNOWN;
+      }
+    }
+    return rtn;
+  }
+
+  private static int or(
+      final Node[] nodes, final int[] seq, final int len, final int[] rem, final int[] tot) {
+    if (nodes.length == 0) {
+      return TRUE;
+    }
+    int rtn = FALSE;
+    for (final Node node : nodes) {
+      final int v = node.evaluate(seq, len, rem, tot);
+      if (v == TRUE) {
+        return TRUE;
+      }
+      if (v == UNKNOWN) {
+        rtn = UNKNOWN;
+      }
+    }
+    return rtn;
+  }
+
+  private static CelloException error(final String rule) {
+    return new CelloException(String.format("Unable to compile rule '%s'.", rule));
+  }
+
+  private static Node compileRule(
+      final String rule,
+      final String[] tokens,
+      final int start,
+      final Map<String, Integer> ids,
+      final Set<Integer> referenced)
+      throws CelloException {
+    Node rtn = null;
+    final int n = tokens.length - start;
+    if (n > 1 && tokens[start].equalsIgnoreCase(EugeneRules.S_NOT)) {
+      rtn = negate(compileRule(rule, tokens, start + 1, ids, referenced));
+    } else if (n == 1) {
+      rtn = compileGlobalRule(rule, tokens[start].toUpperCase());
+    } else if (n == 2) {
+      final int x = getSymbol(tokens[start + 1], ids, referenced);
+      rtn = compileUnaryRule(rule, tokens[start].toUpperCase(), x);
+    } else if (n == 3) {
+      rtn = compileBinaryRule(rule, tokens, start, ids, referenced);
+    } else {
+      throw error(rule);
+    }
+    return rtn;
+  }
+
+  private static Node negate(final Node node) {
+    return (seq, len, rem, tot) -> {
+      final int v = node.evaluate(seq, len, rem, tot);
+      int rtn = UNKNOWN;
+      if (v == TRUE) {
+        rtn = FALSE;
+      } else if (v == FALSE) {
+        rtn = TRUE;
+      }
+      return rtn;
+    };
+  }
+
+  private static int getSymbol(
+      final String name, final Map<String, Integer> ids, final Set<Integer> referenced) {
+    int rtn = -1;
+    final Integer id = ids.get(name);
+    if (id != null) {
+      rtn = id;
+      referenced.add(id);
+    }
+    return rtn;
+  }
+
+  private static Integer getPosition(final String token) {
+    Integer rtn = null;
+    if (token.length() > 2 && token.startsWith("[") && token.endsWith("]")) {
+      try {
+        rtn = Integer.valueOf(token.substring(1, token.length() - 1));
+      } catch (final NumberFormatException e) {
+        rtn = null;
+      }
+    }
+    return rtn;
+  }
+
+  private static int count(final int[] counts, final int x) {
+    int rtn = 0;
+    if (x >= 0) {
+      rtn = counts[x];
+    }
+    return rtn;
+  }
+
+  private static int valueOf(final boolean b) {
+    return b ? TRUE : FALSE;
+  }
+
+  private static Node compileGlobalRule(final String rule, final String keyword)
+      throws CelloException {
+    Node rtn = null;
+    switch (keyword) {
+      case EugeneRules.S_ALLFORWARD:
+      case EugeneRules.S_ALLSAMEORIENTATION:
+        rtn = (seq, len, rem, tot) -> TRUE;
+        break;
+      case EugeneRules.S_ALLREVERSE:
+        rtn = (seq, len, rem, tot) -> valueOf(seq.length == 0);
+        break;
+      case EugeneRules.S_ALTERNATEORIENTATION:
+        rtn = (seq, len, rem, tot) -> valueOf(seq.length <= 1);
+        break;
+      default:
+        throw error(rule);
+    }
+    return rtn;
+  }
+
+  private static Node compileUnaryRule(final String rule, final String keyword, final int x)
+      throws CelloException {
+    Node rtn = null;
+    switch (keyword) {
+      case EugeneRules.S_CONTAINS:
+        rtn = (seq, len, rem, tot) -> valueOf(count(tot, x) > 0);
+        break;
+      case EugeneRules.S_NOTCONTAINS:
+        rtn = (seq, len, rem, tot) -> valueOf(count(tot, x) == 0);
+        break;
+      case EugeneRules.S_STARTSWITH:
+        rtn = (seq, len, rem, tot) -> startsWith(x, seq, len, tot);
+        break;
+      case EugeneRules.S_ENDSWITH:
+        rtn = (seq, len, rem, tot) -> endsWith(x, seq, len, rem, tot);
+        break;
+      case EugeneRules.S_FORWARD:
+        rtn = (seq, len, rem, tot) -> TRUE;
+        break;
+      case EugeneRules.S_REVERSE:
+        rtn = (seq, len, rem, tot) -> valueOf(count(tot, x) == 0);
+        break;
+      default:
+        throw error(rule);
+    }
+    return rtn;
+  }
+
+  private static Node compileBinaryRule(
+      final String rule,
+      final String[] tokens,
+      final int start,
+      final Map<String, Integer> ids,
+      final Set<Integer> referenced)
+      throws CelloException {
+    Node rtn = null;
+    final String keyword = tokens[start + 1].toUpperCase();
+    final String lhs = tokens[start];
+    final String rhs = tokens[start + 2];
+    switch (keyword) {
+      case EugeneRules.S_EQUALS:
+        rtn = compileEquals(rule, lhs, rhs, ids, referenced);
+        break;
+      case EugeneRules.S_NOTEQUALS:
+        rtn = negate(compileEquals(rule, lhs, rhs, ids, referenced));
+        break;
+      case EugeneRules.S_EXACTLY:
+      case EugeneRules.S_NOTEXACTLY:
+      case EugeneRules.S_MORETHAN:
+      case EugeneRules.S_NOTMORETHAN:
+        rtn = compileCount(rule, keyword, getSymbol(lhs, ids, referenced), rhs);
+        break;
+      case EugeneRules.S_REPRESSES:
+      case EugeneRules.S_INDUCES:
+      case EugeneRules.S_DRIVES:
+        rtn = (seq, len, rem, tot) -> TRUE;
+        break;
+      default:
+        rtn =
+            compileRelation(
+                rule, keyword, getSymbol(lhs, ids, referenced), getSymbol(rhs, ids, referenced));
+    }
+    return rtn;
+  }
+
+  private static Node compileEquals(
+      final String rule,
+      final String lhs,
+      final String rhs,
+      final Map<String, Integer> ids,
+      final Set<Integer> referenced)
+      throws CelloException {
+    Node rtn = null;
+    final Integer i = getPosition(lhs);
+    final Integer j = getPosition(rhs);
+    if (i != null && j != null) {
+      rtn = (seq, len, rem, tot) -> positionsEqual(i, j, seq, len);
+    } else if (i != null) {
+      final int x = getSymbol(rhs, ids, referenced);
+      rtn = (seq, len, rem, tot) -> positionEquals(i, x, seq, len, rem);
+    } else if (j != null) {
+      final int x = getSymbol(lhs, ids, referenced);
+      rtn = (seq, len, rem, tot) -> positionEquals(j, x, seq, len, rem);
+    } else {
+      throw error(rule);
+    }
+    return rtn;
+  }
+
+  private static Node compileCount(
+      final String rule, final String keyword, final int x, final String number)
+      throws CelloException {
+    Node rtn = null;
+    final int num;
+    try {
+      num = Integer.parseInt(number);
+    } catch (final NumberFormatException e) {
+      throw error(rule);
+    }
+    switch (keyword) {
+      case EugeneRules.S_EXACTLY:
+        rtn = (seq, len, rem, tot) -> valueOf(count(tot, x) == num);
+        break;
+      case EugeneRules.S_NOTEXACTLY:
+        rtn = (seq, len, rem, tot) -> valueOf(count(tot, x) != num);
+        break;
+      case EugeneRules.S_MORETHAN:
+        rtn = (seq, len, rem, tot) -> valueOf(count(tot, x) > num);
+        break;
+      default:
+        rtn = (seq, len, rem, tot) -> valueOf(count(tot, x) <= num);
+    }
+    return rtn;
+  }
+
+  private static Node compileRelation(
+      final String rule, final String keyword, final int a, final int b) throws CelloException {
+    Node rtn = null;
+    switch (keyword) {
+      case EugeneRules.S_BEFORE:
+      case EugeneRules.S_ALLBEFORE:
+        rtn = (seq, len, rem, tot) -> before(a, b, seq, len, rem, tot);
+        break;
+      case EugeneRules.S_AFTER:
+      case EugeneRules.S_ALLAFTER:
+        rtn = (seq, len, rem, tot) -> before(b, a, seq, len, rem, tot);
+        break;
+      case EugeneRules.S_SOMEBEFORE:
+        rtn = (seq, len, rem, tot) -> someBefore(a, b, seq, len, rem, tot);
+        break;
+      case EugeneRules.S_SOMEAFTER:
+        rtn = (seq, len, rem, tot) -> someBefore(b, a, seq, len, rem, tot);
+        break;
+      case EugeneRules.S_NEXTTO:
+      case EugeneRules.S_SOMENEXTTO:
+        rtn = (seq, len, rem, tot) -> nextTo(a, b, seq, len, rem, tot);
+        break;
+      case EugeneRules.S_ALLNEXTTO:
+        rtn = (seq, len, rem, tot) -> allNextTo(a, b, seq, len, rem, tot);
+        break;
+      case EugeneRules.S_SAMECOUNT:
+        rtn = (seq, len, rem, tot) -> valueOf(count(tot, a) == count(tot, b));
+        break;
+      case EugeneRules.S_WITH:
+      case EugeneRules.S_THEN:
+        rtn = (seq, len, rem, tot) -> valueOf(count(tot, a) == 0 || count(tot, b) > 0);
+        break;
+      case EugeneRules.S_NOTWITH:
+        rtn = (seq, len, rem, tot) -> valueOf(count(tot, a) == 0 || count(tot, b) == 0);
+        break;
+      case EugeneRules.S_SAMEORIENTATION:
+        rtn = (seq, len, rem, tot) -> TRUE;
+        break;
+      default:
+        throw error(rule);
+    }
+    return rtn;
+  }
+
+  /*
+   * Positioning
+   */
+
+  private static int startsWith(final int x, final int[] seq, final int len, final int[] tot) {
+    int rtn = UNKNOWN;
+    if (count(tot, x) == 0) {
+      rtn = FALSE;
+    } else if (len > 0) {
+      rtn = valueOf(seq[0] == x);
+    }
+    return rtn;
+  }
+
+  private static int endsWith(
+      final int x, final int[] seq, final int len, final int[] rem, final int[] tot) {
+    int rtn = UNKNOWN;
+    if (count(tot, x) == 0) {
+      rtn = FALSE;
+    } else if (len == seq.length) {
+      rtn = valueOf(seq[len - 1] == x);
+    } else if (rem[x] == 0) {
+      rtn = FALSE;
+    }
+    return rtn;
+  }
+
+  private static int positionEquals(
+      final int i, final int x, final int[] seq, final int len, final int[] rem) {
+    int rtn = UNKNOWN;
+    if (i >= seq.length) {
+      rtn = FALSE;
+    } else if (i < len) {
+      rtn = valueOf(seq[i] == x);
+    } else if (count(rem, x) == 0) {
+      rtn = FALSE;
+    }
+    return rtn;
+  }
+
+  private static int positionsEqual(final int i, final int j, final int[] seq, final int len) {
+    int rtn = UNKNOWN;
+    if (i >= seq.length || j >= seq.length) {
+      rtn = FALSE;
+    } else if (i < len && j < len) {
+      rtn = valueOf(seq[i] == seq[j]);
+    }
+    return rtn;
+  }
+
+  /* every a is before every b */
+  private static int before(
+      final int a, final int b, final int[] seq, final int len, final int[] rem, final int[] tot) {
+    if (count(tot, a) == 0 || count(tot, b) == 0) {
+      return TRUE;
+    }
+    boolean seenB = false;
+    for (int k = 0; k < len; k++) {
+      if (seq[k] == b) {
+        seenB = true;
+      } else if (seq[k] == a && seenB) {
+        return FALSE;
+      }
+    }
+    int rtn = UNKNOWN;
+    if (seenB && rem[a] > 0) {
+      rtn = FALSE;
+    } else if (rem[a] == 0) {
+      rtn = TRUE;
+    }
+    return rtn;
+  }
+
+  /* some a is before some b */
+  private static int someBefore(
+      final int a, final int b, final int[] seq, final int len, final int[] rem, final int[] tot) {
+    if (count(tot, a) == 0 || count(tot, b) == 0) {
+      return TRUE;
+    }
+    int first = -1;
+    for (int k = 0; k < len; k++) {
+      if (seq[k] == a && first < 0) {
+        first = k;
+      } else if (seq[k] == b && first >= 0) {
+        return TRUE;
+      }
+    }
+    int rtn = UNKNOWN;
+    if (rem[b] == 0) {
+      rtn = FALSE;
+    } else if (first >= 0) {
+      rtn = TRUE;
+    }
+    return rtn;
+  }
+
+  /* some a is next to some b */
+  private static int nextTo(
+      final int a, final int b, final int[] seq, final int len, final int[] rem, final int[] tot) {
+    if (count(tot, a) == 0 || count(tot, b) == 0) {
+      return TRUE;
+    }
+    for (int k = 1; k < len; k++) {
+      if ((seq[k - 1] == a && seq[k] == b) || (seq[k - 1] == b && seq[k] == a)) {
+        return TRUE;
+      }
+    }
+    int rtn = UNKNOWN;
+    if (len == seq.length) {
+      rtn = FALSE;
+    } else if (rem[a] == 0 || rem[b] == 0) {
+      final boolean open =
+          len > 0 && ((seq[len - 1] == a && rem[b] > 0) || (seq[len - 1] == b && rem[a] > 0));
+      if (!open) {
+        rtn = FALSE;
+      }
+    }
+    return rtn;
+  }
+
+  /* every a is next to some b */
+  private static int allNextTo(
+      final int a, final int b, final int[] seq, final int len, final int[] rem, final int[] tot) {
+    if (count(tot, a) == 0 || count(tot, b) == 0) {
+      return TRUE;
+    }
+    boolean open = false;
+    for (int k = 0; k < len; k++) {
+      if (seq[k] != a || (k > 0 && seq[k - 1] == b)) {
+        continue;
+      }
+      if (k + 1 < len) {
+        if (seq[k + 1] != b) {
+          return FALSE;
+        }
+      } else if (len == seq.length || rem[b] == 0) {
+        return FALSE;
+      } else {
+        open = true;
+      }
+    }
+    int rtn = UNKNOWN;
+    if (!open && rem[a] == 0) {
+      rtn = TRUE;
+    }
+    return rtn;
+  }
+}
@@ -19,13 +19,19 @@
 
 package org.cellocad.v2.common.target.data.data;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 import org.cellocad.v2.common.CObjectCollection;
 import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.logicng.formulas.Formula;
@@ -156,6 +162,7 @@ public class DeviceRules extends AbstractRules {
 
   private void init() {
     names = new HashMap<>();
+    compiledRules = new ConcurrentHashMap<>();
   }
 
   public DeviceRules(final JSONObject jObj) {
@@ -168,6 +175,143 @@ public class DeviceRules extends AbstractRules {
     return String.join(Utils.getNewLine(), rules);
   }
 
+  private RuleTreeNode filterNode(final RuleTreeNode node, final Collection<String> accepted) {
+    RuleTreeNode rtn = null;
+    if (node instanceof ParentRuleTreeNode) {
+      final ParentRuleTreeNode parent = new ParentRuleTreeNode();
+      parent.setFunction(node.getFunction());
+      parent.setChildren(new ArrayList<>());
+      for (final RuleTreeNode child : ((ParentRuleTreeNode) node).getChildren()) {
+        parent.getChildren().add(filterNode(child, accepted));
+      }
+      rtn = parent;
+    } else {
+      final TerminalRuleTreeNode filtered = new TerminalRuleTreeNode();
+      filtered.setFunction(node.getFunction());
+      filtered.setRules(new ArrayList<>());
+      for (final String str : ((TerminalRuleTreeNode) node).getRules()) {
+        final Collection<String> stuff = EugeneRules.getObjects(str);
+        if (!accepted.containsAll(stuff)
+            && !EugeneRules.GlobalOrientationRuleKeywords.contains(str)) {
+          continue;
+        }
+        filtered.getRules().add(str);
+      }
+      rtn = filtered;
+    }
+    return rtn;
+  }
+
+  /**
+   * Get the rule tree for a given device, i.e. a {@code CONTAINS} rule for each input, and the
+   * rules that refer only to the parts of the device and its inputs. A group whose rules have all
+   * been removed is empty.
+   *
+   * @param device The device.
+   * @param inputs The parts that are inputs to the device.
+   * @return The rule tree.
+   * @throws CelloException Unable to parse the device rules.
+   */
+  public RuleTree getRuleTree(final StructureDevice device, final CObjectCollection<Part> inputs)
+      throws CelloException {
+    final RuleTree tree = getTree();
+    final Collection<String> accepted = new ArrayList<>();
+    for (final StructureObject o : device.getComponents()) {
+      if (o instanceof StructurePart) {
+        accepted.add(o.getName());
+      }
+    }
+    final TerminalRuleTreeNode contains = new TerminalRuleTreeNode();
+    contains.setFunction(RuleTreeFunction.AND);
+    contains.setRules(new ArrayList<>());
+    for (final Part p : inputs) {
+      accepted.add(p.getName());
+      contains.getRules().add(String.format("%s %s", EugeneRules.S_CONTAINS, p.getName()));
+    }
+    final ParentRuleTreeNode root = new ParentRuleTreeNode();
+    root.setFunction(RuleTreeFunction.AND);
+    root.setChildren(new ArrayList<>());
+    root.getChildren().add(contains);
+    root.getChildren().add(filterNode(tree.getRoot(), accepted));
+    final RuleTree rtn = new RuleTree();
+    rtn.setRoot(root);
+    return rtn;
+  }
+
+  /**
+   * Get the rule tree for a given device, compiled over the given symbols. The compiled rules are
+   * cached, so that the rules for a device, its inputs, and its symbols are compiled only once.
+   *
+   * @param device The device.
+   * @param inputs The parts that are inputs to the device.
+   * @param symbols The names of the symbols.
+   * @return The compiled rules.
+   * @throws CelloException Unable to parse or compile the device rules.
+   */
+  public CompiledRules getCompiledRules(
+      final StructureDevice device,
+      final CObjectCollection<Part> inputs,
+      final List<String> symbols)
+      throws CelloException {
+    final List<String> names = new ArrayList<>();
+    for (final Part p : inputs) {
+      names.add(p.getName());
+    }
+    final List<Object> key = Arrays.asList(device.getName(), names, new ArrayList<>(symbols));
+    CompiledRules rtn = compiledRules.get(key);
+    if (rtn == null) {
+      rtn = CompiledRules.compile(getRuleTree(device, inputs), symbols);
+      compiledRules.put(key, rtn);
+    }
+    return rtn;
+  }
+
+  /**
+   * Tests whether a given sequence of parts satisfies the rules for a given device.
+   *
+   * @param device The device.
+   * @param inputs The parts that are inputs to the device.
+   * @param parts The names of the parts of the device, in order, with each input replaced by the
+   *     part that drives it.
+   * @return Whether the sequence of parts satisfies the rules for the device.
+   * @throws CelloException Unable to parse or compile the device rules.
+   */
+  public boolean isSatisfied(
+      final StructureDevice device, final CObjectCollection<Part> inputs, final List<String> parts)
+      throws CelloException {
+    final List<String> symbols = new ArrayList<>();
+    final int[] seq = new int[parts.size()];
+    for (int i = 0; i < seq.length; i++) {
+      int j = symbols.indexOf(parts.get(i));
+      if (j < 0) {
+        j = symbols.size();
+        symbols.add(parts.get(i));
+      }
+      seq[i] = j;
+    }
+    return getCompiledRules(device, inputs, symbols).isSatisfied(seq);
+  }
+
+  /**
+   * Getter for {@code tree}. The device rules are parsed on first use.
+   *
+   * @return The value of {@code tree}.
+   * @throws CelloException Unable to parse the device rules.
+   */
+  private synchronized RuleTree getTree() throws CelloException {
+    if (tree == null) {
+      try {
+        tree = new ObjectMapper().readValue(getJson().toJSONString(), RuleTree.class);
+      } catch (final JsonProcessingException e) {
+        throw new CelloException("Unable to parse device rules.", e);
+      }
+    }
+    return tree;
+  }
+
+  private RuleTree tree;
+  private Map<List<Object>, CompiledRules> compiledRules;
+
   /**
    * Getter for {@code names}.
    *
@@ -52,5 +52,16 @@ public abstract class Evaluatable extends CObject {
 
   public abstract Number evaluate(EvaluationContext ec) throws CelloException;
 
+  /**
+   * Evaluates this object within the given context, without boxing the result.
+   *
+   * @param ec The {@link EvaluationContext}.
+   * @return The result of the evaluation.
+   * @throws CelloException Unable to evaluate this object.
+   */
+  public double evaluateDouble(final EvaluationContext ec) throws CelloException {
+    return evaluate(ec).doubleValue();
+  }
+
   protected static final String S_NAME = "name";
 }
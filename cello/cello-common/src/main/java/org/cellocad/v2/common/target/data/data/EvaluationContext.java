@@ -20,6 +20,7 @@
 package org.cellocad.v2.common.target.data.data;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +34,10 @@ import org.cellocad.v2.results.netlist.data.ResultNetlistEdgeData;
 /**
  * A context in which a pointer is evaluated or dereferenced.
  *
+ * <p>Pointer strings may be parsed once with {@link #parse(String)} and the resulting path
+ * dereferenced repeatedly. Evaluated values are memoized per node and {@link Evaluatable}, indexed
+ * by the value of the state in which they were evaluated.
+ *
  * @author Timothy Jones
  * @date 2020-02-12
  */
@@ -40,15 +45,16 @@ public class EvaluationContext {
 
   private void init() {
     memo = new HashMap<>();
+    arguments = new ArrayList<>();
   }
 
   public EvaluationContext() {
     init();
   }
 
-  private static void isTooShortException(final StringTokenizer st, final String map)
+  private static void isTooShortException(final String[] path, final int pos, final String map)
       throws CelloException {
-    if (!st.hasMoreTokens()) {
+    if (pos >= path.length) {
       final String fmt = "%s: '%s' is missing elements.";
       throw new CelloException(String.format(fmt, EvaluationContext.S_INVALID, map));
     }
@@ -66,64 +72,96 @@ public class EvaluationContext {
     throw new CelloException(String.format(fmt, EvaluationContext.S_UNSUPPORTED, map, token));
   }
 
-  private Evaluatable dereferenceInput(
-      final StringTokenizer st, final String map, final NetlistNode node, final Input input)
-      throws CelloException {
-    Evaluatable rtn = null;
-    NetlistNode src = null;
+  /**
+   * Parses the given pointer string into its path elements.
+   *
+   * @param map A pointer string.
+   * @return The path elements of the pointer string, starting from the root.
+   * @throws CelloException Unable to parse the given pointer string.
+   */
+  public static String[] parse(final String map) throws CelloException {
+    String str = map;
+    if (!str.startsWith(Reference.S_REFCHAR)) {
+      final String fmt = "%s: '%s' must begin with '%s'.";
+      throw new CelloException(
+          String.format(fmt, EvaluationContext.S_INVALID, str, Reference.S_REFCHAR));
+    }
+    str = str.substring(Reference.S_REFCHAR.length());
+    if (!str.startsWith(Reference.S_DELIM)) {
+      final String fmt = "%s: '%s'.";
+      throw new CelloException(String.format(fmt, EvaluationContext.S_UNSUPPORTED, str));
+    }
+    final StringTokenizer st = new StringTokenizer(str, Reference.S_DELIM);
+    final String[] rtn = new String[st.countTokens()];
+    for (int i = 0; i < rtn.length; i++) {
+      rtn[i] = st.nextToken();
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the source of the in-edge of the node defined by parameter {@code node} that is
+   * assigned to the input defined by parameter {@code input}.
+   *
+   * @param node The {@link NetlistNode}.
+   * @param input The {@link Input}.
+   * @return The source node, or null if no in-edge of the node is assigned to the input.
+   */
+  public static NetlistNode getSource(final NetlistNode node, final Input input) {
+    NetlistNode rtn = null;
     for (int i = 0; i < node.getNumInEdge(); i++) {
       final NetlistEdge edge = node.getInEdgeAtIdx(i);
       final ResultNetlistEdgeData data = edge.getResultNetlistEdgeData();
       final Input in = data.getInput();
-      if (in.equals(input)) {
-        src = edge.getSrc();
-        setNode(src);
+      if (in != null && in.equals(input)) {
+        rtn = edge.getSrc();
         break;
       }
     }
+    return rtn;
+  }
+
+  private Evaluatable dereferenceInput(
+      final String[] path, final int pos, final String map, final NetlistNode node,
+      final Input input)
+      throws CelloException {
+    Evaluatable rtn = null;
+    final NetlistNode src = EvaluationContext.getSource(node, input);
     if (src == null) {
-      rtn = new NullEvaluatable();
+      rtn = EvaluationContext.NULL_EVALUATABLE;
     } else {
-      rtn = dereferenceRoot(st, map, src);
+      setNode(src);
+      rtn = dereferenceRoot(path, pos, map, src);
     }
     return rtn;
   }
 
   private String reduceInput(
-      final StringTokenizer st, final String map, final NetlistNode node, final Input input)
-      throws CelloException {
+      final String[] path, final int pos, final String map, final NetlistNode node,
+      final Input input) {
     String rtn = null;
-    NetlistNode src = null;
-    for (int i = 0; i < node.getNumInEdge(); i++) {
-      final NetlistEdge edge = node.getInEdgeAtIdx(i);
-      final ResultNetlistEdgeData data = edge.getResultNetlistEdgeData();
-      final Input in = data.getInput();
-      if (in.equals(input)) {
-        src = edge.getSrc();
-        List<String> tokens = new ArrayList<>();
-        tokens.add(src.getName());
-        while (st.hasMoreTokens()) {
-          tokens.add(st.nextToken());
-        }
-        rtn = String.join(Reference.S_DELIM, tokens);
-      }
+    final NetlistNode src = EvaluationContext.getSource(node, input);
+    if (src != null) {
+      final List<String> tokens = new ArrayList<>();
+      tokens.add(src.getName());
+      tokens.addAll(Arrays.asList(path).subList(pos, path.length));
+      rtn = String.join(Reference.S_DELIM, tokens);
     }
     return rtn;
   }
 
   private Evaluatable dereferenceStructure(
-      final StringTokenizer st, final String map, final NetlistNode node, final Structure structure)
+      final String[] path, final int pos, final String map, final NetlistNode node,
+      final Structure structure)
       throws CelloException {
     Evaluatable rtn = null;
-    EvaluationContext.isTooShortException(st, map);
-    final String token = st.nextToken();
-    String name = null;
+    EvaluationContext.isTooShortException(path, pos, map);
+    final String token = path[pos];
     switch (token) {
       case Structure.S_INPUTS:
-        EvaluationContext.isTooShortException(st, map);
-        name = st.nextToken();
-        final Input input = structure.getInputs().findCObjectByName(name);
-        rtn = dereferenceInput(st, map, node, input);
+        EvaluationContext.isTooShortException(path, pos + 1, map);
+        final Input input = structure.getInputs().findCObjectByName(path[pos + 1]);
+        rtn = dereferenceInput(path, pos + 2, map, node, input);
         break;
       case Structure.S_OUTPUTS:
         EvaluationContext.isUnsupportedTokenException(map, token);
@@ -138,18 +176,17 @@ public class EvaluationContext {
   }
 
   private String reduceStructure(
-      final StringTokenizer st, final String map, final NetlistNode node, final Structure structure)
+      final String[] path, final int pos, final String map, final NetlistNode node,
+      final Structure structure)
       throws CelloException {
     String rtn = null;
-    EvaluationContext.isTooShortException(st, map);
-    final String token = st.nextToken();
-    String name = null;
+    EvaluationContext.isTooShortException(path, pos, map);
+    final String token = path[pos];
     switch (token) {
       case Structure.S_INPUTS:
-        EvaluationContext.isTooShortException(st, map);
-        name = st.nextToken();
-        final Input input = structure.getInputs().findCObjectByName(name);
-        rtn = reduceInput(st, map, node, input);
+        EvaluationContext.isTooShortException(path, pos + 1, map);
+        final Input input = structure.getInputs().findCObjectByName(path[pos + 1]);
+        rtn = reduceInput(path, pos + 2, map, node, input);
         break;
       case Structure.S_OUTPUTS:
         EvaluationContext.isUnsupportedTokenException(map, token);
@@ -164,22 +201,19 @@ public class EvaluationContext {
   }
 
   private Evaluatable dereferenceModel(
-      final StringTokenizer st, final String map, final NetlistNode node, final Model model)
+      final String[] path, final int pos, final String map, final Model model)
       throws CelloException {
     Evaluatable rtn = null;
-    EvaluationContext.isTooShortException(st, map);
-    final String token = st.nextToken();
-    String name = null;
+    EvaluationContext.isTooShortException(path, pos, map);
+    final String token = path[pos];
     switch (token) {
       case Model.S_PARAMETERS:
-        EvaluationContext.isTooShortException(st, map);
-        name = st.nextToken();
-        rtn = model.getParameterByName(name);
+        EvaluationContext.isTooShortException(path, pos + 1, map);
+        rtn = model.getParameterByName(path[pos + 1]);
         break;
       case Model.S_FUNCTIONS:
-        EvaluationContext.isTooShortException(st, map);
-        name = st.nextToken();
-        rtn = model.getFunctionByName(name);
+        EvaluationContext.isTooShortException(path, pos + 1, map);
+        rtn = model.getFunctionByName(path[pos + 1]);
         break;
       default:
         EvaluationContext.isInvalidTokenException(map, token);
@@ -188,20 +222,18 @@ public class EvaluationContext {
   }
 
   private Evaluatable dereferenceRoot(
-      final StringTokenizer st, final String map, final NetlistNode node) throws CelloException {
+      final String[] path, final int pos, final String map, final NetlistNode node)
+      throws CelloException {
     Evaluatable rtn = null;
-    // TODO check cache or originate entry
-    EvaluationContext.isTooShortException(st, map);
-    final String token = st.nextToken();
+    EvaluationContext.isTooShortException(path, pos, map);
+    final String token = path[pos];
     final AssignableDevice d = node.getResultNetlistNodeData().getDevice();
     switch (token) {
       case AssignableDevice.S_MODEL:
-        final Model m = d.getModel();
-        rtn = dereferenceModel(st, map, node, m);
+        rtn = dereferenceModel(path, pos + 1, map, d.getModel());
         break;
       case AssignableDevice.S_STRUCTURE:
-        final Structure s = d.getStructure();
-        rtn = dereferenceStructure(st, map, node, s);
+        rtn = dereferenceStructure(path, pos + 1, map, node, d.getStructure());
         break;
       default:
         EvaluationContext.isInvalidTokenException(map, token);
@@ -209,17 +241,16 @@ public class EvaluationContext {
     return rtn;
   }
 
-  private String reduceRoot(final StringTokenizer st, final String map, final NetlistNode node)
+  private String reduceRoot(
+      final String[] path, final int pos, final String map, final NetlistNode node)
       throws CelloException {
     String rtn = null;
-    // TODO check cache or originate entry
-    EvaluationContext.isTooShortException(st, map);
-    final String token = st.nextToken();
+    EvaluationContext.isTooShortException(path, pos, map);
+    final String token = path[pos];
     final AssignableDevice d = node.getResultNetlistNodeData().getDevice();
     switch (token) {
       case AssignableDevice.S_STRUCTURE:
-        final Structure s = d.getStructure();
-        rtn = reduceStructure(st, map, node, s);
+        rtn = reduceStructure(path, pos + 1, map, node, d.getStructure());
         break;
       default:
         EvaluationContext.isInvalidTokenException(map, token);
@@ -235,28 +266,39 @@ public class EvaluationContext {
    * @throws CelloException Unable to dereference the given pointer string.
    */
   public Evaluatable dereference(final String map) throws CelloException {
-    Evaluatable rtn = null;
-    String str = map;
-    if (!str.startsWith(Reference.S_REFCHAR)) {
-      final String fmt = "%s: '%s' must begin with '%s'.";
-      throw new CelloException(
-          String.format(fmt, EvaluationContext.S_INVALID, str, Reference.S_REFCHAR));
-    }
-    str = str.substring(Reference.S_REFCHAR.length());
-    Boolean root = false;
-    if (str.startsWith(Reference.S_DELIM)) {
-      root = true;
-    }
-    final StringTokenizer st = new StringTokenizer(str, Reference.S_DELIM);
-    if (root) {
-      rtn = dereferenceRoot(st, map, getNode());
-    } else {
-      final String fmt = "%s: '%s'.";
-      throw new CelloException(String.format(fmt, EvaluationContext.S_UNSUPPORTED, str));
-    }
-    return rtn;
+    return dereference(EvaluationContext.parse(map), map);
+  }
+
+  /**
+   * Dereference the given path, as returned by {@link #parse(String)}, starting from the current
+   * node.
+   *
+   * @param path The path elements of the pointer string.
+   * @param map The pointer string, used in error messages.
+   * @return The dereferenced {@link Evaluatable} object.
+   * @throws CelloException Unable to dereference the given path.
+   */
+  public Evaluatable dereference(final String[] path, final String map) throws CelloException {
+    return dereference(getNode(), path, 0, map);
   }
-  
+
+  /**
+   * Dereference the elements of the given path from position {@code pos} onward, starting from
+   * the node defined by parameter {@code node}.
+   *
+   * @param node The node from which to start.
+   * @param path The path elements of the pointer string.
+   * @param pos The position of the first path element to dereference.
+   * @param map The pointer string, used in error messages.
+   * @return The dereferenced {@link Evaluatable} object.
+   * @throws CelloException Unable to dereference the given path.
+   */
+  public Evaluatable dereference(
+      final NetlistNode node, final String[] path, final int pos, final String map)
+      throws CelloException {
+    return dereferenceRoot(path, pos, map, node);
+  }
+
   /**
    * Partial dereference. Return a new pointer to an object without any "node hops."
    * 
@@ -267,26 +309,7 @@ public class EvaluationContext {
    * @throws CelloException Unable to dereference the given pointer string.
    */
   public String reduce(final String map) throws CelloException {
-    String rtn = null;
-    String str = map;
-    if (!str.startsWith(Reference.S_REFCHAR)) {
-      final String fmt = "%s: '%s' must begin with '%s'.";
-      throw new CelloException(
-          String.format(fmt, EvaluationContext.S_INVALID, str, Reference.S_REFCHAR));
-    }
-    str = str.substring(Reference.S_REFCHAR.length());
-    Boolean root = false;
-    if (str.startsWith(Reference.S_DELIM)) {
-      root = true;
-    }
-    final StringTokenizer st = new StringTokenizer(str, Reference.S_DELIM);
-    if (root) {
-      rtn = reduceRoot(st, map, getNode());
-    } else {
-      final String fmt = "%s: '%s'.";
-      throw new CelloException(String.format(fmt, EvaluationContext.S_UNSUPPORTED, str));
-    }
-    return rtn;
+    return reduceRoot(EvaluationContext.parse(map), 0, map, getNode());
   }
 
   /*
@@ -341,17 +364,125 @@ public class EvaluationContext {
    * Memo
    */
 
+  private int getStateIndex() {
+    return (int) getState().getValue();
+  }
+
+  /**
+   * Returns the memoized value of the {@link Evaluatable} defined by parameter {@code e} at the
+   * node defined by parameter {@code node} in the current state.
+   *
+   * @param node The {@link NetlistNode}.
+   * @param e The {@link Evaluatable}.
+   * @return The memoized value, or {@link Double#NaN} if there is none.
+   */
+  public double getMemo(final NetlistNode node, final Evaluatable e) {
+    return getMemo(node, e, getStateIndex());
+  }
+
+  /**
+   * Returns the memoized value of the {@link Evaluatable} defined by parameter {@code e} at the
+   * node defined by parameter {@code node} in the state with value {@code index}.
+   *
+   * @param node The {@link NetlistNode}.
+   * @param e The {@link Evaluatable}.
+   * @param index The value of the state.
+   * @return The memoized value, or {@link Double#NaN} if there is none.
+   */
+  public double getMemo(final NetlistNode node, final Evaluatable e, final int index) {
+    double rtn = Double.NaN;
+    final Map<Evaluatable, double[]> values = memo.get(node);
+    if (values != null) {
+      final double[] v = values.get(e);
+      if (v != null && index < v.length) {
+        rtn = v[index];
+      }
+    }
+    return rtn;
+  }
+
+  /**
+   * Memoizes the value of the {@link Evaluatable} defined by parameter {@code e} at the node
+   * defined by parameter {@code node} in the current state.
+   *
+   * @param node The {@link NetlistNode}.
+   * @param e The {@link Evaluatable}.
+   * @param value The value.
+   */
+  public void putMemo(final NetlistNode node, final Evaluatable e, final double value) {
+    putMemo(node, e, getStateIndex(), value);
+  }
+
+  /**
+   * Memoizes the value of the {@link Evaluatable} defined by parameter {@code e} at the node
+   * defined by parameter {@code node} in the state with value {@code index}.
+   *
+   * @param node The {@link NetlistNode}.
+   * @param e The {@link Evaluatable}.
+   * @param index The value of the state.
+   * @param value The value.
+   */
+  public void putMemo(
+      final NetlistNode node, final Evaluatable e, final int index, final double value) {
+    Map<Evaluatable, double[]> values = memo.get(node);
+    if (values == null) {
+      values = new HashMap<>();
+      memo.put(node, values);
+    }
+    double[] v = values.get(e);
+    if (v == null || index >= v.length) {
+      final int length = Math.max(index + 1, v == null ? I_MEMO_SIZE : v.length * 2);
+      final double[] w = new double[length];
+      Arrays.fill(w, Double.NaN);
+      if (v != null) {
+        System.arraycopy(v, 0, w, 0, v.length);
+      }
+      v = w;
+      values.put(e, v);
+    }
+    v[index] = value;
+  }
+
+  private Map<NetlistNode, Map<Evaluatable, double[]>> memo;
+
+  /*
+   * Arguments
+   */
+
   /**
-   * Getter for {@code memo}.
+   * Returns a scratch array of length {@code length} for the arguments of a function. The array
+   * remains in use until the matching call to {@link #releaseArguments()}, so that functions whose
+   * arguments are themselves functions each receive a distinct array.
    *
-   * @return The value of {@code memo}.
+   * @param length The number of arguments.
+   * @return A scratch array of length {@code length}.
    */
-  public Map<State<NetlistNode>, Map<String, Number>> getMemo() {
-    return memo;
+  public double[] acquireArguments(final int length) {
+    if (depth == arguments.size()) {
+      arguments.add(new double[0][]);
+    }
+    double[][] buffers = arguments.get(depth);
+    if (length >= buffers.length) {
+      buffers = Arrays.copyOf(buffers, length + 1);
+      arguments.set(depth, buffers);
+    }
+    if (buffers[length] == null) {
+      buffers[length] = new double[length];
+    }
+    depth++;
+    return buffers[length];
+  }
+
+  /** Releases the array most recently returned by {@link #acquireArguments(int)}. */
+  public void releaseArguments() {
+    depth--;
   }
 
-  private Map<State<NetlistNode>, Map<String, Number>> memo;
+  private List<double[][]> arguments;
+  private int depth;
 
+  private static final NullEvaluatable NULL_EVALUATABLE = new NullEvaluatable();
+  private static final int I_MEMO_SIZE = 16;
   private static final String S_INVALID = "Invalid reference string";
   private static final String S_UNSUPPORTED = "Unsupported reference string";
 }
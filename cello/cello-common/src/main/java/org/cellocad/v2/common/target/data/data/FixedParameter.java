@@ -58,6 +58,11 @@ public class FixedParameter extends Parameter {
     return getValue();
   }
 
+  @Override
+  public double evaluateDouble(final EvaluationContext ce) {
+    return getValue();
+  }
+
   @Override
   public boolean isValid() {
     boolean rtn = super.isValid();
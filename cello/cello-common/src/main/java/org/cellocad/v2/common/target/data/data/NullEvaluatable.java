@@ -40,4 +40,9 @@ public class NullEvaluatable extends Evaluatable {
   public Number evaluate(final EvaluationContext ce) throws CelloException {
     return new Double(0.0);
   }
+
+  @Override
+  public double evaluateDouble(final EvaluationContext ce) {
+    return 0.0;
+  }
 }
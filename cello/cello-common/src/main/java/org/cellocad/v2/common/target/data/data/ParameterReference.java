@@ -36,6 +36,11 @@ public class ParameterReference extends Parameter {
   private void parseMap(final JSONObject jsonObj) {
     final String value = ProfileUtils.getString(jsonObj, Reference.S_MAP);
     map = value;
+    try {
+      path = value == null ? null : EvaluationContext.parse(value);
+    } catch (final CelloException e) {
+      path = null;
+    }
   }
 
   private void parseParameterReference(final JSONObject jsonObj) {
@@ -57,11 +62,17 @@ public class ParameterReference extends Parameter {
   @Override
   public Number evaluate(final EvaluationContext ec) throws CelloException {
     Number rtn = null;
-    final Evaluatable e = ec.dereference(getMap());
+    final Evaluatable e = ec.dereference(getPath(), getMap());
     rtn = e.evaluate(ec);
     return rtn;
   }
 
+  @Override
+  public double evaluateDouble(final EvaluationContext ec) throws CelloException {
+    final Evaluatable e = ec.dereference(getPath(), getMap());
+    return e.evaluateDouble(ec);
+  }
+
   @Override
   public boolean isValid() {
     boolean rtn = super.isValid();
@@ -74,5 +85,14 @@ public class ParameterReference extends Parameter {
     return map;
   }
 
+  private String[] getPath() throws CelloException {
+    String[] rtn = path;
+    if (rtn == null) {
+      rtn = EvaluationContext.parse(getMap());
+    }
+    return rtn;
+  }
+
   private String map;
+  private String[] path;
 }
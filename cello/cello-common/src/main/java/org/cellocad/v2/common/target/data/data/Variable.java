@@ -19,7 +19,6 @@
 
 package org.cellocad.v2.common.target.data.data;
 
-import java.util.HashMap;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.profile.ProfileUtils;
 import org.cellocad.v2.results.netlist.NetlistNode;
@@ -38,6 +37,11 @@ public class Variable extends Evaluatable {
   private void parseMap(final JSONObject jsonObj) {
     final String value = ProfileUtils.getString(jsonObj, Reference.S_MAP);
     map = value;
+    try {
+      path = value == null ? null : EvaluationContext.parse(value);
+    } catch (final CelloException e) {
+      path = null;
+    }
   }
 
   private void parseVariable(final JSONObject jsonObj) {
@@ -58,30 +62,50 @@ public class Variable extends Evaluatable {
 
   @Override
   public Number evaluate(final EvaluationContext ec) throws CelloException {
-    Number rtn = null;
+    return evaluateDouble(ec);
+  }
+
+  @Override
+  public double evaluateDouble(final EvaluationContext ec) throws CelloException {
+    double rtn = 0.0;
     final NetlistNode node = ec.getNode();
-    String shMap = null;
-    // FIXME: HACK
-    if (getMap().contains(Structure.S_INPUTS)) {
-      shMap = ec.reduce(getMap());
-    }
-    if (shMap != null && ec.getMemo().containsKey(ec.getState()) && ec.getMemo().get(ec.getState()).containsKey(shMap)) {
-      return ec.getMemo().get(ec.getState()).get(shMap);
+    final String[] path = getPath();
+    if (isInputPath(path)) {
+      final Structure structure = node.getResultNetlistNodeData().getDevice().getStructure();
+      final Input input = structure.getInputs().findCObjectByName(path[2]);
+      final NetlistNode src = EvaluationContext.getSource(node, input);
+      if (src == null) {
+        return rtn;
+      }
+      final Evaluatable e = ec.dereference(src, path, 3, getMap());
+      if (e == null) {
+        throw new RuntimeException("Dereference failed.");
+      }
+      rtn = ec.getMemo(src, e);
+      if (Double.isNaN(rtn)) {
+        ec.setNode(src);
+        rtn = e.evaluateDouble(ec);
+        ec.putMemo(src, e, rtn);
+      }
+      ec.setNode(node);
+      return rtn;
     }
     // otherwise
-    final Evaluatable e = ec.dereference(getMap());
+    final Evaluatable e = ec.dereference(path, getMap());
     if (e == null) {
       throw new RuntimeException("Dereference failed.");
     }
-    rtn = e.evaluate(ec);
+    rtn = e.evaluateDouble(ec);
     ec.setNode(node);
-    if (!ec.getMemo().containsKey(ec.getState())) {
-      ec.getMemo().put(ec.getState(), new HashMap<>());
-    }
-    ec.getMemo().get(ec.getState()).put(String.format("%s%s", node.getName(), getMap().substring(Reference.S_REFCHAR.length())), rtn);
     return rtn;
   }
 
+  private static boolean isInputPath(final String[] path) {
+    return path.length > 3
+        && path[0].equals(AssignableDevice.S_STRUCTURE)
+        && path[1].equals(Structure.S_INPUTS);
+  }
+
   @Override
   public boolean isValid() {
     boolean rtn = super.isValid();
@@ -93,5 +117,14 @@ public class Variable extends Evaluatable {
     return map;
   }
 
+  private String[] getPath() throws CelloException {
+    String[] rtn = path;
+    if (rtn == null) {
+      rtn = EvaluationContext.parse(getMap());
+    }
+    return rtn;
+  }
+
   private String map;
+  private String[] path;
 }
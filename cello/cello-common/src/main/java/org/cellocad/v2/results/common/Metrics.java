@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.common;
+
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-phase execution metrics of an application. Each phase records its wall time, the CPU time
+ * and allocated bytes of the thread that executed it, and the CPU time of the whole process, which
+ * includes worker threads started by the phase. A measurement that the virtual machine does not
+ * support is recorded as -1.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class Metrics {
+
+  /** A phase being measured. Closing the phase records its metrics. */
+  public final class Phase implements AutoCloseable {
+
+    private Phase(final String stage, final String phase) {
+      this.stage = stage;
+      this.phase = phase;
+      wallTime = System.nanoTime();
+      cpuTime = getThreadCpuTime();
+      allocatedBytes = getThreadAllocatedBytes();
+      processCpuTime = getProcessCpuTime();
+    }
+
+    @Override
+    public void close() {
+      final ObjectNode node = mapper.createObjectNode();
+      node.put("stage", stage);
+      node.put("phase", phase);
+      node.put("thread", Thread.currentThread().getName());
+      node.put("wall_time_ns", System.nanoTime() - wallTime);
+      node.put("cpu_time_ns", difference(getThreadCpuTime(), cpuTime));
+      node.put("allocated_bytes", difference(getThreadAllocatedBytes(), allocatedBytes));
+      node.put("process_cpu_time_ns", difference(getProcessCpuTime(), processCpuTime));
+      final Runtime runtime = Runtime.getRuntime();
+      node.put("heap_used_bytes", runtime.totalMemory() - runtime.freeMemory());
+      add(node);
+    }
+
+    private final String stage;
+    private final String phase;
+    private final long wallTime;
+    private final long cpuTime;
+    private final long allocatedBytes;
+    private final long processCpuTime;
+  }
+
+  /** Create a new, empty, metrics object. */
+  public Metrics() {
+    mapper = new ObjectMapper();
+    records = new ArrayList<>();
+  }
+
+  /**
+   * Starts measuring a phase.
+   *
+   * @param stage The stage to which the phase belongs.
+   * @param phase The name of the phase.
+   * @return The phase, to be closed when it completes.
+   */
+  public Phase start(final String stage, final String phase) {
+    return new Phase(stage, phase);
+  }
+
+  private synchronized void add(final ObjectNode node) {
+    records.add(node);
+  }
+
+  /**
+   * Returns the number of phases recorded.
+   *
+   * @return The number of phases recorded.
+   */
+  public synchronized int getNumRecords() {
+    return records.size();
+  }
+
+  /**
+   * Writes the recorded phases, in the order in which they completed, as a JSON array.
+   *
+   * @param file The metrics file.
+   * @throws IOException Unable to write the metrics file.
+   */
+  public void write(final File file) throws IOException {
+    final ArrayNode array = mapper.createArrayNode();
+    synchronized (this) {
+      array.addAll(records);
+    }
+    mapper.writer(new DefaultPrettyPrinter()).writeValue(file, array);
+  }
+
+  private static long difference(final long end, final long start) {
+    long rtn = -1;
+    if (end >= 0 && start >= 0) {
+      rtn = end - start;
+    }
+    return rtn;
+  }
+
+  private static long getThreadCpuTime() {
+    long rtn = -1;
+    final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean.isCurrentThreadCpuTimeSupported()) {
+      rtn = bean.getCurrentThreadCpuTime();
+    }
+    return rtn;
+  }
+
+  private static long getThreadAllocatedBytes() {
+    long rtn = -1;
+    final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      final com.sun.management.ThreadMXBean b = (com.sun.management.ThreadMXBean) bean;
+      if (b.isThreadAllocatedMemorySupported() && b.isThreadAllocatedMemoryEnabled()) {
+        rtn = b.getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+    }
+    return rtn;
+  }
+
+  private static long getProcessCpuTime() {
+    long rtn = -1;
+    final OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+    if (bean instanceof com.sun.management.OperatingSystemMXBean) {
+      rtn = ((com.sun.management.OperatingSystemMXBean) bean).getProcessCpuTime();
+    }
+    return rtn;
+  }
+
+  private final ObjectMapper mapper;
+  private final List<ObjectNode> records;
+}
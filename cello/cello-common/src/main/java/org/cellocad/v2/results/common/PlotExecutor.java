@@ -0,0 +1,355 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.runtime.environment.ArgString;
+import org.cellocad.v2.common.runtime.environment.RuntimeEnv;
+
+/**
+ * Makes plots in the background, either by rendering them in process or by running plotting
+ * scripts. The plots of every plot executor share one pool of threads, sized to the number of
+ * processors, so plotting never occupies more cores than the machine has, however many
+ * applications run in the same process. The plot mode, given by the
+ * {@value ArgString#PLOTMODE} command line argument, selects how the plots of a request are made:
+ *
+ * <ul>
+ *   <li>{@code native}: plots with an in-process renderer, such as a {@link
+ *       org.cellocad.v2.results.plot.LogPlot}, are rendered concurrently without a script. The
+ *       scripts of other plots run as in the {@code concurrent} mode.
+ *   <li>{@code concurrent}: each script runs in its own interpreter, concurrently with the others.
+ *   <li>{@code batch}: all scripts of a request run, one after another, in a single interpreter.
+ *   <li>{@code defer}: the scripts are written, with a driver script that runs them all, but not
+ *       run.
+ *   <li>{@code skip}: no scripts are written or run.
+ * </ul>
+ *
+ * <p>A result is added to the results object once its plot file exists. {@link Results#close()}
+ * waits for all plots requested from its executor.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class PlotExecutor {
+
+  /** The plot mode. */
+  public enum Mode {
+    NATIVE,
+    CONCURRENT,
+    BATCH,
+    DEFER,
+    SKIP
+  }
+
+  /** A plot rendered in process. */
+  public interface Renderer {
+
+    /**
+     * Renders the plot.
+     *
+     * @throws IOException Unable to write the plot.
+     */
+    void render() throws IOException;
+  }
+
+  /** A plotting script and the results it produces. */
+  public static final class Job {
+
+    /**
+     * Create a new job.
+     *
+     * @param arguments The script followed by its arguments.
+     * @param results The results produced by the script.
+     */
+    public Job(final List<String> arguments, final List<Result> results) {
+      this.arguments = new ArrayList<>(arguments);
+      this.results = new ArrayList<>(results);
+    }
+
+    /**
+     * Getter for {@code arguments}.
+     *
+     * @return The value of {@code arguments}.
+     */
+    public List<String> getArguments() {
+      return Collections.unmodifiableList(arguments);
+    }
+
+    /**
+     * Getter for {@code results}.
+     *
+     * @return The value of {@code results}.
+     */
+    public List<Result> getResults() {
+      return Collections.unmodifiableList(results);
+    }
+
+    private final List<String> arguments;
+    private final List<Result> results;
+  }
+
+  /**
+   * Create a new plot executor.
+   *
+   * @param results The results object to which to add plot results, and whose metrics measure the
+   *     plots.
+   */
+  PlotExecutor(final Results results) {
+    this.results = results;
+    futures = new ArrayList<>();
+  }
+
+  /**
+   * Returns the plot mode of the given runtime environment.
+   *
+   * @param runEnv The runtime environment.
+   * @return The plot mode.
+   * @throws CelloException Invalid plot mode.
+   */
+  public static Mode getMode(final RuntimeEnv runEnv) throws CelloException {
+    final String str = runEnv.getOptionValue(ArgString.PLOTMODE);
+    Mode rtn = Mode.NATIVE;
+    if (str != null) {
+      try {
+        rtn = Mode.valueOf(str.toUpperCase());
+      } catch (final IllegalArgumentException e) {
+        throw new CelloException("Invalid plot mode: " + str + ".", e);
+      }
+    }
+    return rtn;
+  }
+
+  /**
+   * Runs the given plotting jobs according to the plot mode. The scripts must already have been
+   * written, unless the mode is {@code skip}, in which case the jobs are ignored. In the {@code
+   * native} mode the scripts run as in the {@code concurrent} mode.
+   *
+   * @param mode The plot mode.
+   * @param stage The stage name.
+   * @param python The command that starts the interpreter, including any interpreter options.
+   * @param driver The driver script that runs all jobs in a single interpreter, written in the
+   *     {@code batch} and {@code defer} modes.
+   * @param jobs The jobs.
+   */
+  public void submit(
+      final Mode mode,
+      final String stage,
+      final String python,
+      final File driver,
+      final List<Job> jobs) {
+    switch (mode) {
+      case NATIVE:
+      case CONCURRENT:
+        for (final Job job : jobs) {
+          submitCommand(
+              stage, python + " " + String.join(" ", job.getArguments()), job.getResults());
+        }
+        break;
+      case BATCH:
+        {
+          Utils.writeToFile(getDriverScript(jobs), driver.getAbsolutePath());
+          final List<Result> all = new ArrayList<>();
+          for (final Job job : jobs) {
+            all.addAll(job.getResults());
+          }
+          submitCommand(stage, python + " " + driver.getAbsolutePath(), all);
+          break;
+        }
+      case DEFER:
+        Utils.writeToFile(getDriverScript(jobs), driver.getAbsolutePath());
+        getLogger()
+            .info(
+                "Plots deferred, run '" + python + " " + driver.getAbsolutePath() + "' to plot.");
+        break;
+      case SKIP:
+      default:
+        break;
+    }
+  }
+
+  /**
+   * Renders the given plot in the background, then adds those of the given results whose files
+   * exist.
+   *
+   * @param stage The stage name.
+   * @param renderer The renderer of the plot.
+   * @param plotResults The results produced by the renderer.
+   */
+  public void submit(final String stage, final Renderer renderer, final List<Result> plotResults) {
+    submitTask(
+        stage,
+        () -> {
+          try {
+            renderer.render();
+          } catch (final IOException | RuntimeException e) {
+            getLogger().warn("Unable to render plot: " + e.getMessage());
+          }
+          return "";
+        },
+        plotResults);
+  }
+
+  private void submitCommand(
+      final String stage, final String cmd, final List<Result> plotResults) {
+    submitTask(stage, () -> Utils.executeAndWaitForCommand(cmd).getError(), plotResults);
+  }
+
+  /** A plot made on a pool thread, returning any error output. */
+  private interface Task {
+    String call() throws IOException;
+  }
+
+  private synchronized void submitTask(
+      final String stage, final Task task, final List<Result> plotResults) {
+    final Map<String, String> context = ThreadContext.getImmutableContext();
+    final Metrics metrics = results.getMetrics();
+    futures.add(
+        PlotExecutor.getExecutor()
+            .submit(
+                () -> {
+                  // pool threads are shared, so take on the log file of the requester
+                  ThreadContext.putAll(context);
+                  try (Metrics.Phase p = metrics.start(stage, "plot")) {
+                    final String error = task.call();
+                    for (final Result result : plotResults) {
+                      if (result.getFile().exists()) {
+                        results.addResult(result);
+                      } else {
+                        getLogger().warn("Unable to plot " + result.getFile().getName() + ".");
+                        getLogger().debug(error);
+                      }
+                    }
+                  } finally {
+                    ThreadContext.clearMap();
+                  }
+                  return null;
+                }));
+  }
+
+  /**
+   * Returns a Python script that runs each job in turn in the interpreter that runs the script. A
+   * job that fails is reported and does not prevent the others from running.
+   *
+   * @param jobs The jobs.
+   * @return The driver script.
+   */
+  static String getDriverScript(final List<Job> jobs) {
+    final StringBuilder rtn = new StringBuilder();
+    rtn.append("import runpy").append(Utils.getNewLine());
+    rtn.append("import sys").append(Utils.getNewLine());
+    rtn.append(Utils.getNewLine());
+    rtn.append("jobs = [").append(Utils.getNewLine());
+    for (final Job job : jobs) {
+      final List<String> args = new ArrayList<>();
+      for (final String arg : job.getArguments()) {
+        args.add(PlotExecutor.quote(arg));
+      }
+      rtn.append("    [").append(String.join(", ", args)).append("],");
+      rtn.append(Utils.getNewLine());
+    }
+    rtn.append("]").append(Utils.getNewLine());
+    rtn.append(Utils.getNewLine());
+    rtn.append("for argv in jobs:").append(Utils.getNewLine());
+    rtn.append("    sys.argv = argv").append(Utils.getNewLine());
+    rtn.append("    try:").append(Utils.getNewLine());
+    rtn.append("        runpy.run_path(argv[0], run_name=\"__main__\")");
+    rtn.append(Utils.getNewLine());
+    rtn.append("    except (Exception, SystemExit) as e:").append(Utils.getNewLine());
+    rtn.append("        sys.stderr.write(\"%s: %s\\n\" % (argv[0], e))");
+    rtn.append(Utils.getNewLine());
+    rtn.append("    if \"matplotlib.pyplot\" in sys.modules:").append(Utils.getNewLine());
+    rtn.append("        sys.modules[\"matplotlib.pyplot\"].close(\"all\")");
+    rtn.append(Utils.getNewLine());
+    return rtn.toString();
+  }
+
+  private static String quote(final String str) {
+    return "'" + str.replace("\\", "\\\\").replace("'", "\\'") + "'";
+  }
+
+  /**
+   * Waits for all requested plots to complete.
+   *
+   * @throws IOException Unable to add a plot result.
+   */
+  public void await() throws IOException {
+    IOException rtn = null;
+    final List<Future<?>> pending;
+    synchronized (this) {
+      pending = new ArrayList<>(futures);
+      futures.clear();
+    }
+    for (final Future<?> future : pending) {
+      try {
+        future.get();
+      } catch (final ExecutionException e) {
+        if (rtn == null) {
+          rtn = new IOException("Unable to add plot result.", e.getCause());
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while plotting.", e);
+      }
+    }
+    if (rtn != null) {
+      throw rtn;
+    }
+  }
+
+  private static synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      final AtomicInteger count = new AtomicInteger();
+      executor =
+          Executors.newFixedThreadPool(
+              Runtime.getRuntime().availableProcessors(),
+              r -> {
+                final Thread rtn = new Thread(r, "plot-" + count.incrementAndGet());
+                rtn.setDaemon(true);
+                return rtn;
+              });
+    }
+    return executor;
+  }
+
+  private static Logger getLogger() {
+    return PlotExecutor.logger;
+  }
+
+  private final Results results;
+  private final List<Future<?>> futures;
+
+  private static ExecutorService executor;
+  private static final Logger logger = LogManager.getLogger(PlotExecutor.class);
+}
@@ -20,29 +20,55 @@
 package org.cellocad.v2.results.common;
 
 import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import java.io.BufferedWriter;
+import java.io.Closeable;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
 import org.cellocad.v2.common.CObject;
 import org.cellocad.v2.common.exception.CelloException;
 
 /**
  * The results of an application. Writes a metadata file.
  *
+ * <p>Each result is appended as a single line to a JSON Lines manifest, {@code results.jsonl}, as
+ * soon as it is added. The manifest is flushed after every record, so it survives the
+ * application terminating abnormally. Closing the results object writes the complete array of
+ * results once to {@code results.json}. Use {@link #read(File)} to obtain the array of results
+ * from a directory regardless of whether the results object was closed.
+ *
+ * <p>The results object also carries the {@link Metrics} of the application, which are written to
+ * {@code metrics.json} when it is closed, and the {@link PlotExecutor} that runs its plotting
+ * scripts in the background. Closing the results object waits for the plots to complete.
+ *
  * @author Timothy Jones
  * @date 2020-03-30
  */
-public class Results extends CObject {
+public class Results extends CObject implements Closeable {
 
   private ObjectMapper mapper;
   private ArrayNode array;
   private ObjectWriter writer;
   private final File file;
+  private final File manifestFile;
+  private final File metricsFile;
+  private FileOutputStream manifestStream;
+  private Writer manifest;
+  private boolean isManifestStarted;
+  private final Metrics metrics;
+  private PlotExecutor plotExecutor;
 
   private void init() {
     mapper = new ObjectMapper();
@@ -59,7 +85,31 @@ public class Results extends CObject {
   public Results(final File directory) {
     super();
     init();
-    file = new File(directory, "results.json");
+    file = new File(directory, S_RESULTS);
+    manifestFile = new File(directory, S_MANIFEST);
+    metricsFile = new File(directory, S_METRICS);
+    metrics = new Metrics();
+  }
+
+  /**
+   * Getter for {@code metrics}.
+   *
+   * @return The value of {@code metrics}.
+   */
+  public Metrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Returns the plot executor of this instance, creating it if necessary.
+   *
+   * @return The plot executor of this instance.
+   */
+  public synchronized PlotExecutor getPlotExecutor() {
+    if (plotExecutor == null) {
+      plotExecutor = new PlotExecutor(this);
+    }
+    return plotExecutor;
   }
 
   /**
@@ -70,10 +120,118 @@ public class Results extends CObject {
    * @throws JsonMappingException Unable to map JSON.
    * @throws IOException Unable to write to results file.
    */
-  public void addResult(final Result result)
+  public synchronized void addResult(final Result result)
       throws JsonGenerationException, JsonMappingException, IOException {
     final JsonNode node = mapper.valueToTree(result);
     array.add(node);
-    writer.writeValue(file, array);
+    openManifest();
+    manifest.write(mapper.writeValueAsString(node));
+    manifest.write('\n');
+    manifest.flush();
+  }
+
+  private void openManifest() throws IOException {
+    if (manifest == null) {
+      // the first record of this object replaces any manifest from a previous run
+      manifestStream = new FileOutputStream(manifestFile, isManifestStarted);
+      manifest =
+          new BufferedWriter(new OutputStreamWriter(manifestStream, StandardCharsets.UTF_8));
+      isManifestStarted = true;
+    }
+  }
+
+  /**
+   * Forces the records written so far to the storage device, so that they persist even if the
+   * host fails.
+   *
+   * @throws IOException Unable to flush the manifest.
+   */
+  public synchronized void flush() throws IOException {
+    if (manifest != null) {
+      manifest.flush();
+      manifestStream.getFD().sync();
+    }
   }
+
+  /**
+   * Waits for pending plots, then flushes and closes the manifest and writes the complete array of
+   * results to the results metadata file, and the metrics to the metrics file. Results added after
+   * this method returns are appended to the same manifest.
+   *
+   * @throws IOException Unable to write to results file.
+   */
+  @Override
+  public void close() throws IOException {
+    final PlotExecutor plots;
+    synchronized (this) {
+      plots = plotExecutor;
+    }
+    // not while holding the lock, since the plots add their results
+    if (plots != null) {
+      plots.await();
+    }
+    synchronized (this) {
+      closeFiles();
+    }
+  }
+
+  private void closeFiles() throws IOException {
+    if (manifest != null) {
+      try {
+        flush();
+      } finally {
+        manifest.close();
+        manifest = null;
+        manifestStream = null;
+      }
+    }
+    if (array.size() > 0) {
+      writer.writeValue(file, array);
+    }
+    if (metrics.getNumRecords() > 0) {
+      metrics.write(metricsFile);
+    }
+  }
+
+  /**
+   * Reads the results written to the given directory. The manifest is preferred, since it is
+   * complete even when the results object that wrote it was never closed. A trailing record that
+   * was only partially written is ignored.
+   *
+   * @param directory The directory of the results metadata file.
+   * @return The array of results, empty if the directory contains no results.
+   * @throws IOException Unable to read the results.
+   */
+  public static ArrayNode read(final File directory) throws IOException {
+    final ObjectMapper mapper = new ObjectMapper();
+    final ArrayNode rtn = mapper.createArrayNode();
+    final File manifestFile = new File(directory, S_MANIFEST);
+    final File file = new File(directory, S_RESULTS);
+    if (manifestFile.isFile()) {
+      final List<String> lines = Files.readAllLines(manifestFile.toPath(), StandardCharsets.UTF_8);
+      for (int i = 0; i < lines.size(); i++) {
+        final String line = lines.get(i).trim();
+        if (line.isEmpty()) {
+          continue;
+        }
+        try {
+          rtn.add(mapper.readTree(line));
+        } catch (final JsonProcessingException e) {
+          if (i < lines.size() - 1) {
+            throw e;
+          }
+        }
+      }
+    } else if (file.isFile()) {
+      final JsonNode node = mapper.readTree(file);
+      if (node != null && node.isArray()) {
+        rtn.addAll((ArrayNode) node);
+      }
+    }
+    return rtn;
+  }
+
+  private static final String S_RESULTS = "results.json";
+  private static final String S_MANIFEST = "results.jsonl";
+  private static final String S_METRICS = "metrics.json";
 }
@@ -101,4 +101,18 @@ public final class ResultsUtils {
       throw new CelloException("Unable to write result.", e);
     }
   }
+
+  /**
+   * Close the given results object, writing the complete results metadata file.
+   *
+   * @param results The results object.
+   * @throws CelloException Unable to write results.
+   */
+  public static void closeResults(final Results results) throws CelloException {
+    try {
+      results.close();
+    } catch (IOException e) {
+      throw new CelloException("Unable to write results.", e);
+    }
+  }
 }
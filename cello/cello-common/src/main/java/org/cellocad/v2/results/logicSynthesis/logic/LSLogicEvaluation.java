@@ -27,14 +27,12 @@ import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.CObjectCollection;
 import org.cellocad.v2.common.Utils;
-import org.cellocad.v2.common.graph.algorithm.MyBFS;
 import org.cellocad.v2.results.logicSynthesis.LSResults;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.TruthTable;
 import org.cellocad.v2.results.netlist.Netlist;
-import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
 
 /**
@@ -121,7 +119,6 @@ public class LSLogicEvaluation {
     for (int i = 0; i < node.getNumInEdge(); i++) {
       final NetlistNode inputNode = node.getInEdgeAtIdx(i).getSrc();
       final TruthTable<NetlistNode, NetlistNode> truthTable = getTruthTables().get(inputNode);
-      truthTable.getStateOutput(state);
       final State<NetlistNode> outputState = truthTable.getStateOutput(state);
       if (outputState.getNumStatePosition() != 1) {
         throw new RuntimeException("Invalid number of output(s)!");
@@ -311,7 +308,7 @@ public class LSLogicEvaluation {
     final TruthTable<NetlistNode, NetlistNode> truthTable = getTruthTables().get(node);
     for (int i = 0; i < truthTable.getNumStates(); i++) {
       final State<NetlistNode> inputState = truthTable.getStateAtIdx(i);
-      final State<NetlistNode> outputState = truthTable.getStateOutput(inputState);
+      final State<NetlistNode> outputState = truthTable.getStateOutputAtIdx(i);
       if (outputState.getNumStatePosition() != 1) {
         throw new RuntimeException("Invalid number of output(s)!");
       }
@@ -363,12 +360,8 @@ public class LSLogicEvaluation {
    * @param netlist The {@link Netlist}.
    */
   protected void evaluate(final Netlist netlist) {
-    final MyBFS<NetlistNode, NetlistEdge, Netlist> BFS = new MyBFS<>(netlist);
-    NetlistNode node = null;
-    node = BFS.getNextVertex();
-    while (node != null) {
+    for (final NetlistNode node : netlist.getTopologicalOrder()) {
       evaluateTruthTable(node);
-      node = BFS.getNextVertex();
     }
   }
 
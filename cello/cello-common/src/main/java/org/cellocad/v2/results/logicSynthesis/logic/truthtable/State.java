@@ -19,27 +19,55 @@
 
 package org.cellocad.v2.results.logicSynthesis.logic.truthtable;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.CObject;
-import org.cellocad.v2.common.Pair;
 
 /**
  * The State class contains a state of a netlist used within the <i>SimulatedAnnealing</i> algorithm
  * class of the <i>technologyMapping</i> stage.
  *
+ * <p>The values of the nodes are stored as the bits of a {@code long}, the i-th node of the list
+ * given at construction being the i-th least significant bit, so that the value of a state
+ * enumerated by {@link States} is also its index.
+ *
  * @param T type index.
  * @author Vincent Mirian
  * @date 2018-05-21
  */
 public class State<T> extends CObject {
 
-  /** Initialize class members. */
-  private void init() {
-    stateEntry = new ArrayList<>();
-    stateEntryMap = new HashMap<>();
+  /**
+   * Initializes a newly created {@link State} with the list of types defined by parameter {@code
+   * nodes}, the index of each type defined by parameter {@code nodeIndex}, the True value defined
+   * by parameter {@code one}, the false value defined by parameter {@code zero}, and value defined
+   * by parameter {@code value}. The list and the index are shared, not copied.
+   *
+   * @param nodes The List of types.
+   * @param nodeIndex The position of each type in {@code nodes}.
+   * @param one The True value.
+   * @param zero The False value.
+   * @param value The value.
+   */
+  State(
+      final List<T> nodes,
+      final Map<T, Integer> nodeIndex,
+      final Boolean one,
+      final Boolean zero,
+      final long value) {
+    if (nodes.size() > Long.SIZE) {
+      throw new IllegalArgumentException("A state is limited to " + Long.SIZE + " nodes.");
+    }
+    this.nodes = nodes;
+    this.nodeIndex = nodeIndex;
+    this.setOne(one);
+    this.setZero(zero);
+    if (nodes.size() < Long.SIZE) {
+      this.value = value & ((1L << nodes.size()) - 1);
+    } else {
+      this.value = value;
+    }
   }
 
   /**
@@ -53,24 +81,7 @@ public class State<T> extends CObject {
    * @param value The value.
    */
   public State(final List<T> nodes, final Boolean one, final Boolean zero, final int value) {
-    init();
-    this.setOne(one);
-    this.setZero(zero);
-    Boolean boolValue = null;
-    int tempValue = value;
-    for (int i = 0; i < nodes.size(); i++) {
-      final T node = nodes.get(i);
-      final int temp = tempValue & 1;
-      if (temp == 0) {
-        boolValue = zero;
-      } else { // else if (temp == 1)
-        boolValue = one;
-      }
-      tempValue = tempValue >> 1;
-      final Pair<T, Boolean> pair = new Pair<>(node, boolValue);
-      this.getState().add(0, pair);
-      this.getStateMap().put(node, boolValue);
-    }
+    this(nodes, State.getNodeIndex(nodes), one, zero, value & 0xFFFFFFFFL);
   }
 
   /**
@@ -86,68 +97,78 @@ public class State<T> extends CObject {
     this(nodes, one, zero, 0);
   }
 
-  /*
-   * State
-   */
   /**
-   * Getter for {@code stateEntry}.
+   * Returns a map from each element of the list defined by parameter {@code nodes} to its position
+   * in the list.
    *
-   * @return The stateEntry of this instance.
+   * @param <T> The type of the list elements.
+   * @param nodes The list.
+   * @return A map from each element of the list to its position.
    */
-  protected List<Pair<T, Boolean>> getState() {
-    return stateEntry;
-  }
-
-  /**
-   * Returns the state of {@code node}.
-   *
-   * @return The state of {@code node} if the node exists, null otherwise.
-   */
-  public Boolean getState(final T node) {
-    Boolean rtn = null;
-    rtn = this.getStateMap().get(node);
+  static <T> Map<T, Integer> getNodeIndex(final List<T> nodes) {
+    final Map<T, Integer> rtn = new HashMap<>();
+    for (int i = 0; i < nodes.size(); i++) {
+      rtn.put(nodes.get(i), i);
+    }
     return rtn;
   }
 
   /**
-   * Returns the {@link Pair} at the specified position in this instance.
+   * Returns the position of the state defined by parameter {@code state} in the list defined by
+   * parameter {@code states}, compared by identity. The value of the state is tried first, as it is
+   * the position of states enumerated by {@link States}.
    *
-   * @param index The index of the {@link Pair} object to return.
-   * @return If the index is within the bounds {@code (0 <= bounds < this.getNumStatePosition())},
-   *     returns the {@link Pair} at the specified position in this instance, otherwise null.
-   */
-  protected Pair<T, Boolean> getStatePositionAtIdx(final int index) {
-    Pair<T, Boolean> rtn = null;
-    if (0 <= index && index < this.getNumStatePosition()) {
-      rtn = this.getState().get(index);
+   * @param <T> The type index of the states.
+   * @param states The list of states.
+   * @param state The state.
+   * @return The position of the state in the list, otherwise -1.
+   */
+  public static <T> int getStateIdx(final List<State<T>> states, final State<T> state) {
+    int rtn = -1;
+    final long value = state.getValue();
+    if (0 <= value && value < states.size() && states.get((int) value) == state) {
+      rtn = (int) value;
+    } else {
+      for (int i = 0; i < states.size(); i++) {
+        if (states.get(i) == state) {
+          rtn = i;
+          break;
+        }
+      }
     }
     return rtn;
   }
 
+  /*
+   * State
+   */
   /**
-   * Returns the number of {@link Pair} objects in this instance.
+   * Returns the state of {@code node}.
    *
-   * @return The number of {@link Pair} objects in this instance.
+   * @return The state of {@code node} if the node exists, null otherwise.
    */
-  public int getNumStatePosition() {
-    return this.getState().size();
+  public Boolean getState(final T node) {
+    Boolean rtn = null;
+    final Integer i = nodeIndex.get(node);
+    if (i != null) {
+      rtn = ((value >>> i) & 1L) != 0 ? this.getOne() : this.getZero();
+    }
+    return rtn;
   }
 
-  /*
-   * StateMap
-   */
   /**
-   * Getter for {@code stateEntryMap}.
+   * Returns the number of nodes in this instance.
    *
-   * @return The value of {@code stateEntryMap}.
+   * @return The number of nodes in this instance.
    */
-  protected Map<T, Boolean> getStateMap() {
-    return stateEntryMap;
+  public int getNumStatePosition() {
+    return nodes.size();
   }
 
   /**
    * Returns true if the {@code node} exists in this instance, then assigns the Boolean {@code
-   * value} to the {@code node}.
+   * value} to the {@code node}. Any value other than {@link #getOne()} is stored as {@link
+   * #getZero()}.
    *
    * @param node The node.
    * @param value The value.
@@ -155,17 +176,28 @@ public class State<T> extends CObject {
    */
   public boolean setState(final T node, final Boolean value) {
     boolean rtn = false;
-    for (int i = 0; i < this.getNumStatePosition(); i++) {
-      final Pair<T, Boolean> position = this.getStatePositionAtIdx(i);
-      if (position.getFirst().equals(node)) {
-        position.setSecond(value);
-        this.getStateMap().put(node, value);
-        rtn = true;
+    final Integer i = nodeIndex.get(node);
+    if (i != null) {
+      if (this.getOne().equals(value)) {
+        this.value |= 1L << i;
+      } else {
+        this.value &= ~(1L << i);
       }
+      rtn = true;
     }
     return rtn;
   }
 
+  /**
+   * Getter for {@code value}. Bit i of the value is set if the i-th node of this instance has the
+   * True value.
+   *
+   * @return The value of this instance.
+   */
+  public long getValue() {
+    return value;
+  }
+
   /*
    * On
    */
@@ -208,8 +240,9 @@ public class State<T> extends CObject {
     bZero = zero;
   }
 
-  private List<Pair<T, Boolean>> stateEntry;
-  private Map<T, Boolean> stateEntryMap;
+  private final List<T> nodes;
+  private final Map<T, Integer> nodeIndex;
+  private long value;
   private Boolean bOne;
   private Boolean bZero;
 }
@@ -21,10 +21,11 @@ package org.cellocad.v2.results.logicSynthesis.logic.truthtable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The State class contains all the state of a netlist used within the <i>SimulatedAnnealing</i>
- * algorithm class of the <i>technologyMapping</i> stage.
+ * algorithm class of the <i>technologyMapping</i> stage. The state at index i has value i.
  *
  * @param T type index.
  * @author Vincent Mirian
@@ -52,8 +53,9 @@ public class States<T> {
     this.setZero(zero);
     final Double result = Math.pow(2, inputs.size());
     final int size = result.intValue();
+    final Map<T, Integer> nodeIndex = State.getNodeIndex(inputs);
     for (int i = 0; i < size; i++) {
-      final State<T> InputState = new State<>(inputs, one, zero, i);
+      final State<T> InputState = new State<>(inputs, nodeIndex, one, zero, i);
       this.getStates().add(InputState);
     }
   }
@@ -82,6 +84,16 @@ public class States<T> {
     return rtn;
   }
 
+  /**
+   * Returns the position of the {@link State} defined by parameter {@code state} in this instance.
+   *
+   * @param state The state.
+   * @return The position of the state, or -1 if it is not in this instance.
+   */
+  public int getStateIdx(final State<T> state) {
+    return State.getStateIdx(this.getStates(), state);
+  }
+
   /**
    * Returns the number of {@link State} objects in this instance.
    *
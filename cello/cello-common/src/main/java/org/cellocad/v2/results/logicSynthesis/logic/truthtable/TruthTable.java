@@ -20,7 +20,6 @@
 package org.cellocad.v2.results.logicSynthesis.logic.truthtable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.cellocad.v2.common.CObject;
@@ -30,6 +29,9 @@ import org.cellocad.v2.common.CObject;
  * input columns of the truth table, the truth table output column is associated with an output
  * object type. Rows are of type {@link State}.
  *
+ * <p>Rows are stored by position, so the output for an input state is found by index rather than
+ * by hashing the state.
+ *
  * @param <InputT> Th input object type.
  * @param <OutputT> The output object type.
  * @author Vincent Mirian
@@ -39,7 +41,7 @@ public class TruthTable<InputT, OutputT> extends CObject {
 
   /** Initialize class members. */
   private void init() {
-    truthTableMap = new HashMap<>();
+    outputStates = new ArrayList<>();
     states = new ArrayList<>();
   }
 
@@ -52,11 +54,12 @@ public class TruthTable<InputT, OutputT> extends CObject {
    */
   public TruthTable(final List<State<InputT>> inputs, final List<OutputT> outputs) {
     init();
+    final Map<OutputT, Integer> outputIndex = State.getNodeIndex(outputs);
     for (int i = 0; i < inputs.size(); i++) {
       final State<InputT> InputState = inputs.get(i);
       final State<OutputT> OutputState =
-          new State<>(outputs, InputState.getOne(), InputState.getZero());
-      this.getTruthTableMap().put(InputState, OutputState);
+          new State<>(outputs, outputIndex, InputState.getOne(), InputState.getZero(), 0);
+      this.getOutputStates().add(OutputState);
       this.getStates().add(InputState);
     }
   }
@@ -70,11 +73,12 @@ public class TruthTable<InputT, OutputT> extends CObject {
    */
   public TruthTable(final States<InputT> states, final List<OutputT> outputs) {
     init();
+    final Map<OutputT, Integer> outputIndex = State.getNodeIndex(outputs);
     for (int i = 0; i < states.getNumStates(); i++) {
       final State<InputT> InputState = states.getStateAtIdx(i);
       final State<OutputT> OutputState =
-          new State<>(outputs, InputState.getOne(), InputState.getZero());
-      this.getTruthTableMap().put(InputState, OutputState);
+          new State<>(outputs, outputIndex, InputState.getOne(), InputState.getZero(), 0);
+      this.getOutputStates().add(OutputState);
       this.getStates().add(InputState);
     }
   }
@@ -88,15 +92,15 @@ public class TruthTable<InputT, OutputT> extends CObject {
    */
 
   /*
-   * StateMap
+   * OutputStates
    */
   /**
-   * Getter for {@code truthTableMap}.
+   * Getter for {@code outputStates}.
    *
-   * @return The truthTableMap of this instance.
+   * @return The outputStates of this instance.
    */
-  protected Map<State<InputT>, State<OutputT>> getTruthTableMap() {
-    return truthTableMap;
+  protected List<State<OutputT>> getOutputStates() {
+    return outputStates;
   }
 
   /**
@@ -115,11 +119,35 @@ public class TruthTable<InputT, OutputT> extends CObject {
    * @return The output state for the state defined by parameter {@code state}, otherwise null.
    */
   public State<OutputT> getStateOutput(final State<InputT> state) {
+    return this.getStateOutputAtIdx(this.getStateIdx(state));
+  }
+
+  /**
+   * Returns the output state for the input state at the specified position in this instance.
+   *
+   * @param index The index of the input state.
+   * @return If the index is within the bounds (0 <= bounds < this.getNumStates()), returns the
+   *     output state for the input state at the specified position in this instance, otherwise
+   *     null.
+   */
+  public State<OutputT> getStateOutputAtIdx(final int index) {
     State<OutputT> rtn = null;
-    rtn = this.getTruthTableMap().get(state);
+    if (0 <= index && index < this.getNumStates()) {
+      rtn = this.getOutputStates().get(index);
+    }
     return rtn;
   }
 
+  /**
+   * Returns the position of the state defined by parameter {@code state} in this instance.
+   *
+   * @param state The input state.
+   * @return The position of the state in this instance, otherwise -1.
+   */
+  public int getStateIdx(final State<InputT> state) {
+    return State.getStateIdx(this.getStates(), state);
+  }
+
   /**
    * Returns the State<Input> at the specified position in this instance.
    *
@@ -145,5 +173,5 @@ public class TruthTable<InputT, OutputT> extends CObject {
   }
 
   List<State<InputT>> states;
-  Map<State<InputT>, State<OutputT>> truthTableMap;
+  List<State<OutputT>> outputStates;
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.netlist;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.file.dot.utils.DotUtils;
+import org.cellocad.v2.common.json.JsonUtils;
+import org.cellocad.v2.results.common.Metrics;
+import org.cellocad.v2.results.common.Result;
+import org.cellocad.v2.results.common.Results;
+
+/**
+ * Writes netlist files on a background thread, so that writing the netlist after a stage overlaps
+ * the execution of the next stage. The netlist is rendered to memory when a write is requested, so
+ * later changes to the netlist do not affect what is written. Writes are performed in the order in
+ * which they are requested.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class NetlistWriter implements AutoCloseable {
+
+  /**
+   * Create a new netlist writer.
+   *
+   * @param results The results object to which to add netlist results, and whose metrics measure
+   *     the writes.
+   */
+  public NetlistWriter(final Results results) {
+    this.results = results;
+    futures = new ArrayList<>();
+    executor =
+        Executors.newSingleThreadExecutor(
+            r -> {
+              final Thread rtn = new Thread(r, "netlist-writer");
+              rtn.setDaemon(true);
+              return rtn;
+            });
+  }
+
+  /**
+   * Writes the netlist in JSON format to the given file.
+   *
+   * @param stage The stage name.
+   * @param netlist The netlist.
+   * @param filename The file.
+   * @throws CelloException Unable to render the netlist.
+   */
+  public void writeJson(final String stage, final Netlist netlist, final String filename)
+      throws CelloException {
+    final StringWriter sw = new StringWriter();
+    try {
+      sw.write(JsonUtils.getStartEntryString());
+      netlist.writeJson(1, sw);
+      sw.write(JsonUtils.getEndEntryString());
+    } catch (final IOException e) {
+      throw new CelloException("Unable to render netlist.", e);
+    }
+    final String json = sw.toString();
+    submit(
+        stage,
+        "writeNetlist",
+        () -> write(new File(filename), json));
+  }
+
+  /**
+   * Writes the netlist in DOT format, converts it to PDF and PNG, and adds the three files to the
+   * results, as {@link org.cellocad.v2.results.common.ResultsUtils#writeNetlistResults} does.
+   *
+   * @param stage The stage name.
+   * @param outputDir The output directory.
+   * @param netlist The netlist.
+   * @throws CelloException Unable to render the netlist.
+   */
+  public void writeResults(final String stage, final File outputDir, final Netlist netlist)
+      throws CelloException {
+    final StringWriter sw = new StringWriter();
+    try {
+      netlist.printDot(sw);
+    } catch (final IOException e) {
+      throw new CelloException("Unable to render netlist.", e);
+    }
+    final String dot = sw.toString();
+    final File dotFile = new File(outputDir, netlist.getName() + "_" + stage + ".dot");
+    submit(
+        stage,
+        "writeNetlistResults",
+        () -> {
+          write(dotFile, dot);
+          final File pdfFile = DotUtils.dot2pdf(dotFile);
+          final File pngFile = DotUtils.dot2png(dotFile);
+          results.addResult(new Result("netlist", stage, "The netlist.", dotFile));
+          results.addResult(new Result("netlist", stage, "The netlist.", pdfFile));
+          results.addResult(new Result("netlist", stage, "The netlist.", pngFile));
+        });
+  }
+
+  /** A write performed on the background thread. */
+  private interface Task {
+    void call() throws Exception;
+  }
+
+  private synchronized void submit(final String stage, final String phase, final Task task) {
+    final Metrics metrics = results.getMetrics();
+    futures.add(
+        executor.submit(
+            () -> {
+              try (Metrics.Phase p = metrics.start(stage, phase)) {
+                task.call();
+              }
+              return null;
+            }));
+  }
+
+  private static void write(final File file, final String str) throws IOException {
+    try (Writer writer = new OutputStreamWriter(new FileOutputStream(file))) {
+      writer.write(str);
+    }
+  }
+
+  /**
+   * Waits for all requested writes to complete and stops the background thread.
+   *
+   * @throws CelloException A write failed.
+   */
+  @Override
+  public void close() throws CelloException {
+    executor.shutdown();
+    CelloException rtn = null;
+    final List<Future<?>> pending;
+    synchronized (this) {
+      pending = new ArrayList<>(futures);
+      futures.clear();
+    }
+    for (final Future<?> future : pending) {
+      try {
+        future.get();
+      } catch (final ExecutionException e) {
+        if (rtn == null) {
+          rtn = new CelloException("Unable to write netlist.", e.getCause());
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CelloException("Interrupted while writing netlist.", e);
+      }
+    }
+    if (rtn != null) {
+      throw rtn;
+    }
+  }
+
+  private final Results results;
+  private final List<Future<?>> futures;
+  private final ExecutorService executor;
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.plot;
+
+import java.awt.Color;
+
+/**
+ * A surface on which a {@link LogPlot} is drawn. Coordinates are in pixels from the top left
+ * corner. Text is positioned by its baseline.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+interface Canvas {
+
+  /** The horizontal alignment of text relative to its position. */
+  enum Anchor {
+    START,
+    MIDDLE,
+    END
+  }
+
+  void fillRect(double x, double y, double w, double h, Color color);
+
+  void strokeRect(double x, double y, double w, double h, Color color, double width);
+
+  void line(double x1, double y1, double x2, double y2, Color color, double width);
+
+  void polyline(double[] xs, double[] ys, int n, Color color, double width);
+
+  /**
+   * Draws a circle.
+   *
+   * @param x The x coordinate of the center.
+   * @param y The y coordinate of the center.
+   * @param r The radius.
+   * @param fill The fill color, or null for no fill.
+   * @param stroke The outline color, or null for no outline.
+   * @param width The width of the outline.
+   */
+  void circle(double x, double y, double r, Color fill, Color stroke, double width);
+
+  void text(String str, double x, double y, double size, Anchor anchor);
+
+  void clip(double x, double y, double w, double h);
+
+  void unclip();
+}
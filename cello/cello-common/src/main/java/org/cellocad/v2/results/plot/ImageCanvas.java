@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.plot;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * A {@link Canvas} that draws to an image.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+class ImageCanvas implements Canvas {
+
+  ImageCanvas(final int width, final int height) {
+    image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    g = image.createGraphics();
+    g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    g.setRenderingHint(
+        RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+  }
+
+  /**
+   * Releases the resources of the canvas and returns the image drawn.
+   *
+   * @return The image.
+   */
+  BufferedImage finish() {
+    g.dispose();
+    return image;
+  }
+
+  @Override
+  public void fillRect(
+      final double x, final double y, final double w, final double h, final Color color) {
+    g.setColor(color);
+    g.fill(new Rectangle2D.Double(x, y, w, h));
+  }
+
+  @Override
+  public void strokeRect(
+      final double x,
+      final double y,
+      final double w,
+      final double h,
+      final Color color,
+      final double width) {
+    g.setColor(color);
+    g.setStroke(new BasicStroke((float) width));
+    g.draw(new Rectangle2D.Double(x, y, w, h));
+  }
+
+  @Override
+  public void line(
+      final double x1,
+      final double y1,
+      final double x2,
+      final double y2,
+      final Color color,
+      final double width) {
+    g.setColor(color);
+    g.setStroke(new BasicStroke((float) width));
+    g.draw(new Line2D.Double(x1, y1, x2, y2));
+  }
+
+  @Override
+  public void polyline(
+      final double[] xs, final double[] ys, final int n, final Color color, final double width) {
+    final Path2D.Double path = new Path2D.Double();
+    path.moveTo(xs[0], ys[0]);
+    for (int i = 1; i < n; i++) {
+      path.lineTo(xs[i], ys[i]);
+    }
+    g.setColor(color);
+    g.setStroke(
+        new BasicStroke((float) width, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+    g.draw(path);
+  }
+
+  @Override
+  public void circle(
+      final double x,
+      final double y,
+      final double r,
+      final Color fill,
+      final Color stroke,
+      final double width) {
+    final Ellipse2D.Double e = new Ellipse2D.Double(x - r, y - r, 2 * r, 2 * r);
+    if (fill != null) {
+      g.setColor(fill);
+      g.fill(e);
+    }
+    if (stroke != null) {
+      g.setColor(stroke);
+      g.setStroke(new BasicStroke((float) width));
+      g.draw(e);
+    }
+  }
+
+  @Override
+  public void text(
+      final String str, final double x, final double y, final double size, final Anchor anchor) {
+    final Font font = LogPlot.getFont(size);
+    g.setFont(font);
+    g.setColor(Color.BLACK);
+    final double w = LogPlot.getTextWidth(str, size);
+    double left = x;
+    if (anchor == Anchor.MIDDLE) {
+      left -= w / 2;
+    } else if (anchor == Anchor.END) {
+      left -= w;
+    }
+    g.drawString(str, (float) left, (float) y);
+  }
+
+  @Override
+  public void clip(final double x, final double y, final double w, final double h) {
+    g.setClip(new Rectangle2D.Double(x, y, w, h));
+  }
+
+  @Override
+  public void unclip() {
+    g.setClip(null);
+  }
+
+  private final BufferedImage image;
+  private final Graphics2D g;
+}
@@ -0,0 +1,427 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.plot;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.imageio.ImageIO;
+
+/**
+ * A figure of one or more axes, stacked vertically, with logarithmic x and y scales. The figure is
+ * rendered in process to PNG or SVG, without an external plotting program.
+ *
+ * <p>The axes share the x axis, whose tick labels are drawn only below the last axes. Limits that
+ * are not set are computed from the data of all the axes of the figure, rounded out to whole
+ * decades, so that by default the axes also share the y axis.
+ *
+ * <p>A figure may be rendered concurrently with the rendering of other figures, but must not be
+ * modified while it is rendered.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class LogPlot {
+
+  /** An axes of the figure. */
+  public static final class Axes {
+
+    private Axes() {
+      lines = new ArrayList<>();
+      points = new ArrayList<>();
+    }
+
+    /**
+     * Sets the limits of the x axis.
+     *
+     * @param min The lower limit.
+     * @param max The upper limit.
+     */
+    public void setXLimits(final double min, final double max) {
+      xmin = min;
+      xmax = max;
+    }
+
+    /**
+     * Sets the limits of the y axis.
+     *
+     * @param min The lower limit.
+     * @param max The upper limit.
+     */
+    public void setYLimits(final double min, final double max) {
+      ymin = min;
+      ymax = max;
+    }
+
+    /**
+     * Adds a line through the given points. Points with a non-positive coordinate are omitted.
+     *
+     * @param x The x coordinates.
+     * @param y The y coordinates.
+     * @param color The color of the line.
+     * @param width The width of the line, in points.
+     */
+    public void addLine(
+        final List<Double> x, final List<Double> y, final Color color, final double width) {
+      lines.add(new Series(x, y, color, width, false));
+    }
+
+    /**
+     * Adds markers at the given points, drawn above all lines. Points with a non-positive
+     * coordinate are omitted.
+     *
+     * @param x The x coordinates.
+     * @param y The y coordinates.
+     * @param color The color of the markers.
+     * @param filled Whether the markers are filled, otherwise only their outline is drawn.
+     */
+    public void addPoints(
+        final List<Double> x, final List<Double> y, final Color color, final boolean filled) {
+      points.add(new Series(x, y, color, 0.0, filled));
+    }
+
+    private final List<Series> lines;
+    private final List<Series> points;
+    private Double xmin;
+    private Double xmax;
+    private Double ymin;
+    private Double ymax;
+  }
+
+  /** The data of a line or a set of markers. */
+  private static final class Series {
+
+    Series(
+        final List<Double> x,
+        final List<Double> y,
+        final Color color,
+        final double width,
+        final boolean filled) {
+      if (x.size() != y.size()) {
+        throw new IllegalArgumentException("Unequal number of x and y coordinates.");
+      }
+      this.x = new ArrayList<>(x);
+      this.y = new ArrayList<>(y);
+      this.color = color;
+      this.width = width;
+      this.filled = filled;
+    }
+
+    private final List<Double> x;
+    private final List<Double> y;
+    private final Color color;
+    private final double width;
+    private final boolean filled;
+  }
+
+  /**
+   * Create a new, empty, figure.
+   *
+   * @param title The title of the figure.
+   * @param width The width of the figure, in inches.
+   * @param height The height of the figure, in inches.
+   */
+  public LogPlot(final String title, final double width, final double height) {
+    this.title = title;
+    this.width = width;
+    this.height = height;
+    axes = new ArrayList<>();
+  }
+
+  /**
+   * Adds an axes below those already in the figure.
+   *
+   * @return The axes.
+   */
+  public Axes addAxes() {
+    final Axes rtn = new Axes();
+    axes.add(rtn);
+    return rtn;
+  }
+
+  /**
+   * Renders the figure to a PNG file.
+   *
+   * @param file The file.
+   * @throws IOException Unable to write the file.
+   */
+  public void writePng(final File file) throws IOException {
+    final ImageCanvas canvas = new ImageCanvas(getPixelWidth(), getPixelHeight());
+    draw(canvas);
+    if (!ImageIO.write(canvas.finish(), "png", file)) {
+      throw new IOException("No PNG writer available.");
+    }
+  }
+
+  /**
+   * Renders the figure to an SVG file.
+   *
+   * @param file The file.
+   * @throws IOException Unable to write the file.
+   */
+  public void writeSvg(final File file) throws IOException {
+    final SvgCanvas canvas = new SvgCanvas(getPixelWidth(), getPixelHeight());
+    draw(canvas);
+    try (Writer writer =
+        new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+      writer.write(canvas.finish());
+    }
+  }
+
+  private int getPixelWidth() {
+    return (int) Math.round(width * LogPlot.D_DPI);
+  }
+
+  private int getPixelHeight() {
+    return (int) Math.round(height * LogPlot.D_DPI);
+  }
+
+  /*
+   * Layout
+   */
+
+  static Font getFont(final double size) {
+    return new Font(S_FONTFAMILY, Font.PLAIN, 1).deriveFont((float) size);
+  }
+
+  static double getTextWidth(final String str, final double size) {
+    final FontRenderContext frc = new FontRenderContext(null, true, true);
+    return getFont(size).getStringBounds(str, frc).getWidth();
+  }
+
+  /**
+   * Returns the decades, as exponents of ten, between the given limits at which to draw ticks.
+   * Long ranges are thinned so that there are no more than {@value #I_MAXTICKS} ticks.
+   */
+  private static List<Integer> getTicks(final double min, final double max) {
+    final List<Integer> rtn = new ArrayList<>();
+    final int lo = (int) Math.ceil(Math.log10(min) - D_EPSILON);
+    final int hi = (int) Math.floor(Math.log10(max) + D_EPSILON);
+    final int step = Math.max(1, (int) Math.ceil((hi - lo + 1) / (double) I_MAXTICKS));
+    for (int i = lo; i <= hi; i += step) {
+      rtn.add(i);
+    }
+    return rtn;
+  }
+
+  /** Returns the limits of the data on one axis of all axes, rounded out to whole decades. */
+  private double[] getDataLimits(final boolean isX) {
+    double min = Double.POSITIVE_INFINITY;
+    double max = Double.NEGATIVE_INFINITY;
+    for (final Axes a : axes) {
+      final List<Series> all = new ArrayList<>(a.lines);
+      all.addAll(a.points);
+      for (final Series s : all) {
+        for (final Double d : isX ? s.x : s.y) {
+          if (d != null && d > 0 && !Double.isInfinite(d)) {
+            min = Math.min(min, d);
+            max = Math.max(max, d);
+          }
+        }
+      }
+    }
+    double[] rtn = {1.0, 10.0};
+    if (min <= max) {
+      final double lo = Math.floor(Math.log10(min) + D_EPSILON);
+      double hi = Math.ceil(Math.log10(max) - D_EPSILON);
+      if (hi <= lo) {
+        hi = lo + 1;
+      }
+      rtn = new double[] {Math.pow(10, lo), Math.pow(10, hi)};
+    }
+    return rtn;
+  }
+
+  private void draw(final Canvas canvas) {
+    final double pt = LogPlot.D_DPI / 72.0;
+    final double w = getPixelWidth();
+    final double h = getPixelHeight();
+    final double labelSize = D_LABELSIZE * pt;
+    final double titleSize = D_TITLESIZE * pt;
+    final double tick = D_TICKLENGTH * pt;
+    final double margin = D_MARGIN * pt;
+    canvas.fillRect(0, 0, w, h, Color.WHITE);
+    // limits
+    final double[] xdata = getDataLimits(true);
+    final double[] ydata = getDataLimits(false);
+    // widest y tick label
+    double labelWidth = 0.0;
+    for (final Axes a : axes) {
+      final double ymin = a.ymin != null ? a.ymin : ydata[0];
+      final double ymax = a.ymax != null ? a.ymax : ydata[1];
+      for (final int e : getTicks(ymin, ymax)) {
+        labelWidth = Math.max(labelWidth, getTickLabelWidth(e, labelSize));
+      }
+    }
+    // plot area
+    final double left = margin + labelWidth + tick + 2 * pt;
+    final double right = w - margin - labelWidth / 2;
+    final double top = margin + (title.isEmpty() ? 0.0 : titleSize * 1.5);
+    final double bottom = h - margin - labelSize * 1.6 - tick;
+    final double gap = D_GAP * pt;
+    final int n = axes.size();
+    final double ah = n == 0 ? 0.0 : (bottom - top - gap * (n - 1)) / n;
+    final double aw = right - left;
+    if (!title.isEmpty()) {
+      canvas.text(title, (left + right) / 2, margin + titleSize, titleSize, Canvas.Anchor.MIDDLE);
+    }
+    for (int i = 0; i < n; i++) {
+      final Axes a = axes.get(i);
+      final double y0 = top + i * (ah + gap);
+      final double lx0 = Math.log10(a.xmin != null ? a.xmin : xdata[0]);
+      final double lx1 = Math.log10(a.xmax != null ? a.xmax : xdata[1]);
+      final double ly0 = Math.log10(a.ymin != null ? a.ymin : ydata[0]);
+      final double ly1 = Math.log10(a.ymax != null ? a.ymax : ydata[1]);
+      final Transform t = new Transform(left, y0, aw, ah, lx0, lx1, ly0, ly1);
+      // data
+      canvas.clip(left, y0, aw, ah);
+      for (final Series s : a.lines) {
+        drawLine(canvas, t, s, pt);
+      }
+      for (final Series s : a.points) {
+        for (int j = 0; j < s.x.size(); j++) {
+          if (t.isValid(s.x.get(j), s.y.get(j))) {
+            final Color fill = s.filled ? s.color : null;
+            final double r = D_MARKERRADIUS * pt;
+            canvas.circle(t.getX(s.x.get(j)), t.getY(s.y.get(j)), r, fill, s.color, pt);
+          }
+        }
+      }
+      canvas.unclip();
+      // frame and ticks
+      canvas.strokeRect(left, y0, aw, ah, Color.BLACK, D_FRAMEWIDTH * pt);
+      for (final int e : getTicks(Math.pow(10, lx0), Math.pow(10, lx1))) {
+        final double x = t.getX(Math.pow(10, e));
+        canvas.line(x, y0 + ah, x, y0 + ah + tick, Color.BLACK, D_FRAMEWIDTH * pt);
+        if (i == n - 1) {
+          final double x1 = x - getTickLabelWidth(e, labelSize) / 2;
+          drawTickLabel(canvas, e, x1, y0 + ah + tick + labelSize * 1.2, labelSize);
+        }
+      }
+      for (final int e : getTicks(Math.pow(10, ly0), Math.pow(10, ly1))) {
+        final double y = t.getY(Math.pow(10, e));
+        canvas.line(left - tick, y, left, y, Color.BLACK, D_FRAMEWIDTH * pt);
+        final double x1 = left - tick - 2 * pt - getTickLabelWidth(e, labelSize);
+        drawTickLabel(canvas, e, x1, y + labelSize * 0.35, labelSize);
+      }
+    }
+  }
+
+  private static void drawLine(
+      final Canvas canvas, final Transform t, final Series s, final double pt) {
+    final double[] xs = new double[s.x.size()];
+    final double[] ys = new double[s.y.size()];
+    int k = 0;
+    for (int j = 0; j <= s.x.size(); j++) {
+      if (j < s.x.size() && t.isValid(s.x.get(j), s.y.get(j))) {
+        xs[k] = t.getX(s.x.get(j));
+        ys[k] = t.getY(s.y.get(j));
+        k++;
+      } else {
+        // an omitted point breaks the line
+        if (k > 1) {
+          canvas.polyline(xs, ys, k, s.color, s.width * pt);
+        }
+        k = 0;
+      }
+    }
+  }
+
+  private static double getTickLabelWidth(final int exponent, final double size) {
+    return getTextWidth("10", size) + getTextWidth(String.valueOf(exponent), size * 0.7);
+  }
+
+  /** Draws a tick label of the form 10 to the power of the exponent. */
+  private static void drawTickLabel(
+      final Canvas canvas, final int exponent, final double x, final double y, final double size) {
+    canvas.text("10", x, y, size, Canvas.Anchor.START);
+    final double x1 = x + getTextWidth("10", size);
+    canvas.text(String.valueOf(exponent), x1, y - size * 0.4, size * 0.7, Canvas.Anchor.START);
+  }
+
+  /** Maps data coordinates to pixels within an axes. */
+  private static final class Transform {
+
+    Transform(
+        final double left,
+        final double top,
+        final double width,
+        final double height,
+        final double lx0,
+        final double lx1,
+        final double ly0,
+        final double ly1) {
+      this.left = left;
+      this.top = top;
+      this.width = width;
+      this.height = height;
+      this.lx0 = lx0;
+      this.lx1 = lx1;
+      this.ly0 = ly0;
+      this.ly1 = ly1;
+    }
+
+    boolean isValid(final Double x, final Double y) {
+      return x != null && y != null && x > 0 && y > 0 && !x.isInfinite() && !y.isInfinite();
+    }
+
+    double getX(final double x) {
+      return left + (Math.log10(x) - lx0) / (lx1 - lx0) * width;
+    }
+
+    double getY(final double y) {
+      return top + height - (Math.log10(y) - ly0) / (ly1 - ly0) * height;
+    }
+
+    private final double left;
+    private final double top;
+    private final double width;
+    private final double height;
+    private final double lx0;
+    private final double lx1;
+    private final double ly0;
+    private final double ly1;
+  }
+
+  private final String title;
+  private final double width;
+  private final double height;
+  private final List<Axes> axes;
+
+  private static final String S_FONTFAMILY = "SansSerif";
+  private static final double D_DPI = 100.0;
+  private static final double D_EPSILON = 1e-9;
+  private static final int I_MAXTICKS = 4;
+  private static final double D_LABELSIZE = 8.0;
+  private static final double D_TITLESIZE = 10.0;
+  private static final double D_TICKLENGTH = 3.5;
+  private static final double D_MARGIN = 6.0;
+  private static final double D_GAP = 4.0;
+  private static final double D_FRAMEWIDTH = 0.8;
+  private static final double D_MARKERRADIUS = 3.5;
+}
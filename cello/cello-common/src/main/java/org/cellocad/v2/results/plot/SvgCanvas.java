@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.plot;
+
+import java.awt.Color;
+import java.util.Locale;
+
+/**
+ * A {@link Canvas} that builds an SVG document.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+class SvgCanvas implements Canvas {
+
+  SvgCanvas(final int width, final int height) {
+    sb = new StringBuilder();
+    sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+    sb.append(
+        format(
+            "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"%d\" height=\"%d\""
+                + " viewBox=\"0 0 %d %d\">\n",
+            width,
+            height,
+            width,
+            height));
+    sb.append("<defs></defs>\n");
+    defs = sb.length() - "</defs>\n".length();
+    numClips = 0;
+    clipped = false;
+  }
+
+  /**
+   * Closes the document and returns it.
+   *
+   * @return The SVG document.
+   */
+  String finish() {
+    unclip();
+    sb.append("</svg>\n");
+    return sb.toString();
+  }
+
+  private static String format(final String fmt, final Object... args) {
+    return String.format(Locale.ROOT, fmt, args);
+  }
+
+  private static String getColor(final Color color) {
+    return format("#%02x%02x%02x", color.getRed(), color.getGreen(), color.getBlue());
+  }
+
+  private static String escape(final String str) {
+    return str.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+  }
+
+  @Override
+  public void fillRect(
+      final double x, final double y, final double w, final double h, final Color color) {
+    sb.append(
+        format(
+            "<rect x=\"%.2f\" y=\"%.2f\" width=\"%.2f\" height=\"%.2f\" fill=\"%s\"/>\n",
+            x,
+            y,
+            w,
+            h,
+            getColor(color)));
+  }
+
+  @Override
+  public void strokeRect(
+      final double x,
+      final double y,
+      final double w,
+      final double h,
+      final Color color,
+      final double width) {
+    sb.append(
+        format(
+            "<rect x=\"%.2f\" y=\"%.2f\" width=\"%.2f\" height=\"%.2f\" fill=\"none\""
+                + " stroke=\"%s\" stroke-width=\"%.2f\"/>\n",
+            x,
+            y,
+            w,
+            h,
+            getColor(color),
+            width));
+  }
+
+  @Override
+  public void line(
+      final double x1,
+      final double y1,
+      final double x2,
+      final double y2,
+      final Color color,
+      final double width) {
+    sb.append(
+        format(
+            "<line x1=\"%.2f\" y1=\"%.2f\" x2=\"%.2f\" y2=\"%.2f\" stroke=\"%s\""
+                + " stroke-width=\"%.2f\"/>\n",
+            x1,
+            y1,
+            x2,
+            y2,
+            getColor(color),
+            width));
+  }
+
+  @Override
+  public void polyline(
+      final double[] xs, final double[] ys, final int n, final Color color, final double width) {
+    sb.append("<polyline points=\"");
+    for (int i = 0; i < n; i++) {
+      sb.append(format("%.2f,%.2f ", xs[i], ys[i]));
+    }
+    sb.append(
+        format(
+            "\" fill=\"none\" stroke=\"%s\" stroke-width=\"%.2f\" stroke-linecap=\"round\""
+                + " stroke-linejoin=\"round\"/>\n",
+            getColor(color),
+            width));
+  }
+
+  @Override
+  public void circle(
+      final double x,
+      final double y,
+      final double r,
+      final Color fill,
+      final Color stroke,
+      final double width) {
+    final String f = fill == null ? "none" : getColor(fill);
+    final String s = stroke == null ? "none" : getColor(stroke);
+    sb.append(
+        format(
+            "<circle cx=\"%.2f\" cy=\"%.2f\" r=\"%.2f\" fill=\"%s\" stroke=\"%s\""
+                + " stroke-width=\"%.2f\"/>\n",
+            x,
+            y,
+            r,
+            f,
+            s,
+            width));
+  }
+
+  @Override
+  public void text(
+      final String str, final double x, final double y, final double size, final Anchor anchor) {
+    String a = "start";
+    if (anchor == Anchor.MIDDLE) {
+      a = "middle";
+    } else if (anchor == Anchor.END) {
+      a = "end";
+    }
+    sb.append(
+        format(
+            "<text x=\"%.2f\" y=\"%.2f\" font-family=\"sans-serif\" font-size=\"%.2f\""
+                + " text-anchor=\"%s\">%s</text>\n",
+            x,
+            y,
+            size,
+            a,
+            escape(str)));
+  }
+
+  @Override
+  public void clip(final double x, final double y, final double w, final double h) {
+    unclip();
+    final String id = "clip" + numClips++;
+    final String def =
+        format(
+            "<clipPath id=\"%s\"><rect x=\"%.2f\" y=\"%.2f\" width=\"%.2f\" height=\"%.2f\"/>"
+                + "</clipPath>",
+            id,
+            x,
+            y,
+            w,
+            h);
+    sb.insert(defs, def);
+    defs += def.length();
+    sb.append(format("<g clip-path=\"url(#%s)\">\n", id));
+    clipped = true;
+  }
+
+  @Override
+  public void unclip() {
+    if (clipped) {
+      sb.append("</g>\n");
+      clipped = false;
+    }
+  }
+
+  private final StringBuilder sb;
+  private int defs;
+  private int numClips;
+  private boolean clipped;
+}
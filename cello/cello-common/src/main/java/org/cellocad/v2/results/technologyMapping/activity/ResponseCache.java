@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2018 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.technologyMapping.activity;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.cellocad.v2.common.target.data.data.Gate;
+
+/**
+ * A bounded cache of gate responses keyed by the gate and its input activities. Input activities
+ * are quantized by keeping only the given number of most significant bits of their mantissa, so
+ * that nearly identical inputs share an entry. The least recently used entry is evicted once the
+ * cache is full.
+ *
+ * <p>A cache is meant to live for a whole technology mapping run and to be shared by the activity
+ * evaluations of that run. All methods are synchronized.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class ResponseCache {
+
+  /** A gate together with its quantized input activities. */
+  private static final class Key {
+
+    Key(final Gate gate, final long[] inputs) {
+      this.gate = gate;
+      this.inputs = inputs;
+      hash = 31 * System.identityHashCode(gate) + Arrays.hashCode(inputs);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      final Key other = (Key) obj;
+      return gate == other.gate && Arrays.equals(inputs, other.inputs);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    private final Gate gate;
+    private final long[] inputs;
+    private final int hash;
+  }
+
+  /**
+   * Initializes a newly created {@link ResponseCache}.
+   *
+   * @param capacity The maximum number of entries.
+   * @param mantissaBits The number of mantissa bits of each input activity that are kept, between
+   *     0 and 52. A value of 52 only matches identical inputs.
+   */
+  public ResponseCache(final int capacity, final int mantissaBits) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive.");
+    }
+    if (mantissaBits < 0 || mantissaBits > ResponseCache.I_MANTISSA_BITS) {
+      throw new IllegalArgumentException("Invalid number of mantissa bits.");
+    }
+    this.capacity = capacity;
+    this.mantissaBits = mantissaBits;
+    mask = -1L << (ResponseCache.I_MANTISSA_BITS - mantissaBits);
+    entries =
+        new LinkedHashMap<Key, Double>(16, 0.75f, true) {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<Key, Double> eldest) {
+            return size() > ResponseCache.this.capacity;
+          }
+        };
+  }
+
+  /**
+   * Initializes a newly created {@link ResponseCache} with the default capacity and quantization.
+   */
+  public ResponseCache() {
+    this(ResponseCache.I_CAPACITY, ResponseCache.I_DEFAULT_MANTISSA_BITS);
+  }
+
+  private Key getKey(final Gate gate, final double[] inputs) {
+    final long[] q = new long[inputs.length];
+    for (int i = 0; i < inputs.length; i++) {
+      q[i] = Double.doubleToLongBits(inputs[i]) & mask;
+    }
+    return new Key(gate, q);
+  }
+
+  /**
+   * Returns the cached response of the given gate to the given input activities, and counts a hit
+   * or a miss.
+   *
+   * @param gate The gate.
+   * @param inputs The input activities of the gate, ordered by structure input.
+   * @return The cached response, otherwise null.
+   */
+  public synchronized Double get(final Gate gate, final double[] inputs) {
+    final Double rtn = entries.get(getKey(gate, inputs));
+    if (rtn == null) {
+      misses++;
+    } else {
+      hits++;
+    }
+    return rtn;
+  }
+
+  /**
+   * Caches the response of the given gate to the given input activities.
+   *
+   * @param gate The gate.
+   * @param inputs The input activities of the gate, ordered by structure input.
+   * @param response The response.
+   */
+  public synchronized void put(final Gate gate, final double[] inputs, final double response) {
+    entries.put(getKey(gate, inputs), response);
+  }
+
+  /**
+   * Returns the number of entries in this instance.
+   *
+   * @return The number of entries in this instance.
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /** Removes every entry of this instance and resets the counters. */
+  public synchronized void clear() {
+    entries.clear();
+    hits = 0;
+    misses = 0;
+  }
+
+  /**
+   * Getter for {@code hits}.
+   *
+   * @return The number of lookups that found a response.
+   */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /**
+   * Getter for {@code misses}.
+   *
+   * @return The number of lookups that did not find a response.
+   */
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Returns the fraction of lookups that found a response.
+   *
+   * @return The fraction of lookups that found a response, or zero if there were no lookups.
+   */
+  public synchronized double getHitRate() {
+    final long total = hits + misses;
+    return total == 0 ? 0.0 : (double) hits / total;
+  }
+
+  /**
+   * Getter for {@code capacity}.
+   *
+   * @return The value of {@code capacity}.
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Getter for {@code mantissaBits}.
+   *
+   * @return The value of {@code mantissaBits}.
+   */
+  public int getMantissaBits() {
+    return mantissaBits;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return String.format(
+        "hits: %d, misses: %d, hit rate: %.2f, entries: %d/%d",
+        hits, misses, getHitRate(), entries.size(), capacity);
+  }
+
+  private final int capacity;
+  private final int mantissaBits;
+  private final long mask;
+  private final Map<Key, Double> entries;
+  private long hits;
+  private long misses;
+
+  private static final int I_MANTISSA_BITS = 52;
+  private static final int I_CAPACITY = 1 << 16;
+  private static final int I_DEFAULT_MANTISSA_BITS = 40;
+}
@@ -22,17 +22,25 @@ package org.cellocad.v2.results.technologyMapping.activity;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.exception.CelloException;
-import org.cellocad.v2.common.graph.algorithm.MyBFS;
+import org.cellocad.v2.common.graph.GraphSnapshot;
 import org.cellocad.v2.common.target.data.data.AssignableDevice;
 import org.cellocad.v2.common.target.data.data.EvaluationContext;
+import org.cellocad.v2.common.target.data.data.Function;
 import org.cellocad.v2.common.target.data.data.FunctionType;
-import org.cellocad.v2.common.target.data.data.Model;
-import org.cellocad.v2.common.target.data.data.Reference;
+import org.cellocad.v2.common.target.data.data.Gate;
+import org.cellocad.v2.common.target.data.data.Input;
 import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
@@ -53,6 +61,7 @@ public class TMActivityEvaluation {
   /** Initialize class members. */
   private void init() {
     activitytables = new HashMap<>();
+    order = new ArrayList<>();
   }
 
   /**
@@ -64,7 +73,24 @@ public class TMActivityEvaluation {
    */  
   public TMActivityEvaluation(final Netlist netlist, final LSLogicEvaluation lsle)
       throws CelloException {
+    this(netlist, lsle, null);
+  }
+
+  /**
+   * Initializes a newly created {@link TMActivityEvaluation} using the {@link Netlist} defined by
+   * parameter {@code netlist}. Gate responses are looked up in, and added to, the cache defined by
+   * parameter {@code cache}.
+   *
+   * @param netlist A netlist.
+   * @param lsle The logic evaluation of the netlist.
+   * @param cache The gate response cache, or null to evaluate every response.
+   * @throws CelloException Unable to initialize object.
+   */
+  public TMActivityEvaluation(
+      final Netlist netlist, final LSLogicEvaluation lsle, final ResponseCache cache)
+      throws CelloException {
     init();
+    setResponseCache(cache);
     if (!netlist.isValid()) {
       throw new RuntimeException("netlist is not valid!");
     }
@@ -81,6 +107,105 @@ public class TMActivityEvaluation {
     evaluate(netlist);
   }
 
+  /**
+   * Initializes a newly created {@link TMActivityEvaluation} by incrementally re-evaluating the
+   * activity evaluation defined by parameter {@code other} after the devices of the nodes defined
+   * by parameter {@code nodes} have changed. Only those nodes and their downstream cone are
+   * evaluated; the activity tables of all other nodes are shared with {@code other}, which is left
+   * unmodified.
+   *
+   * @param netlist A netlist.
+   * @param other The activity evaluation of the netlist before the change.
+   * @param nodes The nodes whose device or input assignment changed.
+   * @throws CelloException Unable to initialize object.
+   */
+  public TMActivityEvaluation(
+      final Netlist netlist, final TMActivityEvaluation other, final Collection<NetlistNode> nodes)
+      throws CelloException {
+    init();
+    if (!netlist.isValid()) {
+      throw new RuntimeException("netlist is not valid!");
+    }
+    setStates(other.getStates());
+    setResponseCache(other.getResponseCache());
+    getActivityTables().putAll(other.getActivityTables());
+    getOrder().addAll(other.getOrder());
+    final Set<NetlistNode> cone = getDownstreamCone(netlist, nodes);
+    final List<NetlistNode> outputNodes = new ArrayList<>();
+    for (final NetlistNode node : cone) {
+      outputNodes.clear();
+      outputNodes.add(node);
+      final ActivityTable<NetlistNode, NetlistNode> activityTable =
+          new ActivityTable<>(states, outputNodes);
+      getActivityTables().put(node, activityTable);
+    }
+    evaluate(cone);
+  }
+
+  /**
+   * Returns the nodes defined by parameter {@code nodes} together with every node reachable from
+   * them through out edges.
+   *
+   * @param nodes The nodes.
+   * @return The downstream cone of the nodes.
+   */
+  public static Set<NetlistNode> getDownstreamCone(final Collection<NetlistNode> nodes) {
+    final Set<NetlistNode> rtn = new HashSet<>();
+    final Queue<NetlistNode> q = new LinkedList<>(nodes);
+    while (!q.isEmpty()) {
+      final NetlistNode node = q.remove();
+      if (!rtn.add(node)) {
+        continue;
+      }
+      for (int i = 0; i < node.getNumOutEdge(); i++) {
+        q.add(node.getOutEdgeAtIdx(i).getDst());
+      }
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the nodes defined by parameter {@code nodes} together with every node reachable from
+   * them through out edges, walking the adjacency snapshot of the netlist defined by parameter
+   * {@code netlist}.
+   *
+   * @param netlist The netlist of the nodes.
+   * @param nodes The nodes.
+   * @return The downstream cone of the nodes.
+   */
+  public static Set<NetlistNode> getDownstreamCone(
+      final Netlist netlist, final Collection<NetlistNode> nodes) {
+    final GraphSnapshot snapshot = netlist.getSnapshot();
+    final BitSet visited = new BitSet(snapshot.getNumVertex());
+    final int[] stack = new int[snapshot.getNumVertex()];
+    int top = 0;
+    for (final NetlistNode node : nodes) {
+      final int id = node.getId();
+      if (id < 0 || netlist.getVertexAtIdx(id) != node) {
+        return getDownstreamCone(nodes);
+      }
+      if (!visited.get(id)) {
+        visited.set(id);
+        stack[top++] = id;
+      }
+    }
+    while (top > 0) {
+      final int v = stack[--top];
+      for (int i = 0; i < snapshot.getOutDegree(v); i++) {
+        final int w = snapshot.getOutNeighbor(v, i);
+        if (!visited.get(w)) {
+          visited.set(w);
+          stack[top++] = w;
+        }
+      }
+    }
+    final Set<NetlistNode> rtn = new HashSet<>();
+    for (int i = visited.nextSetBit(0); i >= 0; i = visited.nextSetBit(i + 1)) {
+      rtn.add(netlist.getVertexAtIdx(i));
+    }
+    return rtn;
+  }
+
   /**
    * Returns a List of Double representation of the input values for NetlistNode defined by
    * parameter {@code node} at the state defined by parameter {@code state}.
@@ -96,7 +221,6 @@ public class TMActivityEvaluation {
       final NetlistNode inputNode = node.getInEdgeAtIdx(i).getSrc();
       final ActivityTable<NetlistNode, NetlistNode> activityTable =
           getActivityTables().get(inputNode);
-      activityTable.getActivityOutput(state);
       final Activity<NetlistNode> outputActivity = activityTable.getActivityOutput(state);
       if (outputActivity.getNumActivityPosition() != 1) {
         throw new RuntimeException("Invalid number of output(s)!");
@@ -106,32 +230,87 @@ public class TMActivityEvaluation {
     return rtn;
   }
 
+  /**
+   * Returns the position of each in-edge of the node defined by parameter {@code node} among the
+   * inputs of the structure of the node's gate, if the response of the node may be taken from the
+   * response cache.
+   *
+   * @param node The {@link NetlistNode}.
+   * @return The structure input position of each in-edge, or null if there is no response cache,
+   *     the node is not assigned a gate, or an input of the node is not assigned to a structure
+   *     input.
+   */
+  private int[] getCacheableInputIdx(final NetlistNode node) {
+    int[] rtn = null;
+    final AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+    if (getResponseCache() == null || !(device instanceof Gate)) {
+      return rtn;
+    }
+    final List<Input> structureInputs = device.getStructure().getInputs();
+    rtn = new int[node.getNumInEdge()];
+    for (int i = 0; i < node.getNumInEdge(); i++) {
+      final NetlistEdge edge = node.getInEdgeAtIdx(i);
+      rtn[i] = structureInputs.indexOf(edge.getResultNetlistEdgeData().getInput());
+      if (rtn[i] < 0) {
+        return null;
+      }
+    }
+    return rtn;
+  }
+
+  /**
+   * Sets the activity of each input of the node defined by parameter {@code node} at the state at
+   * position {@code index}, ordered by the inputs of the structure of the node's gate.
+   *
+   * @param node The {@link NetlistNode}.
+   * @param idx The structure input position of each in-edge of the node.
+   * @param index The index of the state.
+   * @param inputs The input activities.
+   */
+  private void setCacheableInputActivity(
+      final NetlistNode node, final int[] idx, final int index, final double[] inputs) {
+    Arrays.fill(inputs, Double.NaN);
+    for (int i = 0; i < node.getNumInEdge(); i++) {
+      final NetlistNode src = node.getInEdgeAtIdx(i).getSrc();
+      inputs[idx[i]] = getActivityTable(src).getActivity(src, index);
+    }
+  }
+
   private void evaluateActivityTable(final NetlistNode node, final EvaluationContext ec)
       throws CelloException {
     ec.setNode(node);
+    final AssignableDevice device = node.getResultNetlistNodeData().getDevice();
+    final Function responseFunction =
+        device.getModel().getFunctionByName(FunctionType.S_RESPONSEFUNCTION);
     final ActivityTable<NetlistNode, NetlistNode> activityTable = getActivityTables().get(node);
+    final int[] idx = getCacheableInputIdx(node);
+    double[] inputs = null;
+    if (idx != null) {
+      inputs = new double[device.getStructure().getInputs().size()];
+    }
     for (int i = 0; i < activityTable.getNumStates(); i++) {
       final State<NetlistNode> inputState = activityTable.getStateAtIdx(i);
-      final Activity<NetlistNode> outputActivity = activityTable.getActivityOutput(inputState);
+      final Activity<NetlistNode> outputActivity = activityTable.getActivityOutputAtIdx(i);
       ec.setState(inputState);
-      if (!ec.getMemo().containsKey(inputState)) {
-        ec.getMemo().put(inputState, new HashMap<>());
+      Double cached = null;
+      if (inputs != null) {
+        setCacheableInputActivity(node, idx, i, inputs);
+        cached = getResponseCache().get((Gate) device, inputs);
+      }
+      double result = 0.0;
+      if (cached != null) {
+        result = cached;
+      } else {
+        result = responseFunction.evaluateDouble(ec);
+        if (inputs != null) {
+          getResponseCache().put((Gate) device, inputs, result);
+        }
       }
-      final Double result =
-          node.getResultNetlistNodeData()
-              .getDevice()
-              .getModel()
-              .getFunctionByName(FunctionType.S_RESPONSEFUNCTION)
-              .evaluate(ec)
-              .doubleValue();
-      ec.getMemo().get(inputState).put(String.format("%s%s%s%s%s%s%s", node.getName(), Reference.S_DELIM, AssignableDevice.S_MODEL, Reference.S_DELIM, Model.S_FUNCTIONS, Reference.S_DELIM, FunctionType.S_RESPONSEFUNCTION), result);
+      ec.putMemo(node, responseFunction, result);
       if (outputActivity.getNumActivityPosition() != 1) {
         throw new RuntimeException("Invalid number of output(s)!");
       }
-      Utils.isNullRuntimeException(result, "result");
-      if (!outputActivity.setActivity(node, result)) {
-        throw new RuntimeException("Node does not exist");
-      }
+      activityTable.setActivity(node, i, result);
     }
   }
 
@@ -142,20 +321,80 @@ public class TMActivityEvaluation {
    * @throws CelloException Unable to evaluate activity.
    */
   protected void evaluate(final Netlist netlist) throws CelloException {
-    final MyBFS<NetlistNode, NetlistEdge, Netlist> BFS = new MyBFS<>(netlist);
-    NetlistNode node = null;
     final EvaluationContext ec = new EvaluationContext();
-    node = BFS.getNextVertex();
-    while (node != null) {
+    for (final NetlistNode node : netlist.getTopologicalOrder()) {
+      getOrder().add(node);
       evaluateActivityTable(node, ec);
-      node = BFS.getNextVertex();
     }
   }
 
+  /**
+   * Evaluates the activity of the nodes defined by parameter {@code nodes}, in the order of the
+   * initial evaluation. The response of every input of these nodes that is not itself being
+   * evaluated is taken from the existing activity tables.
+   *
+   * @param nodes The nodes to evaluate.
+   * @throws CelloException Unable to evaluate activity.
+   */
+  protected void evaluate(final Set<NetlistNode> nodes) throws CelloException {
+    final EvaluationContext ec = new EvaluationContext();
+    for (final NetlistNode node : nodes) {
+      for (int i = 0; i < node.getNumInEdge(); i++) {
+        final NetlistNode src = node.getInEdgeAtIdx(i).getSrc();
+        if (nodes.contains(src)) {
+          continue;
+        }
+        final ActivityTable<NetlistNode, NetlistNode> activityTable = getActivityTable(src);
+        final Function responseFunction =
+            src.getResultNetlistNodeData()
+                .getDevice()
+                .getModel()
+                .getFunctionByName(FunctionType.S_RESPONSEFUNCTION);
+        for (int j = 0; j < activityTable.getNumStates(); j++) {
+          final State<NetlistNode> state = activityTable.getStateAtIdx(j);
+          ec.putMemo(
+              src, responseFunction, (int) state.getValue(), activityTable.getActivity(src, j));
+        }
+      }
+    }
+    for (final NetlistNode node : getOrder()) {
+      if (nodes.contains(node)) {
+        evaluateActivityTable(node, ec);
+      }
+    }
+  }
+
+  /**
+   * Getter for {@code responseCache}.
+   *
+   * @return The value of {@code responseCache}.
+   */
+  public ResponseCache getResponseCache() {
+    return responseCache;
+  }
+
+  /**
+   * Setter for {@code responseCache}.
+   *
+   * @param responseCache The value to set {@code responseCache}.
+   */
+  protected void setResponseCache(final ResponseCache responseCache) {
+    this.responseCache = responseCache;
+  }
+
   protected Map<NetlistNode, ActivityTable<NetlistNode, NetlistNode>> getActivityTables() {
     return activitytables;
   }
 
+  /**
+   * Getter for {@code order}.
+   *
+   * @return The order in which the nodes are evaluated.
+   */
+  protected List<NetlistNode> getOrder() {
+    return order;
+  }
+
   /**
    * Setter for {@code states}.
    *
@@ -234,5 +473,7 @@ public class TMActivityEvaluation {
   private static final String S_HEADER = "--------------------------------------------";
 
   private Map<NetlistNode, ActivityTable<NetlistNode, NetlistNode>> activitytables;
+  private List<NetlistNode> order;
   private States<NetlistNode> states;
+  private ResponseCache responseCache;
 }
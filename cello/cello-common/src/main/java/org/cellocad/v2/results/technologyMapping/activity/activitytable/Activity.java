@@ -20,26 +20,37 @@
 package org.cellocad.v2.results.technologyMapping.activity.activitytable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import org.cellocad.v2.common.CObject;
-import org.cellocad.v2.common.Pair;
 
 /**
  * The activity of a netlist used within the <i>SimulatedAnnealing</i> algorithm of the
  * <i>technologyMapping</i> stage.
  *
+ * <p>The activity values are not held by this instance but by a {@code double[]} per node, indexed
+ * by state, that may be shared with other instances. An instance created by an {@link
+ * ActivityTable} is a view of one state of the table.
+ *
  * @param <T> The object type with which the activity is associated.
  * @author Timothy Jones
  * @date 2018-05-22
  */
 public class Activity<T> extends CObject {
 
-  /** Initialize class members. */
-  private void init() {
-    activityEntry = new ArrayList<>();
-    activityEntryMap = new HashMap<>();
+  /**
+   * Initializes a newly created {@link Activity} with the list of types defined by parameter {@code
+   * nodes} whose values are held at position {@code index} of the arrays defined by parameter
+   * {@code values}.
+   *
+   * @param nodes The List of types.
+   * @param values The values of each type, indexed by state.
+   * @param index The index of the state of this instance.
+   */
+  Activity(final List<T> nodes, final double[][] values, final int index) {
+    this.nodes = nodes;
+    this.values = values;
+    this.index = index;
   }
 
   /**
@@ -50,12 +61,9 @@ public class Activity<T> extends CObject {
    * @param value The value.
    */
   public Activity(final List<T> nodes, final double value) {
-    this.init();
-    for (int i = 0; i < nodes.size(); i++) {
-      final T node = nodes.get(i);
-      final Pair<T, Double> pair = new Pair<>(node, value);
-      this.getActivity().add(pair);
-      this.getActivityMap().put(node, value);
+    this(new ArrayList<>(nodes), new double[nodes.size()][1], 0);
+    for (final double[] v : values) {
+      Arrays.fill(v, value);
     }
   }
 
@@ -69,18 +77,32 @@ public class Activity<T> extends CObject {
     this(nodes, 0.0);
   }
 
-  /*
-   * Activity
-   */
   /**
-   * Getter for {@code activityEntry}.
+   * Returns the position of the given node in the given list. Nodes are compared by identity first,
+   * then by equality.
    *
-   * @return The value of {@code activityEntry}.
+   * @param <T> The node type.
+   * @param nodes The list of nodes.
+   * @param node The node.
+   * @return The position of the given node in the list, otherwise -1.
    */
-  protected List<Pair<T, Double>> getActivity() {
-    return activityEntry;
+  static <T> int getNodeIdx(final List<T> nodes, final T node) {
+    int rtn = -1;
+    for (int i = 0; i < nodes.size(); i++) {
+      if (nodes.get(i) == node) {
+        rtn = i;
+        break;
+      }
+    }
+    if (rtn < 0) {
+      rtn = nodes.indexOf(node);
+    }
+    return rtn;
   }
 
+  /*
+   * Activity
+   */
   /**
    * Returns the activity of the given node.
    *
@@ -88,45 +110,20 @@ public class Activity<T> extends CObject {
    */
   public Double getActivity(final T node) {
     Double rtn = null;
-    rtn = this.getActivityMap().get(node);
-    return rtn;
-  }
-
-  /**
-   * Returns the {@link Pair} object at the specified position in this instance.
-   *
-   * @param index The index of the {@link Pair} object to return.
-   * @return If the index is within the bounds {@code (0 <= bounds <
-   *     this.getNumActivityPosition())}, returns the {@link Pair} object at the specified position
-   *     in this instance, otherwise null.
-   */
-  protected Pair<T, Double> getActivityPositionAtIdx(final int index) {
-    Pair<T, Double> rtn = null;
-    if (0 <= index && index < this.getNumActivityPosition()) {
-      rtn = this.getActivity().get(index);
+    final int i = Activity.getNodeIdx(nodes, node);
+    if (i >= 0) {
+      rtn = values[i][index];
     }
     return rtn;
   }
 
   /**
-   * Returns the number of {@link Pair} objects in this instance.
+   * Returns the number of nodes in this instance.
    *
-   * @return The number of {@link Pair} objects in this instance.
+   * @return The number of nodes in this instance.
    */
   public int getNumActivityPosition() {
-    return this.getActivity().size();
-  }
-
-  /*
-   * ActivityMap
-   */
-  /**
-   * Getter for {@code activityEntryMap}.
-   *
-   * @return The value of {@link activityEntryMap}.
-   */
-  protected Map<T, Double> getActivityMap() {
-    return activityEntryMap;
+    return nodes.size();
   }
 
   /**
@@ -139,17 +136,15 @@ public class Activity<T> extends CObject {
    */
   public boolean setActivity(final T node, final Double value) {
     boolean rtn = false;
-    for (int i = 0; i < this.getNumActivityPosition(); i++) {
-      final Pair<T, Double> position = this.getActivityPositionAtIdx(i);
-      if (position.getFirst().equals(node)) {
-        position.setSecond(value);
-        this.getActivityMap().put(node, value);
-        rtn = true;
-      }
+    final int i = Activity.getNodeIdx(nodes, node);
+    if (i >= 0) {
+      values[i][index] = value;
+      rtn = true;
     }
     return rtn;
   }
 
-  private List<Pair<T, Double>> activityEntry;
-  private Map<T, Double> activityEntryMap;
+  private final List<T> nodes;
+  private final double[][] values;
+  private final int index;
 }
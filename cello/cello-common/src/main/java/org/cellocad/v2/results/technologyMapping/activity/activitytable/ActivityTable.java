@@ -20,15 +20,17 @@
 package org.cellocad.v2.results.technologyMapping.activity.activitytable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
 
 /**
  * The ActivityTable class represents a mapping between node state and node activity.
  *
+ * <p>The activity of each output is stored in a {@code double[]} indexed by the position of the
+ * input state in this instance. The {@link Activity} objects returned by {@link
+ * #getActivityOutput(State)} are views of that storage.
+ *
  * @param Input input type index.
  * @param Output output type index.
  * @author Timothy Jones
@@ -37,9 +39,11 @@ import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
 public class ActivityTable<InputT, OutputT> {
 
   /** Initialize class members. */
-  private void init() {
-    activityTableMap = new HashMap<>();
-    states = new ArrayList<>();
+  private void init(final List<OutputT> outputs, final int numStates) {
+    this.outputs = new ArrayList<>(outputs);
+    activities = new double[outputs.size()][numStates];
+    activityOutputs = new ArrayList<>(numStates);
+    states = new ArrayList<>(numStates);
   }
 
   /**
@@ -50,11 +54,11 @@ public class ActivityTable<InputT, OutputT> {
    * @param outputs The List of outputs.
    */
   public ActivityTable(final List<State<InputT>> inputs, final List<OutputT> outputs) {
-    init();
+    init(outputs, inputs.size());
     for (int i = 0; i < inputs.size(); i++) {
       final State<InputT> InputActivity = inputs.get(i);
-      final Activity<OutputT> OutputActivity = new Activity<>(outputs);
-      this.getActivityTableMap().put(InputActivity, OutputActivity);
+      final Activity<OutputT> OutputActivity = new Activity<>(this.outputs, activities, i);
+      this.getActivityOutputs().add(OutputActivity);
       this.getStates().add(InputActivity);
     }
   }
@@ -67,25 +71,25 @@ public class ActivityTable<InputT, OutputT> {
    * @param outputs The List of outputs.
    */
   public ActivityTable(final States<InputT> states, final List<OutputT> outputs) {
-    init();
+    init(outputs, states.getNumStates());
     for (int i = 0; i < states.getNumStates(); i++) {
       final State<InputT> InputState = states.getStateAtIdx(i);
-      final Activity<OutputT> OutputActivity = new Activity<>(outputs);
-      this.getActivityTableMap().put(InputState, OutputActivity);
+      final Activity<OutputT> OutputActivity = new Activity<>(this.outputs, activities, i);
+      this.getActivityOutputs().add(OutputActivity);
       this.getStates().add(InputState);
     }
   }
 
   /*
-   * ActivityMap
+   * ActivityOutputs
    */
   /**
-   * Getter for {@code activityTableMap}.
+   * Getter for {@code activityOutputs}.
    *
-   * @return The activityTableMap of this instance.
+   * @return The activityOutputs of this instance.
    */
-  protected Map<State<InputT>, Activity<OutputT>> getActivityTableMap() {
-    return activityTableMap;
+  protected List<Activity<OutputT>> getActivityOutputs() {
+    return activityOutputs;
   }
 
   /**
@@ -104,11 +108,69 @@ public class ActivityTable<InputT, OutputT> {
    *     null.
    */
   public Activity<OutputT> getActivityOutput(final State<InputT> state) {
+    return this.getActivityOutputAtIdx(this.getStateIdx(state));
+  }
+
+  /**
+   * Returns the output activity for the input state at the specified position in this instance.
+   *
+   * @param index The index of the input state.
+   * @return If the index is within the bounds (0 <= bounds < this.getNumStates()), returns the
+   *     output activity for the input state at the specified position in this instance, otherwise
+   *     null.
+   */
+  public Activity<OutputT> getActivityOutputAtIdx(final int index) {
     Activity<OutputT> rtn = null;
-    rtn = this.getActivityTableMap().get(state);
+    if (0 <= index && index < this.getNumStates()) {
+      rtn = this.getActivityOutputs().get(index);
+    }
     return rtn;
   }
 
+  /**
+   * Returns the activity of the output defined by parameter {@code output} for the input state at
+   * the specified position in this instance.
+   *
+   * @param output The output.
+   * @param index The index of the input state.
+   * @return The activity.
+   * @throws IllegalArgumentException The output does not exist in this instance.
+   */
+  public double getActivity(final OutputT output, final int index) {
+    return activities[this.getOutputIdx(output)][index];
+  }
+
+  /**
+   * Assigns the activity of the output defined by parameter {@code output} for the input state at
+   * the specified position in this instance.
+   *
+   * @param output The output.
+   * @param index The index of the input state.
+   * @param value The activity.
+   * @throws IllegalArgumentException The output does not exist in this instance.
+   */
+  public void setActivity(final OutputT output, final int index, final double value) {
+    activities[this.getOutputIdx(output)][index] = value;
+  }
+
+  private int getOutputIdx(final OutputT output) {
+    final int rtn = Activity.getNodeIdx(outputs, output);
+    if (rtn < 0) {
+      throw new IllegalArgumentException("Output does not exist.");
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the position of the state defined by parameter {@code state} in this instance.
+   *
+   * @param state The input state.
+   * @return The position of the state in this instance, otherwise -1.
+   */
+  public int getStateIdx(final State<InputT> state) {
+    return State.getStateIdx(this.getStates(), state);
+  }
+
   /**
    * Returns the State<Input> at the specified position in this instance.
    *
@@ -134,5 +196,7 @@ public class ActivityTable<InputT, OutputT> {
   }
 
   List<State<InputT>> states;
-  Map<State<InputT>, Activity<OutputT>> activityTableMap;
+  List<Activity<OutputT>> activityOutputs;
+  private List<OutputT> outputs;
+  private double[][] activities;
 }
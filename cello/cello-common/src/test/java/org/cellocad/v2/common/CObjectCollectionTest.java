@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Iterator;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CObjectCollection}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class CObjectCollectionTest {
+
+  private static CObject cobject(final String name) {
+    final CObject rtn = new CObject();
+    rtn.setName(name);
+    return rtn;
+  }
+
+  /** Populates a collection large enough to be indexed by name. */
+  @Before
+  public void init() {
+    collection = new CObjectCollection<>();
+    for (int i = 0; i < 16; i++) {
+      collection.add(cobject("c" + i));
+    }
+  }
+
+  @Test
+  public void findCObjectByName_Present_ShouldReturnElement() {
+    assertSame(collection.get(5), collection.findCObjectByName("c5"));
+    assertNull(collection.findCObjectByName("missing"));
+  }
+
+  @Test
+  public void findCObjectByName_Duplicate_ShouldReturnFirstOccurrence() {
+    final CObject first = collection.get(3);
+    collection.add(cobject("c3"));
+    assertSame(first, collection.findCObjectByName("c3"));
+  }
+
+  @Test
+  public void findCObjectByName_AfterRemove_ShouldNotReturnRemoved() {
+    collection.findCObjectByName("c0");
+    collection.remove(7);
+    assertNull(collection.findCObjectByName("c7"));
+    final Iterator<CObject> it = collection.iterator();
+    it.next();
+    it.remove();
+    assertNull(collection.findCObjectByName("c0"));
+  }
+
+  @Test
+  public void findCObjectByName_AfterRename_ShouldReturnElementByNewName() {
+    collection.findCObjectByName("c0");
+    collection.get(2).setName("renamed");
+    assertSame(collection.get(2), collection.findCObjectByName("renamed"));
+    assertNull(collection.findCObjectByName("c2"));
+  }
+
+  @Test
+  public void findCObjectByName_RenamedToLaterName_ShouldReturnFirstOccurrence() {
+    collection.findCObjectByName("c0");
+    final CObject renamed = collection.get(2);
+    renamed.setName("c5");
+    assertSame(renamed, collection.findCObjectByName("c5"));
+    renamed.setName("c2");
+    assertSame(collection.get(5), collection.findCObjectByName("c5"));
+  }
+
+  @Test
+  public void findCObjectByName_RenamedInOtherCollection_ShouldReturnFirstOccurrence() {
+    final CObjectCollection<CObject> other = new CObjectCollection<>();
+    other.addAll(collection);
+    other.findCObjectByName("c0");
+    collection.findCObjectByName("c0");
+    collection.get(3).setName("c9");
+    assertSame(collection.get(3), collection.findCObjectByName("c9"));
+    assertSame(other.get(3), other.findCObjectByName("c9"));
+  }
+
+  @Test
+  public void findCObjectByName_AfterInsert_ShouldReturnInserted() {
+    collection.findCObjectByName("c0");
+    final CObject inserted = cobject("c4");
+    collection.add(0, inserted);
+    assertSame(inserted, collection.findCObjectByName("c4"));
+  }
+
+  private CObjectCollection<CObject> collection;
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
+import org.cellocad.v2.common.graph.graph.Edge;
+import org.cellocad.v2.common.graph.graph.Graph;
+import org.cellocad.v2.common.graph.graph.Vertex;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link AbstractGraph}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class AbstractGraphTest {
+
+  private static Vertex vertex(final Graph g, final String name, final VertexType type) {
+    final Vertex rtn = new Vertex();
+    rtn.setName(name);
+    rtn.setVertexType(type);
+    g.addVertex(rtn);
+    return rtn;
+  }
+
+  private static Edge connect(final Graph g, final Vertex src, final Vertex dst) {
+    final Edge rtn = new Edge(src, dst);
+    src.addOutEdge(rtn);
+    dst.addInEdge(rtn);
+    g.addEdge(rtn);
+    return rtn;
+  }
+
+  private static void assertTopological(final List<Vertex> order) {
+    for (int i = 0; i < order.size(); i++) {
+      final Vertex v = order.get(i);
+      for (int j = 0; j < v.getNumInEdge(); j++) {
+        final Vertex src = v.getInEdgeAtIdx(j).getSrc();
+        assertTrue(order.indexOf(src) < i);
+      }
+    }
+  }
+
+  /** Builds a diamond with its vertices added sink first. */
+  @Before
+  public void init() {
+    graph = new Graph();
+    sink = vertex(graph, "t", VertexType.SINK);
+    b = vertex(graph, "b", VertexType.NONE);
+    a = vertex(graph, "a", VertexType.NONE);
+    source = vertex(graph, "s", VertexType.SOURCE);
+    connect(graph, source, a);
+    connect(graph, source, b);
+    connect(graph, a, sink);
+    connect(graph, b, sink);
+  }
+
+  @Test
+  public void getTopologicalOrder_Diamond_ShouldOrderSourcesFirst() {
+    final List<Vertex> order = graph.getTopologicalOrder();
+    assertEquals(4, order.size());
+    assertSame(source, order.get(0));
+    assertSame(sink, order.get(3));
+    assertTopological(order);
+  }
+
+  @Test
+  public void getTopologicalOrder_Unchanged_ShouldReturnCachedOrder() {
+    assertSame(graph.getTopologicalOrder(), graph.getTopologicalOrder());
+  }
+
+  @Test
+  public void getTopologicalOrder_EdgeAdded_ShouldRecompute() {
+    final List<Vertex> before = graph.getTopologicalOrder();
+    connect(graph, a, b);
+    final List<Vertex> after = graph.getTopologicalOrder();
+    assertNotSame(before, after);
+    assertTrue(after.indexOf(a) < after.indexOf(b));
+    assertTopological(after);
+  }
+
+  @Test
+  public void getTopologicalOrder_OtherGraphChanged_ShouldReturnCachedOrder() {
+    final List<Vertex> order = graph.getTopologicalOrder();
+    final Graph other = new Graph();
+    final Vertex src = vertex(other, "s", VertexType.SOURCE);
+    final Vertex dst = vertex(other, "t", VertexType.SINK);
+    final List<Vertex> otherOrder = other.getTopologicalOrder();
+    connect(other, src, dst);
+    dst.setVertexType(VertexType.NONE);
+    other.removeVertex(dst);
+    assertSame(order, graph.getTopologicalOrder());
+    assertNotSame(otherOrder, other.getTopologicalOrder());
+  }
+
+  @Test
+  public void getTopologicalOrder_VertexTypeChanged_ShouldRecompute() {
+    final List<Vertex> before = graph.getTopologicalOrder();
+    a.setVertexType(VertexType.SINK);
+    assertNotSame(before, graph.getTopologicalOrder());
+  }
+
+  @Test
+  public void getTopologicalOrder_DeadEnd_ShouldSkipVertex() {
+    final Vertex d = vertex(graph, "d", VertexType.NONE);
+    connect(graph, a, d);
+    assertFalse(graph.getTopologicalOrder().contains(d));
+  }
+
+  @Test
+  public void getTopologicalOrder_Cycle_ShouldContainEveryVertex() {
+    connect(graph, sink, a);
+    final List<Vertex> order = graph.getTopologicalOrder();
+    assertEquals(4, order.size());
+    assertSame(source, order.get(0));
+  }
+
+  @Test
+  public void addVertex_Diamond_ShouldNumberVerticesByPosition() {
+    for (int i = 0; i < graph.getNumVertex(); i++) {
+      assertEquals(i, graph.getVertexAtIdx(i).getId());
+    }
+    graph.removeVertex(b);
+    assertEquals(-1, b.getId());
+    for (int i = 0; i < graph.getNumVertex(); i++) {
+      assertEquals(i, graph.getVertexAtIdx(i).getId());
+    }
+  }
+
+  @Test
+  public void getSnapshot_Diamond_ShouldHoldAdjacency() {
+    final GraphSnapshot snapshot = graph.getSnapshot();
+    assertSame(snapshot, graph.getSnapshot());
+    assertEquals(4, snapshot.getNumVertex());
+    assertEquals(4, snapshot.getNumEdge());
+    assertEquals(source.getId(), snapshot.getVertexId("s"));
+    assertEquals(-1, snapshot.getVertexId("x"));
+    assertEquals(2, snapshot.getOutDegree(source.getId()));
+    assertEquals(0, snapshot.getOutDegree(sink.getId()));
+    assertEquals(2, snapshot.getInDegree(sink.getId()));
+    assertEquals(a.getId(), snapshot.getOutNeighbor(source.getId(), 0));
+    assertEquals(b.getId(), snapshot.getOutNeighbor(source.getId(), 1));
+    assertEquals(source.getId(), snapshot.getInNeighbor(a.getId(), 0));
+    final int[] order = snapshot.getTopologicalOrder();
+    assertEquals(source.getId(), order[0]);
+    assertEquals(sink.getId(), order[3]);
+  }
+
+  @Test
+  public void getSnapshot_OtherGraphChanged_ShouldReturnCachedSnapshot() {
+    final GraphSnapshot snapshot = graph.getSnapshot();
+    final Graph other = new Graph();
+    final Vertex src = vertex(other, "s", VertexType.SOURCE);
+    final Vertex dst = vertex(other, "t", VertexType.SINK);
+    final GraphSnapshot otherSnapshot = other.getSnapshot();
+    connect(other, src, dst);
+    assertSame(snapshot, graph.getSnapshot());
+    assertNotSame(otherSnapshot, other.getSnapshot());
+    assertEquals(1, other.getSnapshot().getNumEdge());
+  }
+
+  private Graph graph;
+  private Vertex source;
+  private Vertex a;
+  private Vertex b;
+  private Vertex sink;
+}
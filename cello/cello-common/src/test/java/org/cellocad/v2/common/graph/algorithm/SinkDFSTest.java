@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.graph.algorithm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.cellocad.v2.common.graph.AbstractVertex.VertexDiscovery;
+import org.cellocad.v2.common.graph.AbstractVertex.VertexType;
+import org.cellocad.v2.common.graph.graph.Edge;
+import org.cellocad.v2.common.graph.graph.Graph;
+import org.cellocad.v2.common.graph.graph.Vertex;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SinkDFS}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class SinkDFSTest {
+
+  private Vertex vertex(final String name, final VertexType type) {
+    final Vertex rtn = new Vertex();
+    rtn.setName(name);
+    rtn.setVertexType(type);
+    graph.addVertex(rtn);
+    return rtn;
+  }
+
+  private void connect(final Vertex src, final Vertex dst) {
+    final Edge e = new Edge(src, dst);
+    src.addOutEdge(e);
+    dst.addInEdge(e);
+    graph.addEdge(e);
+  }
+
+  /** Builds a two-level tree rooted at a sink. */
+  @Before
+  public void init() {
+    graph = new Graph();
+    final Vertex t = vertex("t", VertexType.SINK);
+    final Vertex a = vertex("a", VertexType.NONE);
+    final Vertex b = vertex("b", VertexType.NONE);
+    final Vertex s = vertex("s", VertexType.SOURCE);
+    connect(a, t);
+    connect(b, t);
+    connect(s, a);
+  }
+
+  @Test
+  public void getNextVertex_Tree_ShouldReturnDiscoveryOrderReversed() {
+    final SinkDFS<Vertex, Edge, Graph> dfs = new SinkDFS<>(graph);
+    final List<String> names = new ArrayList<>();
+    Vertex v = null;
+    while ((v = dfs.getNextVertex()) != null) {
+      names.add(v.getName());
+    }
+    // discovered t, a, b, then s from a
+    final List<String> expected = new ArrayList<>();
+    expected.add("s");
+    expected.add("b");
+    expected.add("a");
+    expected.add("t");
+    assertEquals(expected, names);
+  }
+
+  @Test
+  public void iterator_AfterGetNextVertex_ShouldReturnEveryVertex() {
+    final SinkDFS<Vertex, Edge, Graph> dfs = new SinkDFS<>(graph);
+    dfs.getNextVertex();
+    assertEquals(4, dfs.stream().count());
+    assertEquals(
+        dfs.stream().map(Vertex::getName).collect(Collectors.toList()),
+        new SinkDFS<Vertex, Edge, Graph>(graph)
+            .stream()
+            .map(Vertex::getName)
+            .collect(Collectors.toList()));
+  }
+
+  @Test
+  public void setGraph_Tree_ShouldNotModifyVertices() {
+    for (int i = 0; i < graph.getNumVertex(); i++) {
+      graph.getVertexAtIdx(i).setVertexDiscovery(VertexDiscovery.UNVISITED);
+    }
+    new SinkDFS<Vertex, Edge, Graph>(graph);
+    for (int i = 0; i < graph.getNumVertex(); i++) {
+      assertSame(VertexDiscovery.UNVISITED, graph.getVertexAtIdx(i).getVertexDiscovery());
+    }
+  }
+
+  private Graph graph;
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.cellocad.v2.common.Utils;
+import org.json.simple.JSONArray;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link TargetDataCache}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class TargetDataCacheTest {
+
+  private static File getTempFile(final String suffix) throws IOException {
+    final File rtn = File.createTempFile("cello_", suffix);
+    rtn.deleteOnExit();
+    return rtn;
+  }
+
+  @Test
+  public void read_WrittenUcf_ShouldEqualParsedUcf() throws IOException, ParseException {
+    final String str = Utils.getResourceAsString("lib/ucf/Bth/Bth1C1G1T1.UCF.json");
+    final JSONArray json = (JSONArray) new JSONParser().parse(str);
+    final File file = getTempFile(".bin");
+    TargetDataCache.write(file, json);
+    assertEquals(json, TargetDataCache.read(file));
+  }
+
+  @Test
+  public void getKey_ChangedFile_ShouldChange() throws IOException {
+    final File file = getTempFile(".json");
+    Files.write(file.toPath(), "[]".getBytes(StandardCharsets.UTF_8));
+    final String key = TargetDataCache.getKey(file.getPath());
+    assertEquals(key, TargetDataCache.getKey(file.getPath()));
+    Files.write(file.toPath(), "[{}]".getBytes(StandardCharsets.UTF_8));
+    assertNotEquals(key, TargetDataCache.getKey(file.getPath()));
+  }
+}
@@ -19,6 +19,9 @@
 
 package org.cellocad.v2.common.target.data;
 
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
 import java.io.IOException;
 import java.util.Collection;
 import org.cellocad.v2.common.Utils;
@@ -56,7 +59,7 @@ public class TargetDataInstanceTest {
     jsonTop.addAll((Collection<Object>) parser.parse(str));
     str = Utils.getResourceAsString("lib/output/Bth/Bth1C1G1T1.output.json");
     jsonTop.addAll((Collection<Object>) parser.parse(str));
-    TargetData td = new TargetData(jsonTop);
+    td = new TargetData(jsonTop);
     tdi = new TargetDataInstance(td);
   }
 
@@ -80,5 +83,20 @@ public class TargetDataInstanceTest {
     assert (tdi.getOutputDevices().size() == 1);
   }
 
+  @Test
+  public void new_SameTargetData_ShouldShareObjects() throws CelloException {
+    final TargetDataInstance other = new TargetDataInstance(td);
+    assertSame(tdi.getGates(), other.getGates());
+    assertSame(tdi.getParts(), other.getParts());
+  }
+
+  @Test
+  public void create_SameTargetData_ShouldNotShareObjects() throws CelloException {
+    final TargetDataInstance other = TargetDataInstance.create(td);
+    assertNotSame(tdi.getGates(), other.getGates());
+    assert (other.getGates().size() == tdi.getGates().size());
+  }
+
+  private static TargetData td;
   private static TargetDataInstance tdi;
 }
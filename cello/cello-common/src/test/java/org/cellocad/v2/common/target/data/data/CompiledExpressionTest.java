@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import org.cellocad.v2.common.exception.CelloException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CompiledExpression}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class CompiledExpressionTest {
+
+  @Test
+  public void evaluate_HillResponse_ShouldBeWithinTolerance() throws CelloException {
+    List<String> arguments = Arrays.asList("_ymax", "_ymin", "_K", "_n", "x");
+    CompiledExpression expr =
+        CompiledExpression.compile("_ymin + (_ymax - _ymin) / (1.0 + (x / _K)^_n)", arguments);
+    double[] args = {3.9, 0.007, 0.03, 2.4, 0.1};
+    double expected = 0.007 + (3.9 - 0.007) / (1.0 + Math.pow(0.1 / 0.03, 2.4));
+    assertEquals(expected, expr.evaluate(args), TOLERANCE);
+  }
+
+  @Test
+  public void evaluate_OperatorPrecedence_ShouldMatchConvention() throws CelloException {
+    List<String> arguments = Arrays.asList("a");
+    CompiledExpression expr = CompiledExpression.compile("-a^2 + 2^3^2 - 8/4/2 + 1.5e1", arguments);
+    assertEquals(-9.0 + 512.0 - 1.0 + 15.0, expr.evaluate(new double[] {3.0}), TOLERANCE);
+  }
+
+  @Test
+  public void evaluate_Functions_ShouldBeWithinTolerance() throws CelloException {
+    List<String> arguments = Arrays.asList("_STATE");
+    CompiledExpression expr =
+        CompiledExpression.compile(
+            "exp(ln(2)) * max(_STATE, 0.5) + min(abs(-1), sqrt(4))", arguments);
+    assertEquals(3.0, expr.evaluate(new double[] {1.0}), TOLERANCE);
+  }
+
+  @Test(expected = CelloException.class)
+  public void compile_UnknownArgument_ShouldThrow() throws CelloException {
+    CompiledExpression.compile("a + b", Arrays.asList("a"));
+  }
+
+  @Test(expected = CelloException.class)
+  public void compile_UnsupportedSyntax_ShouldThrow() throws CelloException {
+    CompiledExpression.compile("if(a > 1, a, 1)", Arrays.asList("a"));
+  }
+
+  private static final double TOLERANCE = 1e-12;
+}
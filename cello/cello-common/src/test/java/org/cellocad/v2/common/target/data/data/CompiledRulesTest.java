@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.common.target.data.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.cellocad.v2.common.exception.CelloException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CompiledRules}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class CompiledRulesTest {
+
+  private static final List<String> SYMBOLS = Arrays.asList("L1", "L2", "A", "B", "C");
+
+  private static TerminalRuleTreeNode getTerminal(
+      final RuleTreeFunction function, final String... rules) {
+    final TerminalRuleTreeNode rtn = new TerminalRuleTreeNode();
+    rtn.setFunction(function);
+    rtn.setRules(new ArrayList<>(Arrays.asList(rules)));
+    return rtn;
+  }
+
+  private static RuleTree getTree() {
+    final List<RuleTreeNode> children = new ArrayList<>();
+    children.add(getTerminal(RuleTreeFunction.AND, "STARTSWITH L1", "A BEFORE L2"));
+    children.add(getTerminal(RuleTreeFunction.OR, "B NEXTTO C", "[4] EQUALS B"));
+    final ParentRuleTreeNode root = new ParentRuleTreeNode();
+    root.setFunction(RuleTreeFunction.AND);
+    root.setChildren(children);
+    final RuleTree rtn = new RuleTree();
+    rtn.setRoot(root);
+    return rtn;
+  }
+
+  @Test
+  public void isSatisfied_ValidAndInvalidSequences_ShouldEvaluateRules() throws CelloException {
+    final CompiledRules rules = CompiledRules.compile(getTree(), SYMBOLS);
+    assertTrue(rules.isSatisfied(new int[] {0, 2, 1, 3, 4}));
+    assertTrue(rules.isSatisfied(new int[] {0, 2, 4, 1, 3}));
+    assertFalse(rules.isSatisfied(new int[] {0, 1, 2, 3, 4}));
+    assertFalse(rules.isSatisfied(new int[] {2, 0, 1, 3, 4}));
+    assertFalse(rules.isSatisfied(new int[] {0, 2, 3, 1, 4}));
+  }
+
+  @Test
+  public void evaluate_ViolatedPrefix_ShouldReturnFalse() throws CelloException {
+    final CompiledRules rules = CompiledRules.compile(getTree(), SYMBOLS);
+    final int[] tot = {1, 1, 1, 1, 1};
+    // L1 L2 leaves A after L2
+    assertEquals(
+        CompiledRules.FALSE,
+        rules.evaluate(new int[] {0, 1, -1, -1, -1}, 2, new int[] {0, 0, 1, 1, 1}, tot));
+    assertEquals(
+        CompiledRules.UNKNOWN,
+        rules.evaluate(new int[] {0, 2, -1, -1, -1}, 2, new int[] {0, 1, 0, 1, 1}, tot));
+  }
+
+  @Test
+  public void isPlaceable_Prefix_ShouldTestNextSymbol() throws CelloException {
+    final CompiledRules rules = CompiledRules.compile(getTree(), SYMBOLS);
+    final int[] seq = {0, -1, -1, -1, -1};
+    final int[] rem = {0, 1, 1, 1, 1};
+    final int[] tot = {1, 1, 1, 1, 1};
+    assertTrue(rules.isPlaceable(seq, 1, 2, rem, tot));
+    assertFalse(rules.isPlaceable(seq, 1, 1, rem, tot));
+    assertFalse(rules.isPlaceable(seq, 1, 0, rem, tot));
+    assertTrue(Arrays.equals(new int[] {0, -1, -1, -1, -1}, seq));
+    assertTrue(Arrays.equals(new int[] {0, 1, 1, 1, 1}, rem));
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cellocad.v2.common.target.data.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.junit.Test;
+
+/**
+ * Tests for {@link EvaluationContext}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class EvaluationContextTest {
+
+  @Test
+  public void parse_InputFunctionReference_ShouldSplitPath() throws CelloException {
+    String[] path = EvaluationContext.parse("#//structure/inputs/x/model/functions/f");
+    String[] expected = {"structure", "inputs", "x", "model", "functions", "f"};
+    assertArrayEquals(expected, path);
+  }
+
+  @Test(expected = CelloException.class)
+  public void parse_MissingReferenceCharacter_ShouldThrow() throws CelloException {
+    EvaluationContext.parse("structure/inputs/x");
+  }
+
+  @Test(expected = CelloException.class)
+  public void parse_RelativeReference_ShouldThrow() throws CelloException {
+    EvaluationContext.parse("#/structure/inputs/x");
+  }
+
+  @Test
+  public void putMemo_ByStateValue_ShouldReturnValueOnlyForThatState() {
+    EvaluationContext ec = new EvaluationContext();
+    NetlistNode node = new NetlistNode();
+    Evaluatable e = new NullEvaluatable();
+    assertTrue(Double.isNaN(ec.getMemo(node, e, 3)));
+    ec.putMemo(node, e, 3, 1.5);
+    ec.putMemo(node, e, 100, 2.5);
+    assertEquals(1.5, ec.getMemo(node, e, 3), 0.0);
+    assertEquals(2.5, ec.getMemo(node, e, 100), 0.0);
+    assertTrue(Double.isNaN(ec.getMemo(node, e, 4)));
+    assertTrue(Double.isNaN(ec.getMemo(new NetlistNode(), e, 3)));
+  }
+
+  @Test
+  public void acquireArguments_Nested_ShouldReturnDistinctReusedArrays() {
+    EvaluationContext ec = new EvaluationContext();
+    double[] outer = ec.acquireArguments(2);
+    double[] inner = ec.acquireArguments(2);
+    assertNotSame(outer, inner);
+    assertEquals(2, inner.length);
+    ec.releaseArguments();
+    assertSame(inner, ec.acquireArguments(2));
+    ec.releaseArguments();
+    ec.releaseArguments();
+    assertSame(outer, ec.acquireArguments(2));
+    ec.releaseArguments();
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cellocad.v2.results.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Metrics}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class MetricsTest {
+
+  private static File getDirectory() throws IOException {
+    final File rtn = Files.createTempDirectory("cello_").toFile();
+    rtn.deleteOnExit();
+    return rtn;
+  }
+
+  private static JsonNode read(final File file) throws IOException {
+    file.deleteOnExit();
+    return new ObjectMapper().readTree(file);
+  }
+
+  @Test
+  public void write_TwoPhases_ShouldWriteRecordsInCompletionOrder() throws IOException {
+    final Metrics metrics = new Metrics();
+    try (Metrics.Phase outer = metrics.start("stage", "run")) {
+      try (Metrics.Phase inner = metrics.start("stage", "preprocessing")) {
+        assertEquals(0, metrics.getNumRecords());
+      }
+    }
+    assertEquals(2, metrics.getNumRecords());
+    final File file = new File(getDirectory(), "metrics.json");
+    metrics.write(file);
+    final JsonNode array = read(file);
+    assertTrue(array.isArray());
+    assertEquals(2, array.size());
+    assertEquals("preprocessing", array.get(0).get("phase").asText());
+    assertEquals("run", array.get(1).get("phase").asText());
+    for (final JsonNode node : array) {
+      assertEquals("stage", node.get("stage").asText());
+      assertEquals(Thread.currentThread().getName(), node.get("thread").asText());
+      assertTrue(node.get("wall_time_ns").asLong() >= 0);
+      assertTrue(node.get("cpu_time_ns").asLong() >= -1);
+      assertTrue(node.get("allocated_bytes").asLong() >= -1);
+      assertTrue(node.get("process_cpu_time_ns").asLong() >= -1);
+      assertTrue(node.get("heap_used_bytes").asLong() > 0);
+    }
+    assertTrue(
+        array.get(1).get("wall_time_ns").asLong() >= array.get(0).get("wall_time_ns").asLong());
+  }
+
+  @Test
+  public void write_OtherThread_ShouldRecordThreadName() throws Exception {
+    final Metrics metrics = new Metrics();
+    final Thread thread =
+        new Thread(
+            () -> {
+              try (Metrics.Phase p = metrics.start("stage", "worker")) {
+                // nothing to measure
+              }
+            },
+            "metrics-worker");
+    thread.start();
+    thread.join();
+    final File file = new File(getDirectory(), "metrics.json");
+    metrics.write(file);
+    final JsonNode array = read(file);
+    assertEquals(1, array.size());
+    assertEquals("metrics-worker", array.get(0).get("thread").asText());
+  }
+
+  @Test
+  public void close_Results_ShouldWriteMetricsFile() throws IOException {
+    final File dir = getDirectory();
+    final Results results = new Results(dir);
+    try (Metrics.Phase p = results.getMetrics().start("logicSynthesis", "execute")) {
+      // nothing to measure
+    }
+    results.close();
+    final JsonNode array = read(new File(dir, "metrics.json"));
+    assertEquals(1, array.size());
+    assertEquals("logicSynthesis", array.get(0).get("stage").asText());
+    assertEquals("execute", array.get(0).get("phase").asText());
+  }
+
+  @Test
+  public void close_ResultsWithoutMetrics_ShouldNotWriteMetricsFile() throws IOException {
+    final File dir = getDirectory();
+    final Results results = new Results(dir);
+    results.close();
+    assertFalse(new File(dir, "metrics.json").exists());
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PlotExecutor}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class PlotExecutorTest {
+
+  private static List<PlotExecutor.Job> getJobs(final File dir) {
+    final Result result = new Result("plot", "stage", "A plot.", new File(dir, "plot_0.png"));
+    final PlotExecutor.Job job =
+        new PlotExecutor.Job(
+            Arrays.asList(new File(dir, "plot_0.py").getPath(), "-title", "it's"),
+            Collections.singletonList(result));
+    return Collections.singletonList(job);
+  }
+
+  @Test
+  public void getDriverScript_Arguments_ShouldBeQuoted() {
+    final File dir = new File("dir");
+    final String script = PlotExecutor.getDriverScript(getJobs(dir));
+    final String argv = "['" + new File(dir, "plot_0.py").getPath() + "', '-title', 'it\\'s'],";
+    assertTrue(script.contains(argv));
+    assertTrue(script.contains("runpy.run_path(argv[0], run_name=\"__main__\")"));
+  }
+
+  @Test
+  public void submit_Defer_ShouldWriteDriverOnly() throws IOException {
+    final File dir = Files.createTempDirectory("cello_").toFile();
+    dir.deleteOnExit();
+    final File driver = new File(dir, "plots.py");
+    driver.deleteOnExit();
+    final Results results = new Results(dir);
+    results
+        .getPlotExecutor()
+        .submit(PlotExecutor.Mode.DEFER, "stage", "python", driver, getJobs(dir));
+    results.close();
+    assertTrue(driver.isFile());
+    assertEquals(0, Results.read(dir).size());
+  }
+
+  @Test
+  public void submit_Skip_ShouldWriteNothing() throws IOException {
+    final File dir = Files.createTempDirectory("cello_").toFile();
+    dir.deleteOnExit();
+    final File driver = new File(dir, "plots.py");
+    final Results results = new Results(dir);
+    results
+        .getPlotExecutor()
+        .submit(PlotExecutor.Mode.SKIP, "stage", "python", driver, getJobs(dir));
+    results.close();
+    assertFalse(driver.exists());
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cellocad.v2.results.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Results}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class ResultsTest {
+
+  private static File getDirectory() throws IOException {
+    final File rtn = Files.createTempDirectory("cello_").toFile();
+    rtn.deleteOnExit();
+    return rtn;
+  }
+
+  private static void addResults(final Results results, final File dir, final int num)
+      throws IOException {
+    for (int i = 0; i < num; i++) {
+      results.addResult(new Result("r" + i, "stage", "A result.", new File(dir, "r" + i)));
+    }
+  }
+
+  @Test
+  public void read_TruncatedManifest_ShouldIgnoreTrailingRecord() throws IOException {
+    final File dir = getDirectory();
+    final Results results = new Results(dir);
+    addResults(results, dir, 2);
+    results.flush();
+    final File manifest = new File(dir, "results.jsonl");
+    manifest.deleteOnExit();
+    try (Writer w =
+        Files.newBufferedWriter(
+            manifest.toPath(), StandardCharsets.UTF_8, StandardOpenOption.APPEND)) {
+      w.write("{\"name\":\"r2\",\"sta");
+    }
+    final ArrayNode array = Results.read(dir);
+    assertEquals(2, array.size());
+    assertEquals("r0", array.get(0).get("name").asText());
+    assertEquals("r1", array.get(1).get("name").asText());
+    assertFalse(new File(dir, "results.json").exists());
+    results.close();
+  }
+
+  @Test
+  public void read_NoManifest_ShouldReadResultsFile() throws IOException {
+    final File dir = getDirectory();
+    final Results results = new Results(dir);
+    addResults(results, dir, 3);
+    results.close();
+    final File file = new File(dir, "results.json");
+    file.deleteOnExit();
+    assertTrue(file.isFile());
+    assertTrue(new File(dir, "results.jsonl").delete());
+    final ArrayNode array = Results.read(dir);
+    assertEquals(3, array.size());
+    assertEquals("r2", array.get(2).get("name").asText());
+  }
+
+  @Test
+  public void read_Empty_ShouldReturnEmptyArray() throws IOException {
+    assertEquals(0, Results.read(getDirectory()).size());
+  }
+}
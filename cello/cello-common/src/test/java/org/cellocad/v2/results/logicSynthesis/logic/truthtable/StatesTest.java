@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.logicSynthesis.logic.truthtable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for {@link States} and {@link TruthTable}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class StatesTest {
+
+  @Test
+  public void getStateAtIdx_ThreeInputs_ShouldHaveValueEqualToIndex() {
+    List<String> inputs = Arrays.asList("a", "b", "c");
+    States<String> states = new States<>(inputs, true, false);
+    assertEquals(8, states.getNumStates());
+    for (int i = 0; i < states.getNumStates(); i++) {
+      State<String> state = states.getStateAtIdx(i);
+      assertEquals(i, state.getValue());
+      assertEquals((i & 1) != 0, state.getState("a"));
+      assertEquals((i & 2) != 0, state.getState("b"));
+      assertEquals((i & 4) != 0, state.getState("c"));
+    }
+  }
+
+  @Test
+  public void setState_ExistingAndMissingNode_ShouldUpdateOnlyExisting() {
+    State<String> state = new State<>(Arrays.asList("a", "b"), true, false);
+    assertTrue(state.setState("b", true));
+    assertFalse(state.setState("x", true));
+    assertEquals(2, state.getValue());
+    assertEquals(false, state.getState("a"));
+    assertEquals(true, state.getState("b"));
+    assertNull(state.getState("x"));
+  }
+
+  @Test
+  public void getStateOutput_StateFromStates_ShouldMatchOutputAtIdx() {
+    States<String> states = new States<>(Arrays.asList("a", "b"), true, false);
+    TruthTable<String, String> tt = new TruthTable<>(states, Arrays.asList("y"));
+    for (int i = 0; i < tt.getNumStates(); i++) {
+      State<String> input = tt.getStateAtIdx(i);
+      assertEquals(i, tt.getStateIdx(input));
+      assertSame(tt.getStateOutputAtIdx(i), tt.getStateOutput(input));
+    }
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cellocad.v2.results.netlist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.results.common.Results;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link NetlistWriter}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class NetlistWriterTest {
+
+  private static File getDirectory() throws IOException {
+    final File rtn = Files.createTempDirectory("cello_").toFile();
+    rtn.deleteOnExit();
+    return rtn;
+  }
+
+  private static NetlistNode addNode(final Netlist netlist, final String name) {
+    final NetlistNode rtn = new NetlistNode();
+    rtn.setName(name);
+    netlist.addVertex(rtn);
+    return rtn;
+  }
+
+  private static String read(final File file) throws IOException {
+    file.deleteOnExit();
+    return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Writes the netlist synchronously, as the stages did before netlists were written in the
+   * background.
+   */
+  private String expected(final String name) throws IOException {
+    final File file = new File(dir, name);
+    NetlistUtils.writeJsonForNetlist(netlist, file.getPath());
+    return read(file);
+  }
+
+  /** Builds a netlist with a single node. */
+  @Before
+  public void init() throws IOException {
+    dir = getDirectory();
+    results = new Results(dir);
+    netlist = new Netlist();
+    netlist.setName("netlist");
+    addNode(netlist, "a");
+  }
+
+  @Test
+  public void writeJson_EachStage_ShouldWriteNetlistAsOfThatStage()
+      throws CelloException, IOException {
+    final File first = new File(dir, "first.json");
+    final File second = new File(dir, "second.json");
+    final String expectedFirst;
+    final String expectedSecond;
+    try (NetlistWriter writer = new NetlistWriter(results)) {
+      writer.writeJson("logicSynthesis", netlist, first.getPath());
+      expectedFirst = expected("expectedFirst.json");
+      addNode(netlist, "b");
+      writer.writeJson("technologyMapping", netlist, second.getPath());
+      expectedSecond = expected("expectedSecond.json");
+    }
+    assertEquals(expectedFirst, read(first));
+    assertEquals(expectedSecond, read(second));
+    assertFalse(read(first).contains("\"b\""));
+    assertTrue(read(second).contains("\"b\""));
+  }
+
+  @Test
+  public void writeJson_SameFileEachStage_ShouldKeepLastStage()
+      throws CelloException, IOException {
+    final File file = new File(dir, "netlist.json");
+    try (NetlistWriter writer = new NetlistWriter(results)) {
+      writer.writeJson("logicSynthesis", netlist, file.getPath());
+      addNode(netlist, "b");
+      writer.writeJson("technologyMapping", netlist, file.getPath());
+      addNode(netlist, "c");
+      writer.writeJson("placing", netlist, file.getPath());
+    }
+    assertEquals(expected("expected.json"), read(file));
+  }
+
+  @Test
+  public void writeJson_EachStage_ShouldMeasureWrites() throws CelloException, IOException {
+    final File file = new File(dir, "netlist.json");
+    file.deleteOnExit();
+    try (NetlistWriter writer = new NetlistWriter(results)) {
+      writer.writeJson("logicSynthesis", netlist, file.getPath());
+      writer.writeJson("technologyMapping", netlist, file.getPath());
+    }
+    results.close();
+    final File metrics = new File(dir, "metrics.json");
+    metrics.deleteOnExit();
+    final JsonNode array = new ObjectMapper().readTree(metrics);
+    assertEquals(2, array.size());
+    assertEquals("logicSynthesis", array.get(0).get("stage").asText());
+    assertEquals("technologyMapping", array.get(1).get("stage").asText());
+    for (final JsonNode node : array) {
+      assertEquals("writeNetlist", node.get("phase").asText());
+      assertEquals("netlist-writer", node.get("thread").asText());
+    }
+  }
+
+  @Test
+  public void close_WriteFailed_ShouldThrowAfterRemainingWrites() throws IOException {
+    final File missing = new File(new File(dir, "missing"), "netlist.json");
+    final File file = new File(dir, "netlist.json");
+    file.deleteOnExit();
+    final NetlistWriter writer = new NetlistWriter(results);
+    try {
+      writer.writeJson("logicSynthesis", netlist, missing.getPath());
+      writer.writeJson("technologyMapping", netlist, file.getPath());
+      writer.close();
+      fail("Expected a CelloException.");
+    } catch (final CelloException e) {
+      assertTrue(e.getCause() instanceof IOException);
+    }
+    assertFalse(missing.exists());
+    assertTrue(file.exists());
+  }
+
+  private File dir;
+  private Results results;
+  private Netlist netlist;
+}
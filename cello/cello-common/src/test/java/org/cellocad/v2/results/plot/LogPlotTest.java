@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.results.plot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.Test;
+
+/**
+ * Tests for {@link LogPlot}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class LogPlotTest {
+
+  private static File getTempFile(final String suffix) throws IOException {
+    final File rtn = File.createTempFile("cello_", suffix);
+    rtn.deleteOnExit();
+    return rtn;
+  }
+
+  private static LogPlot getPlot(final int numAxes) {
+    final List<Double> x = new ArrayList<>();
+    final List<Double> y = new ArrayList<>();
+    for (int i = 0; i <= 100; i++) {
+      final double xi = Math.pow(10, -3 + 5.0 * i / 100);
+      x.add(xi);
+      y.add(0.01 + 3.0 / (1 + Math.pow(xi / 0.1, 2)));
+    }
+    // a non-positive value is omitted from the logarithmic axes
+    y.set(50, 0.0);
+    final LogPlot rtn = new LogPlot("A & B", 2.5, 2.5);
+    for (int i = 0; i < numAxes; i++) {
+      final LogPlot.Axes ax = rtn.addAxes();
+      ax.setXLimits(1e-3, 1e2);
+      ax.addLine(x, y, Color.RED, 3.0);
+      ax.addPoints(Arrays.asList(1e-2), Arrays.asList(3.0), Color.BLACK, true);
+    }
+    return rtn;
+  }
+
+  @Test
+  public void writePng_Plot_ShouldWriteImageOfFigureSize() throws IOException {
+    final File file = getTempFile(".png");
+    getPlot(2).writePng(file);
+    final BufferedImage image = ImageIO.read(file);
+    assertEquals(250, image.getWidth());
+    assertEquals(250, image.getHeight());
+  }
+
+  @Test
+  public void writeSvg_Plot_ShouldWriteEscapedTitleAndBrokenLine() throws IOException {
+    final File file = getTempFile(".svg");
+    getPlot(1).writeSvg(file);
+    final String svg = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    assertTrue(svg.startsWith("<?xml"));
+    assertTrue(svg.contains(">A &amp; B</text>"));
+    assertEquals(2, svg.split("<polyline", -1).length - 1);
+    assertTrue(svg.trim().endsWith("</svg>"));
+  }
+}
@@ -19,15 +19,18 @@
 
 package org.cellocad.v2.results.technologyMapping.activity;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.target.data.TargetData;
 import org.cellocad.v2.common.target.data.TargetDataInstance;
 import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.common.target.data.data.Gate;
 import org.cellocad.v2.common.target.data.data.Input;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
@@ -122,6 +125,99 @@ public class TMActivityEvaluationIT {
             < TOLERANCE);
   }
 
+  /**
+   * Assigns a device to a node, and the inputs of the device to the in edges of the node in order.
+   *
+   * @param node The node.
+   * @param device The device.
+   */
+  private static void assign(final NetlistNode node, final AssignableDevice device) {
+    node.getResultNetlistNodeData().setDevice(device);
+    for (int j = 0; j < node.getNumInEdge(); j++) {
+      Input input = device.getStructure().getInputs().get(j);
+      node.getInEdgeAtIdx(j).getResultNetlistEdgeData().setInput(input);
+    }
+  }
+
+  /**
+   * Returns a gate, other than the one assigned to the given node, with an input for each in edge
+   * of the node.
+   *
+   * @param node The node.
+   * @return A different gate for the node.
+   */
+  private static Gate getOtherGate(final NetlistNode node) {
+    AssignableDevice current = node.getResultNetlistNodeData().getDevice();
+    for (Gate gate : tdi.getGates()) {
+      if (!gate.getName().equals(current.getName())
+          && gate.getStructure().getInputs().size() >= node.getNumInEdge()) {
+        return gate;
+      }
+    }
+    throw new AssertionError("No other gate for " + node.getName() + ".");
+  }
+
+  @Test
+  public void
+      TMActivityEvaluation_IncrementalEvaluationForAndGateUsingBth1C1G1T1_ShouldMatchFullEvaluation()
+          throws CelloException {
+    TMActivityEvaluation old = new TMActivityEvaluation(netlist, lsle);
+    NetlistNode changed = netlist.getVertexByName("$49");
+    AssignableDevice device = changed.getResultNetlistNodeData().getDevice();
+    ActivityTable<NetlistNode, NetlistNode> table = old.getActivityTable(changed);
+    double[] before = new double[table.getNumStates()];
+    for (int j = 0; j < before.length; j++) {
+      before[j] = table.getActivity(changed, j);
+    }
+    assign(changed, getOtherGate(changed));
+    try {
+      TMActivityEvaluation incremental =
+          new TMActivityEvaluation(netlist, old, Collections.singletonList(changed));
+      TMActivityEvaluation full = new TMActivityEvaluation(netlist, lsle);
+      ActivityTable<NetlistNode, NetlistNode> after = full.getActivityTable(changed);
+      boolean isDifferent = false;
+      for (int j = 0; j < before.length; j++) {
+        isDifferent =
+            isDifferent || Math.abs(before[j] - after.getActivity(changed, j)) > TOLERANCE;
+        // the evaluation the incremental one was built from is left unmodified
+        assertEquals(before[j], table.getActivity(changed, j), 0.0);
+      }
+      assertTrue(isDifferent);
+      for (int i = 0; i < netlist.getNumVertex(); i++) {
+        NetlistNode node = netlist.getVertexAtIdx(i);
+        ActivityTable<NetlistNode, NetlistNode> expected = full.getActivityTable(node);
+        ActivityTable<NetlistNode, NetlistNode> actual = incremental.getActivityTable(node);
+        assertEquals(expected.getNumStates(), actual.getNumStates());
+        for (int j = 0; j < expected.getNumStates(); j++) {
+          assertEquals(expected.getActivity(node, j), actual.getActivity(node, j), TOLERANCE);
+        }
+      }
+    } finally {
+      assign(changed, device);
+    }
+  }
+
+  @Test
+  public void
+      TMActivityEvaluation_ResponseCacheForAndGateUsingBth1C1G1T1_ShouldMatchUncachedEvaluation()
+          throws CelloException {
+    TMActivityEvaluation expected = new TMActivityEvaluation(netlist, lsle);
+    ResponseCache cache = new ResponseCache(1024, 52);
+    new TMActivityEvaluation(netlist, lsle, cache);
+    long misses = cache.getMisses();
+    TMActivityEvaluation actual = new TMActivityEvaluation(netlist, lsle, cache);
+    assertEquals(misses, cache.getMisses());
+    assertTrue(cache.getHits() > 0);
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      NetlistNode node = netlist.getVertexAtIdx(i);
+      ActivityTable<NetlistNode, NetlistNode> e = expected.getActivityTable(node);
+      ActivityTable<NetlistNode, NetlistNode> a = actual.getActivityTable(node);
+      for (int j = 0; j < e.getNumStates(); j++) {
+        assertEquals(e.getActivity(node, j), a.getActivity(node, j), TOLERANCE);
+      }
+    }
+  }
+
   private static TargetDataInstance tdi;
   private static LSLogicEvaluation lsle;
   private static Netlist netlist;
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cellocad.v2.results.technologyMapping.activity.activitytable;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ActivityTable}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class ActivityTableTest {
+
+  @Test
+  public void setActivity_ReusedOutputList_ShouldKeepOutputsOfEachTable() {
+    final States<String> states = new States<>(Arrays.asList("a", "b"), true, false);
+    final List<String> outputs = new ArrayList<>();
+    outputs.add("x");
+    final ActivityTable<String, String> x = new ActivityTable<>(states, outputs);
+    outputs.clear();
+    outputs.add("y");
+    final ActivityTable<String, String> y = new ActivityTable<>(states, outputs);
+    outputs.clear();
+    for (int i = 0; i < states.getNumStates(); i++) {
+      x.setActivity("x", i, i + 1.0);
+      y.setActivity("y", i, i + 2.0);
+    }
+    for (int i = 0; i < states.getNumStates(); i++) {
+      assertEquals(i + 1.0, x.getActivity("x", i), 0.0);
+      assertEquals(i + 1.0, x.getActivityOutputAtIdx(i).getActivity("x"), 0.0);
+      assertEquals(i + 2.0, y.getActivity("y", i), 0.0);
+      assertEquals(i + 2.0, y.getActivityOutputAtIdx(i).getActivity("y"), 0.0);
+    }
+  }
+}
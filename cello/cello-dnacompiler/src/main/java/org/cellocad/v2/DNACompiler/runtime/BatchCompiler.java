@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.DNACompiler.runtime;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.ThreadContext;
+import org.cellocad.v2.DNACompiler.runtime.environment.DNACompilerArgString;
+import org.cellocad.v2.DNACompiler.runtime.environment.DNACompilerRuntimeEnv;
+import org.cellocad.v2.common.application.ApplicationConfiguration;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.runtime.environment.ArgString;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.results.common.Results;
+
+/**
+ * Compiles jobs of the <i>DNACompiler</i> application concurrently on a fixed number of worker
+ * threads, sharing one application configuration and one target data instance among all jobs.
+ *
+ * <p>Each job is compiled with the command line arguments given to this instance, with the input
+ * netlist, output directory and netlist constraint file replaced by those of the job. Each job
+ * has its own {@link Results}. Log messages of a job, including those of threads it starts, are
+ * written to the log file in its output directory.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class BatchCompiler implements Closeable {
+
+  /**
+   * Create a new batch compiler.
+   *
+   * @param args The command line arguments shared by all jobs.
+   * @param appCfg The application configuration.
+   * @param td The target data.
+   * @param numThreads The number of jobs to compile concurrently.
+   */
+  public BatchCompiler(
+      final String[] args,
+      final ApplicationConfiguration appCfg,
+      final TargetData td,
+      final int numThreads) {
+    this.args = Arrays.copyOf(args, args.length);
+    this.appCfg = appCfg;
+    this.td = td;
+    executor = Executors.newFixedThreadPool(Math.max(1, numThreads));
+  }
+
+  /**
+   * Submits a job for compilation.
+   *
+   * @param job The job.
+   * @return A future holding the results of the job.
+   */
+  public Future<Results> submit(final BatchJob job) {
+    return executor.submit(() -> compile(job));
+  }
+
+  private Results compile(final BatchJob job) throws CelloException {
+    Results rtn = null;
+    try {
+      rtn = compileJob(job);
+      Main.getLogger().info("Compiled " + job + ".");
+    } catch (final CelloException | RuntimeException e) {
+      Main.getLogger().error("Unable to compile " + job + ".", e);
+      throw e;
+    }
+    return rtn;
+  }
+
+  private Results compileJob(final BatchJob job) throws CelloException {
+    final File outputDir = job.getOutputDir();
+    if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+      throw new CelloException("Unable to create output directory " + outputDir + ".");
+    }
+    final DNACompilerRuntimeEnv runEnv = new DNACompilerRuntimeEnv(getJobArguments(job));
+    runEnv.setName("DNACompiler");
+    if (!runEnv.isValid()) {
+      throw new CelloException("DNACompilerRuntimeEnv is invalid!");
+    }
+    ThreadContext.put(S_LOGFILE, Main.getLogFilename(runEnv));
+    try {
+      return Main.compile(runEnv, appCfg, td);
+    } finally {
+      ThreadContext.remove(S_LOGFILE);
+    }
+  }
+
+  /**
+   * Returns the command line arguments of the given job.
+   *
+   * @param job The job.
+   * @return The command line arguments of the given job.
+   */
+  protected String[] getJobArguments(final BatchJob job) {
+    final List<String> rtn = new ArrayList<>();
+    for (int i = 0; i < args.length; i++) {
+      final String arg = args[i];
+      final String name = arg.replaceFirst("^-+", "");
+      if (!arg.equals(name) && S_JOB_OPTIONS.contains(name)) {
+        // skip the value
+        i++;
+        continue;
+      }
+      if (!arg.equals(name) && S_JOB_OPTIONS.contains(name.split("=", 2)[0])) {
+        continue;
+      }
+      rtn.add(arg);
+    }
+    rtn.add("-" + ArgString.INPUTNETLIST);
+    rtn.add(job.getInputNetlist().getPath());
+    rtn.add("-" + ArgString.OUTPUTDIR);
+    rtn.add(job.getOutputDir().getPath());
+    if (job.getNetlistConstraintFile() != null) {
+      rtn.add("-" + ArgString.NETLISTCONSTRAINTFILE);
+      rtn.add(job.getNetlistConstraintFile().getPath());
+    }
+    return rtn.toArray(new String[rtn.size()]);
+  }
+
+  /**
+   * Waits for the submitted jobs to finish and stops the worker threads. If interrupted while
+   * waiting, the jobs still running are interrupted.
+   */
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+        Main.getLogger().info("Waiting for jobs to finish.");
+      }
+    } catch (final InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private final String[] args;
+  private final ApplicationConfiguration appCfg;
+  private final TargetData td;
+  private final ExecutorService executor;
+
+  /** The key of the thread context entry that routes log messages to the log file of a job. */
+  private static final String S_LOGFILE = "logfile.name";
+
+  private static final Collection<String> S_JOB_OPTIONS =
+      new HashSet<>(
+          Arrays.asList(
+              ArgString.INPUTNETLIST,
+              ArgString.OUTPUTDIR,
+              ArgString.OUTPUTNETLIST,
+              ArgString.NETLISTCONSTRAINTFILE,
+              DNACompilerArgString.BATCHFILE,
+              DNACompilerArgString.THREADS));
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.DNACompiler.runtime;
+
+import java.io.File;
+
+/**
+ * A job of the batch mode of the <i>DNACompiler</i> application: an input netlist, the directory
+ * to which to write its results and an optional netlist constraint file.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public final class BatchJob {
+
+  /**
+   * Create a new job.
+   *
+   * @param inputNetlist The input netlist file.
+   * @param outputDir The output directory.
+   * @param netlistConstraintFile The netlist constraint file, or null.
+   */
+  public BatchJob(final File inputNetlist, final File outputDir, final File netlistConstraintFile) {
+    this.inputNetlist = inputNetlist;
+    this.outputDir = outputDir;
+    this.netlistConstraintFile = netlistConstraintFile;
+  }
+
+  /**
+   * Parses a job from a line of a batch file. The line contains the input netlist file, the output
+   * directory and, optionally, the netlist constraint file, separated by whitespace.
+   *
+   * @param line A line of a batch file.
+   * @return The job, or null if the line is blank or a comment beginning with {@code #}.
+   * @throws IllegalArgumentException If the line is not a valid job.
+   */
+  public static BatchJob parse(final String line) {
+    BatchJob rtn = null;
+    final String trimmed = line.trim();
+    if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+      return rtn;
+    }
+    final String[] fields = trimmed.split("\\s+");
+    if (fields.length < 2 || fields.length > 3) {
+      throw new IllegalArgumentException("Invalid job: " + line);
+    }
+    File netlistConstraintFile = null;
+    if (fields.length == 3) {
+      netlistConstraintFile = new File(fields[2]);
+    }
+    rtn = new BatchJob(new File(fields[0]), new File(fields[1]), netlistConstraintFile);
+    return rtn;
+  }
+
+  /**
+   * Getter for {@code inputNetlist}.
+   *
+   * @return The value of {@code inputNetlist}.
+   */
+  public File getInputNetlist() {
+    return inputNetlist;
+  }
+
+  /**
+   * Getter for {@code outputDir}.
+   *
+   * @return The value of {@code outputDir}.
+   */
+  public File getOutputDir() {
+    return outputDir;
+  }
+
+  /**
+   * Getter for {@code netlistConstraintFile}.
+   *
+   * @return The value of {@code netlistConstraintFile}.
+   */
+  public File getNetlistConstraintFile() {
+    return netlistConstraintFile;
+  }
+
+  @Override
+  public String toString() {
+    return getInputNetlist().getPath();
+  }
+
+  private final File inputNetlist;
+  private final File outputDir;
+  private final File netlistConstraintFile;
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.DNACompiler.runtime;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.cellocad.v2.DNACompiler.runtime.environment.DNACompilerArgString;
+import org.cellocad.v2.DNACompiler.runtime.environment.DNACompilerBatchRuntimeEnv;
+import org.cellocad.v2.common.application.ApplicationConfiguration;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.results.common.Results;
+
+/**
+ * The BatchMain class is the executable class for the batch mode of the <i>DNACompiler</i>
+ * application. The target data and application configuration are read once, then each job of the
+ * batch file is compiled by a {@link BatchCompiler}. Jobs are submitted as they are read, so the
+ * batch file may be a pipe, or standard input, that a scheduler keeps writing to.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class BatchMain {
+
+  /**
+   * The executable for the batch mode of the <i>DNACompiler</i> application.
+   *
+   * @param args Command line argument(s).
+   * @throws CelloException Unable to read the batch file, or a job failed.
+   */
+  public static void main(final String[] args) throws CelloException {
+    // threads started by a job inherit its log file
+    System.setProperty("log4j2.isThreadContextMapInheritable", "true");
+    /*
+     * Preparation
+     */
+    // RuntimeEnv
+    final DNACompilerBatchRuntimeEnv runEnv = new DNACompilerBatchRuntimeEnv(args);
+    runEnv.setName("DNACompiler");
+    if (!runEnv.isValid()) {
+      throw new RuntimeException("DNACompilerBatchRuntimeEnv is invalid!");
+    }
+    /*
+     * Setup Logger
+     */
+    Main.setupLogger(runEnv);
+    /*
+     * Other
+     */
+    final ApplicationConfiguration appCfg = Main.getApplicationConfiguration(runEnv);
+    final TargetData td = Main.getTargetData(runEnv);
+    final int numThreads = Integer.parseInt(runEnv.getOptionValue(DNACompilerArgString.THREADS));
+    /*
+     * Jobs
+     */
+    final List<BatchJob> jobs = new ArrayList<>();
+    final List<Future<Results>> futures = new ArrayList<>();
+    final String batchFile = runEnv.getOptionValue(DNACompilerArgString.BATCHFILE);
+    try (BatchCompiler compiler = new BatchCompiler(args, appCfg, td, numThreads);
+        BufferedReader reader = BatchMain.getReader(batchFile)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        final BatchJob job = BatchJob.parse(line);
+        if (job != null) {
+          jobs.add(job);
+          futures.add(compiler.submit(job));
+        }
+      }
+    } catch (final IOException | IllegalArgumentException e) {
+      throw new CelloException("Unable to read batch file.", e);
+    }
+    int failed = 0;
+    for (final Future<Results> future : futures) {
+      try {
+        future.get();
+      } catch (final ExecutionException e) {
+        failed++;
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CelloException("Interrupted while waiting for jobs.", e);
+      }
+    }
+    Main.getLogger().info("Compiled " + (jobs.size() - failed) + " of " + jobs.size() + " jobs.");
+    if (failed > 0) {
+      throw new CelloException("Unable to compile " + failed + " of " + jobs.size() + " jobs.");
+    }
+  }
+
+  private static BufferedReader getReader(final String batchFile) throws IOException {
+    InputStream is = System.in;
+    if (!batchFile.equals("-")) {
+      is = new FileInputStream(batchFile);
+    }
+    return new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+  }
+}
@@ -44,6 +44,7 @@ import org.cellocad.v2.results.common.ResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.LSResultsStats;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistUtils;
+import org.cellocad.v2.results.netlist.NetlistWriter;
 import org.cellocad.v2.results.partitioning.block.PTBlockNetlist;
 import org.cellocad.v2.technologyMapping.runtime.TMRuntimeObject;
 
@@ -113,27 +114,72 @@ public class Main {
      * Other
      */
     // ApplicationConfiguration
-    ApplicationConfiguration appCfg;
+    final ApplicationConfiguration appCfg = Main.getApplicationConfiguration(runEnv);
+    // get TargetData
+    final TargetData td = Main.getTargetData(runEnv);
+    Main.compile(runEnv, appCfg, td);
+  }
+
+  /**
+   * Returns the application configuration for the DNACompilerRuntimeEnv defined by parameter
+   * {@code runEnv}.
+   *
+   * @param runEnv The DNACompilerRuntimeEnv.
+   * @return The application configuration.
+   */
+  protected static ApplicationConfiguration getApplicationConfiguration(
+      final DNACompilerRuntimeEnv runEnv) {
+    ApplicationConfiguration rtn;
     try {
-      appCfg =
+      rtn =
           ApplicationUtils.getApplicationConfiguration(
               runEnv, ArgString.OPTIONS, DNACompilerUtils.getApplicationConfiguration());
     } catch (final IOException e) {
       throw new RuntimeException("Error with application configuration file.");
     }
-    if (!appCfg.isValid()) {
+    if (!rtn.isValid()) {
       throw new RuntimeException("ApplicationConfiguration is invalid!");
     }
-    // get TargetData
-    final TargetData td =
+    return rtn;
+  }
+
+  /**
+   * Returns the target data for the DNACompilerRuntimeEnv defined by parameter {@code runEnv}.
+   *
+   * @param runEnv The DNACompilerRuntimeEnv.
+   * @return The target data.
+   * @throws CelloException Unable to read valid target data.
+   */
+  protected static TargetData getTargetData(final DNACompilerRuntimeEnv runEnv)
+      throws CelloException {
+    final TargetData rtn =
         TargetDataUtils.getTargetTargetData(
             runEnv,
             ArgString.USERCONSTRAINTSFILE,
             ArgString.INPUTSENSORFILE,
             ArgString.OUTPUTDEVICEFILE);
-    if (!td.isValid()) {
+    if (!rtn.isValid()) {
       throw new CelloException("TargetData is invalid!");
     }
+    return rtn;
+  }
+
+  /**
+   * Compiles the input netlist of the DNACompilerRuntimeEnv defined by parameter {@code runEnv}
+   * through all stages of the application. The application configuration and target data are only
+   * read, so they may be shared by concurrent compilations.
+   *
+   * @param runEnv The DNACompilerRuntimeEnv.
+   * @param appCfg The application configuration.
+   * @param td The target data.
+   * @return The (closed) results of the compilation.
+   * @throws CelloException Unable to compile the input netlist.
+   */
+  protected static Results compile(
+      final DNACompilerRuntimeEnv runEnv,
+      final ApplicationConfiguration appCfg,
+      final TargetData td)
+      throws CelloException {
     // NetlistConstraint
     NetlistConstraint netlistConstraint =
         NetlistConstraintUtils.getNetlistConstraintData(runEnv, ArgString.NETLISTCONSTRAINTFILE);
@@ -156,91 +202,111 @@ public class Main {
     Netlist netlist = new Netlist();
     // Input from User
     netlist.setInputFilename(inputFilePath);
-    /*
-     * Stages
-     */
-    Stage currentStage = null;
-    /*
-     * logicSynthesis
-     */
-    currentStage = appCfg.getStageByName("logicSynthesis");
-    final LSRuntimeObject LS =
-        new LSRuntimeObject(currentStage, td, netlistConstraint, netlist, results, runEnv);
-    LS.execute();
-    // Write netlist
-    Main.writeJsonForNetlist(runEnv, netlist, inputFilePath);
-    ResultsUtils.writeNetlistResults(LS.getName(), outputDir, netlist, results);
-    Main.getLogger().info(LSResultsStats.getLogicSynthesisStats(netlist));
-    // logicOptimization
-    // currentStage = appCfg.getStageByName("logicOptimization");
-    // LORuntimeObject LO = new LORuntimeObject(currentStage, td, netlistConstraint,
-    // netlist, runEnv);
-    // LO.execute();
-    // File loDotFile = new File(outputDir, netlist.getName() +
-    // "_logicOptimization" + ".dot");
-    // NetlistUtils.writeDotFileForGraph(netlist, loDotFile.getAbsolutePath());
-    // Dot2Pdf.dot2pdf(loDotFile);
-    // Main.getLogger().info(LOResultsStats.getLogicOptimizationStats(netlist));
-    // clustering
-    // currentStage = appCfg.getStageByName("clustering");
-    // CLRuntimeObject CL = new CLRuntimeObject(currentStage, td, netlistConstraint,
-    // netlist, runEnv);
-    // CL.execute();
-    // partitioning
-    // currentStage = appCfg.getStageByName("partitioning");
-    // PTRuntimeObject PT = new PTRuntimeObject(currentStage, td, netlistConstraint,
-    // netlist, runEnv);
-    // PT.execute();
-    // Main.printPartitioningGraphs(runEnv, netlist);
-    // Main.getLogger().info(PTResultsStats.getPartitioningStats(netlist));
-    // netlist = new PTBlockNetlist(netlist).getVirtualLargeNetlistFO();
-    // Write netlist
-    // Main.writeJsonForNetlist(runEnv, netlist, inputFilePath);
-    /*
-     * technologyMapping
-     */
-    currentStage = appCfg.getStageByName("technologyMapping");
-    final TMRuntimeObject TM =
-        new TMRuntimeObject(currentStage, td, netlistConstraint, netlist, results, runEnv);
-    TM.execute();
-    // Write netlist
-    Main.writeJsonForNetlist(runEnv, netlist, inputFilePath);
-    ResultsUtils.writeNetlistResults(TM.getName(), outputDir, netlist, results);
-    /*
-     * placing
-     */
-    currentStage = appCfg.getStageByName("placing");
-    final PLRuntimeObject PL =
-        new PLRuntimeObject(currentStage, td, netlistConstraint, netlist, results, runEnv);
-    PL.execute();
-    // Write netlist
-    Main.writeJsonForNetlist(runEnv, netlist, inputFilePath);
-    ResultsUtils.writeNetlistResults(PL.getName(), outputDir, netlist, results);
-    /*
-     * export.
-     */
-    currentStage = appCfg.getStageByName("export");
-    final EXRuntimeObject EX =
-        new EXRuntimeObject(currentStage, td, netlistConstraint, netlist, results, runEnv);
-    EX.execute();
-    // Write netlist
-    Main.writeJsonForNetlist(runEnv, netlist, inputFilePath);
-    ResultsUtils.writeNetlistResults(EX.getName(), outputDir, netlist, results);
+    final String outputNetlistFilePath = Main.getOutputNetlistFilename(runEnv, inputFilePath);
+    // netlists are written in the background, overlapping the next stage; if a stage throws, a
+    // failure to close the writer is suppressed rather than replacing the stage's exception
+    try (NetlistWriter writer = new NetlistWriter(results)) {
+      /*
+       * Stages
+       */
+      Stage currentStage = null;
+      /*
+       * logicSynthesis
+       */
+      currentStage = appCfg.getStageByName("logicSynthesis");
+      final LSRuntimeObject LS =
+          new LSRuntimeObject(currentStage, td, netlistConstraint, netlist, results, runEnv);
+      LS.execute();
+      // Write netlist
+      writer.writeJson(LS.getName(), netlist, outputNetlistFilePath);
+      writer.writeResults(LS.getName(), outputDir, netlist);
+      Main.getLogger().info(LSResultsStats.getLogicSynthesisStats(netlist));
+      // logicOptimization
+      // currentStage = appCfg.getStageByName("logicOptimization");
+      // LORuntimeObject LO = new LORuntimeObject(currentStage, td, netlistConstraint,
+      // netlist, runEnv);
+      // LO.execute();
+      // File loDotFile = new File(outputDir, netlist.getName() +
+      // "_logicOptimization" + ".dot");
+      // NetlistUtils.writeDotFileForGraph(netlist, loDotFile.getAbsolutePath());
+      // Dot2Pdf.dot2pdf(loDotFile);
+      // Main.getLogger().info(LOResultsStats.getLogicOptimizationStats(netlist));
+      // clustering
+      // currentStage = appCfg.getStageByName("clustering");
+      // CLRuntimeObject CL = new CLRuntimeObject(currentStage, td, netlistConstraint,
+      // netlist, runEnv);
+      // CL.execute();
+      // partitioning
+      // currentStage = appCfg.getStageByName("partitioning");
+      // PTRuntimeObject PT = new PTRuntimeObject(currentStage, td, netlistConstraint,
+      // netlist, runEnv);
+      // PT.execute();
+      // Main.printPartitioningGraphs(runEnv, netlist);
+      // Main.getLogger().info(PTResultsStats.getPartitioningStats(netlist));
+      // netlist = new PTBlockNetlist(netlist).getVirtualLargeNetlistFO();
+      // Write netlist
+      // Main.writeJsonForNetlist(runEnv, netlist, inputFilePath);
+      /*
+       * technologyMapping
+       */
+      currentStage = appCfg.getStageByName("technologyMapping");
+      final TMRuntimeObject TM =
+          new TMRuntimeObject(currentStage, td, netlistConstraint, netlist, results, runEnv);
+      TM.execute();
+      // Write netlist
+      writer.writeJson(TM.getName(), netlist, outputNetlistFilePath);
+      writer.writeResults(TM.getName(), outputDir, netlist);
+      /*
+       * placing
+       */
+      currentStage = appCfg.getStageByName("placing");
+      final PLRuntimeObject PL =
+          new PLRuntimeObject(currentStage, td, netlistConstraint, netlist, results, runEnv);
+      PL.execute();
+      // Write netlist
+      writer.writeJson(PL.getName(), netlist, outputNetlistFilePath);
+      writer.writeResults(PL.getName(), outputDir, netlist);
+      /*
+       * export.
+       */
+      currentStage = appCfg.getStageByName("export");
+      final EXRuntimeObject EX =
+          new EXRuntimeObject(currentStage, td, netlistConstraint, netlist, results, runEnv);
+      EX.execute();
+      // Write netlist
+      writer.writeJson(EX.getName(), netlist, outputNetlistFilePath);
+      writer.writeResults(EX.getName(), outputDir, netlist);
+    }
+    ResultsUtils.closeResults(results);
+    return results;
   }
 
   protected static void writeJsonForNetlist(
       final DNACompilerRuntimeEnv runEnv, final Netlist netlist, final String inputFilePath) {
-    String outputNetlistFilePath = null;
-    outputNetlistFilePath = runEnv.getOptionValue(ArgString.OUTPUTNETLIST);
-    if (outputNetlistFilePath == null) {
-      outputNetlistFilePath = "";
-      outputNetlistFilePath += runEnv.getOptionValue(ArgString.OUTPUTDIR);
-      outputNetlistFilePath += Utils.getFileSeparator();
-      outputNetlistFilePath += Utils.getFilename(inputFilePath);
-      outputNetlistFilePath += "_outputNetlist";
-      outputNetlistFilePath += ".json";
+    NetlistUtils.writeJsonForNetlist(netlist, Main.getOutputNetlistFilename(runEnv, inputFilePath));
+  }
+
+  /**
+   * Returns the path of the output netlist file for the DNACompilerRuntimeEnv defined by parameter
+   * {@code runEnv}.
+   *
+   * @param runEnv The DNACompilerRuntimeEnv.
+   * @param inputFilePath The path of the input netlist file.
+   * @return The path of the output netlist file.
+   */
+  protected static String getOutputNetlistFilename(
+      final DNACompilerRuntimeEnv runEnv, final String inputFilePath) {
+    String rtn = null;
+    rtn = runEnv.getOptionValue(ArgString.OUTPUTNETLIST);
+    if (rtn == null) {
+      rtn = "";
+      rtn += runEnv.getOptionValue(ArgString.OUTPUTDIR);
+      rtn += Utils.getFileSeparator();
+      rtn += Utils.getFilename(inputFilePath);
+      rtn += "_outputNetlist";
+      rtn += ".json";
     }
-    NetlistUtils.writeJsonForNetlist(netlist, outputNetlistFilePath);
+    return rtn;
   }
 
   /**
@@ -249,16 +315,28 @@ public class Main {
    * @param runEnv The DNACompilerRuntimeEnv.
    */
   protected static void setupLogger(final DNACompilerRuntimeEnv runEnv) {
-    String logfile = runEnv.getOptionValue(ArgString.LOGFILENAME);
-    if (logfile == null) {
-      logfile = "log.log";
-    }
-    logfile = runEnv.getOptionValue(ArgString.OUTPUTDIR) + Utils.getFileSeparator() + logfile;
+    final String logfile = Main.getLogFilename(runEnv);
     // the logger will write to the specified file
     System.setProperty("logfile.name", logfile);
     Main.logger = LogManager.getLogger(Main.class);
   }
 
+  /**
+   * Returns the path of the log file for the DNACompilerRuntimeEnv defined by parameter {@code
+   * runEnv}.
+   *
+   * @param runEnv The DNACompilerRuntimeEnv.
+   * @return The path of the log file.
+   */
+  protected static String getLogFilename(final DNACompilerRuntimeEnv runEnv) {
+    String rtn = runEnv.getOptionValue(ArgString.LOGFILENAME);
+    if (rtn == null) {
+      rtn = "log.log";
+    }
+    rtn = runEnv.getOptionValue(ArgString.OUTPUTDIR) + Utils.getFileSeparator() + rtn;
+    return rtn;
+  }
+
   /**
    * Returns the {@link Logger}.
    *
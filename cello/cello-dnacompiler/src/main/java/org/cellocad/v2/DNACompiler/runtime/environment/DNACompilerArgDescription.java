@@ -27,4 +27,16 @@ import org.cellocad.v2.common.application.runtime.environment.ApplicationArgDesc
  * @author Vincent Mirian
  * @date 2018-05-21
  */
-public class DNACompilerArgDescription extends ApplicationArgDescription {}
+public class DNACompilerArgDescription extends ApplicationArgDescription {
+
+  /*
+   * Batch
+   */
+  /** String representing the BATCHFILE command line argument description. */
+  public static final String BATCHFILE_DESCRIPTION =
+      "path to a file of jobs, one per line: input netlist file, output directory and optional"
+          + " netlist constraint file; - reads jobs from standard input";
+
+  /** String representing the THREADS command line argument description. */
+  public static final String THREADS_DESCRIPTION = "number of jobs to compile concurrently";
+}
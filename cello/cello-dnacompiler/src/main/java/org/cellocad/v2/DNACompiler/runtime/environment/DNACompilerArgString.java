@@ -28,4 +28,14 @@ import org.cellocad.v2.common.application.runtime.environment.ApplicationArgStri
  * @author Vincent Mirian
  * @date 2018-05-21
  */
-public class DNACompilerArgString extends ApplicationArgString {}
+public class DNACompilerArgString extends ApplicationArgString {
+
+  /*
+   * Batch
+   */
+  /** String referencing the BATCHFILE command line argument. */
+  public static final String BATCHFILE = "batchFile";
+
+  /** String referencing the THREADS command line argument. */
+  public static final String THREADS = "threads";
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.DNACompiler.runtime.environment;
+
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+
+/**
+ * Manages and parses command line arguments for the batch mode of the <i>DNACompiler</i>
+ * application. The input netlist is given per job in the batch file rather than on the command
+ * line.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class DNACompilerBatchRuntimeEnv extends DNACompilerRuntimeEnv {
+
+  /**
+   * Initializes a newly created {@link DNACompilerBatchRuntimeEnv} with command line argument(s),
+   * <i>args</i>.
+   *
+   * @param args command line argument(s).
+   */
+  public DNACompilerBatchRuntimeEnv(final String[] args) {
+    super(args);
+  }
+
+  /** Setter for {@code options}. */
+  @Override
+  protected void setOptions() {
+    super.setOptions();
+    final Options options = getOptions();
+    options.addOption(getBatchFileOption());
+    options.addOption(getThreadsOption());
+  }
+
+  /*
+   * Options
+   */
+  /**
+   * Getter for the INPUTNETLIST Option. This option is not required in batch mode.
+   *
+   * @return The INPUTNETLIST Option for this instance.
+   */
+  @Override
+  protected Option getInputNetlistOption() {
+    final Option rtn = super.getInputNetlistOption();
+    makeNotRequired(rtn);
+    return rtn;
+  }
+
+  /**
+   * Getter for the BATCHFILE Option. This option is required.
+   *
+   * @return The BATCHFILE Option for this instance.
+   */
+  protected Option getBatchFileOption() {
+    final Option rtn =
+        new Option(
+            DNACompilerArgString.BATCHFILE, true, DNACompilerArgDescription.BATCHFILE_DESCRIPTION);
+    makeRequired(rtn);
+    return rtn;
+  }
+
+  /**
+   * Getter for the THREADS Option.
+   *
+   * @return The THREADS Option for this instance.
+   */
+  protected Option getThreadsOption() {
+    final Option rtn =
+        new Option(
+            DNACompilerArgString.THREADS, true, DNACompilerArgDescription.THREADS_DESCRIPTION);
+    return rtn;
+  }
+
+  @Override
+  protected String getDefault(final String str) {
+    String rtn = super.getDefault(str);
+    if (str.equals(DNACompilerArgString.THREADS)) {
+      rtn = String.valueOf(Runtime.getRuntime().availableProcessors());
+    }
+    return rtn;
+  }
+}
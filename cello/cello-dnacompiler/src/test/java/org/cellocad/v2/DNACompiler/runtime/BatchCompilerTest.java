@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cellocad.v2.DNACompiler.runtime;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.io.File;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BatchCompiler}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class BatchCompilerTest {
+
+  private static String[] getJobArguments(final String[] args, final BatchJob job) {
+    try (BatchCompiler compiler = new BatchCompiler(args, null, null, 1)) {
+      return compiler.getJobArguments(job);
+    }
+  }
+
+  @Test
+  public void getJobArguments_SharedArguments_ShouldKeepArgumentsAndAddJob() {
+    final String[] args = {"-userConstraintsFile", "lib.UCF.json", "-pythonEnv", "python"};
+    final BatchJob job = new BatchJob(new File("and.v"), new File("out/and"), null);
+    final String[] expected = {
+      "-userConstraintsFile",
+      "lib.UCF.json",
+      "-pythonEnv",
+      "python",
+      "-inputNetlist",
+      "and.v",
+      "-outputDir",
+      "out/and"
+    };
+    assertArrayEquals(expected, getJobArguments(args, job));
+  }
+
+  @Test
+  public void getJobArguments_JobOptions_ShouldReplaceWithJob() {
+    final String[] args = {
+      "-batchFile",
+      "jobs.txt",
+      "-threads",
+      "4",
+      "-inputNetlist",
+      "xor.v",
+      "--outputDir",
+      "out",
+      "-outputNetlist",
+      "out/xor.json",
+      "-netlistConstraintFile",
+      "xor.constraints.json",
+      "-userConstraintsFile",
+      "lib.UCF.json"
+    };
+    final BatchJob job =
+        new BatchJob(new File("and.v"), new File("out/and"), new File("and.constraints.json"));
+    final String[] expected = {
+      "-userConstraintsFile",
+      "lib.UCF.json",
+      "-inputNetlist",
+      "and.v",
+      "-outputDir",
+      "out/and",
+      "-netlistConstraintFile",
+      "and.constraints.json"
+    };
+    assertArrayEquals(expected, getJobArguments(args, job));
+  }
+
+  @Test
+  public void getJobArguments_JobOptionsWithValue_ShouldReplaceWithJob() {
+    final String[] args = {"--outputDir=out", "-threads=4", "-pythonEnv", "python"};
+    final BatchJob job = new BatchJob(new File("and.v"), new File("out/and"), null);
+    final String[] expected = {
+      "-pythonEnv", "python", "-inputNetlist", "and.v", "-outputDir", "out/and"
+    };
+    assertArrayEquals(expected, getJobArguments(args, job));
+  }
+
+  @Test
+  public void getJobArguments_JobWithoutConstraint_ShouldDropSharedConstraint() {
+    final String[] args = {"-netlistConstraintFile", "xor.constraints.json"};
+    final BatchJob job = new BatchJob(new File("and.v"), new File("out/and"), null);
+    final String[] expected = {"-inputNetlist", "and.v", "-outputDir", "out/and"};
+    assertArrayEquals(expected, getJobArguments(args, job));
+  }
+
+  @Test
+  public void getJobArguments_TwoJobs_ShouldUseOwnOutputDir() {
+    final String[] args = {"-pythonEnv", "python"};
+    try (BatchCompiler compiler = new BatchCompiler(args, null, null, 2)) {
+      final String[] and =
+          compiler.getJobArguments(new BatchJob(new File("and.v"), new File("out/and"), null));
+      final String[] xor =
+          compiler.getJobArguments(new BatchJob(new File("xor.v"), new File("out/xor"), null));
+      assertArrayEquals(
+          new String[] {"-pythonEnv", "python", "-inputNetlist", "and.v", "-outputDir", "out/and"},
+          and);
+      assertArrayEquals(
+          new String[] {"-pythonEnv", "python", "-inputNetlist", "xor.v", "-outputDir", "out/xor"},
+          xor);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cellocad.v2.DNACompiler.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BatchJob}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class BatchJobTest {
+
+  @Test
+  public void parse_InputAndOutput_ShouldReturnJob() {
+    final BatchJob job = BatchJob.parse("and.v out/and");
+    assertEquals(new File("and.v"), job.getInputNetlist());
+    assertEquals(new File("out/and"), job.getOutputDir());
+    assertNull(job.getNetlistConstraintFile());
+    assertEquals("and.v", job.toString());
+  }
+
+  @Test
+  public void parse_InputOutputAndConstraint_ShouldReturnJob() {
+    final BatchJob job = BatchJob.parse("  and.v\tout/and   and.constraints.json  ");
+    assertEquals(new File("and.v"), job.getInputNetlist());
+    assertEquals(new File("out/and"), job.getOutputDir());
+    assertEquals(new File("and.constraints.json"), job.getNetlistConstraintFile());
+  }
+
+  @Test
+  public void parse_Blank_ShouldReturnNull() {
+    assertNull(BatchJob.parse(""));
+    assertNull(BatchJob.parse(" \t "));
+  }
+
+  @Test
+  public void parse_Comment_ShouldReturnNull() {
+    assertNull(BatchJob.parse("# and.v out/and"));
+    assertNull(BatchJob.parse("  #and.v out/and"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void parse_MissingOutputDir_ShouldThrow() {
+    BatchJob.parse("and.v");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void parse_ExtraField_ShouldThrow() {
+    BatchJob.parse("and.v out/and and.constraints.json extra");
+  }
+}
@@ -34,6 +34,7 @@ import org.cellocad.v2.common.target.data.TargetData;
 import org.cellocad.v2.common.target.data.TargetDataUtils;
 import org.cellocad.v2.export.runtime.environment.EXRuntimeEnv;
 import org.cellocad.v2.results.common.Results;
+import org.cellocad.v2.results.common.ResultsUtils;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistUtils;
 
@@ -108,6 +109,7 @@ public class Main {
       outputFilename += ".json";
     }
     NetlistUtils.writeJsonForNetlist(netlist, outputFilename);
+    ResultsUtils.closeResults(results);
   }
 
   /**
@@ -24,7 +24,8 @@ import org.cellocad.v2.common.target.data.TargetData;
 import org.cellocad.v2.common.target.data.TargetDataInstance;
 
 /**
- * A target data instance for the <i>export</i> stage.
+ * A target data instance for the <i>export</i> stage. The stage sets the URIs of parts and devices,
+ * so unlike the other stages it does not share the objects of the target data.
  *
  * @author Timothy Jones
  * @date 2020-02-14
@@ -32,6 +33,6 @@ import org.cellocad.v2.common.target.data.TargetDataInstance;
 public class EXTargetDataInstance extends TargetDataInstance {
 
   public EXTargetDataInstance(final TargetData td) throws CelloException {
-    super(td);
+    super(TargetDataInstance.create(td));
   }
 }
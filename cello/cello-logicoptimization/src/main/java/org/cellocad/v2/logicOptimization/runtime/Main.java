@@ -34,6 +34,7 @@ import org.cellocad.v2.common.target.data.TargetData;
 import org.cellocad.v2.common.target.data.TargetDataUtils;
 import org.cellocad.v2.logicOptimization.runtime.environment.LORuntimeEnv;
 import org.cellocad.v2.results.common.Results;
+import org.cellocad.v2.results.common.ResultsUtils;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistUtils;
 
@@ -109,6 +110,7 @@ public class Main {
       outputFilename += ".json";
     }
     NetlistUtils.writeJsonForNetlist(netlist, outputFilename);
+    ResultsUtils.closeResults(results);
   }
 
   /**
@@ -116,6 +116,7 @@ public class Main {
     // Results
     NetlistUtils.writeJsonForNetlist(netlist, outputFilename);
     ResultsUtils.writeNetlistResults(LS.getName(), outputDir, netlist, results);
+    ResultsUtils.closeResults(results);
   }
 
   /**
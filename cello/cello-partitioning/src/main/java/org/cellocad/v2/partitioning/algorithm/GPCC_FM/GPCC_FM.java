@@ -0,0 +1,390 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.partitioning.algorithm.GPCC_FM;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.runtime.environment.ArgString;
+import org.cellocad.v2.partitioning.algorithm.GPCC_BASE.GPCC_BASE;
+import org.cellocad.v2.partitioning.algorithm.GPCC_FM.data.GPCC_FMNetlistData;
+import org.cellocad.v2.partitioning.algorithm.GPCC_FM.data.GPCC_FMNetlistEdgeData;
+import org.cellocad.v2.partitioning.algorithm.GPCC_FM.data.GPCC_FMNetlistNodeData;
+import org.cellocad.v2.partitioning.common.Block;
+import org.cellocad.v2.partitioning.common.Move;
+import org.cellocad.v2.partitioning.netlist.PTNetlist;
+import org.cellocad.v2.partitioning.netlist.PTNetlistEdge;
+import org.cellocad.v2.partitioning.netlist.PTNetlistNode;
+import org.cellocad.v2.partitioning.netlist.PTNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+
+/**
+ * The implementation of the <i>GPCC_FM</i> algorithm in the <i>partitioning</i> stage: an
+ * in-process multilevel partitioner, with Fiduccia-Mattheyses refinement, of the cells into the
+ * blocks of the partition, subject to the capacity of each block.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class GPCC_FM extends GPCC_BASE {
+
+  /**
+   * Returns the {@link GPCC_FMNetlistNodeData} of the given node.
+   *
+   * @param node A node within the netlist of this instance.
+   * @return The {@link GPCC_FMNetlistNodeData} instance if it exists, null otherwise.
+   */
+  protected GPCC_FMNetlistNodeData getGpccFmNetlistNodeData(final NetlistNode node) {
+    GPCC_FMNetlistNodeData rtn = null;
+    rtn = (GPCC_FMNetlistNodeData) node.getNetlistNodeData();
+    return rtn;
+  }
+
+  /**
+   * Returns the {@link GPCC_FMNetlistEdgeData} of the given edge.
+   *
+   * @param edge An edge within the netlist of this instance.
+   * @return The {@link GPCC_FMNetlistEdgeData} instance if it exists, null otherwise.
+   */
+  protected GPCC_FMNetlistEdgeData getGpccFmNetlistEdgeData(final NetlistEdge edge) {
+    GPCC_FMNetlistEdgeData rtn = null;
+    rtn = (GPCC_FMNetlistEdgeData) edge.getNetlistEdgeData();
+    return rtn;
+  }
+
+  /**
+   * Returns the {@link GPCC_FMNetlistData} of the given netlist.
+   *
+   * @param netlist The netlist of this instance.
+   * @return The {@link GPCC_FMNetlistData} instance if it exists, null otherwise.
+   */
+  protected GPCC_FMNetlistData getGpccFmNetlistData(final Netlist netlist) {
+    GPCC_FMNetlistData rtn = null;
+    rtn = (GPCC_FMNetlistData) netlist.getNetlistData();
+    return rtn;
+  }
+
+  /** Set parameter values of the algorithm. */
+  @Override
+  protected void setParameterValues() {
+    super.setParameterValues();
+    Boolean present = true;
+    present = getAlgorithmProfile().getIntParameter("Runs").getFirst();
+    if (present) {
+      setRuns(getAlgorithmProfile().getIntParameter("Runs").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("Passes").getFirst();
+    if (present) {
+      setPasses(getAlgorithmProfile().getIntParameter("Passes").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("CoarsenTo").getFirst();
+    if (present) {
+      setCoarsenTo(getAlgorithmProfile().getIntParameter("CoarsenTo").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("Seed").getFirst();
+    if (present) {
+      setSeed(getAlgorithmProfile().getIntParameter("Seed").getSecond());
+    }
+  }
+
+  /** Validate parameter values of the algorithm. */
+  @Override
+  protected void validateParameterValues() {
+    super.validateParameterValues();
+    if (getRuns() == null || getRuns() <= 0) {
+      setRuns(1);
+    }
+    if (getPasses() == null || getPasses() < 0) {
+      setPasses(8);
+    }
+    if (getCoarsenTo() == null || getCoarsenTo() < 0) {
+      setCoarsenTo(0);
+    }
+    if (getSeed() == null) {
+      setSeed(0);
+    }
+  }
+
+  /**
+   * Gets the largest total weight of the cells in a block, i.e. the smallest upper bound of the
+   * capacities of the block. The solution is checked against the capacities themselves.
+   *
+   * @param block The block.
+   * @return The largest total weight of the cells in the block.
+   */
+  private static int getMaxLoad(final Block block) {
+    int rtn = Integer.MAX_VALUE;
+    for (int k = 0; k < block.getNumCapacity(); k++) {
+      // the upper bound of a capacity is exclusive
+      rtn = Math.min(rtn, block.getCapacityAtIdx(k).getUpperBound() - 1);
+    }
+    return rtn;
+  }
+
+  /**
+   * Perform preprocessing.
+   *
+   * @throws CelloException Unable to perform preprocessing.
+   */
+  @Override
+  protected void preprocessing() throws CelloException {
+    super.preprocessing();
+    final List<PTNetlistNode> cells = getPTCellList();
+    final List<Block> blocks = getBlockList();
+    final List<Set<Integer>> cellBlocks = getCellBlockList();
+    final Map<PTNetlistNode, Integer> index = new HashMap<>();
+    final int[] weights = new int[cells.size()];
+    final boolean[][] allowed = new boolean[cells.size()][blocks.size()];
+    for (int i = 0; i < cells.size(); i++) {
+      index.put(cells.get(i), i);
+      weights[i] = cells.get(i).getMyWeight().getTotal();
+      for (final Integer j : cellBlocks.get(i)) {
+        allowed[i][j] = true;
+      }
+    }
+    final List<int[]> edges = new ArrayList<>();
+    final PTNetlist ptnetlist = getNetlister().getPTNetlist();
+    for (int i = 0; i < ptnetlist.getNumEdge(); i++) {
+      final PTNetlistEdge edge = ptnetlist.getEdgeAtIdx(i);
+      final Integer src = index.get(edge.getSrc());
+      final Integer dst = index.get(edge.getDst());
+      if (src == null || dst == null) {
+        continue;
+      }
+      edges.add(new int[] {src, dst});
+    }
+    final int[] capacities = new int[blocks.size()];
+    for (int j = 0; j < blocks.size(); j++) {
+      capacities[j] = getMaxLoad(blocks.get(j));
+    }
+    final GPCC_FMSolver solver = new GPCC_FMSolver(weights, edges, capacities, allowed);
+    solver.setPasses(getPasses());
+    solver.setCoarsenTo(getCoarsenTo());
+    solver.setSeed(getSeed());
+    setSolver(solver);
+    final String outputDir = getRuntimeEnv().getOptionValue(ArgString.OUTPUTDIR);
+    final String filename = Utils.getFilename(getNetlist().getInputFilename());
+    setPartitionDotFile(outputDir + Utils.getFileSeparator() + filename + "_FM.dot");
+  }
+
+  /**
+   * Run the (core) algorithm.
+   *
+   * @throws CelloException No assignment of cells to blocks respects the block capacities.
+   */
+  @Override
+  protected void run() throws CelloException {
+    final int[] assignment = getSolver().solve(getRuns());
+    if (assignment == null) {
+      throw new CelloException("GPCC_FM cannot find an assignment within the block capacities.");
+    }
+    logInfo(String.format("Cut of %d edges after %d runs.", getSolver().getCut(), getRuns()));
+    setAssignment(assignment);
+    final List<PTNetlistNode> cells = getPTCellList();
+    final List<Block> blocks = getBlockList();
+    final List<Move> moves = new ArrayList<>();
+    for (int i = 0; i < cells.size(); i++) {
+      final PTNetlistNode node = cells.get(i);
+      moves.add(new Move(node, node.getMyBlock(), blocks.get(assignment[i])));
+    }
+    if (!getPartitioner().getPartition().doMoves(moves)) {
+      throw new CelloException("GPCC_FM cannot assign the cells to their blocks.");
+    }
+    int used = 0;
+    for (final Block block : blocks) {
+      if (block.getNumPNode() == 0) {
+        continue;
+      }
+      if (block.isOverflow()) {
+        throw new CelloException("GPCC_FM overflows block " + block.getName() + ".");
+      }
+      used++;
+    }
+    logInfo("Using block number is : " + used);
+  }
+
+  /** Perform postprocessing. */
+  @Override
+  protected void postprocessing() {
+    super.postprocessing();
+    getNetlister().getNetlist();
+    PTNetlistUtils.writeDotFileForPartition(getNetlister().getPTNetlist(), getPartitionDotFile());
+  }
+
+  /**
+   * Returns the {@link Logger} for the <i>GPCC_FM</i> algorithm.
+   *
+   * @return The {@link Logger} for the <i>GPCC_FM</i> algorithm.
+   */
+  @Override
+  protected Logger getLogger() {
+    return GPCC_FM.logger;
+  }
+
+  private static final Logger logger = LogManager.getLogger(GPCC_FM.class);
+
+  /**
+   * Getter for {@code runs}.
+   *
+   * @return The value of {@code runs}.
+   */
+  protected Integer getRuns() {
+    return runs;
+  }
+
+  /**
+   * Setter for {@code runs}.
+   *
+   * @param runs The value to set {@code runs}.
+   */
+  protected void setRuns(final Integer runs) {
+    this.runs = runs;
+  }
+
+  private Integer runs;
+
+  /**
+   * Getter for {@code passes}.
+   *
+   * @return The value of {@code passes}.
+   */
+  protected Integer getPasses() {
+    return passes;
+  }
+
+  /**
+   * Setter for {@code passes}.
+   *
+   * @param passes The value to set {@code passes}.
+   */
+  protected void setPasses(final Integer passes) {
+    this.passes = passes;
+  }
+
+  private Integer passes;
+
+  /**
+   * Getter for {@code coarsenTo}.
+   *
+   * @return The value of {@code coarsenTo}.
+   */
+  protected Integer getCoarsenTo() {
+    return coarsenTo;
+  }
+
+  /**
+   * Setter for {@code coarsenTo}.
+   *
+   * @param coarsenTo The value to set {@code coarsenTo}.
+   */
+  protected void setCoarsenTo(final Integer coarsenTo) {
+    this.coarsenTo = coarsenTo;
+  }
+
+  private Integer coarsenTo;
+
+  /**
+   * Getter for {@code seed}.
+   *
+   * @return The value of {@code seed}.
+   */
+  protected Integer getSeed() {
+    return seed;
+  }
+
+  /**
+   * Setter for {@code seed}.
+   *
+   * @param seed The value to set {@code seed}.
+   */
+  protected void setSeed(final Integer seed) {
+    this.seed = seed;
+  }
+
+  private Integer seed;
+
+  /**
+   * Getter for {@code solver}.
+   *
+   * @return The value of {@code solver}.
+   */
+  protected GPCC_FMSolver getSolver() {
+    return solver;
+  }
+
+  /**
+   * Setter for {@code solver}.
+   *
+   * @param solver The value to set {@code solver}.
+   */
+  protected void setSolver(final GPCC_FMSolver solver) {
+    this.solver = solver;
+  }
+
+  private GPCC_FMSolver solver;
+
+  /**
+   * Getter for {@code assignment}.
+   *
+   * @return The block index of each cell of {@link #getPTCellList()}.
+   */
+  protected int[] getAssignment() {
+    return assignment;
+  }
+
+  /**
+   * Setter for {@code assignment}.
+   *
+   * @param assignment The value to set {@code assignment}.
+   */
+  protected void setAssignment(final int[] assignment) {
+    this.assignment = assignment;
+  }
+
+  private int[] assignment;
+
+  /**
+   * Getter for {@code partitionDotFile}.
+   *
+   * @return The value of {@code partitionDotFile}.
+   */
+  protected String getPartitionDotFile() {
+    return partitionDotFile;
+  }
+
+  /**
+   * Setter for {@code partitionDotFile}.
+   *
+   * @param partitionDotFile The value to set {@code partitionDotFile}.
+   */
+  protected void setPartitionDotFile(final String partitionDotFile) {
+    this.partitionDotFile = partitionDotFile;
+  }
+
+  private String partitionDotFile;
+}
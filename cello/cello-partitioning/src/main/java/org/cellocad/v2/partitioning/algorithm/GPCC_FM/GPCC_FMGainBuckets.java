@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.partitioning.algorithm.GPCC_FM;
+
+import java.util.Arrays;
+
+/**
+ * The gain buckets of the <i>GPCC_FM</i> algorithm: the cells that may move, bucketed by the gain
+ * of their best move, so that a cell with the highest gain is found in constant amortized time.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class GPCC_FMGainBuckets {
+
+  /**
+   * Initializes a newly created {@link GPCC_FMGainBuckets}.
+   *
+   * @param numCells The number of cells.
+   * @param maxGain The largest absolute value of a gain.
+   */
+  public GPCC_FMGainBuckets(final int numCells, final int maxGain) {
+    this.maxGain = maxGain;
+    heads = new int[2 * maxGain + 1];
+    next = new int[numCells];
+    prev = new int[numCells];
+    gains = new int[numCells];
+    contained = new boolean[numCells];
+    clear();
+  }
+
+  /** Removes every cell. */
+  public void clear() {
+    Arrays.fill(heads, -1);
+    Arrays.fill(contained, false);
+    top = -1;
+  }
+
+  /**
+   * Inserts a cell, or moves it to a new bucket if it is already contained.
+   *
+   * @param cell The cell.
+   * @param gain The gain of the best move of the cell.
+   */
+  public void insert(final int cell, final int gain) {
+    if (contained[cell]) {
+      remove(cell);
+    }
+    final int b = gain + maxGain;
+    gains[cell] = gain;
+    prev[cell] = -1;
+    next[cell] = heads[b];
+    if (heads[b] >= 0) {
+      prev[heads[b]] = cell;
+    }
+    heads[b] = cell;
+    contained[cell] = true;
+    if (b > top) {
+      top = b;
+    }
+  }
+
+  /**
+   * Removes a cell if it is contained.
+   *
+   * @param cell The cell.
+   */
+  public void remove(final int cell) {
+    if (!contained[cell]) {
+      return;
+    }
+    final int b = gains[cell] + maxGain;
+    if (prev[cell] >= 0) {
+      next[prev[cell]] = next[cell];
+    } else {
+      heads[b] = next[cell];
+    }
+    if (next[cell] >= 0) {
+      prev[next[cell]] = prev[cell];
+    }
+    contained[cell] = false;
+  }
+
+  /**
+   * Removes a cell with the highest gain.
+   *
+   * @return The cell, or -1 if there are no cells.
+   */
+  public int pop() {
+    while (top >= 0 && heads[top] < 0) {
+      top--;
+    }
+    int rtn = -1;
+    if (top >= 0) {
+      rtn = heads[top];
+      remove(rtn);
+    }
+    return rtn;
+  }
+
+  /**
+   * Tests whether a cell is contained.
+   *
+   * @param cell The cell.
+   * @return Whether the cell is contained.
+   */
+  public boolean contains(final int cell) {
+    return contained[cell];
+  }
+
+  /**
+   * Returns the gain with which a cell was inserted.
+   *
+   * @param cell The cell.
+   * @return The gain with which the cell was inserted.
+   */
+  public int getGain(final int cell) {
+    return gains[cell];
+  }
+
+  private final int maxGain;
+  private final int[] heads;
+  private final int[] next;
+  private final int[] prev;
+  private final int[] gains;
+  private final boolean[] contained;
+  private int top;
+}
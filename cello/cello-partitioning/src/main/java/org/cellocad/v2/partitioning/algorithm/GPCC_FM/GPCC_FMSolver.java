@@ -0,0 +1,497 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.partitioning.algorithm.GPCC_FM;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A multilevel partitioner of a graph of cells into blocks of limited capacity. The graph is
+ * coarsened by heavy-edge matching, the coarsest graph is partitioned greedily, and the partition
+ * is projected back through the levels and refined at each level by Fiduccia-Mattheyses passes over
+ * {@link GPCC_FMGainBuckets}. The objective is the weight of the cut edges. A cell is only ever
+ * assigned to a block that it is allowed in and whose capacity the cell does not exceed.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class GPCC_FMSolver {
+
+  /** A level of the multilevel hierarchy, i.e. a graph in compressed sparse row format. */
+  private static class Level {
+    private int numCells;
+    private int[] weights;
+    private boolean[][] allowed;
+    private int[] xadj;
+    private int[] adj;
+    private int[] adjWeights;
+    // the cell of the next coarser level to which each cell is matched
+    private int[] map;
+  }
+
+  /**
+   * Initializes a newly created {@link GPCC_FMSolver}.
+   *
+   * @param weights The weight of each cell.
+   * @param edges The edges, each the indices of two cells and optionally a weight. Edges are
+   *     undirected, and parallel edges are merged.
+   * @param capacities The maximum total weight of the cells in each block.
+   * @param allowed Whether each cell may be assigned to each block.
+   */
+  public GPCC_FMSolver(
+      final int[] weights,
+      final List<int[]> edges,
+      final int[] capacities,
+      final boolean[][] allowed) {
+    numBlocks = capacities.length;
+    this.capacities = capacities.clone();
+    final List<List<int[]>> nbrs = new ArrayList<>();
+    for (int i = 0; i < weights.length; i++) {
+      nbrs.add(new ArrayList<>());
+    }
+    for (final int[] e : edges) {
+      final int w = e.length > 2 ? e[2] : 1;
+      if (e[0] == e[1]) {
+        continue;
+      }
+      nbrs.get(e[0]).add(new int[] {e[1], w});
+      nbrs.get(e[1]).add(new int[] {e[0], w});
+    }
+    final boolean[][] a = new boolean[weights.length][];
+    for (int i = 0; i < weights.length; i++) {
+      a[i] = Arrays.copyOf(allowed[i], numBlocks);
+    }
+    level = getLevel(weights.clone(), a, nbrs);
+    passes = 8;
+    coarsenTo = 0;
+    random = new Random(0);
+    cut = -1;
+  }
+
+  private static Level getLevel(
+      final int[] weights, final boolean[][] allowed, final List<List<int[]>> nbrs) {
+    final int n = weights.length;
+    int total = 0;
+    for (final List<int[]> l : nbrs) {
+      total += l.size();
+    }
+    final int[] xadj = new int[n + 1];
+    final int[] adj = new int[total];
+    final int[] adjWeights = new int[total];
+    final int[] pos = new int[n];
+    Arrays.fill(pos, -1);
+    int k = 0;
+    for (int v = 0; v < n; v++) {
+      xadj[v] = k;
+      for (final int[] e : nbrs.get(v)) {
+        final int u = e[0];
+        if (pos[u] >= xadj[v]) {
+          adjWeights[pos[u]] += e[1];
+        } else {
+          pos[u] = k;
+          adj[k] = u;
+          adjWeights[k] = e[1];
+          k++;
+        }
+      }
+    }
+    xadj[n] = k;
+    final Level rtn = new Level();
+    rtn.numCells = n;
+    rtn.weights = weights;
+    rtn.allowed = allowed;
+    rtn.xadj = xadj;
+    rtn.adj = Arrays.copyOf(adj, k);
+    rtn.adjWeights = Arrays.copyOf(adjWeights, k);
+    return rtn;
+  }
+
+  /*
+   * Coarsening
+   */
+
+  private int getCapacity(final boolean[] a, final boolean[] b) {
+    int rtn = -1;
+    for (int j = 0; j < numBlocks; j++) {
+      if (a[j] && b[j] && capacities[j] > rtn) {
+        rtn = capacities[j];
+      }
+    }
+    return rtn;
+  }
+
+  private int[] getRandomOrder(final int n) {
+    final List<Integer> list = new ArrayList<>();
+    for (int i = 0; i < n; i++) {
+      list.add(i);
+    }
+    Collections.shuffle(list, random);
+    final int[] rtn = new int[n];
+    for (int i = 0; i < n; i++) {
+      rtn[i] = list.get(i);
+    }
+    return rtn;
+  }
+
+  private Level coarsen(final Level fine) {
+    final int n = fine.numCells;
+    final int[] match = new int[n];
+    Arrays.fill(match, -1);
+    // match each cell with the unmatched neighbor joined by the heaviest edge
+    for (final int v : getRandomOrder(n)) {
+      if (match[v] >= 0) {
+        continue;
+      }
+      int best = v;
+      int bestWeight = 0;
+      for (int e = fine.xadj[v]; e < fine.xadj[v + 1]; e++) {
+        final int u = fine.adj[e];
+        if (match[u] >= 0 || fine.adjWeights[e] <= bestWeight) {
+          continue;
+        }
+        final int w = fine.weights[v] + fine.weights[u];
+        if (getCapacity(fine.allowed[v], fine.allowed[u]) < w) {
+          continue;
+        }
+        best = u;
+        bestWeight = fine.adjWeights[e];
+      }
+      match[v] = best;
+      match[best] = v;
+    }
+    fine.map = new int[n];
+    int c = 0;
+    for (int v = 0; v < n; v++) {
+      if (match[v] >= v) {
+        fine.map[v] = c;
+        fine.map[match[v]] = c;
+        c++;
+      }
+    }
+    final int[] weights = new int[c];
+    final boolean[][] allowed = new boolean[c][];
+    final List<List<int[]>> nbrs = new ArrayList<>();
+    for (int i = 0; i < c; i++) {
+      nbrs.add(new ArrayList<>());
+    }
+    for (int v = 0; v < n; v++) {
+      final int cv = fine.map[v];
+      weights[cv] += fine.weights[v];
+      if (allowed[cv] == null) {
+        allowed[cv] = fine.allowed[v].clone();
+      } else {
+        for (int j = 0; j < numBlocks; j++) {
+          allowed[cv][j] = allowed[cv][j] && fine.allowed[v][j];
+        }
+      }
+      for (int e = fine.xadj[v]; e < fine.xadj[v + 1]; e++) {
+        final int cu = fine.map[fine.adj[e]];
+        if (cu != cv) {
+          nbrs.get(cv).add(new int[] {cu, fine.adjWeights[e]});
+        }
+      }
+    }
+    return getLevel(weights, allowed, nbrs);
+  }
+
+  /*
+   * Initial partition
+   */
+
+  private int[] getInitialPartition(final Level level) {
+    final int n = level.numCells;
+    final List<Integer> order = new ArrayList<>();
+    for (final int v : getRandomOrder(n)) {
+      order.add(v);
+    }
+    // heaviest first, to pack the cells that are hardest to place
+    Collections.sort(order, (a, b) -> Integer.compare(level.weights[b], level.weights[a]));
+    final int[] rtn = new int[n];
+    Arrays.fill(rtn, -1);
+    final int[] load = new int[numBlocks];
+    final int[] conn = new int[numBlocks];
+    for (final int v : order) {
+      Arrays.fill(conn, 0);
+      for (int e = level.xadj[v]; e < level.xadj[v + 1]; e++) {
+        final int b = rtn[level.adj[e]];
+        if (b >= 0) {
+          conn[b] += level.adjWeights[e];
+        }
+      }
+      int best = -1;
+      for (int j = 0; j < numBlocks; j++) {
+        if (!level.allowed[v][j] || load[j] + level.weights[v] > capacities[j]) {
+          continue;
+        }
+        if (best < 0
+            || conn[j] > conn[best]
+            || conn[j] == conn[best] && load[j] > load[best]) {
+          best = j;
+        }
+      }
+      if (best < 0) {
+        return null;
+      }
+      rtn[v] = best;
+      load[best] += level.weights[v];
+    }
+    return rtn;
+  }
+
+  /*
+   * Refinement
+   */
+
+  private int getBestBlock(
+      final Level level, final int[] part, final int[] load, final int[][] conn, final int v) {
+    int rtn = -1;
+    for (int j = 0; j < numBlocks; j++) {
+      if (j == part[v]
+          || !level.allowed[v][j]
+          || load[j] + level.weights[v] > capacities[j]) {
+        continue;
+      }
+      if (rtn < 0
+          || conn[v][j] > conn[v][rtn]
+          || conn[v][j] == conn[v][rtn] && load[j] > load[rtn]) {
+        rtn = j;
+      }
+    }
+    return rtn;
+  }
+
+  private static void move(
+      final Level level,
+      final int[] part,
+      final int[] load,
+      final int[][] conn,
+      final int v,
+      final int b) {
+    final int a = part[v];
+    load[a] -= level.weights[v];
+    load[b] += level.weights[v];
+    part[v] = b;
+    for (int e = level.xadj[v]; e < level.xadj[v + 1]; e++) {
+      final int u = level.adj[e];
+      conn[u][a] -= level.adjWeights[e];
+      conn[u][b] += level.adjWeights[e];
+    }
+  }
+
+  private void refine(final Level level, final int[] part) {
+    final int n = level.numCells;
+    final int[] load = new int[numBlocks];
+    final int[][] conn = new int[n][numBlocks];
+    int maxGain = 1;
+    for (int v = 0; v < n; v++) {
+      load[part[v]] += level.weights[v];
+      int degree = 0;
+      for (int e = level.xadj[v]; e < level.xadj[v + 1]; e++) {
+        conn[v][part[level.adj[e]]] += level.adjWeights[e];
+        degree += level.adjWeights[e];
+      }
+      maxGain = Math.max(maxGain, degree);
+    }
+    final GPCC_FMGainBuckets buckets = new GPCC_FMGainBuckets(n, maxGain);
+    final boolean[] locked = new boolean[n];
+    final int[] moved = new int[n];
+    final int[] from = new int[n];
+    for (int p = 0; p < passes; p++) {
+      buckets.clear();
+      Arrays.fill(locked, false);
+      for (int v = 0; v < n; v++) {
+        final int b = getBestBlock(level, part, load, conn, v);
+        if (b >= 0) {
+          buckets.insert(v, conn[v][b] - conn[v][part[v]]);
+        }
+      }
+      int numMoves = 0;
+      int gain = 0;
+      int bestGain = 0;
+      int bestMoves = 0;
+      int v;
+      while ((v = buckets.pop()) >= 0) {
+        // the loads may have changed since the cell was bucketed
+        final int b = getBestBlock(level, part, load, conn, v);
+        if (b < 0) {
+          locked[v] = true;
+          continue;
+        }
+        final int g = conn[v][b] - conn[v][part[v]];
+        if (g < buckets.getGain(v)) {
+          buckets.insert(v, g);
+          continue;
+        }
+        moved[numMoves] = v;
+        from[numMoves] = part[v];
+        numMoves++;
+        move(level, part, load, conn, v, b);
+        locked[v] = true;
+        gain += g;
+        if (gain > bestGain) {
+          bestGain = gain;
+          bestMoves = numMoves;
+        }
+        for (int e = level.xadj[v]; e < level.xadj[v + 1]; e++) {
+          final int u = level.adj[e];
+          if (locked[u]) {
+            continue;
+          }
+          final int bu = getBestBlock(level, part, load, conn, u);
+          if (bu < 0) {
+            buckets.remove(u);
+          } else {
+            buckets.insert(u, conn[u][bu] - conn[u][part[u]]);
+          }
+        }
+      }
+      // roll back to the best prefix of the moves
+      for (int i = numMoves - 1; i >= bestMoves; i--) {
+        move(level, part, load, conn, moved[i], from[i]);
+      }
+      if (bestGain <= 0) {
+        break;
+      }
+    }
+  }
+
+  /*
+   * Solve
+   */
+
+  private static int getCut(final Level level, final int[] part) {
+    int rtn = 0;
+    for (int v = 0; v < level.numCells; v++) {
+      for (int e = level.xadj[v]; e < level.xadj[v + 1]; e++) {
+        if (part[v] != part[level.adj[e]]) {
+          rtn += level.adjWeights[e];
+        }
+      }
+    }
+    return rtn / 2;
+  }
+
+  private int[] solveOnce() {
+    final List<Level> levels = new ArrayList<>();
+    levels.add(level);
+    final int target = coarsenTo > 0 ? coarsenTo : Math.max(20, 2 * numBlocks);
+    Level fine = level;
+    while (fine.numCells > target) {
+      final Level coarse = coarsen(fine);
+      if (coarse.numCells > 0.95 * fine.numCells) {
+        break;
+      }
+      levels.add(coarse);
+      fine = coarse;
+    }
+    // fall back to a finer level if the coarse cells are too heavy to pack
+    int[] rtn = null;
+    int start = levels.size() - 1;
+    for (; start >= 0 && rtn == null; start--) {
+      rtn = getInitialPartition(levels.get(start));
+    }
+    if (rtn == null) {
+      return null;
+    }
+    start++;
+    refine(levels.get(start), rtn);
+    for (int i = start - 1; i >= 0; i--) {
+      final Level l = levels.get(i);
+      final int[] part = new int[l.numCells];
+      for (int v = 0; v < l.numCells; v++) {
+        part[v] = rtn[l.map[v]];
+      }
+      rtn = part;
+      refine(l, rtn);
+    }
+    return rtn;
+  }
+
+  /**
+   * Partitions the cells, keeping the partition with the smallest cut over a number of runs.
+   *
+   * @param runs The number of runs.
+   * @return The block of each cell, or null if no run found a partition.
+   */
+  public int[] solve(final int runs) {
+    int[] rtn = null;
+    cut = -1;
+    for (int r = 0; r < runs; r++) {
+      final int[] part = solveOnce();
+      if (part == null) {
+        continue;
+      }
+      final int c = getCut(level, part);
+      if (rtn == null || c < cut) {
+        rtn = part;
+        cut = c;
+      }
+    }
+    return rtn;
+  }
+
+  /**
+   * Getter for {@code cut}.
+   *
+   * @return The weight of the edges cut by the last partition, or -1 if there is none.
+   */
+  public int getCut() {
+    return cut;
+  }
+
+  /**
+   * Setter for {@code passes}.
+   *
+   * @param passes The maximum number of refinement passes at each level.
+   */
+  public void setPasses(final int passes) {
+    this.passes = passes;
+  }
+
+  /**
+   * Setter for {@code coarsenTo}.
+   *
+   * @param coarsenTo The number of cells below which the graph is not coarsened, or 0 to choose
+   *     it from the number of blocks.
+   */
+  public void setCoarsenTo(final int coarsenTo) {
+    this.coarsenTo = coarsenTo;
+  }
+
+  /**
+   * Setter for {@code seed}.
+   *
+   * @param seed The seed of the random matching and ordering.
+   */
+  public void setSeed(final long seed) {
+    random = new Random(seed);
+  }
+
+  private final int numBlocks;
+  private final int[] capacities;
+  private final Level level;
+  private int passes;
+  private int coarsenTo;
+  private Random random;
+  private int cut;
+}
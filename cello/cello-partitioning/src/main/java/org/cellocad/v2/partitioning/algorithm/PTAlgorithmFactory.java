@@ -21,6 +21,7 @@ package org.cellocad.v2.partitioning.algorithm;
 
 import org.cellocad.v2.common.algorithm.AlgorithmFactory;
 import org.cellocad.v2.partitioning.algorithm.GPCC_BASE.GPCC_BASE;
+import org.cellocad.v2.partitioning.algorithm.GPCC_FM.GPCC_FM;
 import org.cellocad.v2.partitioning.algorithm.GPCC_SCIP_BASE.GPCC_SCIP_BASE;
 import org.cellocad.v2.partitioning.algorithm.GPCC_SUGARM_BASE.GPCC_SUGARM_BASE;
 import org.cellocad.v2.partitioning.algorithm.HMetis.HMetis;
@@ -53,6 +54,9 @@ public class PTAlgorithmFactory extends AlgorithmFactory<PTAlgorithm> {
     if (name.equals("GPCC_BASE")) {
       rtn = new GPCC_BASE();
     }
+    if (name.equals("GPCC_FM")) {
+      rtn = new GPCC_FM();
+    }
     if (name.equals("HMetis")) {
       rtn = new HMetis();
     }
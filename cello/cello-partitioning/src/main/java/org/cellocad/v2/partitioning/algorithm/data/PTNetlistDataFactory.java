@@ -21,6 +21,7 @@ package org.cellocad.v2.partitioning.algorithm.data;
 
 import org.cellocad.v2.common.algorithm.data.NetlistDataFactory;
 import org.cellocad.v2.partitioning.algorithm.GPCC_BASE.data.GPCC_BASENetlistData;
+import org.cellocad.v2.partitioning.algorithm.GPCC_FM.data.GPCC_FMNetlistData;
 import org.cellocad.v2.partitioning.algorithm.GPCC_SCIP_BASE.data.GPCC_SCIP_BASENetlistData;
 import org.cellocad.v2.partitioning.algorithm.GPCC_SUGARM_BASE.data.GPCC_SUGARM_BASENetlistData;
 import org.cellocad.v2.partitioning.algorithm.HMetis.data.HMetisNetlistData;
@@ -53,6 +54,9 @@ public class PTNetlistDataFactory extends NetlistDataFactory<PTNetlistData> {
     if (name.equals("GPCC_BASE")) {
       rtn = new GPCC_BASENetlistData();
     }
+    if (name.equals("GPCC_FM")) {
+      rtn = new GPCC_FMNetlistData();
+    }
     if (name.equals("HMetis")) {
       rtn = new HMetisNetlistData();
     }
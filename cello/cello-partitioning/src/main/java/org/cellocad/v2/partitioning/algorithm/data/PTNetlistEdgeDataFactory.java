@@ -25,6 +25,7 @@ package org.cellocad.v2.partitioning.algorithm.data;
 import org.cellocad.v2.common.algorithm.data.NetlistEdgeData;
 import org.cellocad.v2.common.algorithm.data.NetlistEdgeDataFactory;
 import org.cellocad.v2.partitioning.algorithm.GPCC_BASE.data.GPCC_BASENetlistEdgeData;
+import org.cellocad.v2.partitioning.algorithm.GPCC_FM.data.GPCC_FMNetlistEdgeData;
 import org.cellocad.v2.partitioning.algorithm.GPCC_SCIP_BASE.data.GPCC_SCIP_BASENetlistEdgeData;
 import org.cellocad.v2.partitioning.algorithm.GPCC_SUGARM_BASE.data.GPCC_SUGARM_BASENetlistEdgeData;
 import org.cellocad.v2.partitioning.algorithm.HMetis.data.HMetisNetlistEdgeData;
@@ -57,6 +58,9 @@ public class PTNetlistEdgeDataFactory extends NetlistEdgeDataFactory<PTNetlistEd
     if (name.equals("GPCC_BASE")) {
       rtn = new GPCC_BASENetlistEdgeData();
     }
+    if (name.equals("GPCC_FM")) {
+      rtn = new GPCC_FMNetlistEdgeData();
+    }
     if (name.equals("HMetis")) {
       rtn = new HMetisNetlistEdgeData();
     }
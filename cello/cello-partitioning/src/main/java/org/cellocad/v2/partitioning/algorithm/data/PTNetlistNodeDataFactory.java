@@ -21,6 +21,7 @@ package org.cellocad.v2.partitioning.algorithm.data;
 
 import org.cellocad.v2.common.algorithm.data.NetlistNodeDataFactory;
 import org.cellocad.v2.partitioning.algorithm.GPCC_BASE.data.GPCC_BASENetlistNodeData;
+import org.cellocad.v2.partitioning.algorithm.GPCC_FM.data.GPCC_FMNetlistNodeData;
 import org.cellocad.v2.partitioning.algorithm.GPCC_SCIP_BASE.data.GPCC_SCIP_BASENetlistNodeData;
 import org.cellocad.v2.partitioning.algorithm.GPCC_SUGARM_BASE.data.GPCC_SUGARM_BASENetlistNodeData;
 import org.cellocad.v2.partitioning.algorithm.HMetis.data.HMetisNetlistNodeData;
@@ -53,6 +54,9 @@ public class PTNetlistNodeDataFactory extends NetlistNodeDataFactory<PTNetlistNo
     if (name.equals("GPCC_BASE")) {
       rtn = new GPCC_BASENetlistNodeData();
     }
+    if (name.equals("GPCC_FM")) {
+      rtn = new GPCC_FMNetlistNodeData();
+    }
     if (name.equals("HMetis")) {
       rtn = new HMetisNetlistNodeData();
     }
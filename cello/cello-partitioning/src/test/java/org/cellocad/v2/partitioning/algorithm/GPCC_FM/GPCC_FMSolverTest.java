@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.partitioning.algorithm.GPCC_FM;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Tests for {@link GPCC_FMSolver}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class GPCC_FMSolverTest {
+
+  private static boolean[][] getAllowed(final int numCells, final int numBlocks) {
+    final boolean[][] rtn = new boolean[numCells][numBlocks];
+    for (final boolean[] a : rtn) {
+      Arrays.fill(a, true);
+    }
+    return rtn;
+  }
+
+  private static int[] getWeights(final int numCells) {
+    final int[] rtn = new int[numCells];
+    Arrays.fill(rtn, 1);
+    return rtn;
+  }
+
+  private static List<int[]> getCliques(final int numCliques, final int size) {
+    final List<int[]> rtn = new ArrayList<>();
+    for (int c = 0; c < numCliques; c++) {
+      for (int i = 0; i < size; i++) {
+        for (int j = i + 1; j < size; j++) {
+          rtn.add(new int[] {c * size + i, c * size + j});
+        }
+      }
+      if (c > 0) {
+        rtn.add(new int[] {(c - 1) * size, c * size});
+      }
+    }
+    return rtn;
+  }
+
+  @Test
+  public void solve_Cliques_ShouldCutOnlyBridges() {
+    final GPCC_FMSolver solver =
+        new GPCC_FMSolver(
+            getWeights(24), getCliques(6, 4), new int[] {4, 4, 4, 4, 4, 4}, getAllowed(24, 6));
+    solver.setCoarsenTo(4);
+    final int[] part = solver.solve(4);
+    assertNotNull(part);
+    assertEquals(5, solver.getCut());
+    for (int c = 0; c < 6; c++) {
+      for (int i = 1; i < 4; i++) {
+        assertEquals(part[c * 4], part[c * 4 + i]);
+      }
+    }
+  }
+
+  @Test
+  public void solve_RandomGraph_ShouldRespectCapacityAndAllowedBlocks() {
+    final int n = 200;
+    final int k = 5;
+    final Random random = new Random(1);
+    final List<int[]> edges = new ArrayList<>();
+    for (int i = 1; i < n; i++) {
+      edges.add(new int[] {random.nextInt(i), i});
+      edges.add(new int[] {random.nextInt(i), i});
+    }
+    final int[] weights = new int[n];
+    final boolean[][] allowed = getAllowed(n, k);
+    for (int i = 0; i < n; i++) {
+      weights[i] = 1 + random.nextInt(3);
+      allowed[i][random.nextInt(k)] = false;
+    }
+    final int[] capacities = {100, 100, 100, 100, 100};
+    final GPCC_FMSolver solver = new GPCC_FMSolver(weights, edges, capacities, allowed);
+    final int[] part = solver.solve(2);
+    assertNotNull(part);
+    final int[] load = new int[k];
+    int cut = 0;
+    for (int i = 0; i < n; i++) {
+      assertTrue(allowed[i][part[i]]);
+      load[part[i]] += weights[i];
+    }
+    for (final int[] e : edges) {
+      if (part[e[0]] != part[e[1]]) {
+        cut++;
+      }
+    }
+    for (int j = 0; j < k; j++) {
+      assertTrue(load[j] <= capacities[j]);
+    }
+    assertEquals(cut, solver.getCut());
+    assertNotEquals(edges.size(), cut);
+  }
+
+  @Test
+  public void solve_SingleBlockFits_ShouldCutNothing() {
+    final GPCC_FMSolver solver =
+        new GPCC_FMSolver(getWeights(12), getCliques(3, 4), new int[] {12, 12}, getAllowed(12, 2));
+    assertNotNull(solver.solve(1));
+    assertEquals(0, solver.getCut());
+  }
+
+  @Test
+  public void solve_InsufficientCapacity_ShouldReturnNull() {
+    final GPCC_FMSolver solver =
+        new GPCC_FMSolver(getWeights(12), getCliques(3, 4), new int[] {5, 5}, getAllowed(12, 2));
+    assertNull(solver.solve(2));
+    assertEquals(-1, solver.getCut());
+  }
+}
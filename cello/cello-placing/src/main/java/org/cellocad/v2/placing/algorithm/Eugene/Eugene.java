@@ -32,14 +32,18 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.cellocad.v2.common.CObjectCollection;
 import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.exception.CelloException;
-import org.cellocad.v2.common.graph.algorithm.MyBFS;
 import org.cellocad.v2.common.runtime.environment.ArgString;
-import org.cellocad.v2.common.target.data.data.AssignableDevice;
 import org.cellocad.v2.common.target.data.data.CircuitRules;
 import org.cellocad.v2.common.target.data.data.DeviceRules;
 import org.cellocad.v2.common.target.data.data.Gate;
@@ -56,8 +60,8 @@ import org.cellocad.v2.placing.algorithm.Eugene.data.EugeneNetlistEdgeData;
 import org.cellocad.v2.placing.algorithm.Eugene.data.EugeneNetlistNodeData;
 import org.cellocad.v2.placing.algorithm.Eugene.target.data.EugeneTargetDataUtils;
 import org.cellocad.v2.placing.algorithm.Eugene.target.data.data.EugeneDevice;
+import org.cellocad.v2.placing.common.PLUtils;
 import org.cellocad.v2.placing.target.data.PLTargetDataInstance;
-import org.cellocad.v2.results.common.Result;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
 import org.cellocad.v2.results.netlist.Netlist;
@@ -65,16 +69,15 @@ import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
 import org.cellocad.v2.results.netlist.NetlistUtils;
 import org.cellocad.v2.results.netlist.data.ResultNetlistNodeData;
-import org.cellocad.v2.results.placing.DnaPlotLibUtils;
 import org.cellocad.v2.results.placing.placement.Component;
 import org.cellocad.v2.results.placing.placement.Placement;
 import org.cellocad.v2.results.placing.placement.PlacementGroup;
 import org.cellocad.v2.results.placing.placement.Placements;
 import org.cidarlab.eugene.dom.Device;
 import org.cidarlab.eugene.dom.NamedElement;
+import org.cidarlab.eugene.dom.Variable;
 import org.cidarlab.eugene.dom.imp.container.EugeneArray;
 import org.cidarlab.eugene.dom.imp.container.EugeneCollection;
-import org.cidarlab.eugene.exception.EugeneException;
 
 /**
  * The implementation of the <i>Eugene</i> algorithm in the <i>placing</i> stage.
@@ -158,6 +161,11 @@ public class Eugene extends PLAlgorithm {
     if (present) {
       setMaxPlacements(getAlgorithmProfile().getIntParameter("MaxPlacements").getSecond());
     }
+
+    present = getAlgorithmProfile().getIntParameter("TimeLimit").getFirst();
+    if (present) {
+      setTimeLimit(getAlgorithmProfile().getIntParameter("TimeLimit").getSecond());
+    }
   }
 
   /** Validate parameter values of the algorithm. */
@@ -166,13 +174,13 @@ public class Eugene extends PLAlgorithm {
     if (getMaxPlacements() == null || getMaxPlacements() <= 0) {
       setMaxPlacements(5);
     }
+    if (getTimeLimit() == null || getTimeLimit() < 0) {
+      setTimeLimit(0);
+    }
   }
 
   private void setDevices() {
-    final MyBFS<NetlistNode, NetlistEdge, Netlist> BFS = new MyBFS<>(getNetlist());
-    NetlistNode node = null;
-    node = BFS.getNextVertex();
-    while (node != null) {
+    for (final NetlistNode node : getNetlist().getTopologicalOrder()) {
       final Collection<StructureDevice> devices =
           EugeneUtils.getDevices(
               node, getTargetDataInstance());
@@ -180,7 +188,6 @@ public class Eugene extends PLAlgorithm {
       for (final StructureDevice d : devices) {
         getDeviceNameNetlistNodeMap().put(d.getName(), node);
       }
-      node = BFS.getNextVertex();
     }
   }
 
@@ -386,7 +393,7 @@ public class Eugene extends PLAlgorithm {
     return rtn;
   }
 
-  private String getCircuitDefinition() {
+  protected String getCircuitDefinition() {
     String rtn = "";
     rtn += "Device circuit(";
     for (final Collection<StructureDevice> devices : getDevicesMap().values()) {
@@ -427,27 +434,50 @@ public class Eugene extends PLAlgorithm {
     return rtn;
   }
 
-  private String getResultsDefinition() {
+  private List<StructureDevice> getDeviceList() {
+    final List<StructureDevice> rtn = new ArrayList<>();
+    for (final Collection<StructureDevice> devices : getDevicesMap().values()) {
+      rtn.addAll(devices);
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the enumeration of placements. A placement is a permutation of the circuit for one
+   * combination of the variants of the devices. Enumeration stops once the given number of
+   * placements has been found.
+   *
+   * @param chunk If not null, only the given variant of the first device is enumerated.
+   * @param max The maximum number of placements.
+   * @return The enumeration of placements.
+   */
+  protected String getResultsDefinition(final Integer chunk, final int max) {
     String rtn = "";
     rtn += "Array allResults;";
     rtn += Utils.getNewLine() + Utils.getNewLine();
-    int j = 0;
-    final String fmt = "for(num i%d = 0; i%d < sizeof(%s_devices); i%d = i%d + 1) {";
-    for (final Collection<StructureDevice> devices : getDevicesMap().values()) {
-      for (final StructureDevice d : devices) {
-        j++;
-        rtn += String.format(fmt, j, j, d.getName(), j, j);
-        rtn += Utils.getNewLine();
+    final List<StructureDevice> devices = getDeviceList();
+    if (!devices.isEmpty()) {
+      rtn += String.format("num %s = sizeof(%s_devices);", S_NUMCHUNKS, devices.get(0).getName());
+      rtn += Utils.getNewLine() + Utils.getNewLine();
+    }
+    final String fmt =
+        "for(num i%d = %d; i%d < sizeof(%s_devices)%s && sizeof(allResults) < %d; i%d = i%d + 1) {";
+    for (int j = 1; j <= devices.size(); j++) {
+      final String name = devices.get(j - 1).getName();
+      int start = 0;
+      String bound = "";
+      if (j == 1 && chunk != null) {
+        start = chunk;
+        bound = String.format(" && i%d < %d", j, chunk + 1);
       }
+      rtn += String.format(fmt, j, start, j, name, bound, max, j, j);
+      rtn += Utils.getNewLine();
     }
     rtn += Utils.getNewLine();
-    j = 0;
-    for (final Collection<StructureDevice> devices : getDevicesMap().values()) {
-      for (final StructureDevice d : devices) {
-        j++;
-        rtn += String.format("%sDevice = %s_devices[i%d];", d.getName(), d.getName(), j);
-        rtn += Utils.getNewLine();
-      }
+    for (int j = 1; j <= devices.size(); j++) {
+      final String name = devices.get(j - 1).getName();
+      rtn += String.format("%sDevice = %s_devices[i%d];", name, name, j);
+      rtn += Utils.getNewLine();
     }
     rtn += Utils.getNewLine();
     rtn += getCircuitDefinition();
@@ -456,11 +486,9 @@ public class Eugene extends PLAlgorithm {
     rtn += Utils.getNewLine() + Utils.getNewLine();
     rtn += "allResults = allResults + result;";
     rtn += Utils.getNewLine() + Utils.getNewLine();
-    for (final Collection<StructureDevice> devices : getDevicesMap().values()) {
-      for (int i = 0; i < devices.size(); i++) {
-        rtn += "}";
-        rtn += Utils.getNewLine();
-      }
+    for (int j = 0; j < devices.size(); j++) {
+      rtn += "}";
+      rtn += Utils.getNewLine();
     }
     return rtn;
   }
@@ -472,38 +500,10 @@ public class Eugene extends PLAlgorithm {
     return rtn;
   }
 
-  protected void initEdges() {
-    for (int i = 0; i < getNetlist().getNumVertex(); i++) {
-      final NetlistNode node = getNetlist().getVertexAtIdx(i);
-      final String name = node.getResultNetlistNodeData().getDeviceName();
-      AssignableDevice device = null;
-      device = this.getTargetDataInstance().getInputSensors().findCObjectByName(name);
-      if (device == null) {
-        device = this.getTargetDataInstance().getOutputDevices().findCObjectByName(name);
-      }
-      if (device == null) {
-        device = this.getTargetDataInstance().getGates().findCObjectByName(name);
-      }
-      node.getResultNetlistNodeData().setDevice(device);
-      if (node.getNumInEdge() > device.getStructure().getInputs().size()) {
-        throw new RuntimeException("Device structure does not have enough inputs.");
-      }
-      for (int j = 0; j < node.getNumInEdge(); j++) {
-        final NetlistEdge e = node.getInEdgeAtIdx(j);
-        int n = j;
-        if (e.getIdx() != -1) {
-          n = e.getIdx();
-        }
-        final Input input = device.getStructure().getInputs().get(n);
-        e.getResultNetlistEdgeData().setInput(input);
-      }
-    }
-  }
-
   /** Perform preprocessing. */
   @Override
   protected void preprocessing() {
-    initEdges();
+    PLUtils.initEdges(getNetlist(), getTargetDataInstance());
     LSResultNetlistUtils.setVertexTypeUsingLSResult(getNetlist());
     setDevicesMap(new HashMap<NetlistNode, Collection<StructureDevice>>());
     setDeviceNameNetlistNodeMap(new HashMap<String, NetlistNode>());
@@ -544,8 +544,10 @@ public class Eugene extends PLAlgorithm {
     script += getCircuitDeclaration();
     // circuit rules
     script += getCircuitRules().filter(deviceNames, this.getTargetDataInstance());
+
+    setEugeneScriptPrelude(script);
     // results
-    script += getResultsDefinition();
+    script += getResultsDefinition(null, getMaxPlacements());
 
     setEugeneScript(script);
     Utils.writeToFile(script, getEugeneScriptFilename());
@@ -559,19 +561,143 @@ public class Eugene extends PLAlgorithm {
   @Override
   protected void run() throws CelloException {
     logInfo("running Eugene");
+    final int max = getMaxPlacements();
+    final List<NamedElement> results = new ArrayList<>();
+    if (getTimeLimit() == 0) {
+      addPlacements(getEugeneScript(), Long.MAX_VALUE, results, max);
+      setEugeneResults(results);
+      return;
+    }
+    // enumerate one variant of the first device at a time, keeping the placements found so far
+    // when the time limit expires
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(getTimeLimit());
+    int numChunks = 1;
+    int chunk = 0;
+    boolean expired = false;
+    while (results.size() < max && chunk < numChunks) {
+      final String script =
+          getEugeneScriptPrelude() + getResultsDefinition(chunk, max - results.size());
+      numChunks = addPlacements(script, deadline, results, max);
+      if (numChunks < 0) {
+        expired = true;
+        break;
+      }
+      chunk++;
+    }
+    if (expired) {
+      final String fmt = "Time limit of %d s expired with %d of at most %d placements found.";
+      if (results.isEmpty()) {
+        throw new CelloException(String.format(fmt, getTimeLimit(), 0, max));
+      }
+      logWarn(String.format(fmt, getTimeLimit(), results.size(), max));
+    }
+    setEugeneResults(results);
+  }
+
+  /**
+   * Executes a Eugene script and adds the placements it enumerates to the given list, until the
+   * list holds the given number of placements.
+   *
+   * @param script The script.
+   * @param deadline The {@link System#nanoTime()} by which the script must complete.
+   * @param results The placements found so far.
+   * @param max The maximum number of placements.
+   * @return The number of variants of the first device, or -1 if the deadline passed first.
+   * @throws CelloException Unable to execute the script.
+   */
+  protected int addPlacements(
+      final String script, final long deadline, final List<NamedElement> results, final int max)
+      throws CelloException {
+    int rtn = -1;
+    final EugeneCollection ec = executeEugeneScript(script, deadline);
+    if (ec != null) {
+      addEugeneResults(ec, results, max);
+      rtn = getNumChunks(ec);
+    }
+    return rtn;
+  }
+
+  /**
+   * Executes a Eugene script on a separate thread. Scripts are executed one at a time, since each
+   * clears and writes the {@code exports} directory of the working directory.
+   *
+   * @param script The script.
+   * @param deadline The {@link System#nanoTime()} by which the script must complete.
+   * @return The elements of the script, or null if the deadline passed first.
+   * @throws CelloException Unable to execute the script.
+   */
+  private EugeneCollection executeEugeneScript(final String script, final long deadline)
+      throws CelloException {
+    EugeneCollection rtn = null;
+    final File cruft = new File(Utils.getWorkingDirectory() + Utils.getFileSeparator() + "exports");
+    final AtomicBoolean started = new AtomicBoolean();
+    final FutureTask<EugeneCollection> task =
+        new FutureTask<>(
+            () -> {
+              if (!Eugene.S_LOCK.tryLock()) {
+                logInfo("waiting for a previous Eugene script to finish");
+                // a script that expires while waiting is cancelled without running
+                Eugene.S_LOCK.lockInterruptibly();
+              }
+              started.set(true);
+              try {
+                final org.cidarlab.eugene.Eugene eugene = new org.cidarlab.eugene.Eugene();
+
+                new File(cruft.getPath() + Utils.getFileSeparator() + "pigeon").delete();
+                cruft.delete();
+
+                return eugene.executeScript(script);
+              } finally {
+                Eugene.S_LOCK.unlock();
+              }
+            });
+    // Eugene cannot be interrupted, so an expired script is left to finish on a daemon thread
+    final Thread thread = new Thread(task, "eugene");
+    thread.setDaemon(true);
+    thread.start();
     try {
-      final org.cidarlab.eugene.Eugene eugene = new org.cidarlab.eugene.Eugene();
+      if (deadline == Long.MAX_VALUE) {
+        rtn = task.get();
+      } else {
+        rtn = task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      }
+    } catch (final TimeoutException e) {
+      task.cancel(true);
+      if (started.get() && thread.isAlive()) {
+        final String fmt = "Eugene is still running on thread %s and may write to %s until done.";
+        logWarn(String.format(fmt, thread.getName(), cruft.getPath()));
+      }
+    } catch (final ExecutionException e) {
+      throw new CelloException("Error with Eugene.", e.getCause());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CelloException("Interrupted while running Eugene.", e);
+    }
+    return rtn;
+  }
 
-      final File cruft =
-          new File(Utils.getWorkingDirectory() + Utils.getFileSeparator() + "exports");
-      new File(cruft.getPath() + Utils.getFileSeparator() + "pigeon").delete();
-      cruft.delete();
+  private static void addEugeneResults(
+      final EugeneCollection ec, final List<NamedElement> results, final int max)
+      throws CelloException {
+    final EugeneArray array = (EugeneArray) ec.get("allResults");
+    if (array == null) {
+      throw new CelloException("Error with Eugene results!");
+    }
+    for (final NamedElement e : array.getElements()) {
+      if (results.size() >= max) {
+        break;
+      }
+      results.add(e);
+    }
+  }
 
-      final EugeneCollection ec = eugene.executeScript(getEugeneScript());
-      setEugeneResults((EugeneArray) ec.get("allResults"));
-    } catch (final EugeneException e) {
-      throw new CelloException("Error with Eugene.", e);
+  private static int getNumChunks(final EugeneCollection ec) {
+    int rtn = 0;
+    final NamedElement e = ec.get(S_NUMCHUNKS);
+    if (e instanceof Variable) {
+      rtn = (int) ((Variable) e).getNum();
     }
+    return rtn;
   }
 
   @SuppressWarnings("unused")
@@ -627,78 +753,6 @@ public class Eugene extends PLAlgorithm {
     Utils.executeAndWaitForCommand(cmd);
   }
 
-  private void generateDnaPlotLibPlots() throws CelloException {
-    final String outputDir = getRuntimeEnv().getOptionValue(ArgString.OUTPUTDIR);
-    File file = null;
-    final List<String> designs =
-        DnaPlotLibUtils.getDnaDesigns(getNetlist(), getTargetDataInstance());
-    final String designsFilename = outputDir + Utils.getFileSeparator() + "dpl_dna_designs.csv";
-    file = new File(designsFilename);
-    DnaPlotLibUtils.writeCSV(designs, file);
-    final List<String> parts =
-        DnaPlotLibUtils.getPartsInformation(getNetlist(), getTargetDataInstance());
-    final String partsFilename = outputDir + Utils.getFileSeparator() + "dpl_part_information.csv";
-    file = new File(partsFilename);
-    DnaPlotLibUtils.writeCSV(parts, file);
-    final List<String> reg =
-        DnaPlotLibUtils.getRegulatoryInformation(getNetlist(), getTargetDataInstance());
-    final String regFilename =
-        outputDir + Utils.getFileSeparator() + "dpl_regulatory_information.csv";
-    file = new File(regFilename);
-    DnaPlotLibUtils.writeCSV(reg, file);
-    String params;
-    try {
-      params = Utils.getResourceAsString("plot_parameters.csv");
-    } catch (final IOException e) {
-      throw new RuntimeException(e);
-    }
-    final String paramsFilename = outputDir + Utils.getFileSeparator() + "plot_parameters.csv";
-    Utils.writeToFile(params, paramsFilename);
-    Path dir;
-    try {
-      dir = Files.createTempDirectory("cello_");
-    } catch (final IOException e) {
-      throw new CelloException("Unable to create temporary directory.", e);
-    }
-    String libraryPlot;
-    try {
-      libraryPlot = Utils.getResourceAsString("library_plot.py");
-    } catch (final IOException e) {
-      throw new RuntimeException(e);
-    }
-    final String libraryPlotFilename =
-        dir.toString() + Utils.getFileSeparator() + "library_plot.py";
-    Utils.writeToFile(libraryPlot, libraryPlotFilename);
-    final String fmt = "%s -W ignore %s -params %s -parts %s -designs %s -regulation %s -output %s";
-    final String output = outputDir + Utils.getFileSeparator() + getNetlist().getName() + "_dpl";
-    final String python = getRuntimeEnv().getOptionValue(ArgString.PYTHONENV);
-    final String cmd =
-        String.format(
-            fmt,
-            python,
-            libraryPlotFilename,
-            paramsFilename,
-            partsFilename,
-            designsFilename,
-            regFilename,
-            output);
-
-    Utils.executeAndWaitForCommand(cmd + ".pdf");
-    Utils.executeAndWaitForCommand(cmd + ".png");
-    File pdf = new File(output + ".pdf");
-    File png = new File(output + ".png");
-    Result pdfResult =
-        new Result("dnaplotlib", "placing", "The sequence diagram generated by dnaplotlib.", pdf);
-    Result pngResult =
-        new Result("dnaplotlib", "placing", "The sequence diagram generated by dnaplotlib.", png);
-    try {
-      this.getResults().addResult(pdfResult);
-      this.getResults().addResult(pngResult);
-    } catch (IOException e) {
-      throw new CelloException("Unable to write result.");
-    }
-  }
-
   /**
    * Perform postprocessing.
    *
@@ -711,13 +765,13 @@ public class Eugene extends PLAlgorithm {
     final Placements placements = new Placements();
     getNetlist().getResultNetlistData().setPlacements(placements);
 
-    final EugeneArray results = getEugeneResults();
+    final List<NamedElement> results = getEugeneResults();
 
     if (results == null) {
       throw new CelloException("Error with Eugene results!");
     }
 
-    for (int i = 0; i < results.getElements().size(); i++) {
+    for (int i = 0; i < results.size(); i++) {
       if (i >= getMaxPlacements()) {
         break;
       }
@@ -725,14 +779,8 @@ public class Eugene extends PLAlgorithm {
       final Placement placement = new Placement(true, false);
       placements.addPlacement(placement);
 
-      NamedElement placementElement = null;
-
       // placement
-      try {
-        placementElement = results.getElement(i);
-      } catch (final EugeneException e) {
-        e.printStackTrace();
-      }
+      final NamedElement placementElement = results.get(i);
 
       if (placementElement instanceof Device) {
         final Device placementDevice = (Device) placementElement;
@@ -807,7 +855,8 @@ public class Eugene extends PLAlgorithm {
     }
     // DNAPlotLib
     logInfo("generating dnaplotlib figures");
-    generateDnaPlotLibPlots();
+    PLUtils.generateDnaPlotLibPlots(
+        getNetlist(), getTargetDataInstance(), getRuntimeEnv(), getResults());
     // this.generateRNASeqPlots();
   }
 
@@ -841,12 +890,30 @@ public class Eugene extends PLAlgorithm {
     this.maxPlacements = maxPlacements;
   }
 
+  /**
+   * Getter for {@code timeLimit}.
+   *
+   * @return The value of {@code timeLimit}.
+   */
+  protected Integer getTimeLimit() {
+    return timeLimit;
+  }
+
+  /**
+   * Setter for {@code timeLimit}.
+   *
+   * @param timeLimit The value to set {@code timeLimit}.
+   */
+  protected void setTimeLimit(final Integer timeLimit) {
+    this.timeLimit = timeLimit;
+  }
+
   /**
    * Getter for {@code eugeneResults}.
    *
    * @return The value of {@code eugeneResults}.
    */
-  protected EugeneArray getEugeneResults() {
+  protected List<NamedElement> getEugeneResults() {
     return eugeneResults;
   }
 
@@ -855,10 +922,28 @@ public class Eugene extends PLAlgorithm {
    *
    * @param eugeneResults The value to set {@code eugeneResults}.
    */
-  protected void setEugeneResults(final EugeneArray eugeneResults) {
+  protected void setEugeneResults(final List<NamedElement> eugeneResults) {
     this.eugeneResults = eugeneResults;
   }
 
+  /**
+   * Getter for {@code eugeneScriptPrelude}.
+   *
+   * @return The value of {@code eugeneScriptPrelude}.
+   */
+  protected String getEugeneScriptPrelude() {
+    return eugeneScriptPrelude;
+  }
+
+  /**
+   * Setter for {@code eugeneScriptPrelude}.
+   *
+   * @param eugeneScriptPrelude The value to set {@code eugeneScriptPrelude}.
+   */
+  protected void setEugeneScriptPrelude(final String eugeneScriptPrelude) {
+    this.eugeneScriptPrelude = eugeneScriptPrelude;
+  }
+
   /**
    * Getter for {@code eugeneScript}.
    *
@@ -988,7 +1073,9 @@ public class Eugene extends PLAlgorithm {
   }
 
   private Integer maxPlacements;
-  private EugeneArray eugeneResults;
+  private Integer timeLimit;
+  private List<NamedElement> eugeneResults;
+  private String eugeneScriptPrelude;
   private String eugeneScript;
   private String eugeneScriptFilename;
   private Map<NetlistNode, Collection<StructureDevice>> devicesMap;
@@ -996,5 +1083,9 @@ public class Eugene extends PLAlgorithm {
   private CircuitRules circuitRules;
   private DeviceRules deviceRules;
 
+  /** Held while a Eugene script executes, so that scripts do not share the exports directory. */
+  private static final ReentrantLock S_LOCK = new ReentrantLock();
+
   private static String S_FENCEPOST = "fencepost";
+  private static String S_NUMCHUNKS = "numChunks";
 }
@@ -230,7 +230,7 @@ public class EugeneUtils {
    * @param tdi The {@link TargetDataInstance}.
    * @return A collection of StructureDevice objects associated with the NetlistNode.
    */
-  static Collection<StructureDevice> getDevices(
+  public static Collection<StructureDevice> getDevices(
       final NetlistNode node,
       final TargetDataInstance tdi) {
     final Collection<StructureDevice> rtn = new ArrayList<>();
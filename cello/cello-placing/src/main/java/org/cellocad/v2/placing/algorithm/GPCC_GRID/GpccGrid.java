@@ -19,19 +19,53 @@
 
 package org.cellocad.v2.placing.algorithm.GPCC_GRID;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.data.CircuitRules;
+import org.cellocad.v2.common.target.data.data.CompiledRules;
+import org.cellocad.v2.common.target.data.data.DeviceRules;
+import org.cellocad.v2.common.target.data.data.GeneticLocation;
+import org.cellocad.v2.common.target.data.data.Input;
+import org.cellocad.v2.common.target.data.data.Part;
+import org.cellocad.v2.common.target.data.data.RuleTree;
+import org.cellocad.v2.common.target.data.data.StructureDevice;
+import org.cellocad.v2.common.target.data.data.StructureObject;
+import org.cellocad.v2.common.target.data.data.StructureTemplate;
 import org.cellocad.v2.placing.algorithm.PLAlgorithm;
+import org.cellocad.v2.placing.algorithm.Eugene.EugeneUtils;
+import org.cellocad.v2.placing.algorithm.Eugene.target.data.EugeneTargetDataUtils;
+import org.cellocad.v2.placing.algorithm.Eugene.target.data.data.EugeneDevice;
 import org.cellocad.v2.placing.algorithm.GPCC_GRID.data.GpccGridNetlistData;
 import org.cellocad.v2.placing.algorithm.GPCC_GRID.data.GpccGridNetlistEdgeData;
 import org.cellocad.v2.placing.algorithm.GPCC_GRID.data.GpccGridNetlistNodeData;
+import org.cellocad.v2.placing.common.PLUtils;
+import org.cellocad.v2.placing.target.data.PLTargetDataInstance;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.placing.placement.Component;
+import org.cellocad.v2.results.placing.placement.Placement;
+import org.cellocad.v2.results.placing.placement.PlacementGroup;
+import org.cellocad.v2.results.placing.placement.Placements;
 
 /**
  * The implementation the <i>GPCC_GRID</i> algorithm in the <i>placing</i> stage.
  *
+ * <p>The circuit and device rules are compiled, and the placements are found in-process by a
+ * search over orderings of the genetic locations, devices, and fixed parts that prunes an ordering
+ * as soon as a prefix of it violates the circuit rules. The placements have the same structure as
+ * those of the <i>Eugene</i> algorithm.
+ *
  * @author Vincent Mirian
  * @date 2018-05-21
  */
@@ -77,35 +111,276 @@ public class GpccGrid extends PLAlgorithm {
   @Override
   protected void getConstraintFromNetlistConstraintFile() {}
 
-  /** Gets the data from the UCF. */
+  /**
+   * Gets the data from the UCF.
+   *
+   * @throws CelloException Unable to get data from UCF.
+   */
   @Override
-  protected void getDataFromUcf() {}
+  protected void getDataFromUcf() throws CelloException {
+    setTargetDataInstance(new PLTargetDataInstance(getTargetData()));
+    try {
+      setCircuitRules(EugeneTargetDataUtils.getCircuitRules(getTargetData()));
+    } catch (JsonProcessingException e) {
+      throw new CelloException("Unable to parse circuit rules.");
+    }
+    setDeviceRules(EugeneTargetDataUtils.getDeviceRules(getTargetData()));
+  }
 
   /** Set parameter values of the algorithm. */
   @Override
-  protected void setParameterValues() {}
+  protected void setParameterValues() {
+    Boolean present = false;
+
+    present = getAlgorithmProfile().getIntParameter("MaxPlacements").getFirst();
+    if (present) {
+      setMaxPlacements(getAlgorithmProfile().getIntParameter("MaxPlacements").getSecond());
+    }
+
+    present = getAlgorithmProfile().getIntParameter("TimeLimit").getFirst();
+    if (present) {
+      setTimeLimit(getAlgorithmProfile().getIntParameter("TimeLimit").getSecond());
+    }
+
+    present = getAlgorithmProfile().getIntParameter("Threads").getFirst();
+    if (present) {
+      setThreads(getAlgorithmProfile().getIntParameter("Threads").getSecond());
+    }
+  }
 
   /** Validate parameter values of the algorithm. */
   @Override
-  protected void validateParameterValues() {}
+  protected void validateParameterValues() {
+    if (getMaxPlacements() == null || getMaxPlacements() <= 0) {
+      setMaxPlacements(5);
+    }
+    if (getTimeLimit() == null || getTimeLimit() < 0) {
+      setTimeLimit(0);
+    }
+    if (getThreads() == null || getThreads() <= 0) {
+      setThreads(Runtime.getRuntime().availableProcessors());
+    }
+  }
 
-  /** Perform preprocessing. */
+  /**
+   * Gets the parts of each device, with each input replaced by the part that drives it, and
+   * verifies that the device satisfies the device rules.
+   *
+   * @throws CelloException A device does not satisfy the device rules.
+   */
+  private void setDevices() throws CelloException {
+    for (final NetlistNode node : getNetlist().getTopologicalOrder()) {
+      final Map<Input, Part> map = EugeneUtils.getInputsMap(node, getTargetDataInstance());
+      for (final StructureDevice device : EugeneUtils.getDevices(node, getTargetDataInstance())) {
+        final CObjectCollection<Part> inputs = new CObjectCollection<>();
+        for (final StructureObject o : device.getComponents()) {
+          if (o instanceof StructureTemplate) {
+            for (final Input input : map.keySet()) {
+              if (input.getName().equals(o.getName())) {
+                inputs.add(map.get(input));
+              }
+            }
+          }
+        }
+        final List<String> parts = new ArrayList<>();
+        for (final StructureObject o : new EugeneDevice(device, map).getComponents()) {
+          parts.add(o.getName());
+        }
+        if (!getDeviceRules().isSatisfied(device, inputs, parts)) {
+          final String fmt = "Device %s of node %s does not satisfy the device rules.";
+          throw new CelloException(String.format(fmt, device.getName(), node.getName()));
+        }
+        getDeviceNames().add(device.getName());
+        getDevicePartsMap().put(device.getName(), parts);
+        getDeviceNameNetlistNodeMap().put(device.getName(), node);
+      }
+    }
+  }
+
+  /**
+   * Gets the symbols of the circuit, i.e. the genetic locations, the devices, and the fixed parts,
+   * and compiles the circuit rules over them.
+   *
+   * @throws CelloException Unable to compile the circuit rules.
+   */
+  private void setSymbols() throws CelloException {
+    final RuleTree tree = getCircuitRules().getRuleTree(getDeviceNames(), getTargetDataInstance());
+    final List<String> symbols = new ArrayList<>();
+    final List<Integer> counts = new ArrayList<>();
+    for (final GeneticLocation l : getTargetDataInstance().getGeneticLocations()) {
+      symbols.add(l.getName());
+      counts.add(1);
+    }
+    for (final String name : getDeviceNames()) {
+      symbols.add(name);
+      counts.add(1);
+    }
+    for (final String obj : getCircuitRules().getAcceptedFixedObjects()) {
+      final Part p = getTargetDataInstance().getParts().findCObjectByName(obj);
+      if (p == null) {
+        continue;
+      }
+      final int i = symbols.indexOf(p.getName());
+      if (i < 0) {
+        symbols.add(p.getName());
+        counts.add(1);
+      } else {
+        counts.set(i, counts.get(i) + 1);
+      }
+    }
+    final CompiledRules rules = CompiledRules.compile(tree, symbols);
+    // genetic locations that no rule names are interchangeable, so fix their order
+    final int[] predecessors = new int[symbols.size()];
+    Arrays.fill(predecessors, -1);
+    int last = -1;
+    for (int i = 0; i < getTargetDataInstance().getGeneticLocations().size(); i++) {
+      if (rules.isReferenced(i)) {
+        continue;
+      }
+      predecessors[i] = last;
+      last = i;
+    }
+    final int[] array = new int[counts.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = counts.get(i);
+    }
+    setSymbols(symbols);
+    setSearch(new GpccGridSearch(rules, array, predecessors));
+  }
+
+  /**
+   * Perform preprocessing.
+   *
+   * @throws CelloException Unable to perform preprocessing.
+   */
   @Override
-  protected void preprocessing() {
-    // analyze and insert dummy cells to relay
-    // see notes for algo
+  protected void preprocessing() throws CelloException {
+    PLUtils.initEdges(getNetlist(), getTargetDataInstance());
+    LSResultNetlistUtils.setVertexTypeUsingLSResult(getNetlist());
+    setDeviceNames(new ArrayList<>());
+    setDevicePartsMap(new HashMap<>());
+    setDeviceNameNetlistNodeMap(new HashMap<>());
+
+    logInfo("compiling rules");
+    setDevices();
+    setSymbols();
   }
 
-  /** Run the (core) algorithm. */
+  /**
+   * Run the (core) algorithm.
+   *
+   * @throws CelloException Unable to find a placement.
+   */
   @Override
-  protected void run() {
-    // see notes for algo
+  protected void run() throws CelloException {
+    logInfo("searching placements");
+    final int max = getMaxPlacements();
+    long deadline = Long.MAX_VALUE;
+    if (getTimeLimit() > 0) {
+      deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(getTimeLimit());
+    }
+    final List<int[]> sequences = getSearch().search(max, deadline, getThreads());
+    final String fmt = "%d placements found in %d steps.";
+    logInfo(String.format(fmt, sequences.size(), getSearch().getNumNodes()));
+    if (getSearch().isExpired()) {
+      final String str = "Time limit of %d s expired with %d of at most %d placements found.";
+      if (sequences.isEmpty()) {
+        throw new CelloException(String.format(str, getTimeLimit(), 0, max));
+      }
+      logWarn(String.format(str, getTimeLimit(), sequences.size(), max));
+    } else if (sequences.isEmpty()) {
+      throw new CelloException("No placement satisfies the circuit rules.");
+    }
+    setSequences(sequences);
+  }
+
+  private Component getComponent(final List<String> parts, final int group, final int object) {
+    final Component rtn = new Component(parts, true, false);
+    rtn.setDirection(true);
+    rtn.setNode(null);
+    rtn.setName(String.format("Group%d_Object%d", group, object));
+    return rtn;
+  }
+
+  /**
+   * Gets the placement for a sequence of symbols. Each genetic location starts a group. A device is
+   * a component, as is a scar, a terminator at the end of a group, and a spacer together with the
+   * terminator, if any, that precedes it.
+   *
+   * @param sequence The sequence.
+   * @return The placement.
+   */
+  private Placement getPlacement(final int[] sequence) {
+    final Placement rtn = new Placement(true, false);
+    final List<List<String>> groups = new ArrayList<>();
+    List<String> group = null;
+    final int numLocations = getTargetDataInstance().getGeneticLocations().size();
+    for (final int s : sequence) {
+      if (s < numLocations || group == null) {
+        group = new ArrayList<>();
+        groups.add(group);
+      }
+      if (s >= numLocations) {
+        group.add(getSymbols().get(s));
+      }
+    }
+    for (int j = 0; j < groups.size(); j++) {
+      final PlacementGroup placementGroup = new PlacementGroup(true, false);
+      rtn.addPlacementGroup(placementGroup);
+      group = groups.get(j);
+      List<String> terminator = null;
+      for (int k = 0; k < group.size(); k++) {
+        final String name = group.get(k);
+        final List<String> parts = getDevicePartsMap().get(name);
+        if (parts != null) {
+          final Component component = getComponent(new ArrayList<>(parts), j, k);
+          component.setNode(getDeviceNameNetlistNodeMap().get(name).getName());
+          placementGroup.addComponent(component);
+          terminator = null;
+          continue;
+        }
+        final Part part = getTargetDataInstance().getParts().findCObjectByName(name);
+        final List<String> list = new ArrayList<>();
+        if (part.getPartType().equals(Part.S_SCAR)) {
+          list.add(name);
+          placementGroup.addComponent(getComponent(list, j, k));
+        } else if (part.getPartType().equals(Part.S_TERMINATOR)) {
+          list.add(name);
+          if (k + 1 == group.size()) {
+            placementGroup.addComponent(getComponent(list, j, k));
+          }
+        } else if (part.getPartType().equals(Part.S_SPACER)) {
+          if (terminator != null) {
+            list.addAll(terminator);
+          }
+          list.add(name);
+          placementGroup.addComponent(getComponent(list, j, k));
+        }
+        terminator = null;
+        if (part.getPartType().equals(Part.S_TERMINATOR)) {
+          terminator = list;
+        }
+      }
+    }
+    return rtn;
   }
 
-  /** Perform postprocessing. */
+  /**
+   * Perform postprocessing.
+   *
+   * @throws CelloException Unable to perform postprocessing.
+   */
   @Override
-  protected void postprocessing() {
-    // verify
+  protected void postprocessing() throws CelloException {
+    final Placements placements = new Placements();
+    getNetlist().getResultNetlistData().setPlacements(placements);
+    for (final int[] sequence : getSequences()) {
+      placements.addPlacement(getPlacement(sequence));
+    }
+    // DNAPlotLib
+    logInfo("generating dnaplotlib figures");
+    PLUtils.generateDnaPlotLibPlots(
+        getNetlist(), getTargetDataInstance(), getRuntimeEnv(), getResults());
   }
 
   /**
@@ -119,4 +394,237 @@ public class GpccGrid extends PLAlgorithm {
   }
 
   private static final Logger logger = LogManager.getLogger(GpccGrid.class);
+
+  /**
+   * Getter for {@code maxPlacements}.
+   *
+   * @return The value of {@code maxPlacements}.
+   */
+  protected Integer getMaxPlacements() {
+    return maxPlacements;
+  }
+
+  /**
+   * Setter for {@code maxPlacements}.
+   *
+   * @param maxPlacements The value to set {@code maxPlacements}.
+   */
+  protected void setMaxPlacements(final Integer maxPlacements) {
+    this.maxPlacements = maxPlacements;
+  }
+
+  /**
+   * Getter for {@code timeLimit}.
+   *
+   * @return The value of {@code timeLimit}.
+   */
+  protected Integer getTimeLimit() {
+    return timeLimit;
+  }
+
+  /**
+   * Setter for {@code timeLimit}.
+   *
+   * @param timeLimit The value to set {@code timeLimit}.
+   */
+  protected void setTimeLimit(final Integer timeLimit) {
+    this.timeLimit = timeLimit;
+  }
+
+  /**
+   * Getter for {@code threads}.
+   *
+   * @return The value of {@code threads}.
+   */
+  protected Integer getThreads() {
+    return threads;
+  }
+
+  /**
+   * Setter for {@code threads}.
+   *
+   * @param threads The value to set {@code threads}.
+   */
+  protected void setThreads(final Integer threads) {
+    this.threads = threads;
+  }
+
+  private Integer maxPlacements;
+  private Integer timeLimit;
+  private Integer threads;
+
+  /**
+   * Getter for {@code targetDataInstance}.
+   *
+   * @return The value of {@code targetDataInstance}.
+   */
+  protected PLTargetDataInstance getTargetDataInstance() {
+    return targetDataInstance;
+  }
+
+  /**
+   * Setter for {@code targetDataInstance}.
+   *
+   * @param targetDataInstance The value to set {@code targetDataInstance}.
+   */
+  protected void setTargetDataInstance(final PLTargetDataInstance targetDataInstance) {
+    this.targetDataInstance = targetDataInstance;
+  }
+
+  /**
+   * Getter for {@code circuitRules}.
+   *
+   * @return The value of {@code circuitRules}.
+   */
+  protected CircuitRules getCircuitRules() {
+    return circuitRules;
+  }
+
+  /**
+   * Setter for {@code circuitRules}.
+   *
+   * @param circuitRules The value to set {@code circuitRules}.
+   */
+  protected void setCircuitRules(final CircuitRules circuitRules) {
+    this.circuitRules = circuitRules;
+  }
+
+  /**
+   * Getter for {@code deviceRules}.
+   *
+   * @return The value of {@code deviceRules}.
+   */
+  protected DeviceRules getDeviceRules() {
+    return deviceRules;
+  }
+
+  /**
+   * Setter for {@code deviceRules}.
+   *
+   * @param deviceRules The value to set {@code deviceRules}.
+   */
+  protected void setDeviceRules(final DeviceRules deviceRules) {
+    this.deviceRules = deviceRules;
+  }
+
+  private PLTargetDataInstance targetDataInstance;
+  private CircuitRules circuitRules;
+  private DeviceRules deviceRules;
+
+  /**
+   * Getter for {@code deviceNames}.
+   *
+   * @return The value of {@code deviceNames}.
+   */
+  protected List<String> getDeviceNames() {
+    return deviceNames;
+  }
+
+  /**
+   * Setter for {@code deviceNames}.
+   *
+   * @param deviceNames The value to set {@code deviceNames}.
+   */
+  protected void setDeviceNames(final List<String> deviceNames) {
+    this.deviceNames = deviceNames;
+  }
+
+  /**
+   * Getter for {@code devicePartsMap}.
+   *
+   * @return The value of {@code devicePartsMap}.
+   */
+  protected Map<String, List<String>> getDevicePartsMap() {
+    return devicePartsMap;
+  }
+
+  /**
+   * Setter for {@code devicePartsMap}.
+   *
+   * @param devicePartsMap The value to set {@code devicePartsMap}.
+   */
+  protected void setDevicePartsMap(final Map<String, List<String>> devicePartsMap) {
+    this.devicePartsMap = devicePartsMap;
+  }
+
+  /**
+   * Getter for {@code deviceNameNetlistNodeMap}.
+   *
+   * @return The value of {@code deviceNameNetlistNodeMap}.
+   */
+  protected Map<String, NetlistNode> getDeviceNameNetlistNodeMap() {
+    return deviceNameNetlistNodeMap;
+  }
+
+  /**
+   * Setter for {@code deviceNameNetlistNodeMap}.
+   *
+   * @param deviceNameNetlistNodeMap The value to set {@code deviceNameNetlistNodeMap}.
+   */
+  protected void setDeviceNameNetlistNodeMap(
+      final Map<String, NetlistNode> deviceNameNetlistNodeMap) {
+    this.deviceNameNetlistNodeMap = deviceNameNetlistNodeMap;
+  }
+
+  private List<String> deviceNames;
+  private Map<String, List<String>> devicePartsMap;
+  private Map<String, NetlistNode> deviceNameNetlistNodeMap;
+
+  /**
+   * Getter for {@code symbols}.
+   *
+   * @return The value of {@code symbols}.
+   */
+  protected List<String> getSymbols() {
+    return symbols;
+  }
+
+  /**
+   * Setter for {@code symbols}.
+   *
+   * @param symbols The value to set {@code symbols}.
+   */
+  protected void setSymbols(final List<String> symbols) {
+    this.symbols = symbols;
+  }
+
+  /**
+   * Getter for {@code search}.
+   *
+   * @return The value of {@code search}.
+   */
+  protected GpccGridSearch getSearch() {
+    return search;
+  }
+
+  /**
+   * Setter for {@code search}.
+   *
+   * @param search The value to set {@code search}.
+   */
+  protected void setSearch(final GpccGridSearch search) {
+    this.search = search;
+  }
+
+  /**
+   * Getter for {@code sequences}.
+   *
+   * @return The value of {@code sequences}.
+   */
+  protected List<int[]> getSequences() {
+    return sequences;
+  }
+
+  /**
+   * Setter for {@code sequences}.
+   *
+   * @param sequences The value to set {@code sequences}.
+   */
+  protected void setSequences(final List<int[]> sequences) {
+    this.sequences = sequences;
+  }
+
+  private List<String> symbols;
+  private GpccGridSearch search;
+  private List<int[]> sequences;
 }
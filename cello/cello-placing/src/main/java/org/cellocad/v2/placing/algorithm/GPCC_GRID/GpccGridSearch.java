@@ -0,0 +1,305 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.placing.algorithm.GPCC_GRID;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.data.CompiledRules;
+
+/**
+ * A depth-first search for the sequences of symbols that satisfy a set of compiled rules. The
+ * sequence is built from left to right, and a branch is pruned as soon as the rules evaluate to
+ * {@link CompiledRules#FALSE} on its prefix.
+ *
+ * <p>Two kinds of symmetry are broken. Instances of the same symbol are indistinguishable, so each
+ * distinct symbol is tried once per position. A symbol may also be given a predecessor, a symbol
+ * all of whose instances must be placed before it, to fix the order of interchangeable symbols.
+ *
+ * <p>The search may be split into independent subtrees, one per feasible prefix of the sequence,
+ * and the subtrees solved concurrently. Since the first symbols of a placement are usually the
+ * genetic locations and the devices that open them, each subtree is in effect the sub-problem of
+ * one arrangement of the leading location groups. The results of the subtrees are merged in prefix
+ * order, so a parallel search without a time limit returns exactly the sequences a sequential
+ * search would. With a time limit, each subtree stops at the deadline independently, so the
+ * sequences found may differ from those of a sequential search.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public final class GpccGridSearch {
+
+  /**
+   * Initializes a newly created {@link GpccGridSearch}.
+   *
+   * @param rules The compiled rules.
+   * @param counts The number of instances of each symbol.
+   * @param predecessors The predecessor of each symbol, or -1 if the symbol has none.
+   */
+  public GpccGridSearch(final CompiledRules rules, final int[] counts, final int[] predecessors) {
+    this.rules = rules;
+    this.counts = counts.clone();
+    this.predecessors = predecessors.clone();
+    int n = 0;
+    for (final int c : counts) {
+      n += c;
+    }
+    sequence = new int[n];
+    remaining = counts.clone();
+  }
+
+  /**
+   * Searches for sequences that satisfy the rules.
+   *
+   * @param max The maximum number of sequences.
+   * @param deadline The {@link System#nanoTime()} by which the search must complete, or {@link
+   *     Long#MAX_VALUE} if the search is unlimited.
+   * @return The sequences, in the order found.
+   */
+  public List<int[]> search(final int max, final long deadline) {
+    return search(new int[0], max, deadline);
+  }
+
+  /**
+   * Searches for sequences that begin with the given prefix and satisfy the rules.
+   *
+   * @param prefix The prefix.
+   * @param max The maximum number of sequences.
+   * @param deadline The {@link System#nanoTime()} by which the search must complete, or {@link
+   *     Long#MAX_VALUE} if the search is unlimited.
+   * @return The sequences, in the order found.
+   */
+  public List<int[]> search(final int[] prefix, final int max, final long deadline) {
+    results = new ArrayList<>();
+    this.max = max;
+    this.deadline = deadline;
+    expired = false;
+    numNodes = 0;
+    Arrays.fill(sequence, -1);
+    System.arraycopy(counts, 0, remaining, 0, counts.length);
+    for (int i = 0; i < prefix.length; i++) {
+      sequence[i] = prefix[i];
+      remaining[prefix[i]]--;
+    }
+    if (rules.evaluate(sequence, prefix.length, remaining, counts) != CompiledRules.FALSE) {
+      search(prefix.length);
+    }
+    return results;
+  }
+
+  /**
+   * Searches for sequences that satisfy the rules, splitting the search into subtrees that are
+   * solved on a pool of threads.
+   *
+   * @param max The maximum number of sequences.
+   * @param deadline The {@link System#nanoTime()} by which the search must complete, or {@link
+   *     Long#MAX_VALUE} if the search is unlimited.
+   * @param threads The number of threads.
+   * @return The sequences, in the order a sequential search would find them. If the deadline is
+   *     reached, the sequences found by the subtrees up to the first subtree that reached it.
+   * @throws CelloException Unable to complete the search.
+   */
+  public List<int[]> search(final int max, final long deadline, final int threads)
+      throws CelloException {
+    if (threads <= 1) {
+      return search(max, deadline);
+    }
+    final List<int[]> prefixes = getPrefixes(threads * SUBTREES_PER_THREAD, deadline);
+    if (deadline != Long.MAX_VALUE && System.nanoTime() > deadline) {
+      results = new ArrayList<>();
+      expired = true;
+      numNodes = 0;
+      return results;
+    }
+    if (prefixes.size() <= 1) {
+      return search(max, deadline);
+    }
+    final List<GpccGridSearch> searches = new ArrayList<>();
+    for (int i = 0; i < prefixes.size(); i++) {
+      searches.add(new GpccGridSearch(rules, counts, predecessors));
+    }
+    final List<int[]> rtn = new ArrayList<>();
+    expired = false;
+    numNodes = 0;
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(Math.min(threads, prefixes.size()));
+    try {
+      final List<Future<List<int[]>>> futures = new ArrayList<>();
+      for (int i = 0; i < prefixes.size(); i++) {
+        final GpccGridSearch search = searches.get(i);
+        final int[] prefix = prefixes.get(i);
+        futures.add(executor.submit(() -> search.search(prefix, max, deadline)));
+      }
+      // merge in prefix order and stop the later subtrees once enough are found
+      for (int i = 0; i < futures.size(); i++) {
+        final List<int[]> sequences = futures.get(i).get();
+        expired = expired || searches.get(i).isExpired();
+        for (int j = 0; j < sequences.size() && rtn.size() < max; j++) {
+          rtn.add(sequences.get(j));
+        }
+        if (rtn.size() >= max || expired) {
+          for (int j = i + 1; j < futures.size(); j++) {
+            searches.get(j).cancel();
+          }
+          break;
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CelloException("Interrupted while searching placements.", e);
+    } catch (final ExecutionException e) {
+      throw new CelloException("Error searching placements.", e.getCause());
+    } finally {
+      for (final GpccGridSearch search : searches) {
+        search.cancel();
+      }
+      executor.shutdownNow();
+    }
+    for (final GpccGridSearch search : searches) {
+      numNodes += search.getNumNodes();
+    }
+    results = rtn;
+    return rtn;
+  }
+
+  /**
+   * Gets the feasible prefixes of the shortest length at which there are at least the given number,
+   * or of the full length if there are never that many. If the deadline is reached, the prefixes of
+   * the longest length completed are returned instead.
+   *
+   * @param min The minimum number of prefixes.
+   * @param deadline The {@link System#nanoTime()} by which the prefixes must be found, or {@link
+   *     Long#MAX_VALUE} if unlimited.
+   * @return The prefixes, in the order a sequential search would visit them.
+   */
+  public List<int[]> getPrefixes(final int min, final long deadline) {
+    List<int[]> rtn = new ArrayList<>();
+    rtn.add(new int[0]);
+    final int[] seq = new int[sequence.length];
+    final int[] rem = new int[counts.length];
+    for (int len = 0; len < sequence.length && rtn.size() < min; len++) {
+      final List<int[]> next = new ArrayList<>();
+      for (final int[] prefix : rtn) {
+        if (deadline != Long.MAX_VALUE && System.nanoTime() > deadline) {
+          return rtn;
+        }
+        Arrays.fill(seq, -1);
+        System.arraycopy(counts, 0, rem, 0, counts.length);
+        for (int i = 0; i < len; i++) {
+          seq[i] = prefix[i];
+          rem[prefix[i]]--;
+        }
+        for (int s = 0; s < rem.length; s++) {
+          if (rem[s] == 0 || (predecessors[s] >= 0 && rem[predecessors[s]] > 0)) {
+            continue;
+          }
+          seq[len] = s;
+          rem[s]--;
+          if (rules.evaluate(seq, len + 1, rem, counts) != CompiledRules.FALSE) {
+            final int[] p = Arrays.copyOf(prefix, len + 1);
+            p[len] = s;
+            next.add(p);
+          }
+          rem[s]++;
+          seq[len] = -1;
+        }
+      }
+      rtn = next;
+    }
+    return rtn;
+  }
+
+  private void search(final int len) {
+    if (results.size() >= max || expired || cancelled) {
+      return;
+    }
+    numNodes++;
+    if ((numNodes & 0xFF) == 0) {
+      if (deadline != Long.MAX_VALUE && System.nanoTime() > deadline) {
+        expired = true;
+        return;
+      }
+      if (cancelled) {
+        return;
+      }
+    }
+    if (len == sequence.length) {
+      results.add(sequence.clone());
+      return;
+    }
+    for (int s = 0; s < remaining.length; s++) {
+      if (remaining[s] == 0 || (predecessors[s] >= 0 && remaining[predecessors[s]] > 0)) {
+        continue;
+      }
+      sequence[len] = s;
+      remaining[s]--;
+      if (rules.evaluate(sequence, len + 1, remaining, counts) != CompiledRules.FALSE) {
+        search(len + 1);
+      }
+      remaining[s]++;
+      sequence[len] = -1;
+      if (results.size() >= max || expired || cancelled) {
+        break;
+      }
+    }
+  }
+
+  /** Stops this search, and any later search by it, from another thread. */
+  public void cancel() {
+    cancelled = true;
+  }
+
+  /**
+   * Tests whether the last search was stopped by its deadline.
+   *
+   * @return Whether the last search was stopped by its deadline.
+   */
+  public boolean isExpired() {
+    return expired;
+  }
+
+  /**
+   * Getter for {@code numNodes}.
+   *
+   * @return The number of prefixes visited by the last search.
+   */
+  public long getNumNodes() {
+    return numNodes;
+  }
+
+  private static final int SUBTREES_PER_THREAD = 4;
+
+  private final CompiledRules rules;
+  private final int[] counts;
+  private final int[] predecessors;
+  private final int[] sequence;
+  private final int[] remaining;
+  private List<int[]> results;
+  private int max;
+  private long deadline;
+  private boolean expired;
+  private volatile boolean cancelled;
+  private long numNodes;
+}
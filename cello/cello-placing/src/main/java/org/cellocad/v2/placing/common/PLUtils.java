@@ -20,12 +20,31 @@
 package org.cellocad.v2.placing.common;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
+import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.runtime.environment.ArgString;
+import org.cellocad.v2.common.runtime.environment.RuntimeEnv;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.common.target.data.data.Input;
+import org.cellocad.v2.results.common.PlotExecutor;
+import org.cellocad.v2.results.common.Result;
+import org.cellocad.v2.results.common.Results;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistEdge;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.placing.DnaPlotLibUtils;
 
 /**
  * Utility methods for the <i>placing</i> stage.
@@ -89,4 +108,124 @@ public class PLUtils {
     rtn = sb.toString();
     return rtn;
   }
+
+  /**
+   * Sets the device of each node and the input of each edge of the given netlist.
+   *
+   * @param netlist The netlist.
+   * @param tdi The target data instance.
+   */
+  public static void initEdges(final Netlist netlist, final TargetDataInstance tdi) {
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      final String name = node.getResultNetlistNodeData().getDeviceName();
+      AssignableDevice device = null;
+      device = tdi.getInputSensors().findCObjectByName(name);
+      if (device == null) {
+        device = tdi.getOutputDevices().findCObjectByName(name);
+      }
+      if (device == null) {
+        device = tdi.getGates().findCObjectByName(name);
+      }
+      node.getResultNetlistNodeData().setDevice(device);
+      if (node.getNumInEdge() > device.getStructure().getInputs().size()) {
+        throw new RuntimeException("Device structure does not have enough inputs.");
+      }
+      for (int j = 0; j < node.getNumInEdge(); j++) {
+        final NetlistEdge e = node.getInEdgeAtIdx(j);
+        int n = j;
+        if (e.getIdx() != -1) {
+          n = e.getIdx();
+        }
+        final Input input = device.getStructure().getInputs().get(n);
+        e.getResultNetlistEdgeData().setInput(input);
+      }
+    }
+  }
+
+  /**
+   * Generates the dnaplotlib figures of the placements of the given netlist.
+   *
+   * @param netlist The netlist.
+   * @param tdi The target data instance.
+   * @param runEnv The runtime environment.
+   * @param results The results.
+   * @throws CelloException Unable to generate the figures.
+   */
+  public static void generateDnaPlotLibPlots(
+      final Netlist netlist,
+      final TargetDataInstance tdi,
+      final RuntimeEnv runEnv,
+      final Results results)
+      throws CelloException {
+    final PlotExecutor.Mode mode = PlotExecutor.getMode(runEnv);
+    if (mode == PlotExecutor.Mode.SKIP) {
+      return;
+    }
+    final String outputDir = runEnv.getOptionValue(ArgString.OUTPUTDIR);
+    File file = null;
+    final List<String> designs = DnaPlotLibUtils.getDnaDesigns(netlist, tdi);
+    final String designsFilename = outputDir + Utils.getFileSeparator() + "dpl_dna_designs.csv";
+    file = new File(designsFilename);
+    DnaPlotLibUtils.writeCSV(designs, file);
+    final List<String> parts = DnaPlotLibUtils.getPartsInformation(netlist, tdi);
+    final String partsFilename = outputDir + Utils.getFileSeparator() + "dpl_part_information.csv";
+    file = new File(partsFilename);
+    DnaPlotLibUtils.writeCSV(parts, file);
+    final List<String> reg = DnaPlotLibUtils.getRegulatoryInformation(netlist, tdi);
+    final String regFilename =
+        outputDir + Utils.getFileSeparator() + "dpl_regulatory_information.csv";
+    file = new File(regFilename);
+    DnaPlotLibUtils.writeCSV(reg, file);
+    String params;
+    try {
+      params = Utils.getResourceAsString("plot_parameters.csv");
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    final String paramsFilename = outputDir + Utils.getFileSeparator() + "plot_parameters.csv";
+    Utils.writeToFile(params, paramsFilename);
+    Path dir;
+    try {
+      dir = Files.createTempDirectory("cello_");
+    } catch (final IOException e) {
+      throw new CelloException("Unable to create temporary directory.", e);
+    }
+    String libraryPlot;
+    try {
+      libraryPlot = Utils.getResourceAsString("library_plot.py");
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    final String libraryPlotFilename =
+        dir.toString() + Utils.getFileSeparator() + "library_plot.py";
+    Utils.writeToFile(libraryPlot, libraryPlotFilename);
+    final String output = outputDir + Utils.getFileSeparator() + netlist.getName() + "_dpl";
+    final List<String> args = new ArrayList<>();
+    args.add(libraryPlotFilename);
+    args.add("-params");
+    args.add(paramsFilename);
+    args.add("-parts");
+    args.add(partsFilename);
+    args.add("-designs");
+    args.add(designsFilename);
+    args.add("-regulation");
+    args.add(regFilename);
+    args.add("-output");
+    final List<PlotExecutor.Job> jobs = new ArrayList<>();
+    for (final String ext : new String[] {".pdf", ".png"}) {
+      final List<String> jobArgs = new ArrayList<>(args);
+      jobArgs.add(output + ext);
+      final Result result =
+          new Result(
+              "dnaplotlib",
+              "placing",
+              "The sequence diagram generated by dnaplotlib.",
+              new File(output + ext));
+      jobs.add(new PlotExecutor.Job(jobArgs, Collections.singletonList(result)));
+    }
+    final String python = runEnv.getOptionValue(ArgString.PYTHONENV) + " -W ignore";
+    final File driver = new File(outputDir, "dnaplotlib_plots.py");
+    results.getPlotExecutor().submit(mode, "placing", python, driver, jobs);
+  }
 }
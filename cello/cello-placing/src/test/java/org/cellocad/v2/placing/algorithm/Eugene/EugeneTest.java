@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package org.cellocad.v2.placing.algorithm.Eugene;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.data.StructureDevice;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cidarlab.eugene.dom.NamedElement;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Eugene}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class EugeneTest {
+
+  /** Executes no Eugene script, instead adding a scripted number of placements per script. */
+  private static class TestEugene extends Eugene {
+
+    @Override
+    protected String getCircuitDefinition() {
+      return "Device circuit();";
+    }
+
+    @Override
+    protected int addPlacements(
+        final String script, final long deadline, final List<NamedElement> results, final int max)
+        throws CelloException {
+      scripts.add(script);
+      final int num = placements.isEmpty() ? -1 : placements.remove();
+      if (num < 0) {
+        return -1;
+      }
+      for (int i = 0; i < num && results.size() < max; i++) {
+        results.add(null);
+      }
+      return NUM_CHUNKS;
+    }
+
+    @Override
+    protected void logWarn(final String str) {
+      warnings.add(str);
+    }
+
+    private final Deque<Integer> placements = new ArrayDeque<>();
+    private final List<String> scripts = new ArrayList<>();
+    private final List<String> warnings = new ArrayList<>();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Collection<StructureDevice> getDevices(final String name) {
+    final JSONObject obj = new JSONObject();
+    obj.put("name", name);
+    obj.put("components", new JSONArray());
+    final Collection<StructureDevice> rtn = new ArrayList<>();
+    rtn.add(new StructureDevice(obj));
+    return rtn;
+  }
+
+  /** Sets up two devices, the first with {@link #NUM_CHUNKS} variants. */
+  @Before
+  public void init() {
+    eugene = new TestEugene();
+    final Map<NetlistNode, Collection<StructureDevice>> devicesMap = new LinkedHashMap<>();
+    for (final String name : Arrays.asList("A", "B")) {
+      final NetlistNode node = new NetlistNode();
+      node.setName(name);
+      devicesMap.put(node, getDevices(name));
+    }
+    eugene.setDevicesMap(devicesMap);
+    eugene.setEugeneScriptPrelude("");
+    eugene.setEugeneScript("");
+    eugene.setMaxPlacements(5);
+  }
+
+  @Test
+  public void getResultsDefinition_TwoDevices_ShouldBoundEveryLoopByMax() {
+    final String script = eugene.getResultsDefinition(null, 5);
+    int loops = 0;
+    for (final String line : script.split(Utils.getNewLine())) {
+      if (line.startsWith("for(")) {
+        assertTrue(line, line.contains("sizeof(allResults) < 5;"));
+        loops++;
+      }
+    }
+    assertEquals(2, loops);
+  }
+
+  @Test
+  public void getResultsDefinition_Chunk_ShouldEnumerateOneVariantOfFirstDevice() {
+    final String script = eugene.getResultsDefinition(2, 5);
+    assertTrue(
+        script.contains("i1 = 2; i1 < sizeof(A_devices) && i1 < 3 && sizeof(allResults) < 5;"));
+    assertTrue(script.contains("i2 = 0; i2 < sizeof(B_devices) && sizeof(allResults) < 5;"));
+  }
+
+  @Test
+  public void run_NoTimeLimit_ShouldRunWholeScript() throws CelloException {
+    eugene.setTimeLimit(0);
+    eugene.setEugeneScript("script");
+    eugene.placements.add(7);
+    eugene.run();
+    assertEquals(Arrays.asList("script"), eugene.scripts);
+    assertEquals(5, eugene.getEugeneResults().size());
+    assertTrue(eugene.warnings.isEmpty());
+  }
+
+  @Test
+  public void run_AllChunks_ShouldNotWarn() throws CelloException {
+    eugene.setTimeLimit(60);
+    eugene.placements.addAll(Arrays.asList(1, 1, 1));
+    eugene.run();
+    assertEquals(NUM_CHUNKS, eugene.scripts.size());
+    assertEquals(3, eugene.getEugeneResults().size());
+    assertTrue(eugene.warnings.isEmpty());
+  }
+
+  @Test
+  public void run_DeadlineExpiredWithPlacements_ShouldKeepPlacementsAndWarn()
+      throws CelloException {
+    eugene.setTimeLimit(60);
+    eugene.placements.add(2);
+    eugene.run();
+    assertEquals(2, eugene.scripts.size());
+    assertTrue(eugene.scripts.get(1).contains("sizeof(allResults) < 3;"));
+    assertEquals(2, eugene.getEugeneResults().size());
+    assertEquals(1, eugene.warnings.size());
+    assertTrue(eugene.warnings.get(0).contains("2 of at most 5"));
+  }
+
+  @Test(expected = CelloException.class)
+  public void run_DeadlineExpiredWithoutPlacements_ShouldThrow() throws CelloException {
+    eugene.setTimeLimit(60);
+    eugene.run();
+  }
+
+  private static final int NUM_CHUNKS = 3;
+
+  private TestEugene eugene;
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.placing.algorithm.GPCC_GRID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.data.CompiledRules;
+import org.cellocad.v2.common.target.data.data.ParentRuleTreeNode;
+import org.cellocad.v2.common.target.data.data.RuleTree;
+import org.cellocad.v2.common.target.data.data.RuleTreeFunction;
+import org.cellocad.v2.common.target.data.data.RuleTreeNode;
+import org.cellocad.v2.common.target.data.data.TerminalRuleTreeNode;
+import org.junit.Test;
+
+/**
+ * Tests for {@link GpccGridSearch}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class GpccGridSearchTest {
+
+  private static final List<String> SYMBOLS = Arrays.asList("L1", "L2", "A", "B", "C");
+
+  private static TerminalRuleTreeNode getTerminal(
+      final RuleTreeFunction function, final String... rules) {
+    final TerminalRuleTreeNode rtn = new TerminalRuleTreeNode();
+    rtn.setFunction(function);
+    rtn.setRules(new ArrayList<>(Arrays.asList(rules)));
+    return rtn;
+  }
+
+  private static RuleTree getTree() {
+    final List<RuleTreeNode> children = new ArrayList<>();
+    children.add(getTerminal(RuleTreeFunction.AND, "STARTSWITH L1", "A BEFORE L2"));
+    children.add(getTerminal(RuleTreeFunction.OR, "B NEXTTO C", "[4] EQUALS B"));
+    final ParentRuleTreeNode root = new ParentRuleTreeNode();
+    root.setFunction(RuleTreeFunction.AND);
+    root.setChildren(children);
+    final RuleTree rtn = new RuleTree();
+    rtn.setRoot(root);
+    return rtn;
+  }
+
+  private static void permute(
+      final int[] seq, final int k, final CompiledRules rules, final Set<List<Integer>> rtn) {
+    if (k == seq.length) {
+      if (rules.isSatisfied(seq)) {
+        final List<Integer> list = new ArrayList<>();
+        for (final int s : seq) {
+          list.add(s);
+        }
+        rtn.add(list);
+      }
+      return;
+    }
+    for (int i = k; i < seq.length; i++) {
+      int t = seq[k];
+      seq[k] = seq[i];
+      seq[i] = t;
+      permute(seq, k + 1, rules, rtn);
+      t = seq[k];
+      seq[k] = seq[i];
+      seq[i] = t;
+    }
+  }
+
+  @Test
+  public void search_Unlimited_ShouldFindAllSatisfyingSequences() throws CelloException {
+    final CompiledRules rules = CompiledRules.compile(getTree(), SYMBOLS);
+    final Set<List<Integer>> expected = new HashSet<>();
+    permute(new int[] {0, 1, 2, 3, 4}, 0, rules, expected);
+    final GpccGridSearch search =
+        new GpccGridSearch(rules, new int[] {1, 1, 1, 1, 1}, new int[] {-1, -1, -1, -1, -1});
+    final Set<List<Integer>> actual = new HashSet<>();
+    for (final int[] seq : search.search(Integer.MAX_VALUE, Long.MAX_VALUE)) {
+      final List<Integer> list = new ArrayList<>();
+      for (final int s : seq) {
+        list.add(s);
+      }
+      actual.add(list);
+    }
+    assertFalse(expected.isEmpty());
+    assertEquals(expected, actual);
+    assertEquals(2, search.search(2, Long.MAX_VALUE).size());
+  }
+
+  @Test
+  public void search_Predecessor_ShouldFixOrderOfInterchangeableSymbols() throws CelloException {
+    final RuleTree tree = new RuleTree();
+    tree.setRoot(getTerminal(RuleTreeFunction.AND, "STARTSWITH A"));
+    final CompiledRules rules = CompiledRules.compile(tree, SYMBOLS);
+    final int[] counts = {1, 1, 1, 1, 1};
+    final GpccGridSearch free = new GpccGridSearch(rules, counts, new int[] {-1, -1, -1, -1, -1});
+    final GpccGridSearch fixed = new GpccGridSearch(rules, counts, new int[] {-1, 0, -1, -1, -1});
+    assertEquals(24, free.search(Integer.MAX_VALUE, Long.MAX_VALUE).size());
+    final List<int[]> sequences = fixed.search(Integer.MAX_VALUE, Long.MAX_VALUE);
+    assertEquals(12, sequences.size());
+    for (final int[] seq : sequences) {
+      int l1 = -1;
+      int l2 = -1;
+      for (int i = 0; i < seq.length; i++) {
+        if (seq[i] == 0) {
+          l1 = i;
+        }
+        if (seq[i] == 1) {
+          l2 = i;
+        }
+      }
+      assertTrue(l1 < l2);
+    }
+  }
+
+  @Test
+  public void search_Threads_ShouldMatchSequentialSearch() throws CelloException {
+    final CompiledRules rules = CompiledRules.compile(getTree(), SYMBOLS);
+    final int[] counts = {1, 1, 1, 1, 1};
+    final int[] predecessors = {-1, -1, -1, -1, -1};
+    final GpccGridSearch search = new GpccGridSearch(rules, counts, predecessors);
+    assertTrue(search.getPrefixes(8, Long.MAX_VALUE).size() >= 8);
+    for (final int max : new int[] {1, 3, Integer.MAX_VALUE}) {
+      final List<int[]> expected = search.search(max, Long.MAX_VALUE);
+      final List<int[]> actual = search.search(max, Long.MAX_VALUE, 4);
+      assertEquals(expected.size(), actual.size());
+      for (int i = 0; i < expected.size(); i++) {
+        assertTrue(Arrays.equals(expected.get(i), actual.get(i)));
+      }
+    }
+  }
+
+  @Test
+  public void search_ThreadsPastDeadline_ShouldExpireWithoutSequences() throws CelloException {
+    final CompiledRules rules = CompiledRules.compile(getTree(), SYMBOLS);
+    final GpccGridSearch search =
+        new GpccGridSearch(rules, new int[] {1, 1, 1, 1, 1}, new int[] {-1, -1, -1, -1, -1});
+    final long deadline = System.nanoTime() - 1;
+    final List<int[]> prefixes = search.getPrefixes(8, deadline);
+    assertEquals(1, prefixes.size());
+    assertEquals(0, prefixes.get(0).length);
+    assertTrue(search.search(Integer.MAX_VALUE, deadline, 4).isEmpty());
+    assertTrue(search.isExpired());
+  }
+}
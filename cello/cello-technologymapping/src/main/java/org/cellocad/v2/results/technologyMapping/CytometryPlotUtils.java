@@ -22,9 +22,11 @@
 
 package org.cellocad.v2.results.technologyMapping;
 
+import java.awt.Color;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.cellocad.v2.common.Pair;
 import org.cellocad.v2.common.Utils;
@@ -37,6 +39,7 @@ import org.cellocad.v2.common.target.data.data.EvaluationContext;
 import org.cellocad.v2.common.target.data.data.FunctionType;
 import org.cellocad.v2.common.target.data.data.Gate;
 import org.cellocad.v2.common.target.data.data.Variable;
+import org.cellocad.v2.results.common.PlotExecutor;
 import org.cellocad.v2.results.common.Result;
 import org.cellocad.v2.results.common.Results;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
@@ -46,6 +49,7 @@ import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistNode;
 import org.cellocad.v2.results.netlist.data.ResultNetlistNodeData;
+import org.cellocad.v2.results.plot.LogPlot;
 import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
 
 /**
@@ -70,6 +74,13 @@ public class CytometryPlotUtils {
     return rtn;
   }
 
+  private static String getPlotSvgFilename(final NetlistNode node) {
+    String rtn = null;
+    final String gateType = node.getResultNetlistNodeData().getDeviceName();
+    rtn = String.format(S_PREFIX + "%s_%s.svg", node.getName(), gateType);
+    return rtn;
+  }
+
   private static List<Double> getXData(final NetlistNode node) {
     List<Double> rtn = new ArrayList<>();
     AssignableDevice a = node.getResultNetlistNodeData().getDevice();
@@ -171,58 +182,105 @@ public class CytometryPlotUtils {
     return rtn;
   }
 
-  private static String getPlotCommand(final RuntimeEnv runEnv, final String file) {
-    String rtn = null;
-    final String python = runEnv.getOptionValue(ArgString.PYTHONENV);
-    rtn = String.format("%s %s", python, file);
+  private static LogPlot getPlot(
+      final NetlistNode node, final TMActivityEvaluation tmae, final EvaluationContext ec)
+      throws CelloException {
+    // gate
+    final ResultNetlistNodeData data = node.getResultNetlistNodeData();
+    final AssignableDevice a = data.getDevice();
+    if (!(a instanceof Gate)) {
+      throw new RuntimeException("Not a gate.");
+    }
+    final List<Double> x = getXData(node);
+    if (x == null) {
+      return null;
+    }
+    final States<NetlistNode> states = tmae.getStates();
+    final int n = states.getNumStates();
+    final LogPlot rtn = new LogPlot(getTitle(node), D_WIDTH, D_AXESHEIGHT * n + D_TITLEHEIGHT);
+    for (int i = 0; i < n; i++) {
+      final State<NetlistNode> state = states.getStateAtIdx(i);
+      final List<Double> y = getYData(node, tmae, ec, state);
+      final LogPlot.Axes ax = rtn.addAxes();
+      ax.setXLimits(D_XMIN, D_XMAX);
+      ax.addLine(x, y, C_LINE, D_LINEWIDTH);
+    }
     return rtn;
   }
 
-  private static void generatePlot(
+  private static void renderPlot(
       final NetlistNode node,
-      final LSLogicEvaluation lsle,
       final TMActivityEvaluation tmae,
       final EvaluationContext ec,
       final RuntimeEnv runEnv,
       final Results results)
       throws CelloException {
     final String outDir = runEnv.getOptionValue(ArgString.OUTPUTDIR);
+    // evaluate here, render in the background
+    final LogPlot plot = getPlot(node, tmae, ec);
+    if (plot == null) {
+      return;
+    }
+    final File png = new File(outDir, getPlotFilename(node));
+    final File svg = new File(outDir, getPlotSvgFilename(node));
+    final String description = "The cytometry plot for node " + node.getName() + ".";
+    final List<Result> plotResults = new ArrayList<>();
+    plotResults.add(new Result("cytometry_plot", "technologyMapping", description, png));
+    plotResults.add(new Result("cytometry_plot", "technologyMapping", description, svg));
+    results
+        .getPlotExecutor()
+        .submit(
+            "technologyMapping",
+            () -> {
+              plot.writePng(png);
+              plot.writeSvg(svg);
+            },
+            plotResults);
+  }
+
+  private static PlotExecutor.Job generatePlot(
+      final NetlistNode node,
+      final LSLogicEvaluation lsle,
+      final TMActivityEvaluation tmae,
+      final EvaluationContext ec,
+      final RuntimeEnv runEnv)
+      throws CelloException {
+    PlotExecutor.Job rtn = null;
+    final String outDir = runEnv.getOptionValue(ArgString.OUTPUTDIR);
     // script
     final String script = getPlotScript(node, lsle, tmae, ec, outDir);
     if (script == null) {
-      return;
+      return rtn;
     }
     final String scriptFilename = outDir + Utils.getFileSeparator() + getPlotScriptFilename(node);
     Utils.writeToFile(script, scriptFilename);
     // plot
-    final String cmd = getPlotCommand(runEnv, scriptFilename);
-    Utils.executeAndWaitForCommand(cmd);
     final File file =
         new File(outDir + Utils.getFileSeparator() + Utils.getFilename(scriptFilename) + ".png");
-    if (file.exists()) {
-      final Result result =
-          new Result(
-              "cytometry_plot",
-              "technologyMapping",
-              "The cytometry plot for node " + node.getName() + ".",
-              file);
-      try {
-        results.addResult(result);
-      } catch (IOException e) {
-        throw new CelloException("Unable to write result.", e);
-      }
-    }
+    final Result result =
+        new Result(
+            "cytometry_plot",
+            "technologyMapping",
+            "The cytometry plot for node " + node.getName() + ".",
+            file);
+    rtn =
+        new PlotExecutor.Job(
+            Collections.singletonList(scriptFilename), Collections.singletonList(result));
+    return rtn;
   }
 
   /**
-   * Generate the response plots for all non-primary nodes in a netlist.
+   * Generate the response plots for all non-primary nodes in a netlist. The plots are made by the
+   * {@link PlotExecutor} of the results, according to the plot mode of the runtime environment,
+   * and their results are added when the plots complete. In the {@code native} mode the plots are
+   * rendered in process, to PNG and SVG, otherwise a plotting script is written for each node.
    *
    * @param netlist A netlist.
    * @param lsle The logic evaluation of the netlist.
    * @param tmae The activity evaluation of the netlist.
    * @param runEnv The runtime environment that contains the output directory.
    * @param results The results.
-   * @throws CelloException Unable to generate the response plots.
+   * @throws CelloException Unable to generate the response plots, or invalid plot mode.
    */
   public static void generatePlots(
       final Netlist netlist,
@@ -231,21 +289,47 @@ public class CytometryPlotUtils {
       final RuntimeEnv runEnv,
       final Results results)
       throws CelloException {
+    final PlotExecutor.Mode mode = PlotExecutor.getMode(runEnv);
+    if (mode == PlotExecutor.Mode.SKIP) {
+      return;
+    }
+    final List<PlotExecutor.Job> jobs = new ArrayList<>();
     for (int i = 0; i < netlist.getNumVertex(); i++) {
       final NetlistNode node = netlist.getVertexAtIdx(i);
       if (LSResultsUtils.isAllInput(node) || LSResultsUtils.isAllOutput(node)) {
         continue;
       }
-      EvaluationContext ec = new EvaluationContext();
-      generatePlot(node, lsle, tmae, ec, runEnv, results);
+      final EvaluationContext ec = new EvaluationContext();
+      if (mode == PlotExecutor.Mode.NATIVE) {
+        renderPlot(node, tmae, ec, runEnv, results);
+        continue;
+      }
+      final PlotExecutor.Job job = generatePlot(node, lsle, tmae, ec, runEnv);
+      if (job != null) {
+        jobs.add(job);
+      }
+    }
+    if (jobs.isEmpty()) {
+      return;
     }
+    final String outDir = runEnv.getOptionValue(ArgString.OUTPUTDIR);
+    final File driver = new File(outDir, S_DRIVER);
+    final String python = runEnv.getOptionValue(ArgString.PYTHONENV);
+    results.getPlotExecutor().submit(mode, "technologyMapping", python, driver, jobs);
   }
 
   private static final Double D_XMIN = 1e-3;
   private static final Double D_XMAX = 1e2;
+  private static final Double D_WIDTH = 4.0;
+  private static final Double D_AXESHEIGHT = 1.0;
+  private static final Double D_TITLEHEIGHT = 0.5;
+  private static final Double D_LINEWIDTH = 1.5;
+  // the first color of the default matplotlib color cycle
+  private static final Color C_LINE = new Color(0x1f, 0x77, 0xb4);
 
   private static final String S_PREFIX = "cytometry_plot_";
   private static final String S_TEMPLATE = "cytometry_plot.py";
+  private static final String S_DRIVER = "cytometry_plots.py";
 
   private static final String S_NONCE = "##NONCE##21##";
   private static final String S_NUMPLOTS = S_NONCE + "NUM_PLOTS" + S_NONCE;
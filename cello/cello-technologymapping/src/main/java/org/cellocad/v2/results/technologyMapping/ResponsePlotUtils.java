@@ -23,6 +23,7 @@ import java.awt.Color;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +39,7 @@ import org.cellocad.v2.common.target.data.data.FunctionType;
 import org.cellocad.v2.common.target.data.data.Gate;
 import org.cellocad.v2.common.target.data.data.Model;
 import org.cellocad.v2.common.target.data.data.Variable;
+import org.cellocad.v2.results.common.PlotExecutor;
 import org.cellocad.v2.results.common.Result;
 import org.cellocad.v2.results.common.Results;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
@@ -48,6 +50,7 @@ import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
 import org.cellocad.v2.results.netlist.data.ResultNetlistNodeData;
+import org.cellocad.v2.results.plot.LogPlot;
 import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
 import org.cellocad.v2.results.technologyMapping.activity.activitytable.Activity;
 import org.cellocad.v2.results.technologyMapping.activity.activitytable.ActivityTable;
@@ -74,6 +77,13 @@ public class ResponsePlotUtils {
     return rtn;
   }
 
+  private static String getPlotSvgFilename(final NetlistNode node) {
+    String rtn = null;
+    final String gateType = node.getResultNetlistNodeData().getDeviceName();
+    rtn = String.format(ResponsePlotUtils.S_PREFIX + "%s_%s.svg", node.getName(), gateType);
+    return rtn;
+  }
+
   private static String getColor(final Color color) {
     String rtn = null;
     final int r = color.getRed();
@@ -251,14 +261,44 @@ public class ResponsePlotUtils {
     return rtn;
   }
 
-  private static String getPlotCommand(final RuntimeEnv runEnv, final String file) {
-    String rtn = null;
-    final String python = runEnv.getOptionValue(ArgString.PYTHONENV);
-    rtn = String.format("%s %s", python, file);
+  private static LogPlot getPlot(
+      final NetlistNode node, final LSLogicEvaluation lsle, final TMActivityEvaluation tmae)
+      throws CelloException {
+    // gate
+    final ResultNetlistNodeData data = node.getResultNetlistNodeData();
+    final AssignableDevice a = data.getDevice();
+    if (!(a instanceof Gate)) {
+      throw new RuntimeException("Not a gate.");
+    }
+    final Gate gate = (Gate) a;
+    // data
+    final List<Double> x = ResponsePlotUtils.getXData();
+    final List<Double> y = ResponsePlotUtils.getYData(node, x);
+    // hi & lo
+    final List<Integer> hi = ResponsePlotUtils.getHiIdx(node, lsle);
+    final List<Integer> lo = ResponsePlotUtils.getLoIdx(node, lsle);
+    // plot
+    final LogPlot rtn =
+        new LogPlot(
+            ResponsePlotUtils.getTitle(node), ResponsePlotUtils.D_SIZE, ResponsePlotUtils.D_SIZE);
+    final LogPlot.Axes ax = rtn.addAxes();
+    ax.setXLimits(ResponsePlotUtils.D_XMIN, ResponsePlotUtils.D_XMAX);
+    ax.setYLimits(ResponsePlotUtils.D_YMIN, ResponsePlotUtils.D_YMAX);
+    ax.addLine(x, y, gate.getColor(), ResponsePlotUtils.D_LINEWIDTH);
+    ax.addPoints(
+        ResponsePlotUtils.getHiLoXData(node, hi, tmae),
+        ResponsePlotUtils.getHiLoYData(node, hi, tmae),
+        Color.BLACK,
+        true);
+    ax.addPoints(
+        ResponsePlotUtils.getHiLoXData(node, lo, tmae),
+        ResponsePlotUtils.getHiLoYData(node, lo, tmae),
+        Color.BLACK,
+        false);
     return rtn;
   }
 
-  private static void generatePlot(
+  private static void renderPlot(
       final NetlistNode node,
       final LSLogicEvaluation lsle,
       final TMActivityEvaluation tmae,
@@ -266,40 +306,62 @@ public class ResponsePlotUtils {
       final Results results)
       throws CelloException {
     final String outDir = runEnv.getOptionValue(ArgString.OUTPUTDIR);
+    // evaluate here, render in the background
+    final LogPlot plot = ResponsePlotUtils.getPlot(node, lsle, tmae);
+    final File png = new File(outDir, ResponsePlotUtils.getPlotFilename(node));
+    final File svg = new File(outDir, ResponsePlotUtils.getPlotSvgFilename(node));
+    final String description = "The response plot for node " + node.getName() + ".";
+    final List<Result> plotResults = new ArrayList<>();
+    plotResults.add(new Result("response_plot", "technologyMapping", description, png));
+    plotResults.add(new Result("response_plot", "technologyMapping", description, svg));
+    results
+        .getPlotExecutor()
+        .submit(
+            "technologyMapping",
+            () -> {
+              plot.writePng(png);
+              plot.writeSvg(svg);
+            },
+            plotResults);
+  }
+
+  private static PlotExecutor.Job generatePlot(
+      final NetlistNode node,
+      final LSLogicEvaluation lsle,
+      final TMActivityEvaluation tmae,
+      final RuntimeEnv runEnv)
+      throws CelloException {
+    final String outDir = runEnv.getOptionValue(ArgString.OUTPUTDIR);
     // script
     final String script = ResponsePlotUtils.getPlotScript(node, lsle, tmae, outDir);
     final String scriptFilename =
         outDir + Utils.getFileSeparator() + ResponsePlotUtils.getPlotScriptFilename(node);
     Utils.writeToFile(script, scriptFilename);
     // plot
-    final String cmd = ResponsePlotUtils.getPlotCommand(runEnv, scriptFilename);
-    Utils.executeAndWaitForCommand(cmd);
     final File file =
         new File(outDir + Utils.getFileSeparator() + Utils.getFilename(scriptFilename) + ".png");
-    if (file.exists()) {
-      final Result result =
-          new Result(
-              "response_plot",
-              "technologyMapping",
-              "The response plot for node " + node.getName() + ".",
-              file);
-      try {
-        results.addResult(result);
-      } catch (IOException e) {
-        throw new CelloException("Unable to write result.", e);
-      }
-    }
+    final Result result =
+        new Result(
+            "response_plot",
+            "technologyMapping",
+            "The response plot for node " + node.getName() + ".",
+            file);
+    return new PlotExecutor.Job(
+        Collections.singletonList(scriptFilename), Collections.singletonList(result));
   }
 
   /**
-   * Generate the response plots for all non-primary nodes in a netlist.
+   * Generate the response plots for all non-primary nodes in a netlist. The plots are made by the
+   * {@link PlotExecutor} of the results, according to the plot mode of the runtime environment,
+   * and their results are added when the plots complete. In the {@code native} mode the plots are
+   * rendered in process, to PNG and SVG, otherwise a plotting script is written for each node.
    *
    * @param netlist A netlist.
    * @param lsle The logic evaluation of the netlist.
    * @param tmae The activity evaluation of the netlist.
    * @param runEnv The runtime environment that contains the output directory.
    * @param results The results.
-   * @throws CelloException Unable to generate the response plots.
+   * @throws CelloException Unable to generate the response plots, or invalid plot mode.
    */
   public static void generatePlots(
       final Netlist netlist,
@@ -308,13 +370,29 @@ public class ResponsePlotUtils {
       final RuntimeEnv runEnv,
       final Results results)
       throws CelloException {
+    final PlotExecutor.Mode mode = PlotExecutor.getMode(runEnv);
+    if (mode == PlotExecutor.Mode.SKIP) {
+      return;
+    }
+    final List<PlotExecutor.Job> jobs = new ArrayList<>();
     for (int i = 0; i < netlist.getNumVertex(); i++) {
       final NetlistNode node = netlist.getVertexAtIdx(i);
       if (LSResultsUtils.isAllInput(node) || LSResultsUtils.isAllOutput(node)) {
         continue;
       }
-      ResponsePlotUtils.generatePlot(node, lsle, tmae, runEnv, results);
+      if (mode == PlotExecutor.Mode.NATIVE) {
+        ResponsePlotUtils.renderPlot(node, lsle, tmae, runEnv, results);
+      } else {
+        jobs.add(ResponsePlotUtils.generatePlot(node, lsle, tmae, runEnv));
+      }
+    }
+    if (jobs.isEmpty()) {
+      return;
     }
+    final String outDir = runEnv.getOptionValue(ArgString.OUTPUTDIR);
+    final File driver = new File(outDir, ResponsePlotUtils.S_DRIVER);
+    final String python = runEnv.getOptionValue(ArgString.PYTHONENV);
+    results.getPlotExecutor().submit(mode, "technologyMapping", python, driver, jobs);
   }
 
   private static Double D_XMIN = 1e-3;
@@ -322,8 +400,11 @@ public class ResponsePlotUtils {
   private static Double D_YMIN = 1e-3;
   private static Double D_YMAX = 1e2;
   private static Integer I_NUM = 100;
+  private static Double D_SIZE = 2.5;
+  private static Double D_LINEWIDTH = 3.0;
 
   private static String S_PREFIX = "response_plot_";
+  private static String S_DRIVER = "response_plots.py";
 
   private static String S_NONCE = "##NONCE##21##";
   private static String S_XMIN = ResponsePlotUtils.S_NONCE + "XMIN" + ResponsePlotUtils.S_NONCE;
@@ -0,0 +1,279 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing;
+
+/**
+ * The temperature schedule of a {@link SimulatedAnnealingChain}. The schedule first cools from the
+ * maximum towards the minimum temperature over a number of steps, optionally reheats and cools
+ * again, and then runs a number of steps at zero temperature. The schedule ends early once the
+ * best score has not improved for a given number of steps, or once a deadline has passed.
+ *
+ * <p>Cooling is either geometric, lowering the temperature by a constant factor each step, or
+ * adaptive, raising or lowering the temperature each step to track a target acceptance rate that
+ * falls linearly to zero over the cooling phase. A reheat restarts cooling from the temperature at
+ * which the best score was found.
+ *
+ * <p>A schedule holds the state of a single chain and is not thread-safe.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class AnnealingSchedule {
+
+  /** The cooling strategy of a schedule. */
+  public enum Cooling {
+    GEOMETRIC,
+    ADAPTIVE
+  }
+
+  /**
+   * Initializes a newly created {@link AnnealingSchedule}.
+   *
+   * @param maxTemperature The temperature at the start of cooling.
+   * @param minTemperature The temperature at the end of cooling.
+   * @param steps The number of cooling steps.
+   * @param finalSteps The number of steps at zero temperature after cooling.
+   * @param cooling The cooling strategy.
+   * @param targetAcceptance The acceptance rate targeted at the start of adaptive cooling.
+   * @param reheats The number of times to reheat after cooling.
+   * @param patience The number of steps without improvement after which the schedule ends, or
+   *     zero to never end early.
+   * @param deadline The {@link System#nanoTime()} after which the schedule ends, or null for no
+   *     deadline.
+   */
+  public AnnealingSchedule(
+      final double maxTemperature,
+      final double minTemperature,
+      final int steps,
+      final int finalSteps,
+      final Cooling cooling,
+      final double targetAcceptance,
+      final int reheats,
+      final int patience,
+      final Long deadline) {
+    if (!(maxTemperature > 0.0) || !(minTemperature > 0.0) || minTemperature > maxTemperature) {
+      throw new IllegalArgumentException("Invalid temperature range.");
+    }
+    if (steps < 0 || finalSteps < 0 || reheats < 0 || patience < 0) {
+      throw new IllegalArgumentException("Invalid number of steps.");
+    }
+    this.logMax = Math.log10(maxTemperature);
+    this.logMin = Math.log10(minTemperature);
+    this.steps = steps;
+    this.finalSteps = finalSteps;
+    this.cooling = cooling;
+    this.targetAcceptance = targetAcceptance;
+    this.reheats = reheats;
+    this.patience = patience;
+    this.deadline = deadline;
+    this.logIncrement = steps > 0 ? (logMax - logMin) / steps : 0.0;
+  }
+
+  /**
+   * Initializes a newly created {@link AnnealingSchedule} with the default geometric schedule.
+   */
+  public AnnealingSchedule() {
+    this(
+        D_MAX_TEMPERATURE,
+        D_MIN_TEMPERATURE,
+        I_STEPS,
+        I_FINAL_STEPS,
+        Cooling.GEOMETRIC,
+        D_TARGET_ACCEPTANCE,
+        0,
+        0,
+        null);
+  }
+
+  /**
+   * Starts the schedule.
+   *
+   * @param score The score of the initial assignment.
+   */
+  public void start(final double score) {
+    step = 0;
+    phaseStep = 0;
+    phaseLength = steps;
+    logTemperature = logMax;
+    reheatsLeft = reheats;
+    finalLeft = finalSteps;
+    isCooling = steps > 0;
+    acceptance = targetAcceptance;
+    accepted = false;
+    sinceImprovement = 0;
+    bestScore = score;
+    bestLogTemperature = logMax;
+  }
+
+  /**
+   * Records that the current step accepted an assignment with the given score.
+   *
+   * @param score The score of the accepted assignment.
+   */
+  public void accept(final double score) {
+    accepted = true;
+    if (score > bestScore) {
+      bestScore = score;
+      bestLogTemperature = logTemperature;
+      sinceImprovement = 0;
+    }
+  }
+
+  /**
+   * Returns whether the schedule has another step.
+   *
+   * @return Whether the schedule has another step.
+   */
+  public boolean hasNext() {
+    return !isDeadlinePassed() && !isConverged() && (isCooling || finalLeft > 0);
+  }
+
+  /** Advances the schedule by one step. */
+  public void next() {
+    step++;
+    sinceImprovement++;
+    acceptance += D_ACCEPTANCE_SMOOTHING * ((accepted ? 1.0 : 0.0) - acceptance);
+    accepted = false;
+    if (!isCooling) {
+      finalLeft--;
+      return;
+    }
+    phaseStep++;
+    if (cooling == Cooling.ADAPTIVE) {
+      final double target = targetAcceptance * (1.0 - (double) phaseStep / phaseLength);
+      if (acceptance < target) {
+        logTemperature = Math.min(logMax, logTemperature + logIncrement);
+      } else {
+        logTemperature = Math.max(logMin, logTemperature - logIncrement);
+      }
+    } else {
+      logTemperature -= logIncrement;
+    }
+    if (phaseStep >= phaseLength) {
+      if (reheatsLeft > 0) {
+        reheatsLeft--;
+        reheat();
+      } else {
+        isCooling = false;
+      }
+    }
+  }
+
+  private void reheat() {
+    logTemperature = bestLogTemperature;
+    phaseStep = 0;
+    phaseLength = Math.max(1, (int) Math.ceil((logTemperature - logMin) / logIncrement));
+  }
+
+  /**
+   * Returns whether the deadline of the schedule has passed.
+   *
+   * @return Whether the deadline of the schedule has passed.
+   */
+  public boolean isDeadlinePassed() {
+    return deadline != null && System.nanoTime() - deadline >= 0;
+  }
+
+  /**
+   * Returns whether the best score has not improved within the patience of the schedule.
+   *
+   * @return Whether the best score has not improved within the patience of the schedule.
+   */
+  public boolean isConverged() {
+    return patience > 0 && sinceImprovement >= patience;
+  }
+
+  /**
+   * Returns the temperature of the current step.
+   *
+   * @return The temperature of the current step, zero after cooling.
+   */
+  public double getTemperature() {
+    double rtn = 0.0;
+    if (isCooling) {
+      rtn = Math.pow(10, logTemperature);
+    }
+    return rtn;
+  }
+
+  /**
+   * Getter for {@code logTemperature}.
+   *
+   * @return The base 10 logarithm of the temperature of the current cooling step.
+   */
+  public double getLogTemperature() {
+    return logTemperature;
+  }
+
+  /**
+   * Getter for {@code step}.
+   *
+   * @return The number of steps taken.
+   */
+  public int getStep() {
+    return step;
+  }
+
+  /**
+   * Getter for {@code acceptance}.
+   *
+   * @return The smoothed acceptance rate.
+   */
+  public double getAcceptance() {
+    return acceptance;
+  }
+
+  /*
+   * Parameters
+   */
+  private final double logMax;
+  private final double logMin;
+  private final double logIncrement;
+  private final int steps;
+  private final int finalSteps;
+  private final Cooling cooling;
+  private final double targetAcceptance;
+  private final int reheats;
+  private final int patience;
+  private final Long deadline;
+
+  /*
+   * State
+   */
+  private int step;
+  private int phaseStep;
+  private int phaseLength;
+  private double logTemperature;
+  private int reheatsLeft;
+  private int finalLeft;
+  private boolean isCooling;
+  private double acceptance;
+  private boolean accepted;
+  private int sinceImprovement;
+  private double bestScore;
+  private double bestLogTemperature;
+
+  static final double D_MAX_TEMPERATURE = 100.0;
+  static final double D_MIN_TEMPERATURE = 0.001;
+  static final int I_STEPS = 600;
+  static final int I_FINAL_STEPS = 100;
+  static final double D_TARGET_ACCEPTANCE = 0.44;
+  private static final double D_ACCEPTANCE_SMOOTHING = 0.05;
+}
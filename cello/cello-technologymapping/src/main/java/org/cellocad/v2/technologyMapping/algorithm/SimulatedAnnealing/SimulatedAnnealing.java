@@ -21,10 +21,17 @@ package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.cellocad.v2.common.CObjectCollection;
@@ -49,6 +56,7 @@ import org.cellocad.v2.results.netlist.data.ResultNetlistNodeData;
 import org.cellocad.v2.results.technologyMapping.CytometryPlotUtils;
 import org.cellocad.v2.results.technologyMapping.ResponsePlotUtils;
 import org.cellocad.v2.results.technologyMapping.TMResultsUtils;
+import org.cellocad.v2.results.technologyMapping.activity.ResponseCache;
 import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
 import org.cellocad.v2.results.technologyMapping.cytometry.TMCytometryEvaluation;
 import org.cellocad.v2.technologyMapping.algorithm.TMAlgorithm;
@@ -118,11 +126,126 @@ public class SimulatedAnnealing extends TMAlgorithm {
 
   /** Set parameter values of the algorithm. */
   @Override
-  protected void setParameterValues() {}
+  protected void setParameterValues() {
+    Boolean present = false;
+    present = getAlgorithmProfile().getIntParameter("Chains").getFirst();
+    if (present) {
+      setChains(getAlgorithmProfile().getIntParameter("Chains").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("Threads").getFirst();
+    if (present) {
+      setThreads(getAlgorithmProfile().getIntParameter("Threads").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("ResponseCacheSize").getFirst();
+    if (present) {
+      setResponseCacheSize(getAlgorithmProfile().getIntParameter("ResponseCacheSize").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("ResponseCacheMantissaBits").getFirst();
+    if (present) {
+      setResponseCacheMantissaBits(
+          getAlgorithmProfile().getIntParameter("ResponseCacheMantissaBits").getSecond());
+    }
+    present = getAlgorithmProfile().getDoubleParameter("MaxTemperature").getFirst();
+    if (present) {
+      setMaxTemperature(getAlgorithmProfile().getDoubleParameter("MaxTemperature").getSecond());
+    }
+    present = getAlgorithmProfile().getDoubleParameter("MinTemperature").getFirst();
+    if (present) {
+      setMinTemperature(getAlgorithmProfile().getDoubleParameter("MinTemperature").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("Steps").getFirst();
+    if (present) {
+      setSteps(getAlgorithmProfile().getIntParameter("Steps").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("FinalSteps").getFirst();
+    if (present) {
+      setFinalSteps(getAlgorithmProfile().getIntParameter("FinalSteps").getSecond());
+    }
+    present = getAlgorithmProfile().getStringParameter("Cooling").getFirst();
+    if (present) {
+      setCooling(getAlgorithmProfile().getStringParameter("Cooling").getSecond());
+    }
+    present = getAlgorithmProfile().getDoubleParameter("TargetAcceptance").getFirst();
+    if (present) {
+      setTargetAcceptance(
+          getAlgorithmProfile().getDoubleParameter("TargetAcceptance").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("Reheats").getFirst();
+    if (present) {
+      setReheats(getAlgorithmProfile().getIntParameter("Reheats").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("Patience").getFirst();
+    if (present) {
+      setPatience(getAlgorithmProfile().getIntParameter("Patience").getSecond());
+    }
+    present = getAlgorithmProfile().getIntParameter("TimeLimit").getFirst();
+    if (present) {
+      setTimeLimit(getAlgorithmProfile().getIntParameter("TimeLimit").getSecond());
+    }
+    present = getAlgorithmProfile().getDoubleParameter("GrowthThreshold").getFirst();
+    if (present) {
+      setGrowthThreshold(getAlgorithmProfile().getDoubleParameter("GrowthThreshold").getSecond());
+    }
+  }
 
   /** Validate parameter values of the algorithm. */
   @Override
-  protected void validateParameterValues() {}
+  protected void validateParameterValues() {
+    if (getChains() == null || getChains() <= 0) {
+      setChains(1);
+    }
+    if (getThreads() == null || getThreads() <= 0) {
+      setThreads(Runtime.getRuntime().availableProcessors());
+    }
+    if (getResponseCacheSize() == null) {
+      setResponseCacheSize(0);
+    }
+    if (getResponseCacheMantissaBits() == null
+        || getResponseCacheMantissaBits() < 0
+        || getResponseCacheMantissaBits() > 52) {
+      setResponseCacheMantissaBits(52);
+    }
+    if (getMaxTemperature() == null || !(getMaxTemperature() > 0.0)) {
+      setMaxTemperature(AnnealingSchedule.D_MAX_TEMPERATURE);
+    }
+    if (getMinTemperature() == null
+        || !(getMinTemperature() > 0.0)
+        || getMinTemperature() > getMaxTemperature()) {
+      setMinTemperature(Math.min(AnnealingSchedule.D_MIN_TEMPERATURE, getMaxTemperature()));
+    }
+    if (getSteps() == null || getSteps() < 0) {
+      setSteps(AnnealingSchedule.I_STEPS);
+    }
+    if (getFinalSteps() == null || getFinalSteps() < 0) {
+      setFinalSteps(AnnealingSchedule.I_FINAL_STEPS);
+    }
+    if (getCooling() == null) {
+      setCooling(AnnealingSchedule.Cooling.GEOMETRIC.name());
+    }
+    try {
+      AnnealingSchedule.Cooling.valueOf(getCooling().toUpperCase());
+    } catch (final IllegalArgumentException e) {
+      logWarn(String.format("Unknown cooling '%s', using geometric cooling.", getCooling()));
+      setCooling(AnnealingSchedule.Cooling.GEOMETRIC.name());
+    }
+    if (getTargetAcceptance() == null
+        || !(getTargetAcceptance() > 0.0)
+        || getTargetAcceptance() > 1.0) {
+      setTargetAcceptance(AnnealingSchedule.D_TARGET_ACCEPTANCE);
+    }
+    if (getReheats() == null || getReheats() < 0) {
+      setReheats(0);
+    }
+    if (getPatience() == null || getPatience() < 0) {
+      setPatience(0);
+    }
+    if (getTimeLimit() == null || getTimeLimit() < 0) {
+      setTimeLimit(0);
+    }
+    if (getGrowthThreshold() == null) {
+      setGrowthThreshold(SimulatedAnnealingChain.D_GROWTH_THRESHOLD);
+    }
+  }
 
   /** Perform preprocessing. */
   protected void setTruthTable() {
@@ -188,9 +311,17 @@ public class SimulatedAnnealing extends TMAlgorithm {
   }
 
   protected void assignNodes() {
+    assignNodes(getNetlist(), getGateManager());
+  }
+
+  /**
+   * Assigns a random gate to every logic node of the given netlist.
+   *
+   * @param netlist The netlist.
+   * @param GM The gate manager tracking the assignment.
+   */
+  protected void assignNodes(final Netlist netlist, final GateManager GM) {
     // assign random gates
-    final GateManager GM = getGateManager();
-    final Netlist netlist = getNetlist();
     for (int i = 0; i < netlist.getNumVertex(); i++) {
       final NetlistNode node = netlist.getVertexAtIdx(i);
       if (LSResultsUtils.isPrimary(node) || LSResultsUtils.isInputOutput(node)) {
@@ -215,44 +346,163 @@ public class SimulatedAnnealing extends TMAlgorithm {
     setTruthTable();
   }
 
-  private void swap(final NetlistNode nA, final Gate gA, final NetlistNode nB, final Gate gB) {
-    if (nA == null && nB != null) {
-      getGateManager().setUnassignedGate(gB);
-      nB.getResultNetlistNodeData().setDevice(gA);
-      getGateManager().setAssignedGate(gA);
-    }
-    if (nA != null && nB == null) {
-      getGateManager().setUnassignedGate(gA);
-      nA.getResultNetlistNodeData().setDevice(gB);
-      getGateManager().setAssignedGate(gB);
+  /**
+   * Returns a copy of the given netlist that carries the device assignment of the original.
+   *
+   * @param netlist A netlist.
+   * @return A copy of the netlist with the same device assignment.
+   */
+  protected static Netlist copyNetlist(final Netlist netlist) {
+    final Netlist rtn = new Netlist(netlist);
+    SimulatedAnnealing.copyAssignment(netlist, rtn);
+    return rtn;
+  }
+
+  /**
+   * Copies the device of every node and the input of every edge of netlist {@code from} to the
+   * nodes and edges of the same name in netlist {@code to}.
+   *
+   * @param from The source netlist.
+   * @param to The destination netlist.
+   */
+  protected static void copyAssignment(final Netlist from, final Netlist to) {
+    for (int i = 0; i < from.getNumVertex(); i++) {
+      final NetlistNode node = from.getVertexAtIdx(i);
+      final NetlistNode other = to.getVertexByName(node.getName());
+      other.getResultNetlistNodeData().setDevice(node.getResultNetlistNodeData().getDevice());
     }
-    if (nA != null && nB != null) {
-      nA.getResultNetlistNodeData().setDevice(gB);
-      nB.getResultNetlistNodeData().setDevice(gA);
+    for (int i = 0; i < from.getNumEdge(); i++) {
+      final NetlistEdge edge = from.getEdgeAtIdx(i);
+      final NetlistEdge other = to.getEdgeByName(edge.getName());
+      other.getResultNetlistEdgeData().setInput(edge.getResultNetlistEdgeData().getInput());
+      other.setIdx(edge.getIdx());
     }
   }
 
-  private NetlistNode getRandomNode() {
-    NetlistNode rtn = null;
-    while (rtn == null) {
-      final int rand = random(0, getNetlist().getNumVertex() - 1);
-      final NetlistNode temp = getNetlist().getVertexAtIdx(rand);
-      if (!LSResultsUtils.isAllOutput(temp) && !LSResultsUtils.isAllInput(temp)) {
-        rtn = temp;
+  /**
+   * Creates the annealing chain with the given identifier. Chain zero starts from the current
+   * assignment of the netlist, every other chain from its own random gate assignment. Each chain
+   * works on its own copy of the netlist.
+   *
+   * @param id The chain identifier.
+   * @param deadline The {@link System#nanoTime()} after which the chain stops, or null for no
+   *     deadline.
+   * @return The chain.
+   */
+  private SimulatedAnnealingChain createChain(final int id, final Long deadline) {
+    final long seed = SimulatedAnnealing.L_SEED + id;
+    final Netlist netlist = SimulatedAnnealing.copyNetlist(getNetlist());
+    final GateManager gm = new GateManager(getTargetDataInstance().getGates(), seed);
+    if (id == 0) {
+      for (int i = 0; i < netlist.getNumVertex(); i++) {
+        final NetlistNode node = netlist.getVertexAtIdx(i);
+        if (LSResultsUtils.isPrimary(node) || LSResultsUtils.isInputOutput(node)) {
+          continue;
+        }
+        gm.setAssignedGate((Gate) node.getResultNetlistNodeData().getDevice());
       }
+    } else {
+      assignNodes(netlist, gm);
+    }
+    final LSLogicEvaluation lsle = new LSLogicEvaluation(netlist);
+    final SimulatedAnnealingChain rtn =
+        new SimulatedAnnealingChain(
+            id, netlist, gm, lsle, getDeviceRules(), getTargetDataInstance(), new Random(seed));
+    configureChain(rtn, deadline);
+    return rtn;
+  }
+
+  /**
+   * Sets the response cache, annealing schedule and growth threshold of a chain as configured by
+   * the algorithm parameters.
+   *
+   * @param chain The chain.
+   * @param deadline The {@link System#nanoTime()} after which the chain stops, or null for no
+   *     deadline.
+   */
+  private void configureChain(final SimulatedAnnealingChain chain, final Long deadline) {
+    chain.setResponseCache(createResponseCache());
+    chain.setGrowthThreshold(getGrowthThreshold());
+    chain.setSchedule(
+        new AnnealingSchedule(
+            getMaxTemperature(),
+            getMinTemperature(),
+            getSteps(),
+            getFinalSteps(),
+            AnnealingSchedule.Cooling.valueOf(getCooling().toUpperCase()),
+            getTargetAcceptance(),
+            getReheats(),
+            getPatience(),
+            deadline));
+  }
+
+  /**
+   * Creates a gate response cache as configured by the algorithm parameters.
+   *
+   * @return A new gate response cache, or null if the cache is disabled.
+   */
+  private ResponseCache createResponseCache() {
+    ResponseCache rtn = null;
+    if (getResponseCacheSize() > 0) {
+      rtn = new ResponseCache(getResponseCacheSize(), getResponseCacheMantissaBits());
     }
     return rtn;
   }
 
-  private String logReadout(final String name, final String fmt, final Object... objects) {
-    String rtn = "";
-    final String prefix = "%-16s: ";
-    Object[] args = new Object[objects.length + 1];
-    args[0] = name;
-    for (int i = 0; i < objects.length; i++) {
-      args[i + 1] = objects[i];
+  /**
+   * Runs the chains concurrently and returns the one with the best score among those without
+   * roadblocked nodes, or the best scoring chain if all are roadblocked.
+   *
+   * @param deadline The {@link System#nanoTime()} after which the chains stop, or null for no
+   *     deadline.
+   * @return The best chain.
+   * @throws CelloException Unable to run a chain.
+   */
+  private SimulatedAnnealingChain runChains(final Long deadline) throws CelloException {
+    final List<SimulatedAnnealingChain> chains = new ArrayList<>();
+    for (int i = 0; i < getChains(); i++) {
+      chains.add(createChain(i, deadline));
+    }
+    final int threads = Math.min(getThreads(), chains.size());
+    logInfo(String.format("Running %d annealing chains on %d threads.", chains.size(), threads));
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (final SimulatedAnnealingChain chain : chains) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  chain.run();
+                  return null;
+                }));
+      }
+      for (final Future<Void> future : futures) {
+        future.get();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CelloException("Interrupted while running annealing chains.", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof CelloException) {
+        throw (CelloException) e.getCause();
+      }
+      throw new CelloException("Error running annealing chain.", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+    SimulatedAnnealingChain rtn = null;
+    boolean blocked = true;
+    for (final SimulatedAnnealingChain chain : chains) {
+      final Double score = chain.getScore();
+      final boolean b = chain.getNumRoadBlockedNodes() > 0;
+      logInfo(
+          String.format(
+              "Chain %d: score %.2f%s", chain.getId(), score, b ? " (roadblocked)" : ""));
+      if (rtn == null || (blocked && !b) || (blocked == b && score > rtn.getScore())) {
+        rtn = chain;
+        blocked = b;
+      }
     }
-    rtn = String.format(prefix + fmt, args);
     return rtn;
   }
 
@@ -264,6 +514,10 @@ public class SimulatedAnnealing extends TMAlgorithm {
   @Override
   protected void run() throws CelloException {
     logDebug("Running the (core) algorithm.");
+    Long deadline = null;
+    if (getTimeLimit() > 0) {
+      deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(getTimeLimit());
+    }
 
     // input node assignment
     assignInputNodes();
@@ -274,157 +528,27 @@ public class SimulatedAnnealing extends TMAlgorithm {
     initEdges();
     setNodeDeviceNames();
 
-    final int totalSteps = STEPS + T0_STEPS;
-
-    final Double numTandem =
-        SimulatedAnnealingUtils.getNumTandemPair(this.getNetlist()).doubleValue();
-    final Double numSwappable =
-        SimulatedAnnealingUtils.getNumSwappableGate(this.getNetlist()).doubleValue();
-    final Double thresh = numTandem / (numTandem + numSwappable);
-
-    logDebug("Swap likelihoods:");
-    logDebug(logReadout("tandem order", "%.2f", thresh));
-    logDebug(logReadout("gate", "%.2f", 1 - thresh));
-
-    setTMActivityEvaluation(new TMActivityEvaluation(getNetlist(), getLSLogicEvaluation()));
-    setTMToxicityEvaluation(new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation()));
-
-    // evaluate
-    for (int j = 0; j < totalSteps; ++j) {
-      logDebug("---------------------------");
-      logDebug(logReadout("iter num", "%d of %d", j, totalSteps));
-
-      final Double logTemperature = LOGMAX - j * LOGINC;
-      Double temperature = Math.pow(10, logTemperature);
-
-      if (j >= STEPS) {
-        temperature = 0.0;
-      }
-
-      logDebug(logReadout("temp", "%.2f", temperature));
-      logDebug(logReadout("log(temp)", "%.2f", logTemperature));
-
-      final Double before =
-          ScoreUtils.score(getNetlist(), getLSLogicEvaluation(), getTMActivityEvaluation());
-
-      Boolean rejectImmediately = false;
-      Boolean tandemSwap = false;
-
-      Double r = Math.random();
-      if (r < thresh) {
-        tandemSwap = true;
-      }
-
-      // If gate <-> library swap
-      NetlistNode nodeA = null;
-      Gate gateA = getGateManager().getRandomGateFromUnassignedGroup();
-      if (gateA == null) {
-        nodeA = getRandomNode();
-        gateA = (Gate) nodeA.getResultNetlistNodeData().getDevice();
-      }
-      NetlistNode nodeB = null;
-      Gate gateB = null;
-      do {
-        nodeB = getRandomNode();
-      } while (nodeB == nodeA);
-      gateB = (Gate) nodeB.getResultNetlistNodeData().getDevice();
-
-      // If promoter order swap
-      NetlistNode swapNode = null;
-      if (!tandemSwap) {
-        logDebug("Gate swap.");
-        logDebug(logReadout("gateA", "%s", gateA.getName()));
-        logDebug(logReadout("gateB", "%s", gateB.getName()));
-        Integer numBlockedBefore =
-            RoadBlockUtils.getNumberOfRoadBlockedNodes(
-                this.getNetlist(), this.getDeviceRules(), this.getTargetDataInstance());
-        swap(nodeA, gateA, nodeB, gateB);
-        Integer numBlockedAfter =
-            RoadBlockUtils.getNumberOfRoadBlockedNodes(
-                this.getNetlist(), this.getDeviceRules(), this.getTargetDataInstance());
-        if (numBlockedAfter > numBlockedBefore) {
-          swap(nodeA, gateB, nodeB, gateA);
-          continue;
-        }
-      } else {
-        swapNode = SimulatedAnnealingUtils.getRandomNodeWithTandemPair(this.getNetlist());
-        final Boolean blockedBefore =
-            RoadBlockUtils.isNodeRoadBlocked(
-                swapNode, this.getDeviceRules(), this.getTargetDataInstance());
-        logDebug("Promoter order swap.");
-        logDebug(logReadout("node", "%s", swapNode.getName()));
-        SimulatedAnnealingUtils.swapTandemOrder(swapNode);
-        final Boolean blockedAfter =
-            RoadBlockUtils.isNodeRoadBlocked(
-                swapNode, this.getDeviceRules(), this.getTargetDataInstance());
-        if (!blockedBefore && blockedAfter) {
-          SimulatedAnnealingUtils.swapTandemOrder(swapNode);
-          continue;
-        }
-      }
-
-      // evaluate
-      final TMActivityEvaluation tmae =
-          new TMActivityEvaluation(getNetlist(), getLSLogicEvaluation());
-      final Double after = ScoreUtils.score(getNetlist(), getLSLogicEvaluation(), tmae);
-      logDebug(logReadout("old score", "%.2f", before));
-      logDebug(logReadout("new score", "%.2f", after));
-
-      // toxicity
-      final TMToxicityEvaluation tmte =
-          new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation());
-      logDebug(logReadout("old growth", "%.2f", getTMToxicityEvaluation().getMinimumGrowth()));
-      logDebug(logReadout("new growth", "%.2f", tmte.getMinimumGrowth()));
-      if (getTMToxicityEvaluation().getMinimumGrowth() < SimulatedAnnealing.D_GROWTH_THRESHOLD) {
-        if (tmte.getMinimumGrowth() > getTMToxicityEvaluation().getMinimumGrowth()) {
-          setTMToxicityEvaluation(tmte);
-          setTMActivityEvaluation(tmae);
-          logDebug(
-              "Accept immediately -- already below mimimum growth threshold, and this swap helps.");
-          continue;
-        } else {
-          // undo
-          rejectImmediately = true;
-          logDebug(
-              "Reject immediately -- already below mimimum growth threshold, and this swap does not help.");
-        }
-      } else if (tmte.getMinimumGrowth() < SimulatedAnnealing.D_GROWTH_THRESHOLD) {
-        // undo
-        rejectImmediately = true;
-        logDebug("Reject immediately -- below minimum growth threshold.");
-      }
-
-      // undo
-      if (rejectImmediately) {
-        if (!tandemSwap) {
-          swap(nodeA, gateB, nodeB, gateA);
-        } else {
-          SimulatedAnnealingUtils.swapTandemOrder(swapNode);
-        }
-        continue;
-      }
-
-      // accept or reject
-      final Double probability = Math.exp((after - before) / temperature); // e^b
-      final Double ep = Math.random();
-
-      logDebug(logReadout("p_accept", "%.2f", probability));
-      logDebug(logReadout("epsilon", "%.2f", ep));
-
-      if (ep < probability) {
-        // accept
-        logDebug("Accept swap.");
-        setTMToxicityEvaluation(tmte);
-        setTMActivityEvaluation(tmae);
-      } else {
-        // undo
-        logDebug("Reject swap.");
-        if (!tandemSwap) {
-          swap(nodeA, gateB, nodeB, gateA);
-        } else {
-          SimulatedAnnealingUtils.swapTandemOrder(swapNode);
-        }
-      }
+    if (getChains() <= 1) {
+      final SimulatedAnnealingChain chain =
+          new SimulatedAnnealingChain(
+              0,
+              getNetlist(),
+              getGateManager(),
+              getLSLogicEvaluation(),
+              getDeviceRules(),
+              getTargetDataInstance(),
+              getRandom());
+      configureChain(chain, deadline);
+      chain.run();
+      setTMActivityEvaluation(chain.getTMActivityEvaluation());
+      setTMToxicityEvaluation(chain.getTMToxicityEvaluation());
+    } else {
+      final SimulatedAnnealingChain best = runChains(deadline);
+      logInfo(String.format("Keeping the assignment of chain %d.", best.getId()));
+      SimulatedAnnealing.copyAssignment(best.getNetlist(), getNetlist());
+      setGateManager(best.getGateManager());
+      setTMActivityEvaluation(new TMActivityEvaluation(getNetlist(), getLSLogicEvaluation()));
+      setTMToxicityEvaluation(new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation()));
     }
   }
 
@@ -775,29 +899,293 @@ public class SimulatedAnnealing extends TMAlgorithm {
 
   private DeviceRules deviceRules;
 
-  /*
-   * Random
+  /**
+   * Getter for {@code chains}.
+   *
+   * @return The value of {@code chains}.
    */
-  private int random(final int min, final int max) {
-    int rtn = 0;
-    final Random random = getRandom();
-    rtn = random.nextInt(max - min + 1) + min;
-    return rtn;
+  protected Integer getChains() {
+    return chains;
+  }
+
+  /**
+   * Setter for {@code chains}.
+   *
+   * @param chains The value to set {@code chains}.
+   */
+  protected void setChains(final Integer chains) {
+    this.chains = chains;
   }
 
+  private Integer chains;
+
+  /**
+   * Getter for {@code threads}.
+   *
+   * @return The value of {@code threads}.
+   */
+  protected Integer getThreads() {
+    return threads;
+  }
+
+  /**
+   * Setter for {@code threads}.
+   *
+   * @param threads The value to set {@code threads}.
+   */
+  protected void setThreads(final Integer threads) {
+    this.threads = threads;
+  }
+
+  private Integer threads;
+
+  /**
+   * Getter for {@code responseCacheSize}.
+   *
+   * @return The value of {@code responseCacheSize}.
+   */
+  protected Integer getResponseCacheSize() {
+    return responseCacheSize;
+  }
+
+  /**
+   * Setter for {@code responseCacheSize}.
+   *
+   * @param responseCacheSize The value to set {@code responseCacheSize}.
+   */
+  protected void setResponseCacheSize(final Integer responseCacheSize) {
+    this.responseCacheSize = responseCacheSize;
+  }
+
+  private Integer responseCacheSize;
+
+  /**
+   * Getter for {@code responseCacheMantissaBits}.
+   *
+   * @return The value of {@code responseCacheMantissaBits}.
+   */
+  protected Integer getResponseCacheMantissaBits() {
+    return responseCacheMantissaBits;
+  }
+
+  /**
+   * Setter for {@code responseCacheMantissaBits}.
+   *
+   * @param responseCacheMantissaBits The value to set {@code responseCacheMantissaBits}.
+   */
+  protected void setResponseCacheMantissaBits(final Integer responseCacheMantissaBits) {
+    this.responseCacheMantissaBits = responseCacheMantissaBits;
+  }
+
+  private Integer responseCacheMantissaBits;
+
+  /**
+   * Getter for {@code maxTemperature}.
+   *
+   * @return The value of {@code maxTemperature}.
+   */
+  protected Double getMaxTemperature() {
+    return maxTemperature;
+  }
+
+  /**
+   * Setter for {@code maxTemperature}.
+   *
+   * @param maxTemperature The value to set {@code maxTemperature}.
+   */
+  protected void setMaxTemperature(final Double maxTemperature) {
+    this.maxTemperature = maxTemperature;
+  }
+
+  private Double maxTemperature;
+
+  /**
+   * Getter for {@code minTemperature}.
+   *
+   * @return The value of {@code minTemperature}.
+   */
+  protected Double getMinTemperature() {
+    return minTemperature;
+  }
+
+  /**
+   * Setter for {@code minTemperature}.
+   *
+   * @param minTemperature The value to set {@code minTemperature}.
+   */
+  protected void setMinTemperature(final Double minTemperature) {
+    this.minTemperature = minTemperature;
+  }
+
+  private Double minTemperature;
+
+  /**
+   * Getter for {@code steps}.
+   *
+   * @return The value of {@code steps}.
+   */
+  protected Integer getSteps() {
+    return steps;
+  }
+
+  /**
+   * Setter for {@code steps}.
+   *
+   * @param steps The value to set {@code steps}.
+   */
+  protected void setSteps(final Integer steps) {
+    this.steps = steps;
+  }
+
+  private Integer steps;
+
+  /**
+   * Getter for {@code finalSteps}.
+   *
+   * @return The value of {@code finalSteps}.
+   */
+  protected Integer getFinalSteps() {
+    return finalSteps;
+  }
+
+  /**
+   * Setter for {@code finalSteps}.
+   *
+   * @param finalSteps The value to set {@code finalSteps}.
+   */
+  protected void setFinalSteps(final Integer finalSteps) {
+    this.finalSteps = finalSteps;
+  }
+
+  private Integer finalSteps;
+
+  /**
+   * Getter for {@code cooling}.
+   *
+   * @return The value of {@code cooling}.
+   */
+  protected String getCooling() {
+    return cooling;
+  }
+
+  /**
+   * Setter for {@code cooling}.
+   *
+   * @param cooling The value to set {@code cooling}.
+   */
+  protected void setCooling(final String cooling) {
+    this.cooling = cooling;
+  }
+
+  private String cooling;
+
+  /**
+   * Getter for {@code targetAcceptance}.
+   *
+   * @return The value of {@code targetAcceptance}.
+   */
+  protected Double getTargetAcceptance() {
+    return targetAcceptance;
+  }
+
+  /**
+   * Setter for {@code targetAcceptance}.
+   *
+   * @param targetAcceptance The value to set {@code targetAcceptance}.
+   */
+  protected void setTargetAcceptance(final Double targetAcceptance) {
+    this.targetAcceptance = targetAcceptance;
+  }
+
+  private Double targetAcceptance;
+
+  /**
+   * Getter for {@code reheats}.
+   *
+   * @return The value of {@code reheats}.
+   */
+  protected Integer getReheats() {
+    return reheats;
+  }
+
+  /**
+   * Setter for {@code reheats}.
+   *
+   * @param reheats The value to set {@code reheats}.
+   */
+  protected void setReheats(final Integer reheats) {
+    this.reheats = reheats;
+  }
+
+  private Integer reheats;
+
+  /**
+   * Getter for {@code patience}.
+   *
+   * @return The value of {@code patience}.
+   */
+  protected Integer getPatience() {
+    return patience;
+  }
+
+  /**
+   * Setter for {@code patience}.
+   *
+   * @param patience The value to set {@code patience}.
+   */
+  protected void setPatience(final Integer patience) {
+    this.patience = patience;
+  }
+
+  private Integer patience;
+
+  /**
+   * Getter for {@code timeLimit}.
+   *
+   * @return The value of {@code timeLimit}.
+   */
+  protected Integer getTimeLimit() {
+    return timeLimit;
+  }
+
+  /**
+   * Setter for {@code timeLimit}.
+   *
+   * @param timeLimit The value to set {@code timeLimit}.
+   */
+  protected void setTimeLimit(final Integer timeLimit) {
+    this.timeLimit = timeLimit;
+  }
+
+  private Integer timeLimit;
+
+  /**
+   * Getter for {@code growthThreshold}.
+   *
+   * @return The value of {@code growthThreshold}.
+   */
+  protected Double getGrowthThreshold() {
+    return growthThreshold;
+  }
+
+  /**
+   * Setter for {@code growthThreshold}.
+   *
+   * @param growthThreshold The value to set {@code growthThreshold}.
+   */
+  protected void setGrowthThreshold(final Double growthThreshold) {
+    this.growthThreshold = growthThreshold;
+  }
+
+  private Double growthThreshold;
+
+  /*
+   * Random
+   */
   private Random getRandom() {
     return random;
   }
 
   private Random random;
   private static long L_SEED = 21;
-  private static final double D_GROWTH_THRESHOLD = 0.75;
-
-  private static final Double MAXTEMP = 100.0;
-  private static final Double MINTEMP = 0.001;
-  private static final Integer STEPS = 600;
-  private static final Double LOGMAX = Math.log10(MAXTEMP);
-  private static final Double LOGMIN = Math.log10(MINTEMP);
-  private static final Double LOGINC = (LOGMAX - LOGMIN) / STEPS;
-  private static final Integer T0_STEPS = 100;
 }
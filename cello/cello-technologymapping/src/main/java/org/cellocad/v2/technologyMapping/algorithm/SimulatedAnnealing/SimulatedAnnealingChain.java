@@ -0,0 +1,537 @@
+/*
+ * Copyright (C) 2018 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Random;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.data.DeviceRules;
+import org.cellocad.v2.common.target.data.data.Gate;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.ResponseCache;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.assignment.GateManager;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.roadblock.RoadBlockIndex;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.roadblock.RoadBlockUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.score.ScoreUtils;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.TMToxicityEvaluation;
+import org.cellocad.v2.technologyMapping.target.data.TMTargetDataInstance;
+
+/**
+ * A single annealing chain of the <i>SimulatedAnnealing</i> algorithm. A chain owns the netlist
+ * whose device assignment it anneals, the {@link GateManager} tracking that assignment, and its
+ * own random number generator, so that several chains working on separate copies of a netlist may
+ * run concurrently.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class SimulatedAnnealingChain {
+
+  /**
+   * Initializes a newly created {@link SimulatedAnnealingChain}.
+   *
+   * @param id The identifier of the chain, used in log messages.
+   * @param netlist The netlist, with every node assigned a device.
+   * @param gateManager The gate manager tracking the gate assignment of the netlist.
+   * @param lsle The logic evaluation of the netlist.
+   * @param deviceRules The device rules.
+   * @param targetDataInstance The target data instance.
+   * @param random The random number generator of the chain.
+   */
+  public SimulatedAnnealingChain(
+      final int id,
+      final Netlist netlist,
+      final GateManager gateManager,
+      final LSLogicEvaluation lsle,
+      final DeviceRules deviceRules,
+      final TMTargetDataInstance targetDataInstance,
+      final Random random) {
+    this.id = id;
+    this.netlist = netlist;
+    this.gateManager = gateManager;
+    this.lsle = lsle;
+    this.deviceRules = deviceRules;
+    this.targetDataInstance = targetDataInstance;
+    this.random = random;
+  }
+
+  private void swap(final NetlistNode nA, final Gate gA, final NetlistNode nB, final Gate gB)
+      throws CelloException {
+    if (nA == null && nB != null) {
+      getGateManager().setUnassignedGate(gB);
+      nB.getResultNetlistNodeData().setDevice(gA);
+      getGateManager().setAssignedGate(gA);
+    }
+    if (nA != null && nB == null) {
+      getGateManager().setUnassignedGate(gA);
+      nA.getResultNetlistNodeData().setDevice(gB);
+      getGateManager().setAssignedGate(gB);
+    }
+    if (nA != null && nB != null) {
+      nA.getResultNetlistNodeData().setDevice(gB);
+      nB.getResultNetlistNodeData().setDevice(gA);
+    }
+    if (getRoadBlockIndex() != null) {
+      final Collection<NetlistNode> nodes = new ArrayList<>();
+      if (nA != null) {
+        nodes.add(nA);
+      }
+      if (nB != null) {
+        nodes.add(nB);
+      }
+      getRoadBlockIndex().update(nodes);
+    }
+  }
+
+  private void swapTandemOrder(final NetlistNode node) throws CelloException {
+    SimulatedAnnealingUtils.swapTandemOrder(node);
+    if (getRoadBlockIndex() != null) {
+      getRoadBlockIndex().update(Collections.singletonList(node));
+    }
+  }
+
+  private NetlistNode getRandomNode() {
+    NetlistNode rtn = null;
+    while (rtn == null) {
+      final int rand = random(0, getNetlist().getNumVertex() - 1);
+      final NetlistNode temp = getNetlist().getVertexAtIdx(rand);
+      if (!LSResultsUtils.isAllOutput(temp) && !LSResultsUtils.isAllInput(temp)) {
+        rtn = temp;
+      }
+    }
+    return rtn;
+  }
+
+  private String logReadout(final String name, final String fmt, final Object... objects) {
+    String rtn = "";
+    final String prefix = "%-16s: ";
+    Object[] args = new Object[objects.length + 1];
+    args[0] = name;
+    for (int i = 0; i < objects.length; i++) {
+      args[i + 1] = objects[i];
+    }
+    rtn = String.format(prefix + fmt, args);
+    return rtn;
+  }
+
+  private void logDebug(final String str) {
+    if (logger.isDebugEnabled()) {
+      logger.debug(String.format("[chain %d] %s", getId(), str));
+    }
+  }
+
+  /**
+   * Runs the annealing schedule on the netlist of this instance. On return the netlist holds the
+   * last accepted assignment, and the activity and toxicity evaluations of this instance are those
+   * of that assignment.
+   *
+   * @throws CelloException Unable to run the chain.
+   */
+  public void run() throws CelloException {
+    final Double numTandem =
+        SimulatedAnnealingUtils.getNumTandemPair(this.getNetlist()).doubleValue();
+    final Double numSwappable =
+        SimulatedAnnealingUtils.getNumSwappableGate(this.getNetlist()).doubleValue();
+    final Double thresh = numTandem / (numTandem + numSwappable);
+
+    logDebug("Swap likelihoods:");
+    logDebug(logReadout("tandem order", "%.2f", thresh));
+    logDebug(logReadout("gate", "%.2f", 1 - thresh));
+
+    setTMActivityEvaluation(
+        new TMActivityEvaluation(getNetlist(), getLSLogicEvaluation(), getResponseCache()));
+    setTMToxicityEvaluation(new TMToxicityEvaluation(getNetlist(), getTMActivityEvaluation()));
+    setRoadBlockIndex(
+        new RoadBlockIndex(getNetlist(), getDeviceRules(), getTargetDataInstance()));
+
+    final AnnealingSchedule schedule = getSchedule();
+    schedule.start(getScore());
+
+    // evaluate
+    for (; schedule.hasNext(); schedule.next()) {
+      logDebug("---------------------------");
+      logDebug(logReadout("iter num", "%d", schedule.getStep()));
+
+      final Double temperature = schedule.getTemperature();
+
+      logDebug(logReadout("temp", "%.2f", temperature));
+      logDebug(logReadout("log(temp)", "%.2f", schedule.getLogTemperature()));
+      logDebug(logReadout("acceptance", "%.2f", schedule.getAcceptance()));
+
+      final Double before =
+          ScoreUtils.score(getNetlist(), getLSLogicEvaluation(), getTMActivityEvaluation());
+
+      Boolean rejectImmediately = false;
+      Boolean tandemSwap = false;
+
+      Double r = getRandom().nextDouble();
+      if (r < thresh) {
+        tandemSwap = true;
+      }
+
+      // If gate <-> library swap
+      NetlistNode nodeA = null;
+      Gate gateA = getGateManager().getRandomGateFromUnassignedGroup();
+      if (gateA == null) {
+        nodeA = getRandomNode();
+        gateA = (Gate) nodeA.getResultNetlistNodeData().getDevice();
+      }
+      NetlistNode nodeB = null;
+      Gate gateB = null;
+      do {
+        nodeB = getRandomNode();
+      } while (nodeB == nodeA);
+      gateB = (Gate) nodeB.getResultNetlistNodeData().getDevice();
+
+      // If promoter order swap
+      NetlistNode swapNode = null;
+      if (!tandemSwap) {
+        logDebug("Gate swap.");
+        logDebug(logReadout("gateA", "%s", gateA.getName()));
+        logDebug(logReadout("gateB", "%s", gateB.getName()));
+        final int numBlockedBefore = getRoadBlockIndex().getNumRoadBlockedNodes();
+        swap(nodeA, gateA, nodeB, gateB);
+        final int numBlockedAfter = getRoadBlockIndex().getNumRoadBlockedNodes();
+        if (numBlockedAfter > numBlockedBefore) {
+          swap(nodeA, gateB, nodeB, gateA);
+          continue;
+        }
+      } else {
+        swapNode =
+            SimulatedAnnealingUtils.getRandomNodeWithTandemPair(this.getNetlist(), getRandom());
+        final boolean blockedBefore = getRoadBlockIndex().isRoadBlocked(swapNode);
+        logDebug("Promoter order swap.");
+        logDebug(logReadout("node", "%s", swapNode.getName()));
+        swapTandemOrder(swapNode);
+        final boolean blockedAfter = getRoadBlockIndex().isRoadBlocked(swapNode);
+        if (!blockedBefore && blockedAfter) {
+          swapTandemOrder(swapNode);
+          continue;
+        }
+      }
+
+      // evaluate
+      final Collection<NetlistNode> changed = new ArrayList<>();
+      if (!tandemSwap) {
+        if (nodeA != null) {
+          changed.add(nodeA);
+        }
+        changed.add(nodeB);
+      } else {
+        changed.add(swapNode);
+      }
+      final TMActivityEvaluation tmae =
+          new TMActivityEvaluation(getNetlist(), getTMActivityEvaluation(), changed);
+      final Double after = ScoreUtils.score(getNetlist(), getLSLogicEvaluation(), tmae);
+      logDebug(logReadout("old score", "%.2f", before));
+      logDebug(logReadout("new score", "%.2f", after));
+
+      // toxicity
+      final TMToxicityEvaluation tmte =
+          new TMToxicityEvaluation(getNetlist(), getTMToxicityEvaluation(), tmae, changed);
+      logDebug(logReadout("old growth", "%.2f", getTMToxicityEvaluation().getMinimumGrowth()));
+      logDebug(logReadout("new growth", "%.2f", tmte.getMinimumGrowth()));
+      if (getTMToxicityEvaluation().getMinimumGrowth() < getGrowthThreshold()) {
+        if (tmte.getMinimumGrowth() > getTMToxicityEvaluation().getMinimumGrowth()) {
+          setTMToxicityEvaluation(tmte);
+          setTMActivityEvaluation(tmae);
+          schedule.accept(after);
+          logDebug(
+              "Accept immediately -- already below mimimum growth threshold, and this swap helps.");
+          continue;
+        } else {
+          // undo
+          rejectImmediately = true;
+          logDebug(
+              "Reject immediately -- already below mimimum growth threshold, and this swap does not help.");
+        }
+      } else if (tmte.getMinimumGrowth() < getGrowthThreshold()) {
+        // undo
+        rejectImmediately = true;
+        logDebug("Reject immediately -- below minimum growth threshold.");
+      }
+
+      // undo
+      if (rejectImmediately) {
+        if (!tandemSwap) {
+          swap(nodeA, gateB, nodeB, gateA);
+        } else {
+          swapTandemOrder(swapNode);
+        }
+        continue;
+      }
+
+      // accept or reject
+      final Double probability = Math.exp((after - before) / temperature); // e^b
+      final Double ep = getRandom().nextDouble();
+
+      logDebug(logReadout("p_accept", "%.2f", probability));
+      logDebug(logReadout("epsilon", "%.2f", ep));
+
+      if (ep < probability) {
+        // accept
+        logDebug("Accept swap.");
+        setTMToxicityEvaluation(tmte);
+        setTMActivityEvaluation(tmae);
+        schedule.accept(after);
+      } else {
+        // undo
+        logDebug("Reject swap.");
+        if (!tandemSwap) {
+          swap(nodeA, gateB, nodeB, gateA);
+        } else {
+          swapTandemOrder(swapNode);
+        }
+      }
+    }
+    if (schedule.isDeadlinePassed()) {
+      logger.info(
+          String.format(
+              "[chain %d] Time limit reached after %d steps.", getId(), schedule.getStep()));
+    } else if (schedule.isConverged()) {
+      logger.info(
+          String.format(
+              "[chain %d] No improvement, stopped after %d steps.", getId(), schedule.getStep()));
+    }
+    if (getResponseCache() != null) {
+      logger.info(String.format("[chain %d] Response cache: %s", getId(), getResponseCache()));
+    }
+  }
+
+  /**
+   * Returns the score of the current assignment of this instance.
+   *
+   * @return The score of the current assignment of this instance.
+   */
+  public Double getScore() {
+    return ScoreUtils.score(getNetlist(), getLSLogicEvaluation(), getTMActivityEvaluation());
+  }
+
+  /**
+   * Returns the number of roadblocked nodes in the current assignment of this instance.
+   *
+   * @return The number of roadblocked nodes in the current assignment of this instance.
+   * @throws CelloException Unable to parse or compile the device rules.
+   */
+  public Integer getNumRoadBlockedNodes() throws CelloException {
+    Integer rtn = null;
+    if (getRoadBlockIndex() != null) {
+      rtn = getRoadBlockIndex().getNumRoadBlockedNodes();
+    } else {
+      rtn =
+          RoadBlockUtils.getNumberOfRoadBlockedNodes(
+              getNetlist(), getDeviceRules(), getTargetDataInstance());
+    }
+    return rtn;
+  }
+
+  /*
+   * Random
+   */
+  private int random(final int min, final int max) {
+    int rtn = 0;
+    final Random random = getRandom();
+    rtn = random.nextInt(max - min + 1) + min;
+    return rtn;
+  }
+
+  /**
+   * Getter for {@code id}.
+   *
+   * @return The value of {@code id}.
+   */
+  public int getId() {
+    return id;
+  }
+
+  /**
+   * Getter for {@code netlist}.
+   *
+   * @return The value of {@code netlist}.
+   */
+  public Netlist getNetlist() {
+    return netlist;
+  }
+
+  /**
+   * Getter for {@code gateManager}.
+   *
+   * @return The value of {@code gateManager}.
+   */
+  public GateManager getGateManager() {
+    return gateManager;
+  }
+
+  /**
+   * Getter for {@code lsle}.
+   *
+   * @return The value of {@code lsle}.
+   */
+  public LSLogicEvaluation getLSLogicEvaluation() {
+    return lsle;
+  }
+
+  /**
+   * Getter for {@code tmae}.
+   *
+   * @return The value of {@code tmae}.
+   */
+  public TMActivityEvaluation getTMActivityEvaluation() {
+    return tmae;
+  }
+
+  /**
+   * Setter for {@code tmae}.
+   *
+   * @param tmae The value to set {@code tmae}.
+   */
+  protected void setTMActivityEvaluation(final TMActivityEvaluation tmae) {
+    this.tmae = tmae;
+  }
+
+  /**
+   * Getter for {@code tmte}.
+   *
+   * @return The value of {@code tmte}.
+   */
+  public TMToxicityEvaluation getTMToxicityEvaluation() {
+    return tmte;
+  }
+
+  /**
+   * Setter for {@code tmte}.
+   *
+   * @param tmte The value to set {@code tmte}.
+   */
+  protected void setTMToxicityEvaluation(final TMToxicityEvaluation tmte) {
+    this.tmte = tmte;
+  }
+
+  /**
+   * Getter for {@code schedule}.
+   *
+   * @return The value of {@code schedule}.
+   */
+  public AnnealingSchedule getSchedule() {
+    return schedule;
+  }
+
+  /**
+   * Setter for {@code schedule}.
+   *
+   * @param schedule The annealing schedule of this chain.
+   */
+  public void setSchedule(final AnnealingSchedule schedule) {
+    this.schedule = schedule;
+  }
+
+  /**
+   * Getter for {@code growthThreshold}.
+   *
+   * @return The value of {@code growthThreshold}.
+   */
+  public double getGrowthThreshold() {
+    return growthThreshold;
+  }
+
+  /**
+   * Setter for {@code growthThreshold}.
+   *
+   * @param growthThreshold The minimum growth below which a swap is rejected outright.
+   */
+  public void setGrowthThreshold(final double growthThreshold) {
+    this.growthThreshold = growthThreshold;
+  }
+
+  /**
+   * Getter for {@code roadBlockIndex}.
+   *
+   * @return The value of {@code roadBlockIndex}.
+   */
+  private RoadBlockIndex getRoadBlockIndex() {
+    return roadBlockIndex;
+  }
+
+  /**
+   * Setter for {@code roadBlockIndex}.
+   *
+   * @param roadBlockIndex The value to set {@code roadBlockIndex}.
+   */
+  private void setRoadBlockIndex(final RoadBlockIndex roadBlockIndex) {
+    this.roadBlockIndex = roadBlockIndex;
+  }
+
+  /**
+   * Getter for {@code responseCache}.
+   *
+   * @return The value of {@code responseCache}.
+   */
+  public ResponseCache getResponseCache() {
+    return responseCache;
+  }
+
+  /**
+   * Setter for {@code responseCache}.
+   *
+   * @param responseCache The gate response cache used by the activity evaluations of this chain,
+   *     or null to evaluate every response.
+   */
+  public void setResponseCache(final ResponseCache responseCache) {
+    this.responseCache = responseCache;
+  }
+
+  private DeviceRules getDeviceRules() {
+    return deviceRules;
+  }
+
+  private TMTargetDataInstance getTargetDataInstance() {
+    return targetDataInstance;
+  }
+
+  private Random getRandom() {
+    return random;
+  }
+
+  private final int id;
+  private final Netlist netlist;
+  private final GateManager gateManager;
+  private final LSLogicEvaluation lsle;
+  private final DeviceRules deviceRules;
+  private final TMTargetDataInstance targetDataInstance;
+  private final Random random;
+  private TMActivityEvaluation tmae;
+  private TMToxicityEvaluation tmte;
+  private ResponseCache responseCache;
+  private RoadBlockIndex roadBlockIndex;
+  private AnnealingSchedule schedule = new AnnealingSchedule();
+  private double growthThreshold = D_GROWTH_THRESHOLD;
+
+  private static final Logger logger = LogManager.getLogger(SimulatedAnnealingChain.class);
+
+  static final double D_GROWTH_THRESHOLD = 0.75;
+}
@@ -19,6 +19,7 @@
 
 package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing;
 
+import java.util.Random;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.exception.NotImplementedException;
 import org.cellocad.v2.common.target.data.data.Input;
@@ -105,9 +106,10 @@ public class SimulatedAnnealingUtils {
     return rtn;
   }
 
-  static NetlistNode getRandomNodeWithTandemPair(final Netlist netlist) throws CelloException {
+  static NetlistNode getRandomNodeWithTandemPair(final Netlist netlist, final Random random)
+      throws CelloException {
     NetlistNode rtn = null;
-    Double r = Math.random() * getNumTandemPair(netlist);
+    Double r = random.nextDouble() * getNumTandemPair(netlist);
     Integer n = r.intValue() + 1;
     int k = 0;
     for (int i = 0; i < netlist.getNumVertex(); i++) {
@@ -42,8 +42,8 @@ public class GateManager extends CObject {
   /*
    * init
    */
-  private void init() {
-    random = new Random(GateManager.L_SEED);
+  private void init(final long seed) {
+    random = new Random(seed);
     gates = new CObjectCollection<>();
     assignedGates = new CObjectCollection<>();
     unassignedGates = new CObjectCollection<>();
@@ -115,7 +115,18 @@ public class GateManager extends CObject {
    * @param gates The gates under management.
    */
   public GateManager(final CObjectCollection<Gate> gates) {
-    init();
+    this(gates, GateManager.L_SEED);
+  }
+
+  /**
+   * Initializes a newly created {@link GateManager} whose random gate selection is seeded with the
+   * given value.
+   *
+   * @param gates The gates under management.
+   * @param seed The seed of the random number generator.
+   */
+  public GateManager(final CObjectCollection<Gate> gates, final long seed) {
+    init(seed);
     getGates().addAll(gates);
     getUnassignedGates().addAll(gates);
     addGroups(getGatesMap(), gates);
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.roadblock;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.DeviceRules;
+import org.cellocad.v2.common.target.data.data.StructureDevice;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+
+/**
+ * An index of the roadblocked nodes of a netlist. The index holds whether each node is
+ * roadblocked, together with whether each device may be roadblocked, and is kept current by
+ * re-testing only the nodes whose assignment changed and their downstream neighbors.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class RoadBlockIndex {
+
+  /**
+   * Initializes a newly created {@link RoadBlockIndex} by testing every node of the given netlist.
+   *
+   * @param netlist The netlist.
+   * @param rules The rules.
+   * @param tdi The target data instance.
+   * @throws CelloException Unable to parse or compile the device rules.
+   */
+  public RoadBlockIndex(
+      final Netlist netlist, final DeviceRules rules, final TargetDataInstance tdi)
+      throws CelloException {
+    this.rules = rules;
+    this.tdi = tdi;
+    roadBlocked = new HashMap<>();
+    roadBlockable = new HashMap<>();
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      final NetlistNode node = netlist.getVertexAtIdx(i);
+      final boolean blocked = test(node);
+      roadBlocked.put(node, blocked);
+      if (blocked) {
+        numRoadBlocked++;
+      }
+    }
+  }
+
+  private boolean test(final NetlistNode node) throws CelloException {
+    return RoadBlockUtils.isNodeRoadBlocked(node, rules, tdi, roadBlockable);
+  }
+
+  /**
+   * Re-tests the nodes defined by parameter {@code nodes}, whose device or input assignment
+   * changed, and their downstream neighbors, whose inputs changed with them.
+   *
+   * @param nodes The nodes whose device or input assignment changed.
+   * @throws CelloException Unable to parse or compile the device rules.
+   */
+  public void update(final Collection<NetlistNode> nodes) throws CelloException {
+    final Set<NetlistNode> affected = new LinkedHashSet<>();
+    for (final NetlistNode node : nodes) {
+      affected.add(node);
+      for (int i = 0; i < node.getNumOutEdge(); i++) {
+        affected.add(node.getOutEdgeAtIdx(i).getDst());
+      }
+    }
+    for (final NetlistNode node : affected) {
+      final boolean blocked = test(node);
+      final Boolean previous = roadBlocked.put(node, blocked);
+      if (previous != null && previous) {
+        numRoadBlocked--;
+      }
+      if (blocked) {
+        numRoadBlocked++;
+      }
+    }
+  }
+
+  /**
+   * Tests whether the node defined by parameter {@code node} is roadblocked.
+   *
+   * @param node The node.
+   * @return Whether the node is roadblocked.
+   */
+  public boolean isRoadBlocked(final NetlistNode node) {
+    final Boolean rtn = roadBlocked.get(node);
+    return rtn != null && rtn;
+  }
+
+  /**
+   * Getter for {@code numRoadBlocked}.
+   *
+   * @return The number of roadblocked nodes.
+   */
+  public int getNumRoadBlockedNodes() {
+    return numRoadBlocked;
+  }
+
+  private final DeviceRules rules;
+  private final TargetDataInstance tdi;
+  private final Map<NetlistNode, Boolean> roadBlocked;
+  private final Map<StructureDevice, Boolean> roadBlockable;
+  private int numRoadBlocked;
+}
@@ -26,10 +26,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import org.apache.commons.lang3.StringUtils;
 import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.target.data.TargetDataInstance;
 import org.cellocad.v2.common.target.data.data.DeviceRules;
 import org.cellocad.v2.common.target.data.data.Input;
@@ -55,9 +53,11 @@ public class RoadBlockUtils {
    *
    * @param netlist The netlist.
    * @return The number of roadblocked nodes in a netlist.
+   * @throws CelloException Unable to parse or compile the device rules.
    */
   public static Integer getNumberOfRoadBlockedNodes(
-      final Netlist netlist, final DeviceRules rules, final TargetDataInstance tdi) {
+      final Netlist netlist, final DeviceRules rules, final TargetDataInstance tdi)
+      throws CelloException {
     Integer rtn = 0;
     for (int i = 0; i < netlist.getNumVertex(); i++) {
       NetlistNode node = netlist.getVertexAtIdx(i);
@@ -73,9 +73,11 @@ public class RoadBlockUtils {
    *
    * @param netlist The netlist.
    * @return Whether any node in the given netlist has a roadblocking set of inputs.
+   * @throws CelloException Unable to parse or compile the device rules.
    */
   public static Boolean isNetlistRoadBlocked(
-      final Netlist netlist, final DeviceRules rules, final TargetDataInstance tdi) {
+      final Netlist netlist, final DeviceRules rules, final TargetDataInstance tdi)
+      throws CelloException {
     Boolean rtn = false;
     for (int i = 0; i < netlist.getNumVertex(); i++) {
       NetlistNode node = netlist.getVertexAtIdx(i);
@@ -103,9 +105,11 @@ public class RoadBlockUtils {
    * @param rules The rules.
    * @param tdi The target data instance.
    * @return Whether a node as well as its downstream neighbors are roadblocked.
+   * @throws CelloException Unable to parse or compile the device rules.
    */
   public static Boolean areNodeAndDownstreamNeighborsRoadBlocked(
-      final NetlistNode node, final DeviceRules rules, final TargetDataInstance tdi) {
+      final NetlistNode node, final DeviceRules rules, final TargetDataInstance tdi)
+      throws CelloException {
     Boolean rtn = false;
     Collection<NetlistNode> nodes = new ArrayList<>();
     nodes.add(node);
@@ -119,7 +123,14 @@ public class RoadBlockUtils {
     return rtn;
   }
 
-  private static Boolean isRoadBlockable(final StructureDevice device) {
+  /**
+   * Tests whether a device has more than one input at its start, i.e. whether its inputs may be
+   * roadblocked.
+   *
+   * @param device The device.
+   * @return Whether the inputs of the device may be roadblocked.
+   */
+  static Boolean isRoadBlockable(final StructureDevice device) {
     Boolean rtn = false;
     Integer consecutiveInputsSeen = 0;
     // TODO Lazy implementation. This assumes all inputs are at the beginning.
@@ -143,9 +154,31 @@ public class RoadBlockUtils {
    * @param rules The rules.
    * @param tdi The target data instance.
    * @return Whether a node has a roadblocking set of inputs.
+   * @throws CelloException Unable to parse or compile the device rules.
    */
   public static Boolean isNodeRoadBlocked(
-      final NetlistNode node, final DeviceRules rules, final TargetDataInstance tdi) {
+      final NetlistNode node, final DeviceRules rules, final TargetDataInstance tdi)
+      throws CelloException {
+    return isNodeRoadBlocked(node, rules, tdi, null);
+  }
+
+  /**
+   * Tests whether a node has a roadblocking set of inputs, looking up whether each device may be
+   * roadblocked in, and adding it to, the map defined by parameter {@code roadBlockable}.
+   *
+   * @param node The node.
+   * @param rules The rules.
+   * @param tdi The target data instance.
+   * @param roadBlockable Whether each device may be roadblocked, or null to test every device.
+   * @return Whether a node has a roadblocking set of inputs.
+   * @throws CelloException Unable to parse or compile the device rules.
+   */
+  static Boolean isNodeRoadBlocked(
+      final NetlistNode node,
+      final DeviceRules rules,
+      final TargetDataInstance tdi,
+      final Map<StructureDevice, Boolean> roadBlockable)
+      throws CelloException {
     Boolean rtn = false;
     if (node.getNumInEdge() < 2) {
       return false;
@@ -154,62 +187,37 @@ public class RoadBlockUtils {
         node.getResultNetlistNodeData().getDevice().getStructure().getDevices();
     Map<Input, Part> inputMap = TMUtils.getInputs(node, tdi);
     for (StructureDevice device : devices) {
-      if (!isRoadBlockable(device)) {
+      Boolean blockable = null;
+      if (roadBlockable != null) {
+        blockable = roadBlockable.get(device);
+      }
+      if (blockable == null) {
+        blockable = isRoadBlockable(device);
+        if (roadBlockable != null) {
+          roadBlockable.put(device, blockable);
+        }
+      }
+      if (!blockable) {
         continue;
       }
-      List<Input> inputs = new ArrayList<>();
+      List<String> names = new ArrayList<>();
+      CObjectCollection<Part> parts = new CObjectCollection<>();
       for (StructureObject obj : device.getComponents()) {
         if (obj instanceof StructureTemplate) {
           for (Input input : inputMap.keySet()) {
             if (input.getName().equals(obj.getName())) {
-              inputs.add(input);
+              names.add(inputMap.get(input).getName());
+              parts.add(inputMap.get(input));
             }
           }
+        } else {
+          names.add(obj.getName());
         }
       }
-      CObjectCollection<Part> parts = new CObjectCollection<>();
-      parts.addAll(inputMap.values());
-      String rule = rules.filter(device, parts);
-      if (StringUtils.countMatches(rule, "STARTSWITH") > 1) {
+      // the inputs are placed in structure order, so they are blocked if that order fails
+      if (!rules.isSatisfied(device, parts, names)) {
         return true;
       }
-      for (int i = 0; i < inputs.size(); i++) {
-        Input input = inputs.get(i);
-        // startswith
-        Pattern r = Pattern.compile("STARTSWITH " + inputMap.get(input).getName(), Pattern.DOTALL);
-        Matcher m = r.matcher(rule);
-        if (i > 0 && m.matches()) {
-          return true;
-        }
-        // before
-        r = Pattern.compile(".*" + inputMap.get(input).getName() + " BEFORE ([A-Za-z0-9]+).*", Pattern.DOTALL);
-        m = r.matcher(rule);
-        if (m.matches()) {
-          for (int j = 0; j < inputs.size(); j++) {
-            if (i == j) {
-              continue;
-            }
-            Input other = inputs.get(j);
-            if (inputMap.get(other).getName().equals(m.group(1)) && j < i) {
-              return true;
-            }
-          }
-        }
-        // after
-        r = Pattern.compile(".*" + inputMap.get(input).getName() + " AFTER ([A-Za-z0-9]+).*", Pattern.DOTALL);
-        m = r.matcher(rule);
-        if (m.matches()) {
-          for (int j = 0; j < inputs.size(); j++) {
-            if (i == j) {
-              continue;
-            }
-            Input other = inputs.get(j);
-            if (inputMap.get(other).getName().equals(m.group(1)) && j > i) {
-              return true;
-            }
-          }
-        }
-      }
     }
     return rtn;
   }
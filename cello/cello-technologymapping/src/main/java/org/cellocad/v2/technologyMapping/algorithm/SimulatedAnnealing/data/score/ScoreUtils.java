@@ -26,7 +26,6 @@ import org.cellocad.v2.results.logicSynthesis.logic.truthtable.TruthTable;
 import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistNode;
 import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
-import org.cellocad.v2.results.technologyMapping.activity.activitytable.Activity;
 import org.cellocad.v2.results.technologyMapping.activity.activitytable.ActivityTable;
 
 /**
@@ -67,18 +66,17 @@ public class ScoreUtils {
       final NetlistNode node, final LSLogicEvaluation lsle, final TMActivityEvaluation tmae) {
     Double rtn = null;
 
-    Double on = Double.MAX_VALUE;
-    Double off = Double.MIN_VALUE;
+    double on = Double.MAX_VALUE;
+    double off = Double.MIN_VALUE;
 
     final TruthTable<NetlistNode, NetlistNode> truthTable = lsle.getTruthTable(node);
     final ActivityTable<NetlistNode, NetlistNode> activityTable = tmae.getActivityTable(node);
 
     for (int i = 0; i < truthTable.getNumStates(); i++) {
       final State<NetlistNode> inputState = truthTable.getStateAtIdx(i);
-      final State<NetlistNode> outputState = truthTable.getStateOutput(inputState);
-      final Activity<NetlistNode> outputActivity = activityTable.getActivityOutput(inputState);
+      final State<NetlistNode> outputState = truthTable.getStateOutputAtIdx(i);
       final Boolean l = outputState.getState(node);
-      final Double a = outputActivity.getActivity(node);
+      final double a = activityTable.getActivity(node, activityTable.getStateIdx(inputState));
       if (l == true && on > a) {
         on = a;
       } else if (l == false && off < a) {
@@ -22,6 +22,8 @@ package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxi
 import java.io.IOException;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +32,8 @@ import org.cellocad.v2.common.Utils;
 import org.cellocad.v2.common.exception.CelloException;
 import org.cellocad.v2.common.graph.algorithm.SinkDFS;
 import org.cellocad.v2.common.target.data.data.EvaluationContext;
+import org.cellocad.v2.common.target.data.data.Function;
+import org.cellocad.v2.common.target.data.data.FunctionType;
 import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
@@ -37,6 +41,7 @@ import org.cellocad.v2.results.netlist.Netlist;
 import org.cellocad.v2.results.netlist.NetlistEdge;
 import org.cellocad.v2.results.netlist.NetlistNode;
 import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.results.technologyMapping.activity.activitytable.ActivityTable;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.toxicitytable.Toxicity;
 import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.toxicitytable.ToxicityTable;
 
@@ -80,11 +85,88 @@ public class TMToxicityEvaluation extends CObject {
           new ToxicityTable<>(states, outputNodes);
       getToxicityTables().put(node, toxicityTable);
     }
+    growth = new double[states.getNumStates()];
+    Arrays.fill(growth, TMToxicityEvaluation.D_MAXGROWTH);
     evaluate(netlist);
   }
 
   /**
-   * Evaluates the toxicity table for a node.
+   * Initializes a newly created {@link TMToxicityEvaluation} by incrementally re-evaluating the
+   * toxicity evaluation defined by parameter {@code other} after the devices of the nodes defined
+   * by parameter {@code nodes} have changed. Only those nodes and their downstream cone are
+   * evaluated, and the growth of each state is updated by dividing out the old toxicity of each of
+   * these nodes and multiplying in the new. The toxicity tables of all other nodes are shared with
+   * {@code other}, which is left unmodified.
+   *
+   * @param netlist The {@link Netlist}.
+   * @param other The toxicity evaluation of the netlist before the change.
+   * @param tmae The activity evaluation of the netlist after the change.
+   * @param nodes The nodes whose device or input assignment changed.
+   * @throws CelloException Unable to initialize the object.
+   */
+  public TMToxicityEvaluation(
+      final Netlist netlist,
+      final TMToxicityEvaluation other,
+      final TMActivityEvaluation tmae,
+      final Collection<NetlistNode> nodes)
+      throws CelloException {
+    init();
+    if (!netlist.isValid()) {
+      throw new RuntimeException("netlist is not valid!");
+    }
+    setTMActivityEvaluation(tmae);
+    getToxicityTables().putAll(other.getToxicityTables());
+    growth = other.growth.clone();
+    final States<NetlistNode> states = tmae.getStates();
+    final EvaluationContext ec = new EvaluationContext();
+    final List<NetlistNode> outputNodes = new ArrayList<>();
+    for (final NetlistNode node : TMActivityEvaluation.getDownstreamCone(netlist, nodes)) {
+      final ToxicityTable<NetlistNode, NetlistNode> old = getToxicityTables().get(node);
+      if (old == null) {
+        continue;
+      }
+      for (int i = 0; i < growth.length; i++) {
+        growth[i] /= old.getToxicity(node, i);
+      }
+      outputNodes.clear();
+      outputNodes.add(node);
+      final ToxicityTable<NetlistNode, NetlistNode> toxicityTable =
+          new ToxicityTable<>(states, outputNodes);
+      getToxicityTables().put(node, toxicityTable);
+      evaluateToxicityTable(node, ec);
+    }
+  }
+
+  /**
+   * Adds the response of each input of the node defined by parameter {@code node}, as given by the
+   * activity evaluation of this instance, to the memo of the evaluation context defined by
+   * parameter {@code ec}.
+   *
+   * @param node A node.
+   * @param ec An evaluation context.
+   */
+  private void setInputResponses(final NetlistNode node, final EvaluationContext ec) {
+    for (int i = 0; i < node.getNumInEdge(); i++) {
+      final NetlistNode src = node.getInEdgeAtIdx(i).getSrc();
+      final ActivityTable<NetlistNode, NetlistNode> activityTable =
+          getTMActivityEvaluation().getActivityTable(src);
+      final Function response =
+          src.getResultNetlistNodeData()
+              .getDevice()
+              .getModel()
+              .getFunctionByName(FunctionType.S_RESPONSEFUNCTION);
+      if (activityTable == null || response == null) {
+        continue;
+      }
+      for (int j = 0; j < activityTable.getNumStates(); j++) {
+        final int value = (int) activityTable.getStateAtIdx(j).getValue();
+        ec.putMemo(src, response, value, activityTable.getActivity(src, j));
+      }
+    }
+  }
+
+  /**
+   * Evaluates the toxicity table for a node, and multiplies it into the growth of each state.
    *
    * @param node A node.
    * @param ec An evaluation context.
@@ -92,26 +174,26 @@ public class TMToxicityEvaluation extends CObject {
    */
   private void evaluateToxicityTable(final NetlistNode node, final EvaluationContext ec)
       throws CelloException {
+    setInputResponses(node, ec);
     ec.setNode(node);
+    final Function toxicity =
+        node.getResultNetlistNodeData()
+            .getDevice()
+            .getModel()
+            .getFunctionByName(TMToxicityEvaluation.S_TOXICITY);
     final ToxicityTable<NetlistNode, NetlistNode> toxicityTable = getToxicityTables().get(node);
     for (int i = 0; i < toxicityTable.getNumStates(); i++) {
       final State<NetlistNode> inputState = toxicityTable.getStateAtIdx(i);
-      final Toxicity<NetlistNode> outputToxicity = toxicityTable.getToxicityOutput(inputState);
       ec.setState(inputState);
-      Double result =
-          node.getResultNetlistNodeData()
-              .getDevice()
-              .getModel()
-              .getFunctionByName("toxicity")
-              .evaluate(ec)
-              .doubleValue();
+      double result = toxicity.evaluateDouble(ec);
       if (result > TMToxicityEvaluation.D_MAXGROWTH) {
         result = TMToxicityEvaluation.D_MAXGROWTH;
       }
       if (result < TMToxicityEvaluation.D_MINGROWTH) {
         result = TMToxicityEvaluation.D_MINGROWTH;
       }
-      outputToxicity.setToxicity(node, result);
+      toxicityTable.setToxicity(node, i, result);
+      growth[i] *= result;
     }
   }
 
@@ -123,9 +205,8 @@ public class TMToxicityEvaluation extends CObject {
    */
   protected void evaluate(final Netlist netlist) throws CelloException {
     final SinkDFS<NetlistNode, NetlistEdge, Netlist> DFS = new SinkDFS<>(netlist);
-    NetlistNode node = null;
     final EvaluationContext ec = new EvaluationContext();
-    while ((node = DFS.getNextVertex()) != null) {
+    for (final NetlistNode node : DFS) {
       if (LSResultsUtils.isPrimaryInput(node) || LSResultsUtils.isPrimaryOutput(node)) {
         continue;
       }
@@ -133,6 +214,14 @@ public class TMToxicityEvaluation extends CObject {
     }
   }
 
+  private static double getGrowth(final double product) {
+    double rtn = TMToxicityEvaluation.D_MAXGROWTH * product;
+    if (rtn < TMToxicityEvaluation.D_MINGROWTH) {
+      rtn = TMToxicityEvaluation.D_MINGROWTH;
+    }
+    return rtn;
+  }
+
   /**
    * Gets the predicted relative growth of the organism at the given state.
    *
@@ -140,17 +229,8 @@ public class TMToxicityEvaluation extends CObject {
    * @return The relative growth.
    */
   public Double getGrowth(final State<NetlistNode> state) {
-    Double rtn = TMToxicityEvaluation.D_MAXGROWTH;
-    for (final NetlistNode node : getToxicityTables().keySet()) {
-      final ToxicityTable<NetlistNode, NetlistNode> table = getToxicityTables().get(node);
-      final Toxicity<NetlistNode> toxicity = table.getToxicityOutput(state);
-      final Double value = toxicity.getToxicity(node);
-      rtn *= value;
-    }
-    if (rtn < TMToxicityEvaluation.D_MINGROWTH) {
-      rtn = TMToxicityEvaluation.D_MINGROWTH;
-    }
-    return rtn;
+    final int idx = getTMActivityEvaluation().getStates().getStateIdx(state);
+    return TMToxicityEvaluation.getGrowth(growth[idx]);
   }
 
   // public Double getMinimumGrowth() {
@@ -173,11 +253,9 @@ public class TMToxicityEvaluation extends CObject {
    * @return The mimimum relative growth over all states of the circuit.
    */
   public Double getMinimumGrowth() {
-    Double rtn = TMToxicityEvaluation.D_MAXGROWTH;
-    final States<NetlistNode> states = getTMActivityEvaluation().getStates();
-    for (int i = 0; i < states.getNumStates(); i++) {
-      final State<NetlistNode> state = states.getStateAtIdx(i);
-      rtn = Math.min(rtn, getGrowth(state));
+    double rtn = TMToxicityEvaluation.D_MAXGROWTH;
+    for (int i = 0; i < growth.length; i++) {
+      rtn = Math.min(rtn, TMToxicityEvaluation.getGrowth(growth[i]));
     }
     return rtn;
   }
@@ -272,7 +350,9 @@ public class TMToxicityEvaluation extends CObject {
   private static final String S_HEADER = "--------------------------------------------";
   private static final double D_MAXGROWTH = 1.00;
   private static final double D_MINGROWTH = 0.01;
+  private static final String S_TOXICITY = "toxicity";
 
   private Map<NetlistNode, ToxicityTable<NetlistNode, NetlistNode>> toxicitytables;
   private TMActivityEvaluation tmae;
+  private double[] growth;
 }
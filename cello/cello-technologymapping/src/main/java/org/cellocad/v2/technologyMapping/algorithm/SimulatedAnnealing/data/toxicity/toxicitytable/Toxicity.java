@@ -20,27 +20,38 @@
 package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.toxicitytable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import org.cellocad.v2.common.CObject;
-import org.cellocad.v2.common.Pair;
 import org.cellocad.v2.common.target.data.data.GateToxicity;
 
 /**
  * The GateToxicity class contains the toxicity of a netlist used within the
  * <i>SimulatedAnnealing</i> algorithm class of the <i>technologyMapping</i> stage.
  *
+ * <p>The toxicity values are held by a {@code double[]} per node, indexed by state, that may be
+ * shared with other instances. An instance created by a {@link ToxicityTable} is a view of one
+ * state of the table.
+ *
  * @param T type index.
  * @author Timothy Jones
  * @date 2019-02-03
  */
 public class Toxicity<T> extends CObject {
 
-  /** Initialize class members. */
-  private void init() {
-    toxicityEntry = new ArrayList<>();
-    toxicityEntryMap = new HashMap<>();
+  /**
+   * Initializes a newly created {@link Toxicity} with the list of types defined by parameter {@code
+   * nodes} whose values are held at position {@code index} of the arrays defined by parameter
+   * {@code values}.
+   *
+   * @param nodes The List of types.
+   * @param values The values of each type, indexed by state.
+   * @param index The index of the state of this instance.
+   */
+  Toxicity(final List<T> nodes, final double[][] values, final int index) {
+    this.nodes = nodes;
+    this.values = values;
+    this.index = index;
   }
 
   /**
@@ -50,28 +61,38 @@ public class Toxicity<T> extends CObject {
    * @param nodes The List of types.
    */
   public Toxicity(final List<T> nodes) {
-    init();
-    for (int i = 0; i < nodes.size(); i++) {
-      final T node = nodes.get(i);
-      final Double toxicity = new Double(1.0);
-      final Pair<T, Double> pair = new Pair<>(node, toxicity);
-      this.getToxicity().add(pair);
-      this.getToxicityMap().put(node, toxicity);
+    this(new ArrayList<>(nodes), new double[nodes.size()][1], 0);
+    for (final double[] v : values) {
+      Arrays.fill(v, 1.0);
     }
   }
 
-  /*
-   * GateToxicity
-   */
   /**
-   * Getter for {@code toxicityEntry}.
+   * Returns the position of the given node in the given list. Nodes are compared by identity first,
+   * then by equality.
    *
-   * @return The toxicityEntry of this instance.
+   * @param <T> The node type.
+   * @param nodes The list of nodes.
+   * @param node The node.
+   * @return The position of the given node in the list, otherwise -1.
    */
-  protected List<Pair<T, Double>> getToxicity() {
-    return toxicityEntry;
+  static <T> int getNodeIdx(final List<T> nodes, final T node) {
+    int rtn = -1;
+    for (int i = 0; i < nodes.size(); i++) {
+      if (nodes.get(i) == node) {
+        rtn = i;
+        break;
+      }
+    }
+    if (rtn < 0) {
+      rtn = nodes.indexOf(node);
+    }
+    return rtn;
   }
 
+  /*
+   * GateToxicity
+   */
   /**
    * Gets the relative growth associated with a particular node.
    *
@@ -79,45 +100,20 @@ public class Toxicity<T> extends CObject {
    */
   public Double getToxicity(final T node) {
     Double rtn = null;
-    rtn = this.getToxicityMap().get(node);
-    return rtn;
-  }
-
-  /**
-   * Returns the {@link Pair} at the specified position in this instance.
-   *
-   * @param index The index of the {@link Pair} object to return.
-   * @return If the index is within the bounds {@code (0 <= bounds <
-   *     this.getNumToxicityPosition())}, returns the {@link Pair} at the specified position in this
-   *     instance, otherwise null.
-   */
-  protected Pair<T, Double> getToxicityPositionAtIdx(final int index) {
-    Pair<T, Double> rtn = null;
-    if (0 <= index && index < this.getNumToxicityPosition()) {
-      rtn = this.getToxicity().get(index);
+    final int i = Toxicity.getNodeIdx(nodes, node);
+    if (i >= 0) {
+      rtn = values[i][index];
     }
     return rtn;
   }
 
   /**
-   * Returns the number of {@link Pair} objects in this instance.
+   * Returns the number of nodes in this instance.
    *
-   * @return The number of {@link Pair} objects in this instance.
+   * @return The number of nodes in this instance.
    */
   public int getNumToxicityPosition() {
-    return this.getToxicity().size();
-  }
-
-  /*
-   * ToxicityMap
-   */
-  /**
-   * Getter for {@code toxicityEntryMap}.
-   *
-   * @return The toxicityEntryMap of this instance.
-   */
-  protected Map<T, Double> getToxicityMap() {
-    return toxicityEntryMap;
+    return nodes.size();
   }
 
   /**
@@ -130,17 +126,15 @@ public class Toxicity<T> extends CObject {
    */
   public boolean setToxicity(final T node, final Double value) {
     boolean rtn = false;
-    for (int i = 0; i < this.getNumToxicityPosition(); i++) {
-      final Pair<T, Double> position = this.getToxicityPositionAtIdx(i);
-      if (position.getFirst().equals(node)) {
-        position.setSecond(value);
-        this.getToxicityMap().put(node, value);
-        rtn = true;
-      }
+    final int i = Toxicity.getNodeIdx(nodes, node);
+    if (i >= 0) {
+      values[i][index] = value;
+      rtn = true;
     }
     return rtn;
   }
 
-  private List<Pair<T, Double>> toxicityEntry;
-  private Map<T, Double> toxicityEntryMap;
+  private final List<T> nodes;
+  private final double[][] values;
+  private final int index;
 }
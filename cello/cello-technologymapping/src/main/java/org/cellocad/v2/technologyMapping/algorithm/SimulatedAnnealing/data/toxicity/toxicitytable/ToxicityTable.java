@@ -17,9 +17,8 @@
 package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.toxicitytable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.State;
 import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
 
@@ -28,6 +27,9 @@ import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
  * input columns of the truth table, the truth table output column is associated with an output
  * object type. Rows are of type {@link State}.
  *
+ * <p>The toxicity of each output is stored in a {@code double[]} indexed by the position of the
+ * input state in this instance.
+ *
  * @param <InputT> The input object type.
  * @param <OutputT> The output object type.
  * @author Timothy Jones
@@ -36,9 +38,11 @@ import org.cellocad.v2.results.logicSynthesis.logic.truthtable.States;
 public class ToxicityTable<InputT, OutputT> {
 
   /** Initialize class members. */
-  private void init() {
-    toxicityTableMap = new HashMap<>();
-    states = new ArrayList<>();
+  private void init(final List<OutputT> outputs, final int numStates) {
+    this.outputs = new ArrayList<>(outputs);
+    toxicities = new double[outputs.size()][numStates];
+    toxicityOutputs = new ArrayList<>(numStates);
+    states = new ArrayList<>(numStates);
   }
 
   /**
@@ -49,13 +53,14 @@ public class ToxicityTable<InputT, OutputT> {
    * @param outputs The List of outputs.
    */
   public ToxicityTable(final List<State<InputT>> inputs, final List<OutputT> outputs) {
-    this.init();
+    this.init(outputs, inputs.size());
     for (int i = 0; i < inputs.size(); i++) {
       final State<InputT> InputState = inputs.get(i);
-      final Toxicity<OutputT> OutputToxicity = new Toxicity<>(outputs);
-      this.getToxicityTableMap().put(InputState, OutputToxicity);
+      final Toxicity<OutputT> OutputToxicity = new Toxicity<>(this.outputs, toxicities, i);
+      this.getToxicityOutputs().add(OutputToxicity);
       this.getStates().add(InputState);
     }
+    this.fill(1.0);
   }
 
   /**
@@ -66,25 +71,32 @@ public class ToxicityTable<InputT, OutputT> {
    * @param outputs The List of outputs.
    */
   public ToxicityTable(final States<InputT> states, final List<OutputT> outputs) {
-    init();
+    this.init(outputs, states.getNumStates());
     for (int i = 0; i < states.getNumStates(); i++) {
       final State<InputT> InputState = states.getStateAtIdx(i);
-      final Toxicity<OutputT> OutputToxicity = new Toxicity<>(outputs);
-      this.getToxicityTableMap().put(InputState, OutputToxicity);
+      final Toxicity<OutputT> OutputToxicity = new Toxicity<>(this.outputs, toxicities, i);
+      this.getToxicityOutputs().add(OutputToxicity);
       this.getStates().add(InputState);
     }
+    this.fill(1.0);
+  }
+
+  private void fill(final double value) {
+    for (final double[] v : toxicities) {
+      Arrays.fill(v, value);
+    }
   }
 
   /*
-   * ToxicityMap
+   * ToxicityOutputs
    */
   /**
-   * Getter for {@code toxicityTableMap}.
+   * Getter for {@code toxicityOutputs}.
    *
-   * @return The toxicityTableMap of this instance.
+   * @return The toxicityOutputs of this instance.
    */
-  protected Map<State<InputT>, Toxicity<OutputT>> getToxicityTableMap() {
-    return toxicityTableMap;
+  protected List<Toxicity<OutputT>> getToxicityOutputs() {
+    return toxicityOutputs;
   }
 
   /**
@@ -104,11 +116,69 @@ public class ToxicityTable<InputT, OutputT> {
    *     null.
    */
   public Toxicity<OutputT> getToxicityOutput(final State<InputT> state) {
+    return this.getToxicityOutputAtIdx(this.getStateIdx(state));
+  }
+
+  /**
+   * Returns the output toxicity for the input state at the specified position in this instance.
+   *
+   * @param index The index of the input state.
+   * @return If the index is within the bounds (0 <= bounds < this.getNumStates()), returns the
+   *     output toxicity for the input state at the specified position in this instance, otherwise
+   *     null.
+   */
+  public Toxicity<OutputT> getToxicityOutputAtIdx(final int index) {
     Toxicity<OutputT> rtn = null;
-    rtn = this.getToxicityTableMap().get(state);
+    if (0 <= index && index < this.getNumStates()) {
+      rtn = this.getToxicityOutputs().get(index);
+    }
     return rtn;
   }
 
+  /**
+   * Returns the toxicity of the output defined by parameter {@code output} for the input state at
+   * the specified position in this instance.
+   *
+   * @param output The output.
+   * @param index The index of the input state.
+   * @return The toxicity.
+   * @throws IllegalArgumentException The output does not exist in this instance.
+   */
+  public double getToxicity(final OutputT output, final int index) {
+    return toxicities[this.getOutputIdx(output)][index];
+  }
+
+  /**
+   * Assigns the toxicity of the output defined by parameter {@code output} for the input state at
+   * the specified position in this instance.
+   *
+   * @param output The output.
+   * @param index The index of the input state.
+   * @param value The toxicity.
+   * @throws IllegalArgumentException The output does not exist in this instance.
+   */
+  public void setToxicity(final OutputT output, final int index, final double value) {
+    toxicities[this.getOutputIdx(output)][index] = value;
+  }
+
+  private int getOutputIdx(final OutputT output) {
+    final int rtn = Toxicity.getNodeIdx(outputs, output);
+    if (rtn < 0) {
+      throw new IllegalArgumentException("Output does not exist.");
+    }
+    return rtn;
+  }
+
+  /**
+   * Returns the position of the state defined by parameter {@code state} in this instance.
+   *
+   * @param state The input state.
+   * @return The position of the state in this instance, otherwise -1.
+   */
+  public int getStateIdx(final State<InputT> state) {
+    return State.getStateIdx(this.getStates(), state);
+  }
+
   /**
    * Returns the Activity<Input> at the specified position in this instance.
    *
@@ -134,5 +204,7 @@ public class ToxicityTable<InputT, OutputT> {
   }
 
   List<State<InputT>> states;
-  Map<State<InputT>, Toxicity<OutputT>> toxicityTableMap;
+  List<Toxicity<OutputT>> toxicityOutputs;
+  private List<OutputT> outputs;
+  private double[][] toxicities;
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link AnnealingSchedule}.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class AnnealingScheduleTest {
+
+  private static int run(final AnnealingSchedule schedule) {
+    schedule.start(0.0);
+    while (schedule.hasNext()) {
+      schedule.next();
+    }
+    return schedule.getStep();
+  }
+
+  @Test
+  public void run_Default_ShouldTakeCoolingAndFinalSteps() {
+    final AnnealingSchedule schedule = new AnnealingSchedule();
+    assertEquals(AnnealingSchedule.I_STEPS + AnnealingSchedule.I_FINAL_STEPS, run(schedule));
+    assertEquals(0.0, schedule.getTemperature(), 0.0);
+  }
+
+  @Test
+  public void getTemperature_Start_ShouldReturnMaxTemperature() {
+    final AnnealingSchedule schedule = new AnnealingSchedule();
+    schedule.start(0.0);
+    assertEquals(AnnealingSchedule.D_MAX_TEMPERATURE, schedule.getTemperature(), 1e-9);
+    schedule.next();
+    assertTrue(schedule.getTemperature() < AnnealingSchedule.D_MAX_TEMPERATURE);
+  }
+
+  @Test
+  public void run_Patience_ShouldStopWithoutImprovement() {
+    final AnnealingSchedule schedule =
+        new AnnealingSchedule(
+            100.0, 0.001, 600, 100, AnnealingSchedule.Cooling.GEOMETRIC, 0.44, 0, 50, null);
+    assertEquals(50, run(schedule));
+    assertTrue(schedule.isConverged());
+  }
+
+  @Test
+  public void run_Reheat_ShouldTakeMoreSteps() {
+    final AnnealingSchedule schedule =
+        new AnnealingSchedule(
+            100.0, 0.001, 600, 100, AnnealingSchedule.Cooling.GEOMETRIC, 0.44, 1, 0, null);
+    assertEquals(600 + 600 + 100, run(schedule));
+  }
+
+  @Test
+  public void hasNext_DeadlinePassed_ShouldReturnFalse() {
+    final AnnealingSchedule schedule =
+        new AnnealingSchedule(
+            100.0,
+            0.001,
+            600,
+            100,
+            AnnealingSchedule.Cooling.ADAPTIVE,
+            0.44,
+            0,
+            0,
+            System.nanoTime() - 1);
+    schedule.start(0.0);
+    assertFalse(schedule.hasNext());
+    assertTrue(schedule.isDeadlinePassed());
+  }
+}
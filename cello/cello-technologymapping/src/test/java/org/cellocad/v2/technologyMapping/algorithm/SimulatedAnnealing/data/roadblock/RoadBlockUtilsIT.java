@@ -0,0 +1,340 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.roadblock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cellocad.v2.common.CObjectCollection;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.common.target.data.data.DeviceRules;
+import org.cellocad.v2.common.target.data.data.EugeneRules;
+import org.cellocad.v2.common.target.data.data.Gate;
+import org.cellocad.v2.common.target.data.data.Input;
+import org.cellocad.v2.common.target.data.data.Part;
+import org.cellocad.v2.common.target.data.data.StructureDevice;
+import org.cellocad.v2.common.target.data.data.StructureObject;
+import org.cellocad.v2.common.target.data.data.StructureTemplate;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.target.data.SimulatedAnnealingTargetDataUtils;
+import org.cellocad.v2.technologyMapping.common.TMUtils;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Compares the roadblocking decisions of {@link RoadBlockUtils}, which evaluates the compiled
+ * device rules, with those of the regular expressions over the filtered Eugene rules that it
+ * replaced, for every assignment of gates to the two-input node of a netlist.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class RoadBlockUtilsIT {
+
+  /**
+   * Load the sample netlist and library.
+   *
+   * @throws IOException Failure to load resource.
+   * @throws ParseException Failure to parse JSON resource.
+   * @throws CelloException Failure to instantiate <code>TargetDataInstance</code>.
+   */
+  @SuppressWarnings("unchecked")
+  @BeforeClass
+  public static void init() throws IOException, ParseException, CelloException {
+    JSONParser parser = new JSONParser();
+    String str;
+    JSONArray jsonTop = new JSONArray();
+    str = Utils.getResourceAsString("lib/ucf/Eco/Eco1C1G1T1.UCF.json");
+    jsonTop.addAll((Collection<Object>) parser.parse(str));
+    str = Utils.getResourceAsString("lib/input/Eco/Eco1C1G1T1.input.json");
+    jsonTop.addAll((Collection<Object>) parser.parse(str));
+    str = Utils.getResourceAsString("lib/output/Eco/Eco1C1G1T1.output.json");
+    jsonTop.addAll((Collection<Object>) parser.parse(str));
+    TargetData td = new TargetData(jsonTop);
+    tdi = new TargetDataInstance(td);
+    rules = SimulatedAnnealingTargetDataUtils.getDeviceRules(td);
+    str = Utils.getResourceAsString("and_netlist.json");
+    netlist = new Netlist((JSONObject) parser.parse(str));
+    LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
+    int inputs = 0;
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      NetlistNode node = netlist.getVertexAtIdx(i);
+      if (LSResultsUtils.isAllInput(node)) {
+        assign(node, tdi.getInputSensors().get(inputs++));
+      } else if (LSResultsUtils.isAllOutput(node)) {
+        assign(node, tdi.getOutputDevices().get(0));
+      }
+    }
+  }
+
+  /**
+   * Assigns a device to a node, and the inputs of the device to the in edges of the node.
+   *
+   * @param node The node.
+   * @param device The device.
+   */
+  private static void assign(final NetlistNode node, final AssignableDevice device) {
+    node.getResultNetlistNodeData().setDevice(device);
+    node.getResultNetlistNodeData().setDeviceName(device.getName());
+    for (int j = 0; j < node.getNumInEdge(); j++) {
+      Input input = device.getStructure().getInputs().get(j);
+      node.getInEdgeAtIdx(j).getResultNetlistEdgeData().setInput(input);
+    }
+  }
+
+  /**
+   * Returns the inputs of a device in structure order.
+   *
+   * @param device The device.
+   * @param inputMap The part that drives each input of the node.
+   * @return The inputs of the device in structure order.
+   */
+  private static List<Input> getInputs(
+      final StructureDevice device, final Map<Input, Part> inputMap) {
+    List<Input> rtn = new ArrayList<>();
+    for (StructureObject obj : device.getComponents()) {
+      if (obj instanceof StructureTemplate) {
+        for (Input input : inputMap.keySet()) {
+          if (input.getName().equals(obj.getName())) {
+            rtn.add(input);
+          }
+        }
+      }
+    }
+    return rtn;
+  }
+
+  private static int countMatches(final String str, final String sub) {
+    int rtn = 0;
+    for (int i = str.indexOf(sub); i >= 0; i = str.indexOf(sub, i + sub.length())) {
+      rtn++;
+    }
+    return rtn;
+  }
+
+  /**
+   * Tests whether the inputs of a device are roadblocked, as decided before the device rules were
+   * compiled, by regular expressions over the filtered Eugene rules.
+   *
+   * @param rule The filtered Eugene rules of the device.
+   * @param inputs The inputs of the device in structure order.
+   * @param inputMap The part that drives each input of the node.
+   * @return Whether the inputs of the device are roadblocked.
+   */
+  private static boolean isRoadBlockedByRegex(
+      final String rule, final List<Input> inputs, final Map<Input, Part> inputMap) {
+    if (countMatches(rule, "STARTSWITH") > 1) {
+      return true;
+    }
+    for (int i = 0; i < inputs.size(); i++) {
+      Input input = inputs.get(i);
+      // startswith
+      Pattern r = Pattern.compile("STARTSWITH " + inputMap.get(input).getName(), Pattern.DOTALL);
+      Matcher m = r.matcher(rule);
+      if (i > 0 && m.matches()) {
+        return true;
+      }
+      // before
+      r =
+          Pattern.compile(
+              ".*" + inputMap.get(input).getName() + " BEFORE ([A-Za-z0-9]+).*", Pattern.DOTALL);
+      m = r.matcher(rule);
+      if (m.matches()) {
+        for (int j = 0; j < i; j++) {
+          if (inputMap.get(inputs.get(j)).getName().equals(m.group(1))) {
+            return true;
+          }
+        }
+      }
+      // after
+      r =
+          Pattern.compile(
+              ".*" + inputMap.get(input).getName() + " AFTER ([A-Za-z0-9]+).*", Pattern.DOTALL);
+      m = r.matcher(rule);
+      if (m.matches()) {
+        for (int j = i + 1; j < inputs.size(); j++) {
+          if (inputMap.get(inputs.get(j)).getName().equals(m.group(1))) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the rules of each alternative of the filtered Eugene rules of a device.
+   *
+   * @param rule The filtered Eugene rules of the device.
+   * @return The rules of each alternative.
+   */
+  private static List<List<String>> getAlternatives(final String rule) {
+    List<List<String>> rtn = new ArrayList<>();
+    for (String line : rule.split("\\r?\\n")) {
+      if (line.startsWith("Rule ")) {
+        rtn.add(new ArrayList<>());
+      } else if (line.startsWith("\t")) {
+        String str = line.trim();
+        if (str.endsWith(" " + EugeneRules.S_AND)) {
+          str = str.substring(0, str.length() - EugeneRules.S_AND.length() - 1);
+        }
+        rtn.get(rtn.size() - 1).add(str);
+      }
+    }
+    return rtn;
+  }
+
+  /**
+   * Tests whether the regular expressions decided the rules of a device soundly: the rules form a
+   * single alternative, every ordering rule is between inputs, no input is the subject of more
+   * than one {@code BEFORE} or {@code AFTER} rule, and a single {@code STARTSWITH} rule names the
+   * first input.
+   *
+   * @param rule The filtered Eugene rules of the device.
+   * @param names The names of the parts that drive the inputs, in structure order.
+   * @return Whether the regular expressions decided the rules soundly.
+   */
+  private static boolean isRegexSound(final String rule, final List<String> names) {
+    List<List<String>> alternatives = getAlternatives(rule);
+    if (alternatives.size() != 1) {
+      return false;
+    }
+    Map<String, Integer> subjects = new HashMap<>();
+    List<String> starts = new ArrayList<>();
+    for (String str : alternatives.get(0)) {
+      String[] tokens = str.split("\\s+");
+      if (EugeneRules.GlobalOrientationRuleKeywords.contains(str)) {
+        continue;
+      } else if (tokens.length == 2 && tokens[0].equals(EugeneRules.S_CONTAINS)) {
+        continue;
+      } else if (tokens.length == 2 && tokens[0].equals(EugeneRules.S_STARTSWITH)) {
+        if (!names.contains(tokens[1])) {
+          return false;
+        }
+        starts.add(tokens[1]);
+      } else if (tokens.length == 3
+          && (tokens[1].equals(EugeneRules.S_BEFORE) || tokens[1].equals(EugeneRules.S_AFTER))) {
+        if (!names.contains(tokens[0]) || !names.contains(tokens[2])) {
+          return false;
+        }
+        if (subjects.merge(tokens[0] + " " + tokens[1], 1, Integer::sum) > 1) {
+          return false;
+        }
+      } else {
+        return false;
+      }
+    }
+    return starts.size() != 1 || starts.get(0).equals(names.get(0));
+  }
+
+  @Test
+  public void isNodeRoadBlocked_EveryAssignmentUsingEco1C1G1T1_ShouldMatchRegexDecisions()
+      throws CelloException {
+    NetlistNode node = netlist.getVertexByName("$50");
+    NetlistNode a = node.getInEdgeAtIdx(0).getSrc();
+    NetlistNode b = node.getInEdgeAtIdx(1).getSrc();
+    int numSound = 0;
+    for (Gate gate : tdi.getGates()) {
+      if (gate.getStructure().getInputs().size() < node.getNumInEdge()) {
+        continue;
+      }
+      assign(node, gate);
+      for (Gate gateA : tdi.getGates()) {
+        for (Gate gateB : tdi.getGates()) {
+          if (gateA == gate || gateB == gate || gateA == gateB) {
+            continue;
+          }
+          assign(a, gateA);
+          assign(b, gateB);
+          Map<Input, Part> inputMap = TMUtils.getInputs(node, tdi);
+          CObjectCollection<Part> all = new CObjectCollection<>();
+          all.addAll(inputMap.values());
+          boolean blocked = false;
+          for (StructureDevice device : gate.getStructure().getDevices()) {
+            if (!RoadBlockUtils.isRoadBlockable(device)) {
+              continue;
+            }
+            List<Input> inputs = getInputs(device, inputMap);
+            List<String> names = new ArrayList<>();
+            CObjectCollection<Part> parts = new CObjectCollection<>();
+            for (Input input : inputs) {
+              names.add(inputMap.get(input).getName());
+              parts.add(inputMap.get(input));
+            }
+            // the parts of the device in order, each input replaced by the part that drives it
+            List<String> sequence = new ArrayList<>();
+            for (StructureObject obj : device.getComponents()) {
+              if (obj instanceof StructureTemplate) {
+                for (Input input : inputs) {
+                  if (input.getName().equals(obj.getName())) {
+                    sequence.add(inputMap.get(input).getName());
+                  }
+                }
+              } else {
+                sequence.add(obj.getName());
+              }
+            }
+            boolean isBlocked = !rules.isSatisfied(device, parts, sequence);
+            String rule = rules.filter(device, all);
+            boolean isBlockedByRegex = isRoadBlockedByRegex(rule, inputs, inputMap);
+            String msg = String.format("%s (%s, %s)", device.getName(), names, rule);
+            if (getAlternatives(rule).size() == 1 && isBlockedByRegex) {
+              // the regular expressions only missed roadblocks within a single alternative
+              assertTrue(msg, isBlocked);
+            }
+            if (isRegexSound(rule, names)) {
+              assertEquals(msg, isBlockedByRegex, isBlocked);
+              numSound++;
+            }
+            blocked = blocked || isBlocked;
+          }
+          assertEquals(blocked, RoadBlockUtils.isNodeRoadBlocked(node, rules, tdi));
+          assertEquals(
+              blocked,
+              org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.feature
+                  .RoadBlockUtils.isNodeRoadBlocked(node, rules, tdi));
+        }
+      }
+    }
+    assertTrue(numSound > 0);
+  }
+
+  private static TargetDataInstance tdi;
+  private static DeviceRules rules;
+  private static Netlist netlist;
+}
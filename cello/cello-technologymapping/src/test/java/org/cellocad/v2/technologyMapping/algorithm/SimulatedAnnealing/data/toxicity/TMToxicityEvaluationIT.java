@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2020 Boston University (BU)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.cellocad.v2.common.Utils;
+import org.cellocad.v2.common.exception.CelloException;
+import org.cellocad.v2.common.target.data.TargetData;
+import org.cellocad.v2.common.target.data.TargetDataInstance;
+import org.cellocad.v2.common.target.data.data.AssignableDevice;
+import org.cellocad.v2.common.target.data.data.Gate;
+import org.cellocad.v2.common.target.data.data.Input;
+import org.cellocad.v2.results.logicSynthesis.LSResultsUtils;
+import org.cellocad.v2.results.logicSynthesis.logic.LSLogicEvaluation;
+import org.cellocad.v2.results.logicSynthesis.netlist.LSResultNetlistUtils;
+import org.cellocad.v2.results.netlist.Netlist;
+import org.cellocad.v2.results.netlist.NetlistNode;
+import org.cellocad.v2.results.technologyMapping.activity.TMActivityEvaluation;
+import org.cellocad.v2.technologyMapping.algorithm.SimulatedAnnealing.data.toxicity.toxicitytable.ToxicityTable;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Integration tests for the {@link TMToxicityEvaluation} class.
+ *
+ * @author Timothy Jones
+ * @date 2026-10-18
+ */
+public class TMToxicityEvaluationIT {
+
+  /**
+   * Load the sample netlist and library, and assign a distinct gate to each logic node.
+   *
+   * @throws IOException Failure to load resource.
+   * @throws ParseException Failure to parse JSON resource.
+   * @throws CelloException Failure to instantiate <code>TargetDataInstance</code>.
+   */
+  @SuppressWarnings("unchecked")
+  @BeforeClass
+  public static void init() throws IOException, ParseException, CelloException {
+    JSONParser parser = new JSONParser();
+    String str;
+    JSONArray jsonTop = new JSONArray();
+    str = Utils.getResourceAsString("lib/ucf/Eco/Eco1C1G1T1.UCF.json");
+    jsonTop.addAll((Collection<Object>) parser.parse(str));
+    str = Utils.getResourceAsString("lib/input/Eco/Eco1C1G1T1.input.json");
+    jsonTop.addAll((Collection<Object>) parser.parse(str));
+    str = Utils.getResourceAsString("lib/output/Eco/Eco1C1G1T1.output.json");
+    jsonTop.addAll((Collection<Object>) parser.parse(str));
+    TargetData td = new TargetData(jsonTop);
+    tdi = new TargetDataInstance(td);
+    str = Utils.getResourceAsString("and_netlist.json");
+    netlist = new Netlist((JSONObject) parser.parse(str));
+    LSResultNetlistUtils.setVertexTypeUsingLSResult(netlist);
+    int inputs = 0;
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      NetlistNode node = netlist.getVertexAtIdx(i);
+      if (LSResultsUtils.isAllInput(node)) {
+        assign(node, tdi.getInputSensors().get(inputs++));
+      } else if (LSResultsUtils.isAllOutput(node)) {
+        assign(node, tdi.getOutputDevices().get(0));
+      } else {
+        assign(node, getOtherGate(node));
+      }
+    }
+    lsle = new LSLogicEvaluation(netlist);
+  }
+
+  /**
+   * Assigns a device to a node, and the inputs of the device to the in edges of the node.
+   *
+   * @param node The node.
+   * @param device The device.
+   */
+  private static void assign(final NetlistNode node, final AssignableDevice device) {
+    node.getResultNetlistNodeData().setDevice(device);
+    node.getResultNetlistNodeData().setDeviceName(device.getName());
+    for (int j = 0; j < node.getNumInEdge(); j++) {
+      Input input = device.getStructure().getInputs().get(j);
+      node.getInEdgeAtIdx(j).getResultNetlistEdgeData().setInput(input);
+    }
+  }
+
+  /**
+   * Returns a gate, not assigned to any node of the netlist, with an input for each in edge of the
+   * given node.
+   *
+   * @param node The node.
+   * @return An unassigned gate for the node.
+   */
+  private static Gate getOtherGate(final NetlistNode node) {
+    Set<String> assigned = new HashSet<>();
+    for (int i = 0; i < netlist.getNumVertex(); i++) {
+      AssignableDevice device = netlist.getVertexAtIdx(i).getResultNetlistNodeData().getDevice();
+      if (device != null) {
+        assigned.add(device.getName());
+      }
+    }
+    for (Gate gate : tdi.getGates()) {
+      if (!assigned.contains(gate.getName())
+          && gate.getStructure().getInputs().size() >= node.getNumInEdge()) {
+        return gate;
+      }
+    }
+    throw new AssertionError("No other gate for " + node.getName() + ".");
+  }
+
+  /**
+   * Asserts that two toxicity evaluations of the netlist hold the same toxicity for every node and
+   * state, and the same growth for every state.
+   *
+   * @param expected The expected evaluation.
+   * @param actual The actual evaluation.
+   */
+  private static void assertSameToxicity(
+      final TMToxicityEvaluation expected, final TMToxicityEvaluation actual) {
+    assertEquals(expected.getToxicityTables().keySet(), actual.getToxicityTables().keySet());
+    for (NetlistNode node : expected.getToxicityTables().keySet()) {
+      ToxicityTable<NetlistNode, NetlistNode> e = expected.getToxicityTable(node);
+      ToxicityTable<NetlistNode, NetlistNode> a = actual.getToxicityTable(node);
+      assertEquals(e.getNumStates(), a.getNumStates());
+      for (int j = 0; j < e.getNumStates(); j++) {
+        assertEquals(e.getToxicity(node, j), a.getToxicity(node, j), TOLERANCE);
+      }
+    }
+    for (int j = 0; j < lsle.getStates().getNumStates(); j++) {
+      assertEquals(
+          expected.getGrowth(lsle.getStates().getStateAtIdx(j)),
+          actual.getGrowth(lsle.getStates().getStateAtIdx(j)),
+          TOLERANCE);
+    }
+    assertEquals(expected.getMinimumGrowth(), actual.getMinimumGrowth(), TOLERANCE);
+  }
+
+  @Test
+  public void
+      TMToxicityEvaluation_IncrementalEvaluationForAndGateUsingEco1C1G1T1_ShouldMatchFullEvaluation()
+          throws CelloException {
+    TMActivityEvaluation oldActivity = new TMActivityEvaluation(netlist, lsle);
+    TMToxicityEvaluation old = new TMToxicityEvaluation(netlist, oldActivity);
+    NetlistNode changed = netlist.getVertexByName("$49");
+    AssignableDevice device = changed.getResultNetlistNodeData().getDevice();
+    ToxicityTable<NetlistNode, NetlistNode> table = old.getToxicityTable(changed);
+    double[] before = new double[table.getNumStates()];
+    for (int j = 0; j < before.length; j++) {
+      before[j] = table.getToxicity(changed, j);
+    }
+    assign(changed, getOtherGate(changed));
+    try {
+      Collection<NetlistNode> nodes = Collections.singletonList(changed);
+      TMActivityEvaluation activity = new TMActivityEvaluation(netlist, oldActivity, nodes);
+      TMToxicityEvaluation incremental =
+          new TMToxicityEvaluation(netlist, old, activity, nodes);
+      TMToxicityEvaluation full =
+          new TMToxicityEvaluation(netlist, new TMActivityEvaluation(netlist, lsle));
+      ToxicityTable<NetlistNode, NetlistNode> after = full.getToxicityTable(changed);
+      boolean isDifferent = false;
+      for (int j = 0; j < before.length; j++) {
+        isDifferent =
+            isDifferent || Math.abs(before[j] - after.getToxicity(changed, j)) > TOLERANCE;
+        // the evaluation the incremental one was built from is left unmodified
+        assertEquals(before[j], table.getToxicity(changed, j), 0.0);
+      }
+      assertTrue(isDifferent);
+      assertSameToxicity(full, incremental);
+    } finally {
+      assign(changed, device);
+    }
+  }
+
+  private static Double TOLERANCE = 1e-8;
+  private static TargetDataInstance tdi;
+  private static Netlist netlist;
+  private static LSLogicEvaluation lsle;
+}